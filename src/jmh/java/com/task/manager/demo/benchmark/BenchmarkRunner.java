@@ -0,0 +1,33 @@
+package com.task.manager.demo.benchmark;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point for the {@code benchmark} Maven profile.
+ * <p>
+ * The first argument is the JSON result file; the second one holds the regular JMH
+ * command line (benchmark regex, {@code -p} parameters, {@code -f}, {@code -wi}, ...)
+ * as a single whitespace-separated string, so it can be passed through {@code -Djmh.args}.
+ * </p>
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        String result = args.length > 0 ? args[0] : "target/jmh-result.json";
+        String[] jmhArgs = args.length > 1 && !args[1].isBlank() ? args[1].trim().split("\\s+") : new String[0];
+
+        Options options = new OptionsBuilder()
+                .parent(new CommandLineOptions(jmhArgs))
+                .resultFormat(ResultFormatType.JSON)
+                .result(result)
+                .build();
+        new Runner(options).run();
+    }
+}
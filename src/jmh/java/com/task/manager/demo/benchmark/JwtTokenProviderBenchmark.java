@@ -0,0 +1,54 @@
+package com.task.manager.demo.benchmark;
+
+import com.task.manager.demo.security.jwt.JwtTokenProvider;
+import com.task.manager.demo.security.jwt.VerifiedTokenCache;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token generation and validation, with and without the {@link VerifiedTokenCache}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtTokenProviderBenchmark {
+
+    @Param({"true", "false"})
+    private boolean cacheEnabled;
+
+    private JwtTokenProvider tokenProvider;
+    private Authentication authentication;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        tokenProvider = new JwtTokenProvider(new VerifiedTokenCache(cacheEnabled, 10_000));
+        ReflectionTestUtils.setField(tokenProvider, "jwtSecret",
+                "BenchmarkJWTSecretKeyForPerformanceRunsOnlyAndShouldBeAtLeast512BitsLong1234567890ABCDEF");
+        ReflectionTestUtils.setField(tokenProvider, "jwtExpirationInMs", 86_400_000L);
+        tokenProvider.init();
+
+        authentication = new UsernamePasswordAuthenticationToken("bench@example.com", null,
+                List.of(new SimpleGrantedAuthority("ROLE_USER"), new SimpleGrantedAuthority("ROLE_ADMIN")));
+        token = tokenProvider.generateToken(authentication);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return tokenProvider.generateToken(authentication);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return tokenProvider.validateToken(token);
+    }
+}
@@ -0,0 +1,69 @@
+package com.task.manager.demo.benchmark;
+
+import com.task.manager.demo.dto.task.TaskDTO;
+import com.task.manager.demo.dto.user.UserDto;
+import com.task.manager.demo.entity.*;
+import com.task.manager.demo.mapper.TaskMapper;
+import com.task.manager.demo.mapper.UserMapper;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to DTO mapping done on every read endpoint.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+    private final TaskMapper taskMapper = Mappers.getMapper(TaskMapper.class);
+    private final UserMapper userMapper = Mappers.getMapper(UserMapper.class);
+
+    private Task task;
+    private User user;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        user = new User();
+        user.setId(UUID.randomUUID());
+        user.setName("Bench User");
+        user.setEmail("bench@example.com");
+        user.setPassword("password");
+        user.setRoles(Set.of(Role.builder().name("USER").build(), Role.builder().name("ADMIN").build()));
+
+        Project project = Project.builder().id(UUID.randomUUID()).projectTitle("Bench").projectDescription("Bench project").build();
+        Epic epic = Epic.builder().id(UUID.randomUUID()).epic_title("Bench epic").project(project).build();
+        Task parent = Task.builder().id(UUID.randomUUID()).title("Parent").project(project).build();
+        task = Task.builder()
+                .id(UUID.randomUUID())
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .title("Benchmark task")
+                .description("Task mapped by the benchmark")
+                .story_points(3)
+                .type(Type_Enum.SUBTASK)
+                .user(user)
+                .epic(epic)
+                .task_parent(parent)
+                .project(project)
+                .build();
+    }
+
+    @Benchmark
+    public TaskDTO taskToDto() {
+        return taskMapper.toDto(task);
+    }
+
+    @Benchmark
+    public UserDto userToDto() {
+        return userMapper.toDto(user);
+    }
+}
@@ -0,0 +1,155 @@
+package com.task.manager.demo.benchmark;
+
+import com.task.manager.demo.DemoApplication;
+import com.task.manager.demo.dto.task.TaskDTO;
+import com.task.manager.demo.dto.task.TaskTreeDTO;
+import com.task.manager.demo.entity.Project;
+import com.task.manager.demo.entity.Task;
+import com.task.manager.demo.entity.Type_Enum;
+import com.task.manager.demo.repository.ProjectRepository;
+import com.task.manager.demo.repository.TaskClosureRepository;
+import com.task.manager.demo.repository.TaskRepository;
+import com.task.manager.demo.service.task.TaskService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hierarchy lookups served by the {@code task_closure} table, next to the recursive
+ * CTE of {@code getTree}, on an embedded H2 database.
+ * <p>
+ * {@code deep} seeds a single chain of {@code depth} levels below the root;
+ * {@code wide} seeds {@code children} direct subtasks of the root. The tasks are
+ * written without the service and the closure table is then filled by the startup
+ * backfill, which is timed once per trial and printed.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskHierarchyBenchmark {
+
+    private static final int SEED_BATCH = 1_000;
+
+    @Param({"deep", "wide"})
+    private String shape;
+
+    @Param({"10"})
+    private int depth;
+
+    @Param({"10000"})
+    private int children;
+
+    private ConfigurableApplicationContext context;
+    private TaskService taskService;
+    private TaskClosureRepository closureRepository;
+    private UUID root;
+    private UUID leaf;
+    private UUID moved;
+    private UUID[] parents;
+    private int moves;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        context = new SpringApplicationBuilder(DemoApplication.class)
+                .profiles("test")
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:hierarchy;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+                        "logging.level.root=WARN")
+                .run();
+        taskService = context.getBean(TaskService.class);
+        closureRepository = context.getBean(TaskClosureRepository.class);
+        TaskRepository taskRepository = context.getBean(TaskRepository.class);
+
+        Project project = new Project();
+        project.setProjectTitle("Hierarchy Benchmark Project");
+        project.setProjectDescription("Seeded by TaskHierarchyBenchmark");
+        project = context.getBean(ProjectRepository.class).save(project);
+
+        Task rootTask = taskRepository.save(task("Root", project, null));
+        root = rootTask.getId();
+        if (shape.equals("deep")) {
+            Task parent = rootTask;
+            List<Task> chain = new ArrayList<>();
+            for (int level = 1; level <= depth; level++) {
+                parent = taskRepository.save(task("Level " + level, project, parent));
+                chain.add(parent);
+            }
+            leaf = parent.getId();
+            // the lower half of the chain moves between two branches of the root
+            moved = chain.get(depth / 2).getId();
+            parents = new UUID[]{chain.get(depth / 2 - 1).getId(), root};
+        } else {
+            List<Task> batch = new ArrayList<>(SEED_BATCH);
+            for (int i = 0; i < children; i++) {
+                batch.add(task("Child " + i, project, rootTask));
+                if (batch.size() == SEED_BATCH || i == children - 1) {
+                    leaf = taskRepository.saveAll(batch).get(batch.size() - 1).getId();
+                    batch.clear();
+                }
+            }
+            moved = leaf;
+            parents = new UUID[]{taskRepository.save(task("Other parent", project, rootTask)).getId(), root};
+        }
+
+        long start = System.nanoTime();
+        context.getBean("backfillTaskClosure", CommandLineRunner.class).run();
+        System.out.printf("%nBackfilled the %s tree in %d ms%n", shape, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<TaskDTO> descendants() {
+        return taskService.getDescendants(root);
+    }
+
+    @Benchmark
+    public TaskTreeDTO subtreeWithRecursiveCte() {
+        return taskService.getTree(root, TaskTreeDTO.MAX_DEPTH);
+    }
+
+    @Benchmark
+    public List<TaskDTO> ancestorsOfLeaf() {
+        return taskService.getAncestors(leaf);
+    }
+
+    @Benchmark
+    public boolean cycleCheck() {
+        return closureRepository.existsByAncestorIdAndDescendantId(root, leaf);
+    }
+
+    @Benchmark
+    public boolean allSubtasksCompleted() {
+        return taskService.allSubtasksCompleted(root);
+    }
+
+    @Benchmark
+    public TaskDTO moveSubtree() {
+        return taskService.assignToParent(moved, parents[moves++ % 2]);
+    }
+
+    private static Task task(String title, Project project, Task parent) {
+        return Task.builder()
+                .title(title)
+                .description("Seeded by TaskHierarchyBenchmark")
+                .story_points(1)
+                .type(parent == null ? Type_Enum.TASK : Type_Enum.SUBTASK)
+                .project(project)
+                .task_parent(parent)
+                .build();
+    }
+}
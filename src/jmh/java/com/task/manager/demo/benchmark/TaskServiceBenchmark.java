@@ -0,0 +1,106 @@
+package com.task.manager.demo.benchmark;
+
+import com.task.manager.demo.DemoApplication;
+import com.task.manager.demo.dto.CursorPage;
+import com.task.manager.demo.dto.PageCursor;
+import com.task.manager.demo.dto.task.TaskDTO;
+import com.task.manager.demo.dto.task.TaskRequest;
+import com.task.manager.demo.entity.Project;
+import com.task.manager.demo.entity.Task;
+import com.task.manager.demo.entity.Type_Enum;
+import com.task.manager.demo.repository.ProjectRepository;
+import com.task.manager.demo.repository.TaskRepository;
+import com.task.manager.demo.service.task.TaskService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Limit;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * End-to-end {@code TaskServiceImpl} calls against an embedded H2 database
+ * seeded with {@code rows} tasks before each trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskServiceBenchmark {
+
+    private static final int SEED_BATCH = 1_000;
+
+    @Param({"1000", "10000"})
+    private int rows;
+
+    private ConfigurableApplicationContext context;
+    private TaskService taskService;
+    private UUID projectId;
+    private String middleCursor;
+    private final AtomicLong created = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(DemoApplication.class)
+                .profiles("test")
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+                        "logging.level.root=WARN")
+                .run();
+        taskService = context.getBean(TaskService.class);
+        TaskRepository taskRepository = context.getBean(TaskRepository.class);
+
+        Project project = new Project();
+        project.setProjectTitle("Benchmark Project");
+        project.setProjectDescription("Seeded by TaskServiceBenchmark");
+        projectId = context.getBean(ProjectRepository.class).save(project).getId();
+
+        List<Task> batch = new ArrayList<>(SEED_BATCH);
+        for (int i = 0; i < rows; i++) {
+            batch.add(Task.builder()
+                    .title("Seeded task " + i)
+                    .description("Seeded task description " + i)
+                    .story_points(i % 13)
+                    .type(Type_Enum.TASK)
+                    .project(project)
+                    .build());
+            if (batch.size() == SEED_BATCH) {
+                taskRepository.saveAll(batch);
+                batch.clear();
+            }
+        }
+        taskRepository.saveAll(batch);
+
+        TaskDTO middle = taskRepository.findFirstPage(Limit.of(rows / 2)).get(rows / 2 - 1);
+        middleCursor = new PageCursor(middle.createdAt(), middle.id()).encode();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public TaskDTO create() {
+        TaskRequest request = new TaskRequest("Created task " + created.incrementAndGet(),
+                "Created by the benchmark", 1, "TASK", null, projectId);
+        return taskService.create(request);
+    }
+
+    @Benchmark
+    public CursorPage<TaskDTO> getAllFirstPage() {
+        return taskService.getAll(null, CursorPage.DEFAULT_SIZE);
+    }
+
+    @Benchmark
+    public CursorPage<TaskDTO> getAllFromMiddleCursor() {
+        return taskService.getAll(middleCursor, CursorPage.DEFAULT_SIZE);
+    }
+}
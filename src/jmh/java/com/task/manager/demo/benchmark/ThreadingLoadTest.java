@@ -0,0 +1,207 @@
+package com.task.manager.demo.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.task.manager.demo.DemoApplication;
+import com.task.manager.demo.entity.Project;
+import com.task.manager.demo.entity.Task;
+import com.task.manager.demo.entity.Type_Enum;
+import com.task.manager.demo.repository.ProjectRepository;
+import com.task.manager.demo.repository.TaskRepository;
+import com.task.manager.demo.security.jwt.JwtTokenProvider;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.io.File;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Closed-loop HTTP load test comparing the platform-thread and virtual-thread
+ * request execution modes.
+ * <p>
+ * For each mode the application is started on a random port against its own
+ * embedded H2 database, seeded with {@code rows} tasks, and then driven by
+ * {@code clients} concurrent clients for {@code seconds}, each client sending its
+ * next request as soon as the previous one completes. Requests rotate through
+ * {@code GET /api/task/}, {@code GET /api/task/{id}} and {@code GET /api/project/}.
+ * Throughput and latency percentiles per mode are written as JSON.
+ * </p>
+ * <p>
+ * Arguments: the result file, then {@code key=value} options as a single
+ * whitespace-separated string: {@code clients} (1000), {@code seconds} (30),
+ * {@code warmup} (5), {@code rows} (1000), {@code pool} (Hikari pool size, 20),
+ * {@code modes} ({@code platform,virtual}). The virtual mode needs a JDK 21+ runtime
+ * and is skipped otherwise.
+ * </p>
+ */
+public final class ThreadingLoadTest {
+
+    private ThreadingLoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        // Devtools would otherwise restart the application by re-running this main method without arguments
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        String result = args.length > 0 ? args[0] : "target/load-result.json";
+        Map<String, String> options = parseOptions(args.length > 1 ? args[1] : "");
+        int clients = Integer.parseInt(options.getOrDefault("clients", "1000"));
+        int seconds = Integer.parseInt(options.getOrDefault("seconds", "30"));
+        int warmup = Integer.parseInt(options.getOrDefault("warmup", "5"));
+        int rows = Integer.parseInt(options.getOrDefault("rows", "1000"));
+        int pool = Integer.parseInt(options.getOrDefault("pool", "20"));
+
+        List<Map<String, Object>> reports = new ArrayList<>();
+        for (String mode : options.getOrDefault("modes", "platform,virtual").split(",")) {
+            boolean virtual = mode.equals("virtual");
+            if (virtual && Runtime.version().feature() < 21) {
+                System.out.println("Skipping virtual mode: it needs JDK 21+, running on " + Runtime.version());
+                continue;
+            }
+            reports.add(run(mode, virtual, clients, seconds, warmup, rows, pool));
+        }
+
+        new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(new File(result), reports);
+        System.out.println("Results written to " + result);
+    }
+
+    private static Map<String, Object> run(String mode, boolean virtual, int clients, int seconds,
+                                           int warmup, int rows, int pool) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(DemoApplication.class)
+                .profiles("test")
+                .properties(
+                        "server.port=0",
+                        "spring.threads.virtual.enabled=" + virtual,
+                        "spring.datasource.url=jdbc:h2:mem:load-" + mode + ";DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+                        "spring.datasource.hikari.maximum-pool-size=" + pool,
+                        "logging.level.root=WARN")
+                .run()) {
+            List<UUID> taskIds = seed(context, rows);
+            String baseUrl = "http://localhost:" + context.getBean(Environment.class).getProperty("local.server.port");
+            String token = context.getBean(JwtTokenProvider.class).generateToken(new UsernamePasswordAuthenticationToken(
+                    "load@example.com", null, List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+
+            List<URI> targets = new ArrayList<>();
+            targets.add(URI.create(baseUrl + "/api/task/"));
+            targets.add(URI.create(baseUrl + "/api/project/"));
+            for (int i = 0; i < Math.min(taskIds.size(), 100); i++) {
+                targets.add(URI.create(baseUrl + "/api/task/" + taskIds.get(i)));
+            }
+
+            System.out.printf("[%s] warming up for %ds with %d clients%n", mode, warmup, clients);
+            drive(targets, token, clients, warmup);
+            System.out.printf("[%s] measuring for %ds with %d clients%n", mode, seconds, clients);
+            Measurement measurement = drive(targets, token, clients, seconds);
+
+            Map<String, Object> report = new LinkedHashMap<>();
+            report.put("mode", mode);
+            report.put("jdk", Runtime.version().toString());
+            report.put("clients", clients);
+            report.put("seconds", seconds);
+            report.put("rows", rows);
+            report.put("hikariPoolSize", pool);
+            report.put("requests", measurement.latencies.length);
+            report.put("errors", measurement.errors);
+            report.put("throughputPerSecond", measurement.latencies.length / (double) seconds);
+            report.put("p50Millis", measurement.percentile(50));
+            report.put("p90Millis", measurement.percentile(90));
+            report.put("p99Millis", measurement.percentile(99));
+            report.put("p999Millis", measurement.percentile(99.9));
+            report.put("maxMillis", measurement.percentile(100));
+            System.out.println(report);
+            return report;
+        }
+    }
+
+    private static List<UUID> seed(ConfigurableApplicationContext context, int rows) {
+        TaskRepository taskRepository = context.getBean(TaskRepository.class);
+        Project project = new Project();
+        project.setProjectTitle("Load Test Project");
+        project.setProjectDescription("Seeded by ThreadingLoadTest");
+        project = context.getBean(ProjectRepository.class).save(project);
+
+        List<UUID> ids = new ArrayList<>(rows);
+        List<Task> batch = new ArrayList<>(1_000);
+        for (int i = 0; i < rows; i++) {
+            batch.add(Task.builder()
+                    .title("Load task " + i)
+                    .description("Seeded task " + i)
+                    .type(Type_Enum.TASK)
+                    .project(project)
+                    .build());
+            if (batch.size() == 1_000 || i == rows - 1) {
+                taskRepository.saveAll(batch).forEach(task -> ids.add(task.getId()));
+                batch.clear();
+            }
+        }
+        return ids;
+    }
+
+    private static Measurement drive(List<URI> targets, String token, int clients, int seconds) throws InterruptedException {
+        HttpClient http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        Queue<Long> latencies = new ConcurrentLinkedQueue<>();
+        AtomicLong errors = new AtomicLong();
+        CountDownLatch finished = new CountDownLatch(clients);
+        for (int client = 0; client < clients; client++) {
+            next(http, targets, token, client, deadline, latencies, errors, finished);
+        }
+        finished.await(seconds + 60L, TimeUnit.SECONDS);
+        return new Measurement(latencies.stream().mapToLong(Long::longValue).sorted().toArray(), errors.get());
+    }
+
+    private static void next(HttpClient http, List<URI> targets, String token, int sequence, long deadline,
+                             Queue<Long> latencies, AtomicLong errors, CountDownLatch finished) {
+        if (System.nanoTime() >= deadline) {
+            finished.countDown();
+            return;
+        }
+        HttpRequest request = HttpRequest.newBuilder(targets.get(sequence % targets.size()))
+                .header("Authorization", "Bearer " + token)
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+        long start = System.nanoTime();
+        http.sendAsync(request, HttpResponse.BodyHandlers.discarding()).whenComplete((response, failure) -> {
+            if (failure != null || response.statusCode() != 200) {
+                errors.incrementAndGet();
+            } else {
+                latencies.add(System.nanoTime() - start);
+            }
+            next(http, targets, token, sequence + 1, deadline, latencies, errors, finished);
+        });
+    }
+
+    private static Map<String, String> parseOptions(String raw) {
+        Map<String, String> options = new HashMap<>();
+        for (String option : raw.trim().split("\\s+")) {
+            int separator = option.indexOf('=');
+            if (separator > 0) {
+                options.put(option.substring(0, separator), option.substring(separator + 1));
+            }
+        }
+        return options;
+    }
+
+    private record Measurement(long[] latencies, long errors) {
+
+        double percentile(double percentile) {
+            if (latencies.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile / 100.0 * latencies.length) - 1;
+            return latencies[Math.max(0, Math.min(index, latencies.length - 1))] / 1_000_000.0;
+        }
+    }
+}
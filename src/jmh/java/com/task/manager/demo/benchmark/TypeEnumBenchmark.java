@@ -0,0 +1,26 @@
+package com.task.manager.demo.benchmark;
+
+import com.task.manager.demo.entity.Type_Enum;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Task type validation run by {@code @ValidTaskType} on every task request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TypeEnumBenchmark {
+
+    @Param({"TASK", "subtask", "story"})
+    private String value;
+
+    @Benchmark
+    public boolean isValid() {
+        return Type_Enum.isValid(value);
+    }
+}
@@ -0,0 +1,37 @@
+package com.task.manager.demo.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Read-through caches for the DTOs returned by the {@code findById} endpoints.
+ * <p>
+ * Each cache is a bounded Caffeine cache keyed by entity UUID and holds the final,
+ * immutable DTO, so a hit skips both the database and the MapStruct mapping.
+ * Services evict the affected key on every write. Evictions issued inside a
+ * transaction are deferred until it commits, so a concurrent read can never
+ * re-cache the pre-commit state. Hit/miss statistics are recorded per cache.
+ * </p>
+ */
+@Configuration
+@EnableCaching
+public class DtoCacheConfig {
+
+    public static final String TASKS = "tasks";
+    public static final String EPICS = "epics";
+    public static final String PROJECTS = "projects";
+    public static final String USERS = "users";
+
+    @Bean
+    public CacheManager cacheManager(@Value("${cache.dto.spec:maximumSize=10000,expireAfterWrite=10m,recordStats}") String spec) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(TASKS, EPICS, PROJECTS, USERS);
+        cacheManager.setCacheSpecification(spec);
+        cacheManager.setAllowNullValues(false);
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+}
@@ -0,0 +1,78 @@
+package com.task.manager.demo.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * Hibernate second-level cache regions, backed by Caffeine through JCache.
+ * <p>
+ * Projects, epics and roles are read on nearly every write path but change
+ * rarely, so they are cached together with the {@code User.roles} collection.
+ * Each region is bounded and expires after {@code cache.second-level.<region>.ttl}
+ * (entries: {@code cache.second-level.<region>.max-entries}). Hibernate evicts
+ * entries itself on update, on the {@code @SQLDelete} soft deletes and on bulk
+ * JPQL updates. Per-region hit and miss counts are published as JCache
+ * statistics MXBeans.
+ * </p>
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+    public static final String PROJECT_REGION = "project";
+    public static final String EPIC_REGION = "epic";
+    public static final String ROLE_REGION = "role";
+    public static final String USER_ROLES_REGION = "user.roles";
+
+    private static final Map<String, Duration> DEFAULT_TTLS = Map.of(
+            PROJECT_REGION, Duration.ofMinutes(10),
+            EPIC_REGION, Duration.ofMinutes(10),
+            ROLE_REGION, Duration.ofHours(12),
+            USER_ROLES_REGION, Duration.ofMinutes(30)
+    );
+    private static final long DEFAULT_MAX_ENTRIES = 10_000;
+
+    // Query results for cacheable queries (role lookups by name) and the table
+    // timestamps that invalidate them; the timestamps region must never expire
+    private static final String QUERY_RESULTS_REGION = "default-query-results-region";
+    private static final String UPDATE_TIMESTAMPS_REGION = "default-update-timestamps-region";
+
+    @Bean(destroyMethod = "close")
+    public CacheManager secondLevelCacheManager(Environment environment) {
+        // A dedicated manager per application context, so closing one context never closes another's regions
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("second-level-cache-" + UUID.randomUUID()), getClass().getClassLoader());
+
+        DEFAULT_TTLS.forEach((region, ttl) -> cacheManager.createCache(region, regionConfiguration(
+                environment.getProperty("cache.second-level." + region + ".ttl", Duration.class, ttl),
+                environment.getProperty("cache.second-level." + region + ".max-entries", Long.class, DEFAULT_MAX_ENTRIES))));
+        cacheManager.createCache(QUERY_RESULTS_REGION, regionConfiguration(DEFAULT_TTLS.get(ROLE_REGION), DEFAULT_MAX_ENTRIES));
+        cacheManager.createCache(UPDATE_TIMESTAMPS_REGION, regionConfiguration(null, DEFAULT_MAX_ENTRIES));
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager secondLevelCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager);
+    }
+
+    private static CaffeineConfiguration<Object, Object> regionConfiguration(Duration ttl, long maxEntries) {
+        return new CaffeineConfiguration<>()
+                .setExpireAfterWrite(ttl == null ? OptionalLong.empty() : OptionalLong.of(ttl.toNanos()))
+                .setMaximumSize(OptionalLong.of(maxEntries))
+                .setStatisticsEnabled(true)
+                .setManagementEnabled(true);
+    }
+}
@@ -0,0 +1,156 @@
+package com.task.manager.demo.controller;
+
+import com.task.manager.demo.dto.epic.EpicDTO;
+import com.task.manager.demo.dto.project.ProjectDTO;
+import com.task.manager.demo.dto.task.TaskDTO;
+import com.task.manager.demo.service.archive.ArchiveService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.Parameters;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/archive")
+@Tag(name = "Archive", description = "Restore of deleted and archived tasks, epics and projects")
+@SecurityRequirement(name = "Authorization")
+public class ArchiveController {
+
+    private final ArchiveService service;
+
+    public ArchiveController(ArchiveService service) {
+        this.service = service;
+    }
+
+    @PostMapping("/task/{id}/restore")
+    @Operation(summary = "Restore a deleted or archived task")
+    @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "Task restored",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = TaskDTO.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Project, epic or parent task deleted, or title taken again"
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "Unauthorized"
+        ),
+        @ApiResponse(
+            responseCode = "403",
+            description = "Forbidden"
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Deleted task not found"
+        )
+    })
+    @Parameters({
+        @Parameter(
+            name = "id",
+            description = "Unique identifier of the deleted task",
+            required = true,
+            example = "3fa85f64-5717-4562-b3fc-2c963f66afa6"
+        )
+    })
+    public ResponseEntity<TaskDTO> restoreTask(@PathVariable UUID id) {
+        return ResponseEntity.ok(service.restoreTask(id));
+    }
+
+    @PostMapping("/epic/{id}/restore")
+    @Operation(summary = "Restore a deleted or archived epic")
+    @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "Epic restored",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = EpicDTO.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Project deleted, or title taken again"
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "Unauthorized"
+        ),
+        @ApiResponse(
+            responseCode = "403",
+            description = "Forbidden"
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Deleted epic not found"
+        )
+    })
+    @Parameters({
+        @Parameter(
+            name = "id",
+            description = "Unique identifier of the deleted epic",
+            required = true,
+            example = "3fa85f64-5717-4562-b3fc-2c963f66afa6"
+        )
+    })
+    public ResponseEntity<EpicDTO> restoreEpic(@PathVariable UUID id) {
+        return ResponseEntity.ok(service.restoreEpic(id));
+    }
+
+    @PostMapping("/project/{id}/restore")
+    @Operation(summary = "Restore a deleted or archived project")
+    @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "Project restored",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ProjectDTO.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Title taken again"
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "Unauthorized"
+        ),
+        @ApiResponse(
+            responseCode = "403",
+            description = "Forbidden"
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Deleted project not found"
+        )
+    })
+    @Parameters({
+        @Parameter(
+            name = "id",
+            description = "Unique identifier of the deleted project",
+            required = true,
+            example = "3fa85f64-5717-4562-b3fc-2c963f66afa6"
+        )
+    })
+    public ResponseEntity<ProjectDTO> restoreProject(@PathVariable UUID id) {
+        return ResponseEntity.ok(service.restoreProject(id));
+    }
+}
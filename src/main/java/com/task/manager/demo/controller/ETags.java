@@ -0,0 +1,102 @@
+package com.task.manager.demo.controller;
+
+import com.task.manager.demo.dto.CollectionVersion;
+import com.task.manager.demo.dto.CursorPage;
+import com.task.manager.demo.exception.PreconditionFailedException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Builds strong ETags from {@code updatedAt} and answers conditional GETs.
+ * <p>
+ * A single entity is tagged with its id and last modification time, a listing with
+ * its {@link CollectionVersion}. When the client sends {@code If-None-Match}, the
+ * current tag is obtained from a version-only lookup first, so an unchanged resource
+ * is answered with {@code 304 Not Modified} without loading or serializing it.
+ * Writes send the tag back in {@code If-Match} and are rejected when it is stale.
+ * </p>
+ */
+final class ETags {
+
+    private ETags() {
+    }
+
+    static String of(UUID id, LocalDateTime updatedAt) {
+        return id + "-" + micros(updatedAt);
+    }
+
+    static String of(CollectionVersion version) {
+        return version.count() + "-" + micros(version.lastModified());
+    }
+
+    /**
+     * Tags a page by its items and continuation token, as appending a row after the
+     * last item of a full page only changes the token.
+     */
+    static <T> String of(CursorPage<T> page, Function<T, LocalDateTime> updatedAt) {
+        String items = of(CollectionVersion.of(page.items(), updatedAt));
+        return page.nextCursor() == null ? items : items + "-" + page.nextCursor();
+    }
+
+    /**
+     * Answers a conditional GET.
+     *
+     * @param request     the current request
+     * @param current     looks up the current tag without loading the resource; empty when unknown
+     * @param loader      loads the resource
+     * @param tagOf       computes the tag of the loaded resource
+     * @return {@code 304} when {@code If-None-Match} matches the current tag, otherwise {@code 200} with the resource and its tag
+     */
+    static <T> ResponseEntity<T> respond(WebRequest request, Supplier<Optional<String>> current, Supplier<T> loader, Function<T, String> tagOf) {
+        if (request.getHeader(HttpHeaders.IF_NONE_MATCH) != null) {
+            Optional<String> tag = current.get();
+            if (tag.isPresent() && request.checkNotModified(tag.get())) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(tag.get()).build();
+            }
+        }
+        T body = loader.get();
+        return ResponseEntity.status(HttpStatus.OK).eTag(tagOf.apply(body)).body(body);
+    }
+
+    /**
+     * Reads the state a write was based on from its {@code If-Match} header.
+     *
+     * @param ifMatch the header value, may be {@code null}
+     * @param id      the entity being written
+     * @return the {@code updatedAt} encoded in the tag, or {@code null} when the header is absent or {@code *}
+     * @throws PreconditionFailedException if the tag is weak or was not issued for this entity
+     */
+    static LocalDateTime expectedUpdatedAt(String ifMatch, UUID id) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        String prefix = "\"" + id + "-";
+        if (!tag.startsWith(prefix) || !tag.endsWith("\"")) {
+            throw new PreconditionFailedException("If-Match does not match the current version");
+        }
+        try {
+            long micros = Long.parseUnsignedLong(tag.substring(prefix.length(), tag.length() - 1), 16);
+            return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000), (int) Math.floorMod(micros, 1_000_000) * 1_000, ZoneOffset.UTC);
+        } catch (NumberFormatException e) {
+            throw new PreconditionFailedException("If-Match does not match the current version");
+        }
+    }
+
+    private static String micros(LocalDateTime time) {
+        if (time == null) {
+            return "0";
+        }
+        long micros = time.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + time.getNano() / 1_000;
+        return Long.toHexString(micros);
+    }
+}
@@ -1,7 +1,11 @@
 package com.task.manager.demo.controller;
 
+import com.task.manager.demo.dto.BulkResult;
+import com.task.manager.demo.dto.CollectionVersion;
+import com.task.manager.demo.dto.CursorPage;
 import com.task.manager.demo.dto.ResponseMessage;
 import com.task.manager.demo.dto.epic.EpicDTO;
+import com.task.manager.demo.dto.epic.EpicProgressDTO;
 import com.task.manager.demo.dto.epic.EpicRequest;
 import com.task.manager.demo.dto.epic.EpicUpdateDTO;
 import com.task.manager.demo.dto.task.TaskDTO;
@@ -18,12 +22,15 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @RestController
@@ -88,6 +95,10 @@ public class EpicController {
                             schema = @Schema(implementation = EpicDTO.class)
                     )
             ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "Not modified since the ETag sent in If-None-Match"
+            ),
             @ApiResponse(
                     responseCode = "400",
                     description = "Invalid request"
@@ -109,10 +120,11 @@ public class EpicController {
                     example = "3fa85f64-5717-4562-b3fc-2c963f66afa6"
             )
     })
-    public ResponseEntity<EpicDTO> getById(@PathVariable UUID id) {
-        return ResponseEntity
-                .status(HttpStatus.OK)
-                .body(service.findById(id));
+    public ResponseEntity<EpicDTO> getById(@PathVariable UUID id, WebRequest request) {
+        return ETags.respond(request,
+                () -> service.findLastModified(id).map(updatedAt -> ETags.of(id, updatedAt)),
+                () -> service.findById(id),
+                epic -> ETags.of(epic.id(), epic.updatedAt()));
     }
 
     @Operation(summary = "Get all tasks in an epic")
@@ -127,6 +139,10 @@ public class EpicController {
                             array = @ArraySchema(schema = @Schema(implementation = TaskDTO.class))
                     )
             ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "Not modified since the ETag sent in If-None-Match"
+            ),
             @ApiResponse(
                     responseCode = "400",
                     description = "Invalid request"
@@ -148,10 +164,48 @@ public class EpicController {
                     example = "3fa85f64-5717-4562-b3fc-2c963f66afa6"
             )
     })
-    public ResponseEntity<List<TaskDTO>> getAllTasksInEpic(@PathVariable UUID id) {
-        return ResponseEntity
-                .status(HttpStatus.OK)
-                .body(service.getAllTasksInEpic(id));
+    public ResponseEntity<List<TaskDTO>> getAllTasksInEpic(@PathVariable UUID id, WebRequest request) {
+        return ETags.respond(request,
+                () -> Optional.of(ETags.of(service.getAllTasksInEpicVersion(id))),
+                () -> service.getAllTasksInEpic(id),
+                items -> ETags.of(CollectionVersion.of(items, TaskDTO::updatedAt)));
+    }
+
+    @Operation(summary = "Get the progress of an epic")
+    @GetMapping("/{id}/progress")
+    @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Task and story point totals of the epic",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = EpicProgressDTO.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "Unauthorized"
+            ),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "Access denied"
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Epic not found"
+            )
+    })
+    @Parameters({
+            @Parameter(
+                    name = "id",
+                    description = "Unique epic identifier",
+                    required = true,
+                    example = "3fa85f64-5717-4562-b3fc-2c963f66afa6"
+            )
+    })
+    public ResponseEntity<EpicProgressDTO> getProgress(@PathVariable UUID id) {
+        return ResponseEntity.status(HttpStatus.OK).body(service.getProgress(id));
     }
 
     @PostMapping("/complete/{id}")
@@ -213,6 +267,45 @@ public class EpicController {
                 .body(service.complete(id));
     }
 
+    @PostMapping("/complete")
+    @Operation(summary = "Complete many epics at once")
+    @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Per-epic result: updated, unchanged (already completed) or notFound",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = BulkResult.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Empty or too large batch"
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "Unauthorized"
+            ),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "Access denied"
+            )
+    })
+    public ResponseEntity<BulkResult> completeAll(
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "Identifiers of the epics to complete",
+                    content = @Content(
+                            mediaType = "application/json",
+                            array = @ArraySchema(schema = @Schema(implementation = UUID.class))
+                    )
+            )
+            @RequestBody List<UUID> ids) {
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(service.completeAll(ids));
+    }
+
     @GetMapping("/")
     @Operation(summary = "Get all epics")
     @ApiResponses({
@@ -221,9 +314,13 @@ public class EpicController {
                     description = "List of all epics",
                     content = @Content(
                             mediaType = "application/json",
-                            array = @ArraySchema(schema = @Schema(implementation = EpicDTO.class))
+                            schema = @Schema(implementation = CursorPage.class)
                     )
             ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "Not modified since the ETag sent in If-None-Match"
+            ),
             @ApiResponse(
                     responseCode = "400",
                     description = "Invalid request"
@@ -238,10 +335,29 @@ public class EpicController {
             )
     })
     @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
-    public ResponseEntity<List<EpicDTO>> getAll() {
-        return ResponseEntity
-                .status(HttpStatus.OK)
-                .body(service.getAll());
+    @Parameters({
+            @Parameter(
+                    name = "cursor",
+                    description = "Continuation token returned as nextCursor by the previous page; omit for the first page",
+                    required = false
+            ),
+            @Parameter(
+                    name = "size",
+                    description = "Page size, between 1 and " + CursorPage.MAX_SIZE + " (default " + CursorPage.DEFAULT_SIZE + ")",
+                    required = false,
+                    example = "50"
+            )
+    })
+    public ResponseEntity<CursorPage<EpicDTO>> getAll(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            WebRequest request) {
+        // No version-only lookup for pages: the tag is computed from the loaded page
+        // and a matching If-None-Match still skips serialization
+        return ETags.respond(request,
+                Optional::empty,
+                () -> service.getAll(cursor, size),
+                page -> ETags.of(page, EpicDTO::updatedAt));
     }
 
     @GetMapping
@@ -277,13 +393,21 @@ public class EpicController {
                     description = "Partial or complete text of the epic title to search",
                     required = true,
                     example = "bug"
+            ),
+            @Parameter(
+                    name = "limit",
+                    description = "Maximum number of ranked results, between 1 and " + CursorPage.MAX_SIZE + " (default " + CursorPage.DEFAULT_SIZE + ")",
+                    required = false,
+                    example = "20"
             )
     })
     @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
-    public ResponseEntity<List<EpicDTO>> searchByTitle(@RequestParam String title) {
+    public ResponseEntity<List<EpicDTO>> searchByTitle(
+            @RequestParam String title,
+            @RequestParam(required = false) Integer limit) {
         return ResponseEntity
                 .status(HttpStatus.OK)
-                .body(service.searchEpicByTitle(title));
+                .body(service.searchEpicByTitle(title, limit));
     }
 
     @DeleteMapping("/{id}/user/{requester}")
@@ -357,6 +481,14 @@ public class EpicController {
                     responseCode = "400",
                     description = "Invalid request"
             ),
+            @ApiResponse(
+                    responseCode = "409",
+                    description = "Modified concurrently by another request"
+            ),
+            @ApiResponse(
+                    responseCode = "412",
+                    description = "If-Match does not match the current version"
+            ),
             @ApiResponse(
                     responseCode = "401",
                     description = "Unauthorized"
@@ -377,9 +509,12 @@ public class EpicController {
                             schema = @Schema(implementation = EpicUpdateDTO.class)
                     )
             )
-            @Valid @RequestBody EpicUpdateDTO request) {
+            @Valid @RequestBody EpicUpdateDTO request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        EpicDTO updated = service.update(id, request, ETags.expectedUpdatedAt(ifMatch, id));
         return ResponseEntity
                 .status(HttpStatus.OK)
-                .body(service.update(id, request));
+                .eTag(ETags.of(updated.id(), updated.updatedAt()))
+                .body(updated);
     }
 }
@@ -1,12 +1,18 @@
 package com.task.manager.demo.controller;
 
+import com.task.manager.demo.dto.CollectionVersion;
+import com.task.manager.demo.dto.CursorPage;
 import com.task.manager.demo.dto.ResponseMessage;
 import com.task.manager.demo.dto.project.ProjectDTO;
 import com.task.manager.demo.dto.project.ProjectRequest;
+import com.task.manager.demo.dto.project.ProjectSummaryDTO;
 import com.task.manager.demo.dto.project.ProjectUpdateDTO;
 import com.task.manager.demo.dto.task.TaskDTO;
+import com.task.manager.demo.dto.task.TaskFileFormat;
+import com.task.manager.demo.dto.task.TaskImportReport;
 import com.task.manager.demo.dto.epic.EpicDTO;
 import com.task.manager.demo.service.project.ProjectService;
+import com.task.manager.demo.service.task.TaskImportService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.Parameters;
@@ -18,13 +24,21 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @RestController
@@ -34,9 +48,11 @@ import java.util.UUID;
 public class ProjectController {
 
     private final ProjectService service;
+    private final TaskImportService importService;
 
-    public ProjectController(ProjectService service) {
+    public ProjectController(ProjectService service, TaskImportService importService) {
         this.service = service;
+        this.importService = importService;
     }
 
     @PostMapping("/create")
@@ -89,6 +105,10 @@ public class ProjectController {
                 schema = @Schema(implementation = ProjectDTO.class)
             )
         ),
+        @ApiResponse(
+            responseCode = "304",
+            description = "Not modified since the ETag sent in If-None-Match"
+        ),
         @ApiResponse(
             responseCode = "400",
             description = "Invalid request"
@@ -114,10 +134,11 @@ public class ProjectController {
             example = "3fa85f64-5717-4562-b3fc-2c963f66afa6"
         )
     })
-    public ResponseEntity<ProjectDTO> getById(@PathVariable UUID id) {
-        return ResponseEntity
-                .status(HttpStatus.OK)
-                .body(service.findById(id));
+    public ResponseEntity<ProjectDTO> getById(@PathVariable UUID id, WebRequest request) {
+        return ETags.respond(request,
+                () -> service.findLastModified(id).map(updatedAt -> ETags.of(id, updatedAt)),
+                () -> service.findById(id),
+                project -> ETags.of(project.id(), project.updatedAt()));
     }
 
     @GetMapping("/")
@@ -129,9 +150,13 @@ public class ProjectController {
             description = "List of projects",
             content = @Content(
                 mediaType = "application/json",
-                array = @ArraySchema(schema = @Schema(implementation = ProjectDTO.class))
+                schema = @Schema(implementation = CursorPage.class)
             )
         ),
+        @ApiResponse(
+            responseCode = "304",
+            description = "Not modified since the ETag sent in If-None-Match"
+        ),
         @ApiResponse(
             responseCode = "400",
             description = "Petición inválida"
@@ -145,10 +170,29 @@ public class ProjectController {
             description = "Acceso denegado"
         )
     })
-    public ResponseEntity<List<ProjectDTO>> getAll() {
-        return ResponseEntity
-                .status(HttpStatus.OK)
-                .body(service.getAll());
+    @Parameters({
+        @Parameter(
+            name = "cursor",
+            description = "Continuation token returned as nextCursor by the previous page; omit for the first page",
+            required = false
+        ),
+        @Parameter(
+            name = "size",
+            description = "Page size, between 1 and " + CursorPage.MAX_SIZE + " (default " + CursorPage.DEFAULT_SIZE + ")",
+            required = false,
+            example = "50"
+        )
+    })
+    public ResponseEntity<CursorPage<ProjectDTO>> getAll(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            WebRequest request) {
+        // No version-only lookup for pages: the tag is computed from the loaded page
+        // and a matching If-None-Match still skips serialization
+        return ETags.respond(request,
+                Optional::empty,
+                () -> service.getAll(cursor, size),
+                page -> ETags.of(page, ProjectDTO::updatedAt));
     }
 
     @GetMapping
@@ -185,12 +229,20 @@ public class ProjectController {
             description = "Partial or complete text of the project title to search",
             required = true,
             example = "Backend"
+        ),
+        @Parameter(
+            name = "limit",
+            description = "Maximum number of ranked results, between 1 and " + CursorPage.MAX_SIZE + " (default " + CursorPage.DEFAULT_SIZE + ")",
+            required = false,
+            example = "20"
         )
     })
-    public ResponseEntity<List<ProjectDTO>> searchByTitle(@RequestParam String title) {
+    public ResponseEntity<List<ProjectDTO>> searchByTitle(
+            @RequestParam String title,
+            @RequestParam(required = false) Integer limit) {
         return ResponseEntity
                 .status(HttpStatus.OK)
-                .body(service.searchProjectByTitle(title));
+                .body(service.searchProjectByTitle(title, limit));
     }
 
     @GetMapping("/{id}/tasks")
@@ -205,6 +257,10 @@ public class ProjectController {
                 array = @ArraySchema(schema = @Schema(implementation = TaskDTO.class))
             )
         ),
+        @ApiResponse(
+            responseCode = "304",
+            description = "Not modified since the ETag sent in If-None-Match"
+        ),
         @ApiResponse(
             responseCode = "400",
             description = "Petición inválida"
@@ -230,10 +286,149 @@ public class ProjectController {
             example = "3fa85f64-5717-4562-b3fc-2c963f66afa6"
         )
     })
-    public ResponseEntity<List<TaskDTO>> getAllTasks(@PathVariable UUID id) {
-        return ResponseEntity
-                .status(HttpStatus.OK)
-                .body(service.getAllTasksInProject(id));
+    public ResponseEntity<List<TaskDTO>> getAllTasks(@PathVariable UUID id, WebRequest request) {
+        return ETags.respond(request,
+                () -> Optional.of(ETags.of(service.getAllTasksInProjectVersion(id))),
+                () -> service.getAllTasksInProject(id),
+                items -> ETags.of(CollectionVersion.of(items, TaskDTO::updatedAt)));
+    }
+
+    @GetMapping("/{id}/tasks/export")
+    @Operation(summary = "Export all tasks in a project as NDJSON or CSV")
+    @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "Tasks of the project, streamed one per line",
+            content = {
+                @Content(mediaType = "application/x-ndjson"),
+                @Content(mediaType = "text/csv")
+            }
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Formato no soportado"
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "No autorizado"
+        ),
+        @ApiResponse(
+            responseCode = "403",
+            description = "Acceso denegado"
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Proyecto no encontrado"
+        )
+    })
+    @Parameters({
+        @Parameter(
+            name = "id",
+            description = "Unique project identifier",
+            required = true,
+            example = "3fa85f64-5717-4562-b3fc-2c963f66afa6"
+        ),
+        @Parameter(
+            name = "format",
+            description = "File format: ndjson (default) or csv",
+            example = "csv"
+        )
+    })
+    public ResponseEntity<StreamingResponseBody> exportTasks(@PathVariable UUID id, @RequestParam(defaultValue = "ndjson") String format) {
+        TaskFileFormat fileFormat = TaskFileFormat.of(format);
+        // resolved before streaming starts, so a missing project is still answered with 404
+        service.findById(id);
+        ContentDisposition disposition = ContentDisposition.attachment()
+                .filename("project-" + id + "-tasks." + fileFormat.extension())
+                .build();
+        return ResponseEntity.status(HttpStatus.OK)
+                .contentType(MediaType.parseMediaType(fileFormat.mediaType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, disposition.toString())
+                .body(out -> service.exportTasks(id, fileFormat, out));
+    }
+
+    @PostMapping("/{id}/tasks/import")
+    @Operation(summary = "Import tasks into a project from an NDJSON or CSV upload")
+    @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "Rows read and imported, with the reason each rejected row was skipped",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = TaskImportReport.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Formato no soportado o cabecera CSV inválida"
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "No autorizado"
+        ),
+        @ApiResponse(
+            responseCode = "403",
+            description = "Acceso denegado"
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Proyecto no encontrado"
+        )
+    })
+    @Parameters({
+        @Parameter(
+            name = "id",
+            description = "Unique project identifier",
+            required = true,
+            example = "3fa85f64-5717-4562-b3fc-2c963f66afa6"
+        ),
+        @Parameter(
+            name = "format",
+            description = "Format of the request body: ndjson (default) or csv",
+            example = "csv"
+        )
+    })
+    public ResponseEntity<TaskImportReport> importTasks(@PathVariable UUID id, @RequestParam(defaultValue = "ndjson") String format, InputStream body) throws IOException {
+        return ResponseEntity.status(HttpStatus.OK).body(importService.importTasks(id, TaskFileFormat.of(format), body));
+    }
+
+    @GetMapping("/{id}/summary")
+    @Operation(summary = "Get the dashboard summary of a project")
+    @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "Task counts by type, completion, story points, assignee workload and epic progress",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ProjectSummaryDTO.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "No autorizado"
+        ),
+        @ApiResponse(
+            responseCode = "403",
+            description = "Acceso denegado"
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Proyecto no encontrado"
+        )
+    })
+    @Parameters({
+        @Parameter(
+            name = "id",
+            description = "Unique project identifier",
+            required = true,
+            example = "3fa85f64-5717-4562-b3fc-2c963f66afa6"
+        )
+    })
+    public ResponseEntity<ProjectSummaryDTO> getSummary(@PathVariable UUID id) {
+        return ResponseEntity.status(HttpStatus.OK).body(service.getSummary(id));
     }
 
     @GetMapping("/{id}/epics")
@@ -248,6 +443,10 @@ public class ProjectController {
                 array = @ArraySchema(schema = @Schema(implementation = EpicDTO.class))
             )
         ),
+        @ApiResponse(
+            responseCode = "304",
+            description = "Not modified since the ETag sent in If-None-Match"
+        ),
         @ApiResponse(
             responseCode = "400",
             description = "Petición inválida"
@@ -273,10 +472,11 @@ public class ProjectController {
             example = "3fa85f64-5717-4562-b3fc-2c963f66afa6"
         )
     })
-    public ResponseEntity<List<EpicDTO>> getAllEpics(@PathVariable UUID id) {
-        return ResponseEntity
-                .status(HttpStatus.OK)
-                .body(service.getAllEpicsInProject(id));
+    public ResponseEntity<List<EpicDTO>> getAllEpics(@PathVariable UUID id, WebRequest request) {
+        return ETags.respond(request,
+                () -> Optional.of(ETags.of(service.getAllEpicsInProjectVersion(id))),
+                () -> service.getAllEpicsInProject(id),
+                items -> ETags.of(CollectionVersion.of(items, EpicDTO::updatedAt)));
     }
 
     @PatchMapping("/{id}")
@@ -295,6 +495,14 @@ public class ProjectController {
             responseCode = "400",
             description = "Petición inválida"
         ),
+        @ApiResponse(
+            responseCode = "409",
+            description = "Modified concurrently by another request"
+        ),
+        @ApiResponse(
+            responseCode = "412",
+            description = "If-Match does not match the current version"
+        ),
         @ApiResponse(
             responseCode = "401",
             description = "No autorizado"
@@ -324,10 +532,13 @@ public class ProjectController {
                 schema = @Schema(implementation = ProjectUpdateDTO.class)
             )
         )
-        @Valid @RequestBody ProjectUpdateDTO request) {
+        @Valid @RequestBody ProjectUpdateDTO request,
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        ProjectDTO updated = service.update(id, request, ETags.expectedUpdatedAt(ifMatch, id));
         return ResponseEntity
                 .status(HttpStatus.OK)
-                .body(service.update(id, request));
+                .eTag(ETags.of(updated.id(), updated.updatedAt()))
+                .body(updated);
     }
 
     @DeleteMapping("/{id}/user/{userId}")
@@ -1,8 +1,13 @@
 package com.task.manager.demo.controller;
 
+import com.task.manager.demo.dto.BulkResult;
+import com.task.manager.demo.dto.CollectionVersion;
+import com.task.manager.demo.dto.CursorPage;
 import com.task.manager.demo.dto.ResponseMessage;
+import com.task.manager.demo.dto.task.TaskBulkUpdateDTO;
 import com.task.manager.demo.dto.task.TaskDTO;
 import com.task.manager.demo.dto.task.TaskRequest;
+import com.task.manager.demo.dto.task.TaskTreeDTO;
 import com.task.manager.demo.dto.task.TaskUpdateDTO;
 import com.task.manager.demo.service.task.TaskService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -17,12 +22,15 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @RestController
@@ -75,6 +83,48 @@ public class TaskController {
                 .body(service.create(request));
     }
 
+    @PostMapping("/bulk")
+    @Operation(summary = "Create many tasks at once")
+    @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "201",
+            description = "Tasks created, in request order",
+            content = @Content(
+                mediaType = "application/json",
+                array = @ArraySchema(schema = @Schema(implementation = TaskDTO.class))
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid request, repeated or existing title, or invalid parent; no task is created"
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "Unauthorized"
+        ),
+        @ApiResponse(
+            responseCode = "403",
+            description = "Forbidden"
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Project not found"
+        )
+    })
+    public ResponseEntity<List<TaskDTO>> createAll(
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    content = @Content(
+                            mediaType = "application/json",
+                            array = @ArraySchema(schema = @Schema(implementation = TaskRequest.class))
+                    )
+            )
+            @RequestBody List<@Valid TaskRequest> requests) {
+        return ResponseEntity
+                .status(HttpStatus.CREATED)
+                .body(service.createAll(requests));
+    }
+
     @Operation(summary = "Get task by ID")
     @GetMapping("/{id}")
     @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
@@ -87,6 +137,10 @@ public class TaskController {
                 schema = @Schema(implementation = TaskDTO.class)
             )
         ),
+        @ApiResponse(
+            responseCode = "304",
+            description = "Not modified since the ETag sent in If-None-Match"
+        ),
         @ApiResponse(
             responseCode = "400",
             description = "Invalid request"
@@ -108,10 +162,165 @@ public class TaskController {
             example = "3fa85f64-5717-4562-b3fc-2c963f66afa6"
         )
     })
-    public ResponseEntity<TaskDTO> getById(@PathVariable UUID id) {
-        return ResponseEntity
-                .status(HttpStatus.OK)
-                .body(service.findById(id));
+    public ResponseEntity<TaskDTO> getById(@PathVariable UUID id, WebRequest request) {
+        return ETags.respond(request,
+                () -> service.findLastModified(id).map(updatedAt -> ETags.of(id, updatedAt)),
+                () -> service.findById(id),
+                task -> ETags.of(task.id(), task.updatedAt()));
+    }
+
+    @Operation(summary = "Get a task with its subtasks nested below it")
+    @GetMapping("/{id}/tree")
+    @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "Subtree rooted at the task, with story points and completion rolled up on every node",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = TaskTreeDTO.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "Unauthorized"
+        ),
+        @ApiResponse(
+            responseCode = "403",
+            description = "Forbidden"
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Task not found"
+        )
+    })
+    @Parameters({
+        @Parameter(
+            name = "id",
+            description = "Unique identifier of the root task",
+            required = true,
+            example = "3fa85f64-5717-4562-b3fc-2c963f66afa6"
+        ),
+        @Parameter(
+            name = "depth",
+            description = "Levels of subtasks to include, between 0 and " + TaskTreeDTO.MAX_DEPTH + " (default " + TaskTreeDTO.DEFAULT_DEPTH + ")",
+            required = false,
+            example = "10"
+        )
+    })
+    public ResponseEntity<TaskTreeDTO> getTree(@PathVariable UUID id, @RequestParam(required = false) Integer depth) {
+        return ResponseEntity.status(HttpStatus.OK).body(service.getTree(id, depth));
+    }
+
+    @Operation(summary = "Get the ancestors of a task")
+    @GetMapping("/{id}/ancestors")
+    @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "Ancestors of the task, from the root down to its parent",
+            content = @Content(
+                mediaType = "application/json",
+                array = @ArraySchema(schema = @Schema(implementation = TaskDTO.class))
+            )
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "Unauthorized"
+        ),
+        @ApiResponse(
+            responseCode = "403",
+            description = "Forbidden"
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Task not found"
+        )
+    })
+    @Parameters({
+        @Parameter(
+            name = "id",
+            description = "Unique identifier of the task",
+            required = true,
+            example = "3fa85f64-5717-4562-b3fc-2c963f66afa6"
+        )
+    })
+    public ResponseEntity<List<TaskDTO>> getAncestors(@PathVariable UUID id) {
+        return ResponseEntity.status(HttpStatus.OK).body(service.getAncestors(id));
+    }
+
+    @Operation(summary = "Get all subtasks of a task at any depth")
+    @GetMapping("/{id}/descendants")
+    @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "Subtasks of the task, level by level",
+            content = @Content(
+                mediaType = "application/json",
+                array = @ArraySchema(schema = @Schema(implementation = TaskDTO.class))
+            )
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "Unauthorized"
+        ),
+        @ApiResponse(
+            responseCode = "403",
+            description = "Forbidden"
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Task not found"
+        )
+    })
+    @Parameters({
+        @Parameter(
+            name = "id",
+            description = "Unique identifier of the task",
+            required = true,
+            example = "3fa85f64-5717-4562-b3fc-2c963f66afa6"
+        )
+    })
+    public ResponseEntity<List<TaskDTO>> getDescendants(@PathVariable UUID id) {
+        return ResponseEntity.status(HttpStatus.OK).body(service.getDescendants(id));
+    }
+
+    @Operation(summary = "Tell whether every subtask of a task is completed")
+    @GetMapping("/{id}/subtasks/completed")
+    @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "true when no subtask, at any depth, is still open",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = Boolean.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "Unauthorized"
+        ),
+        @ApiResponse(
+            responseCode = "403",
+            description = "Forbidden"
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Task not found"
+        )
+    })
+    @Parameters({
+        @Parameter(
+            name = "id",
+            description = "Unique identifier of the task",
+            required = true,
+            example = "3fa85f64-5717-4562-b3fc-2c963f66afa6"
+        )
+    })
+    public ResponseEntity<Boolean> allSubtasksCompleted(@PathVariable UUID id) {
+        return ResponseEntity.status(HttpStatus.OK).body(service.allSubtasksCompleted(id));
     }
 
     @Operation(summary = "Get all tasks for a user")
@@ -126,6 +335,10 @@ public class TaskController {
                 array = @ArraySchema(schema = @Schema(implementation = TaskDTO.class))
             )
         ),
+        @ApiResponse(
+            responseCode = "304",
+            description = "Not modified since the ETag sent in If-None-Match"
+        ),
         @ApiResponse(
             responseCode = "400",
             description = "Invalid request"
@@ -147,10 +360,11 @@ public class TaskController {
             example = "3fa85f64-5717-4562-b3fc-2c963f66afa6"
         )
     })
-    public ResponseEntity<List<TaskDTO>> getAllByUser(@PathVariable UUID id) {
-        return ResponseEntity
-                .status(HttpStatus.OK)
-                .body(service.getAllUserTasks(id));
+    public ResponseEntity<List<TaskDTO>> getAllByUser(@PathVariable UUID id, WebRequest request) {
+        return ETags.respond(request,
+                () -> Optional.of(ETags.of(service.getAllUserTasksVersion(id))),
+                () -> service.getAllUserTasks(id),
+                items -> ETags.of(CollectionVersion.of(items, TaskDTO::updatedAt)));
     }
 
     @PostMapping("/complete/{id}")
@@ -211,6 +425,45 @@ public class TaskController {
                 .body(service.complete(id));
     }
 
+    @PostMapping("/complete")
+    @Operation(summary = "Complete many tasks at once")
+    @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "Per-task result: updated, unchanged (already completed) or notFound",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = BulkResult.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Empty or too large batch"
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "Unauthorized"
+        ),
+        @ApiResponse(
+            responseCode = "403",
+            description = "Forbidden"
+        )
+    })
+    public ResponseEntity<BulkResult> completeAll(
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "Identifiers of the tasks to complete",
+                    content = @Content(
+                            mediaType = "application/json",
+                            array = @ArraySchema(schema = @Schema(implementation = UUID.class))
+                    )
+            )
+            @RequestBody List<UUID> ids) {
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(service.completeAll(ids));
+    }
+
     @GetMapping("/")
     @Operation(summary = "Get all tasks")
     @ApiResponses({
@@ -219,9 +472,13 @@ public class TaskController {
             description = "List of all tasks",
             content = @Content(
                     mediaType = "application/json",
-                    array = @ArraySchema(schema = @Schema(implementation = TaskDTO.class))
+                    schema = @Schema(implementation = CursorPage.class)
             )
         ),
+        @ApiResponse(
+            responseCode = "304",
+            description = "Not modified since the ETag sent in If-None-Match"
+        ),
         @ApiResponse(
             responseCode = "400",
             description = "Invalid request"
@@ -236,10 +493,29 @@ public class TaskController {
         )
     })
     @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
-    public ResponseEntity<List<TaskDTO>> getAll() {
-        return ResponseEntity
-                .status(HttpStatus.OK)
-                .body(service.getAll());
+    @Parameters({
+        @Parameter(
+            name = "cursor",
+            description = "Continuation token returned as nextCursor by the previous page; omit for the first page",
+            required = false
+        ),
+        @Parameter(
+            name = "size",
+            description = "Page size, between 1 and " + CursorPage.MAX_SIZE + " (default " + CursorPage.DEFAULT_SIZE + ")",
+            required = false,
+            example = "50"
+        )
+    })
+    public ResponseEntity<CursorPage<TaskDTO>> getAll(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            WebRequest request) {
+        // No version-only lookup for pages: the tag is computed from the loaded page
+        // and a matching If-None-Match still skips serialization
+        return ETags.respond(request,
+                Optional::empty,
+                () -> service.getAll(cursor, size),
+                page -> ETags.of(page, TaskDTO::updatedAt));
     }
 
     @GetMapping
@@ -275,13 +551,21 @@ public class TaskController {
             description = "Partial or full text of the task title to search",
             required = true,
             example = "bug"
+        ),
+        @Parameter(
+            name = "limit",
+            description = "Maximum number of ranked results, between 1 and " + CursorPage.MAX_SIZE + " (default " + CursorPage.DEFAULT_SIZE + ")",
+            required = false,
+            example = "20"
         )
     })
     @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
-    public ResponseEntity<List<TaskDTO>> searchByTitle(@RequestParam String title) {
+    public ResponseEntity<List<TaskDTO>> searchByTitle(
+            @RequestParam String title,
+            @RequestParam(required = false) Integer limit) {
         return ResponseEntity
                 .status(HttpStatus.OK)
-                .body(service.searchByTaskByTitle(title));
+                .body(service.searchByTaskByTitle(title, limit));
     }
 
     @DeleteMapping("/{id}/user/{userId}")
@@ -355,6 +639,14 @@ public class TaskController {
             responseCode = "400",
             description = "Invalid request"
         ),
+        @ApiResponse(
+            responseCode = "409",
+            description = "Modified concurrently by another request"
+        ),
+        @ApiResponse(
+            responseCode = "412",
+            description = "If-Match does not match the current version"
+        ),
         @ApiResponse(
             responseCode = "401",
             description = "Unauthorized"
@@ -375,10 +667,51 @@ public class TaskController {
                 schema = @Schema(implementation = TaskUpdateDTO.class)
             )
         )
-        @Valid @RequestBody TaskUpdateDTO request) {
+        @Valid @RequestBody TaskUpdateDTO request,
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        TaskDTO updated = service.update(id, request, ETags.expectedUpdatedAt(ifMatch, id));
         return ResponseEntity
                 .status(HttpStatus.OK)
-                .body(service.update(id, request));
+                .eTag(ETags.of(updated.id(), updated.updatedAt()))
+                .body(updated);
+    }
+
+    @PatchMapping("/bulk")
+    @Operation(summary = "Update many tasks at once")
+    @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "Per-task result: updated or notFound",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = BulkResult.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid request, empty or too large batch, or repeated task"
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "Unauthorized"
+        ),
+        @ApiResponse(
+            responseCode = "403",
+            description = "Forbidden"
+        )
+    })
+    public ResponseEntity<BulkResult> updateAll(
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    content = @Content(
+                            mediaType = "application/json",
+                            array = @ArraySchema(schema = @Schema(implementation = TaskBulkUpdateDTO.class))
+                    )
+            )
+            @RequestBody List<@Valid TaskBulkUpdateDTO> requests) {
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(service.updateAll(requests));
     }
 
     @PostMapping("/{id}/epic/{epic_id}")
@@ -474,4 +807,88 @@ public class TaskController {
 
         return ResponseEntity.ok(service.assignToUser(id, user_id));
     }
+
+    @PostMapping("/{id}/parent/{parent_id}")
+    @Operation(summary = "Move a task, with its subtasks, below another task")
+    @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "Task moved",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = TaskDTO.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Parent in another project, or the task itself or one of its subtasks"
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "Unauthorized"
+        ),
+        @ApiResponse(
+            responseCode = "403",
+            description = "Forbidden"
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Task or parent task not found"
+        )
+    })
+    @Parameters({
+        @Parameter(
+            name = "id",
+            description = "Unique identifier of the task to move",
+            required = true,
+            example = "3fa85f64-5717-4562-b3fc-2c963f66afa6"
+        ),
+        @Parameter(
+            name = "parent_id",
+            description = "Unique identifier of the new parent task",
+            required = true,
+            example = "3fa85f64-5717-4562-b3fc-2c963f44af89"
+        )
+    })
+    public ResponseEntity<TaskDTO> assignToParent(@PathVariable UUID id, @PathVariable UUID parent_id) {
+        return ResponseEntity.ok(service.assignToParent(id, parent_id));
+    }
+
+    @DeleteMapping("/{id}/parent")
+    @Operation(summary = "Detach a task, with its subtasks, from its parent")
+    @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "Task is now a root task",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = TaskDTO.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "Unauthorized"
+        ),
+        @ApiResponse(
+            responseCode = "403",
+            description = "Forbidden"
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Task not found"
+        )
+    })
+    @Parameters({
+        @Parameter(
+            name = "id",
+            description = "Unique identifier of the task to detach",
+            required = true,
+            example = "3fa85f64-5717-4562-b3fc-2c963f66afa6"
+        )
+    })
+    public ResponseEntity<TaskDTO> detachFromParent(@PathVariable UUID id) {
+        return ResponseEntity.ok(service.assignToParent(id, null));
+    }
 }
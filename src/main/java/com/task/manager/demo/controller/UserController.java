@@ -1,5 +1,6 @@
 package com.task.manager.demo.controller;
 
+import com.task.manager.demo.dto.CursorPage;
 import com.task.manager.demo.dto.profile.ProfileDto;
 import com.task.manager.demo.dto.profile.ProfileUpdateDTO;
 import com.task.manager.demo.dto.user.UserDto;
@@ -15,7 +16,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -39,11 +39,13 @@ public class UserController {
         return ResponseEntity.ok(service.findById(id));
     }
 
-    @Operation(summary = "Get all users", description = "Requires ADMIN role")
+    @Operation(summary = "Get all users", description = "Requires ADMIN role. Keyset-paginated by creation time; pass nextCursor as cursor to get the next page")
     @GetMapping("/")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<List<UserDto>> getAll() {
-        return ResponseEntity.ok(service.getAll());
+    public ResponseEntity<CursorPage<UserDto>> getAll(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(service.getAll(cursor, size));
     }
 
     @Operation(summary = "Update user", description = "Requires ADMIN role")
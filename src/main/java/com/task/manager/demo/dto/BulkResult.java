@@ -0,0 +1,61 @@
+package com.task.manager.demo.dto;
+
+import com.task.manager.demo.exception.BadRequestException;
+
+import java.util.*;
+
+/**
+ * Per-identifier outcome of a batch operation.
+ *
+ * @param updated   identifiers that were changed by the operation
+ * @param unchanged identifiers that exist but were already in the requested state
+ * @param notFound  identifiers that do not exist or are deleted
+ */
+public record BulkResult(
+        List<UUID> updated,
+        List<UUID> unchanged,
+        List<UUID> notFound
+) {
+    public static final int MAX_SIZE = 1000;
+
+    /**
+     * Rejects empty batches and batches larger than {@link #MAX_SIZE}.
+     *
+     * @param size the number of items in the batch
+     * @throws BadRequestException if the size is outside {@code [1, MAX_SIZE]}
+     */
+    public static void checkSize(int size) {
+        if (size == 0) {
+            throw new BadRequestException("At least one item is required");
+        }
+        if (size > MAX_SIZE) {
+            throw new BadRequestException("At most " + MAX_SIZE + " items can be processed at once");
+        }
+    }
+
+    /**
+     * Classifies every requested identifier, keeping the request order and dropping duplicates.
+     *
+     * @param requested the identifiers sent by the client
+     * @param found     the identifiers that exist
+     * @param updated   the identifiers that were changed
+     * @return the per-identifier result
+     */
+    public static BulkResult of(Collection<UUID> requested, Collection<UUID> found, Collection<UUID> updated) {
+        Set<UUID> foundIds = new HashSet<>(found);
+        Set<UUID> updatedIds = new HashSet<>(updated);
+        List<UUID> changed = new ArrayList<>();
+        List<UUID> same = new ArrayList<>();
+        List<UUID> missing = new ArrayList<>();
+        for (UUID id : new LinkedHashSet<>(requested)) {
+            if (updatedIds.contains(id)) {
+                changed.add(id);
+            } else if (foundIds.contains(id)) {
+                same.add(id);
+            } else {
+                missing.add(id);
+            }
+        }
+        return new BulkResult(changed, same, missing);
+    }
+}
@@ -0,0 +1,37 @@
+package com.task.manager.demo.dto;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Fingerprint of a listing: how many rows it holds and the newest {@code updatedAt}
+ * among them. Adding, removing or modifying a member changes at least one of the two,
+ * so it can be compared instead of the listing itself.
+ *
+ * @param count        number of rows in the listing
+ * @param lastModified newest {@code updatedAt} among them, or {@code null} when empty
+ */
+public record CollectionVersion(
+        long count,
+        LocalDateTime lastModified
+) {
+
+    /**
+     * Computes the version of an already loaded listing. It matches the one the
+     * repositories compute with {@code COUNT} and {@code MAX} over the same rows.
+     *
+     * @param items     the listing
+     * @param updatedAt extracts the last modification time of an item
+     * @return the version of the listing
+     */
+    public static <T> CollectionVersion of(Collection<T> items, Function<T, LocalDateTime> updatedAt) {
+        LocalDateTime lastModified = items.stream()
+                .map(updatedAt)
+                .filter(Objects::nonNull)
+                .max(LocalDateTime::compareTo)
+                .orElse(null);
+        return new CollectionVersion(items.size(), lastModified);
+    }
+}
@@ -0,0 +1,48 @@
+package com.task.manager.demo.dto;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One page of a keyset-paginated listing.
+ *
+ * @param items      the elements of the current page, ordered by {@code (createdAt, id)}
+ * @param nextCursor opaque token to pass as {@code cursor} for the next page, or {@code null} on the last page
+ */
+public record CursorPage<T>(
+        List<T> items,
+        String nextCursor
+) {
+    public static final int DEFAULT_SIZE = 50;
+    public static final int MAX_SIZE = 200;
+
+    /**
+     * Normalizes a requested page size into the {@code [1, MAX_SIZE]} range.
+     *
+     * @param size the requested size, may be {@code null}
+     * @return the effective page size
+     */
+    public static int clampSize(Integer size) {
+        if (size == null) {
+            return DEFAULT_SIZE;
+        }
+        return Math.max(1, Math.min(size, MAX_SIZE));
+    }
+
+    /**
+     * Builds a page from rows fetched with a limit of {@code size + 1}; the extra
+     * row only signals that another page exists and is not returned.
+     *
+     * @param rows     rows ordered by {@code (createdAt, id)}, at most {@code size + 1}
+     * @param size     the effective page size
+     * @param mapper   converts a row into its DTO
+     * @param cursorOf extracts the keyset position of a row
+     * @return the page with its continuation token
+     */
+    public static <E, T> CursorPage<T> of(List<E> rows, int size, Function<E, T> mapper, Function<E, PageCursor> cursorOf) {
+        boolean hasNext = rows.size() > size;
+        List<E> page = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? cursorOf.apply(page.get(page.size() - 1)).encode() : null;
+        return new CursorPage<>(page.stream().map(mapper).toList(), nextCursor);
+    }
+}
@@ -0,0 +1,44 @@
+package com.task.manager.demo.dto;
+
+import com.task.manager.demo.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position of the last element returned by a keyset-paginated listing.
+ * Clients only ever see the encoded form, which is opaque to them.
+ */
+public record PageCursor(
+        LocalDateTime createdAt,
+        UUID id
+) {
+    private static final String SEPARATOR = "|";
+
+    public String encode() {
+        String raw = createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a continuation token produced by {@link #encode()}.
+     *
+     * @param token the opaque token sent by the client
+     * @return the decoded cursor
+     * @throws BadRequestException if the token is malformed
+     */
+    public static PageCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            return new PageCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    UUID.fromString(raw.substring(separator + 1))
+            );
+        } catch (RuntimeException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.task.manager.demo.dto.epic;
+
+import java.util.UUID;
+
+/**
+ * Progress of an epic over its live tasks, read from the counters maintained on the epic.
+ *
+ * @param epic_id              the epic
+ * @param totalTasks           number of tasks in the epic
+ * @param completedTasks       number of those tasks that are completed
+ * @param totalStoryPoints     story points of all tasks in the epic
+ * @param completedStoryPoints story points of the completed tasks
+ */
+public record EpicProgressDTO(
+        UUID epic_id,
+        int totalTasks,
+        int completedTasks,
+        int totalStoryPoints,
+        int completedStoryPoints
+) {
+
+    public static EpicProgressDTO empty(UUID epic_id) {
+        return new EpicProgressDTO(epic_id, 0, 0, 0, 0);
+    }
+}
@@ -0,0 +1,118 @@
+package com.task.manager.demo.dto.project;
+
+import com.task.manager.demo.entity.Type_Enum;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Dashboard view of a project over its live tasks.
+ *
+ * @param project_id           the project
+ * @param totalTasks           number of tasks in the project
+ * @param completedTasks       number of those tasks that are completed
+ * @param totalStoryPoints     story points of all tasks
+ * @param completedStoryPoints story points of the completed tasks
+ * @param tasksByType          number of tasks of each {@link Type_Enum}
+ * @param assignees            workload of each assignee, unassigned tasks under a {@code null} user
+ * @param epics                progress of each epic with tasks, tasks outside any epic under a {@code null} epic
+ */
+public record ProjectSummaryDTO(
+        UUID project_id,
+        long totalTasks,
+        long completedTasks,
+        long totalStoryPoints,
+        long completedStoryPoints,
+        Map<Type_Enum, Long> tasksByType,
+        List<AssigneeWorkload> assignees,
+        List<EpicProgress> epics
+) {
+
+    /**
+     * Open and total work assigned to one user.
+     */
+    public record AssigneeWorkload(
+            UUID user_id,
+            String name,
+            long tasks,
+            long openTasks,
+            long storyPoints,
+            long openStoryPoints
+    ) {
+    }
+
+    /**
+     * Completed and total work of one epic.
+     */
+    public record EpicProgress(
+            UUID epic_id,
+            String title,
+            long tasks,
+            long completedTasks,
+            long storyPoints,
+            long completedStoryPoints
+    ) {
+    }
+
+    /**
+     * Folds the grouped rows of the summary query into the totals and the
+     * per-type, per-assignee and per-epic breakdowns.
+     *
+     * @param project_id the project
+     * @param groups     the live tasks of the project grouped by type, completion, assignee and epic
+     * @return the summary of the project
+     */
+    public static ProjectSummaryDTO of(UUID project_id, Collection<ProjectTaskGroup> groups) {
+        long totalTasks = 0;
+        long completedTasks = 0;
+        long totalStoryPoints = 0;
+        long completedStoryPoints = 0;
+        Map<Type_Enum, Long> tasksByType = new EnumMap<>(Type_Enum.class);
+        for (Type_Enum type : Type_Enum.values()) {
+            tasksByType.put(type, 0L);
+        }
+        Map<UUID, AssigneeWorkload> assignees = new LinkedHashMap<>();
+        Map<UUID, EpicProgress> epics = new LinkedHashMap<>();
+
+        for (ProjectTaskGroup group : groups) {
+            long doneTasks = group.completed() ? group.tasks() : 0;
+            long donePoints = group.completed() ? group.storyPoints() : 0;
+            totalTasks += group.tasks();
+            completedTasks += doneTasks;
+            totalStoryPoints += group.storyPoints();
+            completedStoryPoints += donePoints;
+            if (group.type() != null) {
+                tasksByType.merge(group.type(), group.tasks(), Long::sum);
+            }
+            assignees.merge(group.user_id(),
+                    new AssigneeWorkload(group.user_id(), group.userName(), group.tasks(), group.tasks() - doneTasks,
+                            group.storyPoints(), group.storyPoints() - donePoints),
+                    (a, b) -> new AssigneeWorkload(a.user_id(), a.name(), a.tasks() + b.tasks(), a.openTasks() + b.openTasks(),
+                            a.storyPoints() + b.storyPoints(), a.openStoryPoints() + b.openStoryPoints()));
+            epics.merge(group.epic_id(),
+                    new EpicProgress(group.epic_id(), group.epicTitle(), group.tasks(), doneTasks, group.storyPoints(), donePoints),
+                    (a, b) -> new EpicProgress(a.epic_id(), a.title(), a.tasks() + b.tasks(), a.completedTasks() + b.completedTasks(),
+                            a.storyPoints() + b.storyPoints(), a.completedStoryPoints() + b.completedStoryPoints()));
+        }
+
+        return new ProjectSummaryDTO(project_id, totalTasks, completedTasks, totalStoryPoints, completedStoryPoints,
+                tasksByType,
+                sorted(assignees.values(), AssigneeWorkload::user_id, AssigneeWorkload::name),
+                sorted(epics.values(), EpicProgress::epic_id, EpicProgress::title));
+    }
+
+    // Named buckets first, alphabetically; the unassigned / no-epic bucket last
+    private static <T> List<T> sorted(Collection<T> buckets, Function<T, Object> key, Function<T, String> name) {
+        List<T> sorted = new ArrayList<>(buckets);
+        sorted.sort(Comparator.comparing((T bucket) -> key.apply(bucket) == null)
+                .thenComparing(name, Comparator.nullsLast(Comparator.naturalOrder())));
+        return sorted;
+    }
+}
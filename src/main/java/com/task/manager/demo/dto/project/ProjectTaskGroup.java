@@ -0,0 +1,30 @@
+package com.task.manager.demo.dto.project;
+
+import com.task.manager.demo.entity.Type_Enum;
+
+import java.util.UUID;
+
+/**
+ * One row of the project summary query: the live tasks of a project that share
+ * a type, completion state, assignee and epic.
+ *
+ * @param type        task type
+ * @param completed   whether the tasks are completed
+ * @param user_id     assignee, or {@code null} for unassigned tasks
+ * @param userName    name of the assignee
+ * @param epic_id     epic, or {@code null} for tasks outside any epic
+ * @param epicTitle   title of the epic
+ * @param tasks       number of tasks in the group
+ * @param storyPoints story points of the tasks in the group
+ */
+public record ProjectTaskGroup(
+        Type_Enum type,
+        boolean completed,
+        UUID user_id,
+        String userName,
+        UUID epic_id,
+        String epicTitle,
+        long tasks,
+        long storyPoints
+) {
+}
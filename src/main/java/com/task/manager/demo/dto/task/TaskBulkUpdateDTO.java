@@ -0,0 +1,15 @@
+package com.task.manager.demo.dto.task;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.UUID;
+
+public record TaskBulkUpdateDTO(
+        @NotNull(message = "Task ID is required")
+        UUID id,
+        @NotNull(message = "Changes are required")
+        @Valid
+        TaskUpdateDTO changes
+) {
+}
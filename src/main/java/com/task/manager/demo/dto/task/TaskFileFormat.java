@@ -0,0 +1,45 @@
+package com.task.manager.demo.dto.task;
+
+import com.task.manager.demo.exception.BadRequestException;
+
+import java.util.Locale;
+
+/**
+ * File formats tasks are exported and imported in: one JSON document per line, or CSV with a header row.
+ */
+public enum TaskFileFormat {
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    private final String mediaType;
+    private final String extension;
+
+    TaskFileFormat(String mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    public String mediaType() {
+        return mediaType;
+    }
+
+    public String extension() {
+        return extension;
+    }
+
+    /**
+     * Resolves the format named in a request parameter.
+     *
+     * @param value {@code ndjson} or {@code csv}, case insensitive
+     * @return the matching format
+     * @throws BadRequestException if the format is not supported
+     */
+    public static TaskFileFormat of(String value) {
+        for (TaskFileFormat format : values()) {
+            if (format.extension.equals(value == null ? null : value.toLowerCase(Locale.ROOT))) {
+                return format;
+            }
+        }
+        throw new BadRequestException("Unsupported format '" + value + "', expected ndjson or csv");
+    }
+}
@@ -0,0 +1,36 @@
+package com.task.manager.demo.dto.task;
+
+import java.util.List;
+
+/**
+ * Outcome of a task import.
+ *
+ * @param rows            number of rows read from the upload
+ * @param imported        number of rows created as tasks
+ * @param rejected        number of rows that were not imported
+ * @param errors          why rows were rejected, at most {@link #MAX_ERRORS}
+ * @param errorsTruncated whether more rows were rejected than {@code errors} lists
+ */
+public record TaskImportReport(
+        long rows,
+        long imported,
+        long rejected,
+        List<RowError> errors,
+        boolean errorsTruncated
+) {
+    public static final int MAX_ERRORS = 1000;
+
+    /**
+     * A rejected row.
+     *
+     * @param row     1-based position of the row in the upload, not counting the CSV header
+     * @param title   title of the row, when it could be read
+     * @param message why the row was rejected
+     */
+    public record RowError(
+            long row,
+            String title,
+            String message
+    ) {
+    }
+}
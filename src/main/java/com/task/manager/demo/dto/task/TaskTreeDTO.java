@@ -0,0 +1,106 @@
+package com.task.manager.demo.dto.task;
+
+import com.task.manager.demo.entity.Type_Enum;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * A task with its subtasks nested below it, down to a depth limit.
+ * <p>
+ * Every node carries the totals of the subtree rooted at it, itself included, so
+ * a client can show progress at any level without adding the children up. The
+ * totals cover the nodes returned: subtasks below the depth limit are not counted.
+ * </p>
+ *
+ * @param id                   the task
+ * @param title                title of the task
+ * @param type                 type of the task
+ * @param completed            whether this task itself is completed
+ * @param story_points         story points of this task itself
+ * @param depth                distance from the requested root, {@code 0} for the root
+ * @param totalTasks           tasks in the subtree
+ * @param completedTasks       completed tasks in the subtree
+ * @param totalStoryPoints     story points of the subtree
+ * @param completedStoryPoints story points of the completed tasks in the subtree
+ * @param subtasks             direct subtasks, oldest first
+ */
+public record TaskTreeDTO(
+        UUID id,
+        String title,
+        Type_Enum type,
+        boolean completed,
+        int story_points,
+        int depth,
+        int totalTasks,
+        int completedTasks,
+        int totalStoryPoints,
+        int completedStoryPoints,
+        List<TaskTreeDTO> subtasks
+) {
+
+    public static final int DEFAULT_DEPTH = 10;
+    public static final int MAX_DEPTH = 50;
+
+    /**
+     * One task of the subtree as read by the recursive query, before nesting.
+     */
+    public record Row(UUID id, UUID parent_id, int depth, String title, Type_Enum type, boolean completed, int story_points) {
+    }
+
+    /**
+     * Normalizes a requested depth into the {@code [0, MAX_DEPTH]} range.
+     *
+     * @param depth the requested depth, may be {@code null}
+     * @return the effective depth
+     */
+    public static int clampDepth(Integer depth) {
+        if (depth == null) {
+            return DEFAULT_DEPTH;
+        }
+        return Math.max(0, Math.min(depth, MAX_DEPTH));
+    }
+
+    /**
+     * Nests the rows of a subtree under their parents and rolls the totals up.
+     * A task reached twice, which only happens when the parent links form a cycle,
+     * is kept where it was reached first.
+     *
+     * @param rows the subtree, ordered by depth so that every parent precedes its children; the first row is the root
+     * @return the root of the tree
+     */
+    public static TaskTreeDTO of(List<Row> rows) {
+        Set<UUID> seen = new HashSet<>();
+        seen.add(rows.get(0).id());
+        Map<UUID, List<Row>> children = new HashMap<>();
+        for (Row row : rows.subList(1, rows.size())) {
+            if (seen.add(row.id())) {
+                children.computeIfAbsent(row.parent_id(), parent -> new ArrayList<>()).add(row);
+            }
+        }
+        return nest(rows.get(0), children);
+    }
+
+    private static TaskTreeDTO nest(Row row, Map<UUID, List<Row>> children) {
+        List<TaskTreeDTO> subtasks = new ArrayList<>();
+        int totalTasks = 1;
+        int completedTasks = row.completed() ? 1 : 0;
+        int totalStoryPoints = row.story_points();
+        int completedStoryPoints = row.completed() ? row.story_points() : 0;
+        for (Row child : children.getOrDefault(row.id(), List.of())) {
+            TaskTreeDTO subtask = nest(child, children);
+            subtasks.add(subtask);
+            totalTasks += subtask.totalTasks();
+            completedTasks += subtask.completedTasks();
+            totalStoryPoints += subtask.totalStoryPoints();
+            completedStoryPoints += subtask.completedStoryPoints();
+        }
+        return new TaskTreeDTO(row.id(), row.title(), row.type(), row.completed(), row.story_points(), row.depth(),
+                totalTasks, completedTasks, totalStoryPoints, completedStoryPoints, List.copyOf(subtasks));
+    }
+}
@@ -2,9 +2,11 @@ package com.task.manager.demo.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.UuidGenerator;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.UUID;
 
 @MappedSuperclass
@@ -33,15 +35,26 @@ public abstract class BaseEntity {
     @Column(columnDefinition = "uuid")
     protected UUID deletedBy;
 
+    // Optimistic locking: every UPDATE checks and increments it, so concurrent writers fail instead of overwriting each other
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    protected long version;
+
+    // Timestamps are kept at the database's microsecond precision so that keyset
+    // cursors built from in-memory entities compare equal to the stored values
     @PrePersist
     public void prePersist() {
-        createdAt = LocalDateTime.now();
-        updatedAt = LocalDateTime.now();
+        createdAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        updatedAt = createdAt;
     }
 
+    // Strictly increasing even for updates within the same microsecond, so that
+    // updatedAt identifies the state a client read and can back If-Match
     @PreUpdate
     public void preUpdate() {
-        updatedAt = LocalDateTime.now();
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        updatedAt = updatedAt != null && !now.isAfter(updatedAt) ? updatedAt.plus(1, ChronoUnit.MICROS) : now;
     }
 
     public abstract static class Builder<T extends Builder<T>> {
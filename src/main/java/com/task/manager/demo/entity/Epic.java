@@ -1,7 +1,12 @@
 package com.task.manager.demo.entity;
 
+import com.task.manager.demo.config.SecondLevelCacheConfig;
+import com.task.manager.demo.search.SearchIndexListener;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.SQLRestriction;
 
@@ -11,8 +16,11 @@ import java.util.List;
 
 @EqualsAndHashCode(callSuper = true)
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.EPIC_REGION)
 @Table(name = "epic")
-@SQLDelete(sql = "UPDATE epic SET deleted = true, deleted_at = CURRENT_TIMESTAMP, updated_at = CURRENT_TIMESTAMP WHERE id = ?")
+@EntityListeners(SearchIndexListener.class)
+@SQLDelete(sql = "UPDATE epic SET deleted = true, deleted_at = CURRENT_TIMESTAMP, updated_at = CURRENT_TIMESTAMP, version = version + 1 WHERE id = ? AND version = ?")
 @SQLRestriction("deleted = false")
 @Data
 @NoArgsConstructor
@@ -33,6 +41,25 @@ public class Epic extends BaseEntity {
     @Column(name = "finished_at")
     private LocalDateTime finishedAt;
 
+    // Progress counters over the epic's live tasks. They are only changed by the atomic
+    // increments in EpicProgressRepository, never by entity updates, so a PATCH of the epic
+    // cannot overwrite them with stale values
+    @ColumnDefault("0")
+    @Column(name = "total_tasks", nullable = false, updatable = false)
+    private int totalTasks;
+
+    @ColumnDefault("0")
+    @Column(name = "completed_tasks", nullable = false, updatable = false)
+    private int completedTasks;
+
+    @ColumnDefault("0")
+    @Column(name = "total_story_points", nullable = false, updatable = false)
+    private int totalStoryPoints;
+
+    @ColumnDefault("0")
+    @Column(name = "completed_story_points", nullable = false, updatable = false)
+    private int completedStoryPoints;
+
     @OneToMany(mappedBy = "epic", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Task> tasks = new ArrayList<>();
 
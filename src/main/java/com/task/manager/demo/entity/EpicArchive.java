@@ -0,0 +1,74 @@
+package com.task.manager.demo.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A soft-deleted epic moved out of the {@code epic} table by the archival job.
+ * <p>
+ * The columns mirror {@code epic}, plus the time the row was archived, see {@link TaskArchive}.
+ * </p>
+ */
+@Entity
+@Immutable
+@Table(name = "epic_archive", indexes = @Index(name = "idx_epic_archive_archived_at", columnList = "archived_at"))
+@Getter
+@NoArgsConstructor
+public class EpicArchive {
+
+    @Id
+    @Column(columnDefinition = "uuid")
+    private UUID id;
+
+    @Column(nullable = false, length = 256)
+    private String epicTitle;
+
+    @Column(nullable = false, length = 512)
+    private String epicDescription;
+
+    private int epicStoryPoints;
+
+    private boolean completed;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    @Column(name = "total_tasks")
+    private int totalTasks;
+
+    @Column(name = "completed_tasks")
+    private int completedTasks;
+
+    @Column(name = "total_story_points")
+    private int totalStoryPoints;
+
+    @Column(name = "completed_story_points")
+    private int completedStoryPoints;
+
+    @Column(name = "project_id", nullable = false, columnDefinition = "uuid")
+    private UUID projectId;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
+
+    private boolean deleted;
+
+    @Column(columnDefinition = "uuid")
+    private UUID deletedBy;
+
+    private long version;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+}
@@ -0,0 +1,52 @@
+package com.task.manager.demo.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A soft-deleted project moved out of the {@code project} table by the archival job.
+ * <p>
+ * The columns mirror {@code project}, plus the time the row was archived, see {@link TaskArchive}.
+ * </p>
+ */
+@Entity
+@Immutable
+@Table(name = "project_archive", indexes = @Index(name = "idx_project_archive_archived_at", columnList = "archived_at"))
+@Getter
+@NoArgsConstructor
+public class ProjectArchive {
+
+    @Id
+    @Column(columnDefinition = "uuid")
+    private UUID id;
+
+    @Column(nullable = false, length = 256)
+    private String projectTitle;
+
+    @Column(nullable = false, length = 512)
+    private String projectDescription;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
+
+    private boolean deleted;
+
+    @Column(columnDefinition = "uuid")
+    private UUID deletedBy;
+
+    private long version;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+}
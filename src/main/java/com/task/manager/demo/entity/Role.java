@@ -1,9 +1,14 @@
 package com.task.manager.demo.entity;
 
+import com.task.manager.demo.config.SecondLevelCacheConfig;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.ROLE_REGION)
 @Table(name = "roles")
 @Data
 @NoArgsConstructor
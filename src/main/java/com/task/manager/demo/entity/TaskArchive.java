@@ -0,0 +1,78 @@
+package com.task.manager.demo.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A soft-deleted task moved out of the {@code task} table by the archival job.
+ * <p>
+ * The columns mirror {@code task}, plus the time the row was archived. References
+ * are plain identifiers without foreign keys, as the rows they point to may be
+ * archived as well. Rows are only moved in and out with SQL by
+ * {@link com.task.manager.demo.repository.ArchiveRepository}.
+ * </p>
+ */
+@Entity
+@Immutable
+@Table(name = "task_archive", indexes = @Index(name = "idx_task_archive_archived_at", columnList = "archived_at"))
+@Getter
+@NoArgsConstructor
+public class TaskArchive {
+
+    @Id
+    @Column(columnDefinition = "uuid")
+    private UUID id;
+
+    @Column(nullable = false, length = 256)
+    private String title;
+
+    @Column(nullable = false, length = 512)
+    private String description;
+
+    private int story_points;
+
+    private boolean completed;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    @Column(name = "task_type")
+    @Enumerated(EnumType.STRING)
+    private Type_Enum type;
+
+    @Column(name = "assignee_id", columnDefinition = "uuid")
+    private UUID assigneeId;
+
+    @Column(name = "epic_id", columnDefinition = "uuid")
+    private UUID epicId;
+
+    @Column(name = "task_parent_id", columnDefinition = "uuid")
+    private UUID parentId;
+
+    @Column(name = "project_id", nullable = false, columnDefinition = "uuid")
+    private UUID projectId;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
+
+    private boolean deleted;
+
+    @Column(columnDefinition = "uuid")
+    private UUID deletedBy;
+
+    private long version;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+}
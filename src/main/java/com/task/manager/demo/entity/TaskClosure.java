@@ -0,0 +1,62 @@
+package com.task.manager.demo.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+/**
+ * Closure table of the task hierarchy: one row for every (ancestor, descendant)
+ * pair, including each task paired with itself at depth 0.
+ * <p>
+ * The primary key serves descendant lookups and the {@code descendant_id} index
+ * serves ancestor lookups, so walking the hierarchy in either direction is a single
+ * indexed query whatever its depth. Rows are written in bulk by
+ * {@code TaskClosureRepository} and removed with their task.
+ * </p>
+ */
+@Entity
+@Table(name = "task_closure", indexes = @Index(name = "idx_task_closure_descendant", columnList = "descendant_id, ancestor_id"))
+@IdClass(TaskClosure.Key.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskClosure {
+
+    @Id
+    @Column(name = "ancestor_id", columnDefinition = "uuid")
+    private UUID ancestorId;
+
+    @Id
+    @Column(name = "descendant_id", columnDefinition = "uuid")
+    private UUID descendantId;
+
+    @Column(nullable = false)
+    private int depth;
+
+    // Mapped only for the foreign keys, which delete the pairs of a task along with it
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "ancestor_id", insertable = false, updatable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private Task ancestor;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "descendant_id", insertable = false, updatable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private Task descendant;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private UUID ancestorId;
+        private UUID descendantId;
+    }
+}
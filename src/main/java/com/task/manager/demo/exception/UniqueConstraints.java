@@ -0,0 +1,49 @@
+package com.task.manager.demo.exception;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.Locale;
+
+/**
+ * Names of the unique constraints guarding titles and emails, and their translation
+ * into the {@link BadRequestException}s returned to clients.
+ * <p>
+ * Writes insert directly and let the database reject duplicates, instead of querying
+ * for an existing row first: one round trip less, and no window between the check and
+ * the insert for a concurrent request to slip through.
+ * </p>
+ */
+public final class UniqueConstraints {
+
+    public static final String TASK_TITLE = "uk_task_project_title_live";
+    public static final String EPIC_TITLE = "uk_epic_project_title_live";
+    public static final String PROJECT_TITLE = "uk_project_title_live";
+    public static final String USER_EMAIL = "uk_users_email";
+
+    private UniqueConstraints() {
+    }
+
+    /**
+     * Translates a violation of {@code constraint} into a {@link BadRequestException} with the given message.
+     *
+     * @param e          the exception raised by the write
+     * @param constraint the unique constraint the write may violate
+     * @param message    the message returned to the client
+     * @return the {@link BadRequestException}, or {@code e} itself if another constraint was violated
+     */
+    public static RuntimeException translate(DataIntegrityViolationException e, String constraint, String message) {
+        return violates(e, constraint) ? new BadRequestException(message) : e;
+    }
+
+    // PostgreSQL reports the bare index name, H2 a qualified, upper case one
+    static boolean violates(DataIntegrityViolationException e, String constraint) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+                return violation.getConstraintName().toLowerCase(Locale.ROOT).contains(constraint);
+            }
+        }
+        String message = e.getMostSpecificCause().getMessage();
+        return message != null && message.toLowerCase(Locale.ROOT).contains(constraint);
+    }
+}
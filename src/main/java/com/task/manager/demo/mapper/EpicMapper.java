@@ -16,5 +16,8 @@ public interface EpicMapper {
     @Mapping(source = "project.id", target = "project_id")
     EpicDTO toDto(Epic entity);
 
+    @Mapping(source = "title", target = "epicTitle")
+    @Mapping(source = "description", target = "epicDescription")
+    @Mapping(source = "story_points", target = "epicStoryPoints")
     void toEntity(EpicUpdateDTO dto, @MappingTarget Epic entity);
 }
@@ -14,5 +14,7 @@ public interface ProjectMapper {
     @Mapping(source = "projectDescription", target = "description")
     ProjectDTO toDto(Project entity);
 
+    @Mapping(source = "title", target = "projectTitle")
+    @Mapping(source = "description", target = "projectDescription")
     void toEntity(ProjectUpdateDTO dto, @MappingTarget Project entity);
 }
\ No newline at end of file
@@ -0,0 +1,144 @@
+package com.task.manager.demo.repository;
+
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Moves soft-deleted rows between the hot tables and their {@code *_archive} copies.
+ * <p>
+ * The statements are plain SQL, as the task, epic and project entities are restricted
+ * to live rows. A row is only archived once no other row of the hot tables references
+ * it: a deleted parent task waits for its subtasks, a deleted epic for its tasks and a
+ * deleted project for its epics and tasks. Each batch is claimed with
+ * {@code FOR UPDATE SKIP LOCKED}, so concurrent runs work on disjoint rows and never
+ * wait on rows that are being written.
+ * </p>
+ */
+@Repository
+public class ArchiveRepository {
+
+    /**
+     * A hot table with its archive copy, listed in the order the archival job drains them.
+     */
+    public enum ArchivedTable {
+        TASK("task",
+                "title, description, story_points, completed, finished_at, task_type, assignee_id, epic_id, task_parent_id, project_id",
+                "NOT EXISTS (SELECT 1 FROM task c WHERE c.task_parent_id = r.id)"),
+        EPIC("epic",
+                "epic_title, epic_description, epic_story_points, completed, finished_at, "
+                        + "total_tasks, completed_tasks, total_story_points, completed_story_points, project_id",
+                "NOT EXISTS (SELECT 1 FROM task t WHERE t.epic_id = r.id)"),
+        PROJECT("project",
+                "project_title, project_description",
+                "NOT EXISTS (SELECT 1 FROM task t WHERE t.project_id = r.id) AND NOT EXISTS (SELECT 1 FROM epic e WHERE e.project_id = r.id)");
+
+        private static final String BASE_COLUMNS = "id, created_at, updated_at, deleted_at, deleted, deleted_by, version";
+
+        private final String table;
+        private final String columns;
+        private final String unreferenced;
+
+        ArchivedTable(String table, String columns, String unreferenced) {
+            this.table = table;
+            this.columns = BASE_COLUMNS + ", " + columns;
+            this.unreferenced = unreferenced;
+        }
+
+        public String table() {
+            return table;
+        }
+
+        public String archive() {
+            return table + "_archive";
+        }
+    }
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public ArchiveRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Locks the next batch of rows deleted more than {@code retentionDays} ago that nothing
+     * references anymore, oldest deletions first. Rows locked by another transaction are skipped.
+     * <p>
+     * The cutoff is taken from the database clock, which also stamps {@code deleted_at}.
+     * </p>
+     *
+     * @param table         the hot table
+     * @param retentionDays rows deleted more recently are kept
+     * @param limit         the batch size
+     * @return the identifiers of the locked rows
+     */
+    public List<UUID> lockArchivable(ArchivedTable table, int retentionDays, int limit) {
+        String sql = "SELECT r.id FROM " + table.table + " r WHERE r.deleted = true "
+                + "AND r.deleted_at < CURRENT_TIMESTAMP - CAST(:days AS INTEGER) * INTERVAL '1' DAY AND "
+                + table.unreferenced + " ORDER BY r.deleted_at, r.id LIMIT :limit FOR UPDATE SKIP LOCKED";
+        return jdbcTemplate.query(sql, new MapSqlParameterSource().addValue("days", retentionDays).addValue("limit", limit),
+                (rs, row) -> rs.getObject(1, UUID.class));
+    }
+
+    /**
+     * Copies locked rows into the archive table and removes them from the hot table.
+     *
+     * @param table the hot table
+     * @param ids   rows locked by {@link #lockArchivable}
+     * @return the number of rows moved
+     */
+    public int archive(ArchivedTable table, Collection<UUID> ids) {
+        Map<String, Collection<UUID>> params = Map.of("ids", ids);
+        jdbcTemplate.update("INSERT INTO " + table.archive() + " (" + table.columns + ", archived_at) SELECT "
+                + table.columns + ", CURRENT_TIMESTAMP FROM " + table.table + " WHERE id IN (:ids)", params);
+        return jdbcTemplate.update("DELETE FROM " + table.table + " WHERE id IN (:ids)", params);
+    }
+
+    /**
+     * Moves an archived row back into the hot table, still marked as deleted.
+     *
+     * @param table the hot table
+     * @param id    the row to move back
+     * @return {@code false} if the row is not archived
+     */
+    public boolean unarchive(ArchivedTable table, UUID id) {
+        Map<String, UUID> params = Map.of("id", id);
+        int moved = jdbcTemplate.update("INSERT INTO " + table.table + " (" + table.columns + ") SELECT "
+                + table.columns + " FROM " + table.archive() + " WHERE id = :id", params);
+        jdbcTemplate.update("DELETE FROM " + table.archive() + " WHERE id = :id", params);
+        return moved > 0;
+    }
+
+    /**
+     * Clears the soft-delete markers of a row of the hot table.
+     *
+     * @param table the hot table
+     * @param id    the deleted row
+     * @return {@code false} if there is no such deleted row
+     */
+    public boolean undelete(ArchivedTable table, UUID id) {
+        return jdbcTemplate.update("UPDATE " + table.table + " SET deleted = false, deleted_at = NULL, deleted_by = NULL, "
+                + "updated_at = CURRENT_TIMESTAMP, version = version + 1 WHERE id = :id AND deleted = true", Map.of("id", id)) > 0;
+    }
+
+    /**
+     * Reads a deleted row, from the hot table or from the archive.
+     *
+     * @param table     the hot table
+     * @param id        the deleted row
+     * @param rowMapper maps the columns of the table
+     * @return the row, or empty if it is neither deleted nor archived
+     */
+    public <T> Optional<T> findDeleted(ArchivedTable table, UUID id, RowMapper<T> rowMapper) {
+        String sql = "SELECT " + table.columns + " FROM " + table.table + " WHERE id = :id AND deleted = true "
+                + "UNION ALL SELECT " + table.columns + " FROM " + table.archive() + " WHERE id = :id";
+        return jdbcTemplate.query(sql, Map.of("id", id), rowMapper).stream().findFirst();
+    }
+}
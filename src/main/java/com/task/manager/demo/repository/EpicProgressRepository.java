@@ -0,0 +1,30 @@
+package com.task.manager.demo.repository;
+
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Writes of the epic progress counters, mixed into {@link EpicRepository}.
+ * <p>
+ * The counters change on nearly every task write, so the updates must not flush
+ * the whole epic region of the second-level cache the way a JPQL bulk update does:
+ * only the epics they touch are evicted.
+ * </p>
+ */
+public interface EpicProgressRepository {
+
+    /**
+     * Adds relative increments to the counters of an epic, so concurrent transactions
+     * touching the same epic add up instead of overwriting each other.
+     *
+     * @return the number of updated epics
+     */
+    int adjustProgress(UUID id, int tasks, int completedTasks, int storyPoints, int completedStoryPoints);
+
+    /**
+     * Rebuilds the counters of the given epics from their live tasks in a single statement.
+     *
+     * @return the number of updated epics
+     */
+    int recomputeProgress(Collection<UUID> ids);
+}
@@ -0,0 +1,89 @@
+package com.task.manager.demo.repository;
+
+import com.task.manager.demo.entity.Epic;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+import org.hibernate.query.NativeQuery;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Native counter updates that evict only the epics they change from the second-level cache.
+ * <p>
+ * Hibernate invalidates every cached entity mapped to the tables a statement touches, and
+ * every cached entity at all for a native statement that declares nothing. The statements
+ * therefore declare their own {@value #PROGRESS_SPACE} query space, which no entity or
+ * cached query reads, and the affected epics are evicted one by one: right away and again
+ * once the transaction completes, so a concurrent read cannot cache the old counters.
+ * </p>
+ */
+@Transactional
+public class EpicProgressRepositoryImpl implements EpicProgressRepository {
+
+    static final String PROGRESS_SPACE = "epic_progress";
+
+    private static final String ADJUST = "UPDATE epic SET total_tasks = total_tasks + :tasks, "
+            + "completed_tasks = completed_tasks + :completedTasks, total_story_points = total_story_points + :storyPoints, "
+            + "completed_story_points = completed_story_points + :completedStoryPoints WHERE id = :id";
+
+    private static final String RECOMPUTE = "UPDATE epic SET "
+            + "total_tasks = (SELECT COUNT(*) FROM task t WHERE t.epic_id = epic.id AND t.deleted = false), "
+            + "completed_tasks = (SELECT COUNT(*) FROM task t WHERE t.epic_id = epic.id AND t.deleted = false AND t.completed = true), "
+            + "total_story_points = (SELECT COALESCE(SUM(t.story_points), 0) FROM task t WHERE t.epic_id = epic.id AND t.deleted = false), "
+            + "completed_story_points = (SELECT COALESCE(SUM(t.story_points), 0) FROM task t "
+            + "WHERE t.epic_id = epic.id AND t.deleted = false AND t.completed = true) "
+            + "WHERE id IN (:ids)";
+
+    private final EntityManager entityManager;
+
+    public EpicProgressRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public int adjustProgress(UUID id, int tasks, int completedTasks, int storyPoints, int completedStoryPoints) {
+        int updated = query(ADJUST)
+                .setParameter("id", id)
+                .setParameter("tasks", tasks)
+                .setParameter("completedTasks", completedTasks)
+                .setParameter("storyPoints", storyPoints)
+                .setParameter("completedStoryPoints", completedStoryPoints)
+                .executeUpdate();
+        evict(List.of(id));
+        return updated;
+    }
+
+    @Override
+    public int recomputeProgress(Collection<UUID> ids) {
+        // the counts read the task table, which the declared query space does not make Hibernate flush
+        entityManager.flush();
+        int updated = query(RECOMPUTE)
+                .setParameter("ids", ids)
+                .executeUpdate();
+        evict(ids);
+        return updated;
+    }
+
+    private NativeQuery<?> query(String sql) {
+        return entityManager.createNativeQuery(sql).unwrap(NativeQuery.class).addSynchronizedQuerySpace(PROGRESS_SPACE);
+    }
+
+    private void evict(Collection<UUID> ids) {
+        Cache cache = entityManager.getEntityManagerFactory().getCache();
+        ids.forEach(id -> cache.evict(Epic.class, id));
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            List<UUID> evicted = List.copyOf(ids);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evicted.forEach(id -> cache.evict(Epic.class, id));
+                }
+            });
+        }
+    }
+}
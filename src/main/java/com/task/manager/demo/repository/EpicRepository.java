@@ -1,20 +1,78 @@
 package com.task.manager.demo.repository;
 
+import com.task.manager.demo.dto.CollectionVersion;
+import com.task.manager.demo.dto.epic.EpicDTO;
+import com.task.manager.demo.dto.epic.EpicProgressDTO;
 import com.task.manager.demo.entity.Epic;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
-public interface EpicRepository extends JpaRepository<Epic, UUID> {
-    // JPQL
-    @Query("SELECT e FROM Epic e WHERE LOWER(e.epicTitle) LIKE LOWER(CONCAT('%', :title, '%'))")
-    List<Epic> searchByTitle(String title);
+public interface EpicRepository extends JpaRepository<Epic, UUID>, EpicProgressRepository {
+    // DTO projection: one statement, the project id read from the epic row without a join
+    String EPIC_DTO_SELECT = "SELECT new com.task.manager.demo.dto.epic.EpicDTO(e.id, e.epicTitle, e.epicDescription, e.completed, "
+            + "e.createdAt, e.updatedAt, e.finishedAt, e.deletedAt, e.deletedBy, e.epicStoryPoints, e.project.id) FROM Epic e ";
+
+    // DTO projection, ranked: exact match, then prefix match, then shortest title.
+    // The LOWER(...) LIKE filter is served by the trigram index of the V6 migration on PostgreSQL
+    @Query(EPIC_DTO_SELECT + "WHERE LOWER(e.epicTitle) LIKE LOWER(CONCAT('%', :title, '%')) "
+            + "ORDER BY CASE WHEN LOWER(e.epicTitle) = LOWER(:title) THEN 0 "
+            + "WHEN LOWER(e.epicTitle) LIKE LOWER(CONCAT(:title, '%')) THEN 1 ELSE 2 END, LENGTH(e.epicTitle), e.epicTitle")
+    List<EpicDTO> searchByTitle(String title, Limit limit);
 
     List<Epic> findAllByProject_Id(UUID project_id);
 
+    // Rebuild of the in-memory search index: every live epic, read through a cursor
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(EPIC_DTO_SELECT + "WHERE e.deleted = false")
+    Stream<EpicDTO> streamAllDtos();
+
+    // Version-only lookups backing the ETags of the epic endpoints
+    @Query("SELECT e.updatedAt FROM Epic e WHERE e.id = :id")
+    Optional<LocalDateTime> findUpdatedAtById(UUID id);
+
+    @Query("SELECT new com.task.manager.demo.dto.CollectionVersion(COUNT(e), MAX(e.updatedAt)) FROM Epic e WHERE e.project.id = :projectId")
+    CollectionVersion findVersionByProjectId(UUID projectId);
+
     boolean existsByEpicTitleAndProjectId(String title, UUID project_id);
+
+    // Set-based completion: read (id, completed) for the live rows, then flip the pending ones in one UPDATE
+    @Query("SELECT e.id, e.completed FROM Epic e WHERE e.id IN :ids AND e.deleted = false")
+    List<Object[]> findCompletionStates(Collection<UUID> ids);
+
+    @Modifying
+    @Query("UPDATE Epic e SET e.completed = true, e.finishedAt = :now, e.updatedAt = :now, e.version = e.version + 1 WHERE e.id IN :ids AND e.completed = false")
+    int completeAll(Collection<UUID> ids, LocalDateTime now);
+
+    // Progress counters, written through EpicProgressRepository
+    @Query("SELECT new com.task.manager.demo.dto.epic.EpicProgressDTO(e.id, e.totalTasks, e.completedTasks, e.totalStoryPoints, e.completedStoryPoints) "
+            + "FROM Epic e WHERE e.id = :id")
+    Optional<EpicProgressDTO> findProgressById(UUID id);
+
+    @Query("SELECT new com.task.manager.demo.dto.epic.EpicProgressDTO(e.id, e.totalTasks, e.completedTasks, e.totalStoryPoints, e.completedStoryPoints) "
+            + "FROM Epic e")
+    List<EpicProgressDTO> findAllProgress();
+
+    // Keyset pagination on (created_at, id) over the DTO projection, never uses OFFSET
+    @Query(EPIC_DTO_SELECT + "ORDER BY e.createdAt ASC, e.id ASC")
+    List<EpicDTO> findFirstPage(Limit limit);
+
+    @Query(EPIC_DTO_SELECT + "WHERE e.createdAt > :createdAt OR (e.createdAt = :createdAt AND e.id > :id) ORDER BY e.createdAt ASC, e.id ASC")
+    List<EpicDTO> findPageAfter(LocalDateTime createdAt, UUID id, Limit limit);
 }
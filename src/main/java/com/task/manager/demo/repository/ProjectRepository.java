@@ -1,20 +1,52 @@
 package com.task.manager.demo.repository;
 
+import com.task.manager.demo.dto.project.ProjectDTO;
 import com.task.manager.demo.entity.Project;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface ProjectRepository extends JpaRepository<Project, UUID> {
-    // SQL native query
-    @Query(
-            value = "SELECT * FROM project WHERE LOWER(project_title) LIKE LOWER(CONCAT('%', :title, '%'))",
-            nativeQuery = true
-    )    List<Project> searchByTitle(String title);
+    // DTO projection: one statement, no entity is loaded
+    String PROJECT_DTO_SELECT = "SELECT new com.task.manager.demo.dto.project.ProjectDTO(p.id, p.projectTitle, p.projectDescription, "
+            + "p.createdAt, p.updatedAt, p.deletedAt, p.deletedBy) FROM Project p ";
+
+    // DTO projection, ranked: exact match, then prefix match, then shortest title.
+    // The LOWER(...) LIKE filter is served by the trigram index of the V6 migration on PostgreSQL
+    @Query(PROJECT_DTO_SELECT + "WHERE LOWER(p.projectTitle) LIKE LOWER(CONCAT('%', :title, '%')) "
+            + "ORDER BY CASE WHEN LOWER(p.projectTitle) = LOWER(:title) THEN 0 "
+            + "WHEN LOWER(p.projectTitle) LIKE LOWER(CONCAT(:title, '%')) THEN 1 ELSE 2 END, LENGTH(p.projectTitle), p.projectTitle")
+    List<ProjectDTO> searchByTitle(String title, Limit limit);
 
     boolean existsByProjectTitle(String title);
+
+    // Rebuild of the in-memory search index: every live project, read through a cursor
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(PROJECT_DTO_SELECT + "WHERE p.deleted = false")
+    Stream<ProjectDTO> streamAllDtos();
+
+    // Version-only lookup backing the ETag of the project endpoint
+    @Query("SELECT p.updatedAt FROM Project p WHERE p.id = :id")
+    Optional<LocalDateTime> findUpdatedAtById(UUID id);
+
+    // Keyset pagination on (created_at, id) over the DTO projection, never uses OFFSET
+    @Query(PROJECT_DTO_SELECT + "ORDER BY p.createdAt ASC, p.id ASC")
+    List<ProjectDTO> findFirstPage(Limit limit);
+
+    @Query(PROJECT_DTO_SELECT + "WHERE p.createdAt > :createdAt OR (p.createdAt = :createdAt AND p.id > :id) ORDER BY p.createdAt ASC, p.id ASC")
+    List<ProjectDTO> findPageAfter(LocalDateTime createdAt, UUID id, Limit limit);
 }
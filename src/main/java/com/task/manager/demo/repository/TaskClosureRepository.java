@@ -0,0 +1,76 @@
+package com.task.manager.demo.repository;
+
+import com.task.manager.demo.entity.TaskClosure;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface TaskClosureRepository extends JpaRepository<TaskClosure, TaskClosure.Key> {
+
+    // Cycle check: true when descendantId is ancestorId itself or lies below it, a single primary key lookup
+    boolean existsByAncestorIdAndDescendantId(UUID ancestorId, UUID descendantId);
+
+    // Live subtasks of a task that are still open, at any depth; a limit of one answers "all subtasks completed?".
+    // Like the task tree, it stops at deleted subtasks: whatever lies below one is no longer part of the task
+    @Query("SELECT c.descendantId FROM TaskClosure c JOIN Task t ON t.id = c.descendantId "
+            + "WHERE c.ancestorId = :id AND c.depth > 0 AND t.completed = false AND t.deleted = false "
+            + "AND NOT EXISTS (SELECT 1 FROM TaskClosure p JOIN TaskClosure q ON q.ancestorId = p.descendantId "
+            + "WHERE p.ancestorId = :id AND p.depth > 0 AND q.descendantId = c.descendantId AND q.depth > 0 "
+            + "AND NOT EXISTS (SELECT 1 FROM Task m WHERE m.id = p.descendantId AND m.deleted = false))")
+    List<UUID> findOpenDescendantIds(UUID id, Limit limit);
+
+    // Pairs of new tasks: each one with itself, then with every ancestor of its parent.
+    // Flushed first, as the inserted tasks must be in the database for the INSERT ... SELECT to see them
+    @Modifying(flushAutomatically = true)
+    @Query("INSERT INTO TaskClosure (ancestorId, descendantId, depth) SELECT t.id, t.id, 0 FROM Task t WHERE t.id IN :ids")
+    int insertSelfLinks(Collection<UUID> ids);
+
+    @Modifying
+    @Query("INSERT INTO TaskClosure (ancestorId, descendantId, depth) "
+            + "SELECT a.ancestorId, t.id, a.depth + 1 FROM Task t JOIN TaskClosure a ON a.descendantId = t.task_parent.id "
+            + "WHERE t.id IN :ids")
+    int insertAncestorLinks(Collection<UUID> ids);
+
+    /**
+     * Adds newly created tasks to the hierarchy, whose parents are already in it.
+     *
+     * @param ids the new tasks
+     */
+    default void link(Collection<UUID> ids) {
+        insertSelfLinks(ids);
+        insertAncestorLinks(ids);
+    }
+
+    // Moving a subtree: drop the pairs between the ancestors of its root and its nodes, keep the pairs inside it
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM TaskClosure c WHERE c.ancestorId IN (SELECT a.ancestorId FROM TaskClosure a WHERE a.descendantId = :id AND a.depth > 0) "
+            + "AND c.descendantId IN (SELECT s.descendantId FROM TaskClosure s WHERE s.ancestorId = :id)")
+    int unlinkSubtree(UUID id);
+
+    // ... then pair every node of the subtree with the new parent and each of its ancestors
+    @Modifying
+    @Query("INSERT INTO TaskClosure (ancestorId, descendantId, depth) "
+            + "SELECT a.ancestorId, s.descendantId, a.depth + s.depth + 1 FROM TaskClosure a, TaskClosure s "
+            + "WHERE a.descendantId = :parentId AND s.ancestorId = :id")
+    int linkSubtree(UUID id, UUID parentId);
+
+    /**
+     * Moves a task and its subtasks below another parent.
+     *
+     * @param id       the task being moved
+     * @param parentId the new parent, or {@code null} to make the task a root
+     */
+    default void move(UUID id, UUID parentId) {
+        unlinkSubtree(id);
+        if (parentId != null) {
+            linkSubtree(id, parentId);
+        }
+    }
+}
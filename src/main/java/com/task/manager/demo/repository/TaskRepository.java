@@ -1,22 +1,157 @@
 package com.task.manager.demo.repository;
 
+import com.task.manager.demo.dto.CollectionVersion;
+import com.task.manager.demo.dto.epic.EpicProgressDTO;
+import com.task.manager.demo.dto.project.ProjectTaskGroup;
+import com.task.manager.demo.dto.task.TaskDTO;
+import com.task.manager.demo.dto.task.TaskTreeDTO;
 import com.task.manager.demo.entity.Task;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 public interface TaskRepository extends JpaRepository<Task, UUID> {
+
+    // DTO projection for list endpoints: one statement, foreign keys read from the task row without joins
+    String TASK_DTO_SELECT = "SELECT new com.task.manager.demo.dto.task.TaskDTO(t.id, t.title, t.description, t.completed, "
+            + "t.createdAt, t.updatedAt, t.finishedAt, t.story_points, t.type, "
+            + "t.epic.id, t.task_parent.id, t.user.id, t.project.id) FROM Task t ";
+
+    // Version-only lookups backing the ETags of the task endpoints: a single column or COUNT/MAX, no entity is loaded
+    String TASK_VERSION_SELECT = "SELECT new com.task.manager.demo.dto.CollectionVersion(COUNT(t), MAX(t.updatedAt)) FROM Task t ";
+
     List<Task> findAllByUser_Id(UUID task_id);
 
-    // JPQL query
-    @Query(value = "SELECT * FROM task t WHERE LOWER(t.title) LIKE LOWER(CONCAT('%', :title, '%'))", nativeQuery = true)
-    List<Task> searchByTitle(String title);
+    // DTO projection, ranked: exact match, then prefix match, then shortest title.
+    // The LOWER(...) LIKE filter is served by the trigram index of the V6 migration on PostgreSQL
+    @Query(TASK_DTO_SELECT + "WHERE LOWER(t.title) LIKE LOWER(CONCAT('%', :title, '%')) "
+            + "ORDER BY CASE WHEN LOWER(t.title) = LOWER(:title) THEN 0 "
+            + "WHEN LOWER(t.title) LIKE LOWER(CONCAT(:title, '%')) THEN 1 ELSE 2 END, LENGTH(t.title), t.title")
+    List<TaskDTO> searchByTitle(String title, Limit limit);
 
     List<Task> findAllByEpic_Id(UUID epic_id);
+
+    @Query("SELECT t.id FROM Task t WHERE t.epic.id = :epicId")
+    List<UUID> findIdsByEpicId(UUID epicId);
     List<Task> findAllByProject_Id(UUID project_id);
+
+    @Query(TASK_DTO_SELECT + "WHERE t.user.id = :userId ORDER BY t.createdAt ASC, t.id ASC")
+    List<TaskDTO> findDtosByUserId(UUID userId);
+
+    @Query(TASK_DTO_SELECT + "WHERE t.epic.id = :epicId ORDER BY t.createdAt ASC, t.id ASC")
+    List<TaskDTO> findDtosByEpicId(UUID epicId);
+
+    @Query(TASK_DTO_SELECT + "WHERE t.project.id = :projectId ORDER BY t.createdAt ASC, t.id ASC")
+    List<TaskDTO> findDtosByProjectId(UUID projectId);
+
+    // Export: live tasks of a project read through a JDBC cursor, in fetch-size chunks, as unmanaged DTOs.
+    // The caller must consume and close the stream inside a transaction
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(TASK_DTO_SELECT + "WHERE t.project.id = :projectId AND t.deleted = false ORDER BY t.createdAt ASC, t.id ASC")
+    Stream<TaskDTO> streamDtosByProjectId(UUID projectId);
+
+    // Rebuild of the in-memory search index: every live task, read through a cursor like the export
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(TASK_DTO_SELECT + "WHERE t.deleted = false")
+    Stream<TaskDTO> streamAllDtos();
+
+    @Query("SELECT t.updatedAt FROM Task t WHERE t.id = :id")
+    Optional<LocalDateTime> findUpdatedAtById(UUID id);
+
+    @Query(TASK_VERSION_SELECT + "WHERE t.user.id = :userId")
+    CollectionVersion findVersionByUserId(UUID userId);
+
+    @Query(TASK_VERSION_SELECT + "WHERE t.epic.id = :epicId")
+    CollectionVersion findVersionByEpicId(UUID epicId);
+
+    @Query(TASK_VERSION_SELECT + "WHERE t.project.id = :projectId")
+    CollectionVersion findVersionByProjectId(UUID projectId);
+
+    // Project dashboard: the live tasks of a project grouped by type, completion, assignee and epic in one query
+    @Query("SELECT new com.task.manager.demo.dto.project.ProjectTaskGroup(t.type, t.completed, u.id, u.name, e.id, e.epicTitle, "
+            + "COUNT(t), COALESCE(SUM(t.story_points), 0)) "
+            + "FROM Task t LEFT JOIN t.user u LEFT JOIN t.epic e "
+            + "WHERE t.project.id = :projectId AND t.deleted = false "
+            + "GROUP BY t.type, t.completed, u.id, u.name, e.id, e.epicTitle")
+    List<ProjectTaskGroup> summarizeByProjectId(UUID projectId);
+
     boolean existsByTitleAndProjectId(String title,  UUID project_id);
-}
 
+    // Bulk uniqueness check: (project id, title) pairs among the candidate projects and titles
+    @Query("SELECT t.project.id, t.title FROM Task t WHERE t.project.id IN :projectIds AND t.title IN :titles")
+    List<Object[]> findTitlesInProjects(Collection<UUID> projectIds, Collection<String> titles);
+
+    // Set-based completion: read (id, completed) for the live rows, then flip the pending ones in one UPDATE
+    @Query("SELECT t.id, t.completed FROM Task t WHERE t.id IN :ids AND t.deleted = false")
+    List<Object[]> findCompletionStates(Collection<UUID> ids);
+
+    @Modifying
+    @Query("UPDATE Task t SET t.completed = true, t.finishedAt = :now, t.updatedAt = :now, t.version = t.version + 1 WHERE t.id IN :ids AND t.completed = false")
+    int completeAll(Collection<UUID> ids, LocalDateTime now);
+
+    // (epic id, tasks, story points) of the given tasks, grouped by epic, to move them into the completed counters
+    @Query("SELECT t.epic.id, COUNT(t), COALESCE(SUM(t.story_points), 0) FROM Task t WHERE t.id IN :ids AND t.epic IS NOT NULL GROUP BY t.epic.id")
+    List<Object[]> sumProgressByEpic(Collection<UUID> ids);
 
+    // Actual progress of every epic that has live tasks, compared with the maintained counters by the reconciliation job
+    @Query("SELECT new com.task.manager.demo.dto.epic.EpicProgressDTO(t.epic.id, CAST(COUNT(t) AS Integer), "
+            + "CAST(SUM(CASE WHEN t.completed = true THEN 1 ELSE 0 END) AS Integer), "
+            + "CAST(COALESCE(SUM(t.story_points), 0) AS Integer), "
+            + "CAST(SUM(CASE WHEN t.completed = true THEN t.story_points ELSE 0 END) AS Integer)) "
+            + "FROM Task t WHERE t.epic IS NOT NULL AND t.deleted = false GROUP BY t.epic.id")
+    List<EpicProgressDTO> computeProgressByEpic();
+
+    // Whole subtree of a live task in one statement: a recursive CTE walks task_parent down to maxDepth levels,
+    // ordered so that parents precede their children
+    @Query("WITH tree AS ("
+            + "SELECT t.id id, t.task_parent.id parent_id, 0 depth FROM Task t WHERE t.id = :id AND t.deleted = false "
+            + "UNION ALL "
+            + "SELECT c.id id, c.task_parent.id parent_id, p.depth + 1 depth FROM Task c JOIN tree p ON c.task_parent.id = p.id "
+            + "WHERE c.deleted = false AND p.depth < :maxDepth) "
+            + "SELECT new com.task.manager.demo.dto.task.TaskTreeDTO$Row(t.id, n.parent_id, n.depth, t.title, t.type, t.completed, t.story_points) "
+            + "FROM tree n JOIN Task t ON t.id = n.id ORDER BY n.depth, t.createdAt, t.id")
+    List<TaskTreeDTO.Row> findSubtree(UUID id, int maxDepth);
+
+    // Hierarchy lookups served by the task_closure table: one indexed query whatever the depth.
+    // Ancestors from the root down to the parent, descendants level by level. Like the task
+    // tree, both stop at a deleted task: a pair is skipped when one lies on the path between them
+    @Query(TASK_DTO_SELECT + "JOIN TaskClosure c ON c.ancestorId = t.id "
+            + "WHERE c.descendantId = :id AND c.depth > 0 AND t.deleted = false "
+            + "AND NOT EXISTS (SELECT 1 FROM TaskClosure p JOIN TaskClosure q ON q.ancestorId = p.descendantId "
+            + "WHERE p.ancestorId = c.ancestorId AND p.depth > 0 AND q.descendantId = :id AND q.depth > 0 "
+            + "AND NOT EXISTS (SELECT 1 FROM Task m WHERE m.id = p.descendantId AND m.deleted = false)) "
+            + "ORDER BY c.depth DESC")
+    List<TaskDTO> findAncestorDtos(UUID id);
+
+    @Query(TASK_DTO_SELECT + "JOIN TaskClosure c ON c.descendantId = t.id "
+            + "WHERE c.ancestorId = :id AND c.depth > 0 AND t.deleted = false "
+            + "AND NOT EXISTS (SELECT 1 FROM TaskClosure p JOIN TaskClosure q ON q.ancestorId = p.descendantId "
+            + "WHERE p.ancestorId = :id AND p.depth > 0 AND q.descendantId = c.descendantId AND q.depth > 0 "
+            + "AND NOT EXISTS (SELECT 1 FROM Task m WHERE m.id = p.descendantId AND m.deleted = false)) "
+            + "ORDER BY c.depth, t.createdAt, t.id")
+    List<TaskDTO> findDescendantDtos(UUID id);
+
+    // Keyset pagination on (created_at, id) over the DTO projection, never uses OFFSET
+    @Query(TASK_DTO_SELECT + "ORDER BY t.createdAt ASC, t.id ASC")
+    List<TaskDTO> findFirstPage(Limit limit);
+
+    @Query(TASK_DTO_SELECT + "WHERE t.createdAt > :createdAt OR (t.createdAt = :createdAt AND t.id > :id) ORDER BY t.createdAt ASC, t.id ASC")
+    List<TaskDTO> findPageAfter(LocalDateTime createdAt, UUID id, Limit limit);
+}
@@ -1,15 +1,24 @@
 package com.task.manager.demo.repository;
 
 import com.task.manager.demo.entity.User;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Date;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, UUID> {
     Optional<User> findByEmail(String email);
-}
 
+    // Keyset pagination on (created_at, id), never uses OFFSET
+    @Query("SELECT u FROM User u ORDER BY u.createdAt ASC, u.id ASC")
+    List<User> findFirstPage(Limit limit);
 
+    @Query("SELECT u FROM User u WHERE u.createdAt > :createdAt OR (u.createdAt = :createdAt AND u.id > :id) ORDER BY u.createdAt ASC, u.id ASC")
+    List<User> findPageAfter(Date createdAt, UUID id, Limit limit);
+}
@@ -0,0 +1,47 @@
+package com.task.manager.demo.search;
+
+import com.task.manager.demo.dto.epic.EpicDTO;
+import com.task.manager.demo.dto.project.ProjectDTO;
+import com.task.manager.demo.dto.task.TaskDTO;
+import com.task.manager.demo.repository.EpicRepository;
+import com.task.manager.demo.repository.ProjectRepository;
+import com.task.manager.demo.repository.TaskRepository;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * {@link SearchEngine} backed by the ranked {@code searchByTitle} repository queries,
+ * which select the DTOs directly: one statement per search, no entity is loaded.
+ */
+@Component
+@Conditional(SearchEngineCondition.OnDatabase.class)
+public class DatabaseSearchEngine implements SearchEngine {
+
+    private final TaskRepository taskRepository;
+    private final EpicRepository epicRepository;
+    private final ProjectRepository projectRepository;
+
+    public DatabaseSearchEngine(TaskRepository taskRepository, EpicRepository epicRepository, ProjectRepository projectRepository) {
+        this.taskRepository = taskRepository;
+        this.epicRepository = epicRepository;
+        this.projectRepository = projectRepository;
+    }
+
+    @Override
+    public List<TaskDTO> searchTasks(String title, int limit) {
+        return taskRepository.searchByTitle(title, Limit.of(limit));
+    }
+
+    @Override
+    public List<EpicDTO> searchEpics(String title, int limit) {
+        return epicRepository.searchByTitle(title, Limit.of(limit));
+    }
+
+    @Override
+    public List<ProjectDTO> searchProjects(String title, int limit) {
+        return projectRepository.searchByTitle(title, Limit.of(limit));
+    }
+}
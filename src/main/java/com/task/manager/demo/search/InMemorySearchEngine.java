@@ -0,0 +1,173 @@
+package com.task.manager.demo.search;
+
+import com.task.manager.demo.dto.epic.EpicDTO;
+import com.task.manager.demo.dto.project.ProjectDTO;
+import com.task.manager.demo.dto.task.TaskDTO;
+import com.task.manager.demo.entity.Epic;
+import com.task.manager.demo.entity.Project;
+import com.task.manager.demo.entity.Task;
+import com.task.manager.demo.mapper.EpicMapper;
+import com.task.manager.demo.mapper.ProjectMapper;
+import com.task.manager.demo.mapper.TaskMapper;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * {@link SearchEngine} that answers from in-process {@link NGramIndex}es without
+ * touching the database.
+ * <p>
+ * Tasks are indexed by title and description, epics and projects by title.
+ * The indexes hold ready-made DTOs; they are filled at startup by
+ * {@link InMemorySearchIndexLoader} and kept current by {@link SearchIndexListener}.
+ * A rebuild fills new indexes while searches keep using the current ones, then
+ * swaps them in; changes that arrive in the meantime are applied to both.
+ * </p>
+ */
+@Component
+@Conditional(SearchEngineCondition.OnMemory.class)
+public class InMemorySearchEngine implements SearchEngine {
+
+    private volatile Indexes indexes = new Indexes();
+
+    // Changes applied while a rebuild runs, replayed on the new indexes before the swap; guarded by this
+    private List<Consumer<Indexes>> pending;
+
+    private final TaskMapper taskMapper;
+    private final EpicMapper epicMapper;
+    private final ProjectMapper projectMapper;
+
+    public InMemorySearchEngine(TaskMapper taskMapper, EpicMapper epicMapper, ProjectMapper projectMapper) {
+        this.taskMapper = taskMapper;
+        this.epicMapper = epicMapper;
+        this.projectMapper = projectMapper;
+    }
+
+    @Override
+    public List<TaskDTO> searchTasks(String title, int limit) {
+        return indexes.tasks.search(title, limit);
+    }
+
+    @Override
+    public List<EpicDTO> searchEpics(String title, int limit) {
+        return indexes.epics.search(title, limit);
+    }
+
+    @Override
+    public List<ProjectDTO> searchProjects(String title, int limit) {
+        return indexes.projects.search(title, limit);
+    }
+
+    /**
+     * Adds or refreshes a task, epic or project. Soft-deleted entities are removed instead.
+     *
+     * @param entity the persisted entity
+     */
+    public void index(Object entity) {
+        if (entity instanceof Task task) {
+            if (task.isDeleted()) {
+                apply(target -> target.tasks.remove(task.getId()));
+            } else {
+                TaskDTO dto = taskMapper.toDto(task);
+                apply(target -> target.put(dto));
+            }
+        } else if (entity instanceof Epic epic) {
+            if (epic.isDeleted()) {
+                apply(target -> target.epics.remove(epic.getId()));
+            } else {
+                EpicDTO dto = epicMapper.toDto(epic);
+                apply(target -> target.put(dto));
+            }
+        } else if (entity instanceof Project project) {
+            if (project.isDeleted()) {
+                apply(target -> target.projects.remove(project.getId()));
+            } else {
+                ProjectDTO dto = projectMapper.toDto(project);
+                apply(target -> target.put(dto));
+            }
+        }
+    }
+
+    /**
+     * Drops a task, epic or project from the index.
+     *
+     * @param entity the removed entity
+     */
+    public void remove(Object entity) {
+        if (entity instanceof Task task) {
+            apply(target -> target.tasks.remove(task.getId()));
+        } else if (entity instanceof Epic epic) {
+            apply(target -> target.epics.remove(epic.getId()));
+        } else if (entity instanceof Project project) {
+            apply(target -> target.projects.remove(project.getId()));
+        }
+    }
+
+    /**
+     * Replaces the whole index content with the given live rows.
+     * <p>
+     * The streams are opened only once changes are being recorded, so a change committed
+     * after a stream read its rows is replayed on top of them rather than lost. Searches
+     * are answered from the previous content until the new one is complete.
+     * </p>
+     *
+     * @param allTasks    opens the stream of every live task
+     * @param allEpics    opens the stream of every live epic
+     * @param allProjects opens the stream of every live project
+     */
+    public void rebuild(Supplier<Stream<TaskDTO>> allTasks, Supplier<Stream<EpicDTO>> allEpics, Supplier<Stream<ProjectDTO>> allProjects) {
+        synchronized (this) {
+            pending = new ArrayList<>();
+        }
+        Indexes rebuilt = new Indexes();
+        try {
+            try (Stream<TaskDTO> rows = allTasks.get()) {
+                rows.forEach(rebuilt::put);
+            }
+            try (Stream<EpicDTO> rows = allEpics.get()) {
+                rows.forEach(rebuilt::put);
+            }
+            try (Stream<ProjectDTO> rows = allProjects.get()) {
+                rows.forEach(rebuilt::put);
+            }
+            synchronized (this) {
+                pending.forEach(change -> change.accept(rebuilt));
+                indexes = rebuilt;
+            }
+        } finally {
+            synchronized (this) {
+                pending = null;
+            }
+        }
+    }
+
+    private synchronized void apply(Consumer<Indexes> change) {
+        change.accept(indexes);
+        if (pending != null) {
+            pending.add(change);
+        }
+    }
+
+    private static final class Indexes {
+        private final NGramIndex<TaskDTO> tasks = new NGramIndex<>();
+        private final NGramIndex<EpicDTO> epics = new NGramIndex<>();
+        private final NGramIndex<ProjectDTO> projects = new NGramIndex<>();
+
+        void put(TaskDTO task) {
+            tasks.put(task.id(), task.title(), task.description(), task);
+        }
+
+        void put(EpicDTO epic) {
+            epics.put(epic.id(), epic.title(), null, epic);
+        }
+
+        void put(ProjectDTO project) {
+            projects.put(project.id(), project.title(), null, project);
+        }
+    }
+}
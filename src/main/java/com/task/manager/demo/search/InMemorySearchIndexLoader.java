@@ -0,0 +1,52 @@
+package com.task.manager.demo.search;
+
+import com.task.manager.demo.repository.EpicRepository;
+import com.task.manager.demo.repository.ProjectRepository;
+import com.task.manager.demo.repository.TaskRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Fills the {@link InMemorySearchEngine} from the database once the application has started.
+ * <p>
+ * The rows are read as DTO projections through cursors, in one read-only transaction, so no
+ * entity or association is loaded. Searches keep answering from the previous content until
+ * the rebuild completes.
+ * </p>
+ */
+@Component
+@Conditional(SearchEngineCondition.OnMemory.class)
+public class InMemorySearchIndexLoader {
+
+    private static final Logger log = LoggerFactory.getLogger(InMemorySearchIndexLoader.class);
+
+    private final InMemorySearchEngine engine;
+    private final TaskRepository taskRepository;
+    private final EpicRepository epicRepository;
+    private final ProjectRepository projectRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public InMemorySearchIndexLoader(InMemorySearchEngine engine, TaskRepository taskRepository, EpicRepository epicRepository,
+                                     ProjectRepository projectRepository, PlatformTransactionManager transactionManager) {
+        this.engine = engine;
+        this.taskRepository = taskRepository;
+        this.epicRepository = epicRepository;
+        this.projectRepository = projectRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        transactionTemplate.executeWithoutResult(status -> engine.rebuild(
+                taskRepository::streamAllDtos, epicRepository::streamAllDtos, projectRepository::streamAllDtos));
+        log.info("In-memory search index rebuilt in {} ms", System.currentTimeMillis() - start);
+    }
+}
@@ -0,0 +1,157 @@
+package com.task.manager.demo.search;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Inverted index from character trigrams to document ids.
+ * <p>
+ * Each document has a title and an optional body. Text is lowercased and its
+ * whitespace collapsed before being split into trigrams, so a query matches
+ * any substring of either field, as {@code LIKE '%text%'} would. Candidates
+ * come from intersecting the posting lists of the query's trigrams and are
+ * then confirmed with a substring check. Queries shorter than a trigram fall
+ * back to scanning the stored documents.
+ * </p>
+ *
+ * @param <D> the document returned by searches
+ */
+class NGramIndex<D> {
+
+    static final int GRAM_SIZE = 3;
+
+    private record Entry<D>(String title, String body, D document) {
+    }
+
+    private final Map<String, Set<UUID>> postings = new HashMap<>();
+    private final Map<UUID, Entry<D>> entries = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    void put(UUID id, String title, String body, D document) {
+        Entry<D> entry = new Entry<>(normalize(title), normalize(body), document);
+        lock.writeLock().lock();
+        try {
+            removeUnlocked(id);
+            entries.put(id, entry);
+            for (String gram : grams(entry.title(), entry.body())) {
+                postings.computeIfAbsent(gram, key -> new HashSet<>()).add(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(UUID id) {
+        lock.writeLock().lock();
+        try {
+            removeUnlocked(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns at most {@code limit} documents whose title or body contains the query,
+     * ranked by exact title match, title prefix, title substring and finally body-only
+     * matches, with shorter titles first inside each group.
+     */
+    List<D> search(String query, int limit) {
+        String text = normalize(query);
+        if (text.isEmpty()) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            List<Entry<D>> matches = new ArrayList<>();
+            for (UUID id : candidates(text)) {
+                Entry<D> entry = entries.get(id);
+                if (entry.title().contains(text) || entry.body().contains(text)) {
+                    matches.add(entry);
+                }
+            }
+            return matches.stream()
+                    .sorted(Comparator.<Entry<D>>comparingInt(entry -> rank(entry, text))
+                            .thenComparingInt(entry -> entry.title().length())
+                            .thenComparing(Entry::title))
+                    .limit(limit)
+                    .map(Entry::document)
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Collection<UUID> candidates(String text) {
+        if (text.length() < GRAM_SIZE) {
+            return entries.keySet();
+        }
+        List<Set<UUID>> lists = new ArrayList<>();
+        for (String gram : grams(text, "")) {
+            Set<UUID> ids = postings.get(gram);
+            if (ids == null) {
+                return List.of();
+            }
+            lists.add(ids);
+        }
+        // Intersect starting from the shortest posting list
+        lists.sort(Comparator.comparingInt(Set::size));
+        Set<UUID> result = new HashSet<>(lists.get(0));
+        for (int i = 1; i < lists.size() && !result.isEmpty(); i++) {
+            result.retainAll(lists.get(i));
+        }
+        return result;
+    }
+
+    private void removeUnlocked(UUID id) {
+        Entry<D> previous = entries.remove(id);
+        if (previous == null) {
+            return;
+        }
+        for (String gram : grams(previous.title(), previous.body())) {
+            Set<UUID> ids = postings.get(gram);
+            if (ids != null) {
+                ids.remove(id);
+                if (ids.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+    }
+
+    private static int rank(Entry<?> entry, String text) {
+        if (entry.title().equals(text)) {
+            return 0;
+        }
+        if (entry.title().startsWith(text)) {
+            return 1;
+        }
+        return entry.title().contains(text) ? 2 : 3;
+    }
+
+    private static Set<String> grams(String title, String body) {
+        Set<String> grams = new HashSet<>();
+        for (String field : List.of(title, body)) {
+            for (int i = 0; i + GRAM_SIZE <= field.length(); i++) {
+                grams.add(field.substring(i, i + GRAM_SIZE));
+            }
+        }
+        return grams;
+    }
+
+    private static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return text.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,31 @@
+package com.task.manager.demo.search;
+
+import com.task.manager.demo.dto.epic.EpicDTO;
+import com.task.manager.demo.dto.project.ProjectDTO;
+import com.task.manager.demo.dto.task.TaskDTO;
+
+import java.util.List;
+
+/**
+ * Answers title searches for tasks, epics and projects.
+ * <p>
+ * The implementation is chosen with the {@code search.engine} property:
+ * {@code database} queries the trigram-indexed tables through the repositories,
+ * {@code memory} answers from an in-process n-gram index, and {@code auto}
+ * (default) takes the first on PostgreSQL and the second on other databases
+ * (see {@link SearchEngineCondition}).
+ * Results are ranked with exact title matches first, then title prefixes,
+ * then the remaining matches by title length.
+ * </p>
+ * <p>
+ * A search returns its first {@code limit} matches only; there is no keyset
+ * continuation. The rank is computed per query, so no index holds the matches
+ * in that order and a cursor would still rank every match on each page; callers
+ * narrow the search text instead.
+ * </p>
+ */
+public interface SearchEngine {
+    List<TaskDTO> searchTasks(String title, int limit);
+    List<EpicDTO> searchEpics(String title, int limit);
+    List<ProjectDTO> searchProjects(String title, int limit);
+}
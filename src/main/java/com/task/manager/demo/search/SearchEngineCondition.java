@@ -0,0 +1,52 @@
+package com.task.manager.demo.search;
+
+import org.springframework.context.annotation.Condition;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.core.env.Environment;
+import org.springframework.core.type.AnnotatedTypeMetadata;
+
+/**
+ * Selects the {@link SearchEngine} from the {@code search.engine} property.
+ * <p>
+ * {@code auto} (default) takes the database engine on PostgreSQL, whose trigram
+ * indexes serve the {@code LIKE '%text%'} filter, and the memory engine on any other
+ * database, such as the H2 of the tests: it has no index for a substring match, and its
+ * full-text search only matches whole words.
+ * </p>
+ */
+abstract class SearchEngineCondition implements Condition {
+
+    static final String DATABASE = "database";
+    static final String MEMORY = "memory";
+
+    private final String engine;
+
+    SearchEngineCondition(String engine) {
+        this.engine = engine;
+    }
+
+    @Override
+    public boolean matches(ConditionContext context, AnnotatedTypeMetadata metadata) {
+        return engine.equals(resolve(context.getEnvironment()));
+    }
+
+    static String resolve(Environment environment) {
+        String engine = environment.getProperty("search.engine", "auto");
+        if (!engine.equals("auto")) {
+            return engine;
+        }
+        return environment.getProperty("spring.datasource.url", "").startsWith("jdbc:postgresql:") ? DATABASE : MEMORY;
+    }
+
+    static class OnDatabase extends SearchEngineCondition {
+        OnDatabase() {
+            super(DATABASE);
+        }
+    }
+
+    static class OnMemory extends SearchEngineCondition {
+        OnMemory() {
+            super(MEMORY);
+        }
+    }
+}
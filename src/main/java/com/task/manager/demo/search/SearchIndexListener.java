@@ -0,0 +1,58 @@
+package com.task.manager.demo.search;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.Consumer;
+
+/**
+ * JPA entity listener that keeps the {@link InMemorySearchEngine} in sync with
+ * creates, updates and soft deletes of tasks, epics and projects.
+ * <p>
+ * Changes are applied after the surrounding transaction commits, so rolled back
+ * writes never reach the index. When the database engine is selected there is
+ * no in-memory engine and the listener does nothing.
+ * </p>
+ */
+@Component
+public class SearchIndexListener {
+
+    private final ObjectProvider<InMemorySearchEngine> engine;
+
+    public SearchIndexListener(ObjectProvider<InMemorySearchEngine> engine) {
+        this.engine = engine;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onSave(Object entity) {
+        afterCommit(searchEngine -> searchEngine.index(entity));
+    }
+
+    @PostRemove
+    public void onRemove(Object entity) {
+        afterCommit(searchEngine -> searchEngine.remove(entity));
+    }
+
+    private void afterCommit(Consumer<InMemorySearchEngine> change) {
+        InMemorySearchEngine searchEngine = engine.getIfAvailable();
+        if (searchEngine == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    change.accept(searchEngine);
+                }
+            });
+        } else {
+            change.accept(searchEngine);
+        }
+    }
+}
@@ -39,6 +39,8 @@ public class SecurityConfig {
             .authorizeHttpRequests(auth -> auth
                 .requestMatchers("/api/auth/**").permitAll()
                 .requestMatchers("/swagger-ui/**", "/v3/api-docs/**", "/swagger-ui.html").permitAll()
+                .requestMatchers("/actuator/health").permitAll()
+                .requestMatchers("/actuator/prometheus").hasRole("ADMIN")
                 .requestMatchers("/api/task/**").hasAnyRole("USER", "ADMIN")
                 .requestMatchers("/api/project/**").hasAnyRole("USER", "ADMIN")
                 .requestMatchers("/api/user/**").hasRole("ADMIN")
@@ -1,14 +1,14 @@
 package com.task.manager.demo.security.filter;
 
+import com.task.manager.demo.security.jwt.JwtPrincipal;
 import com.task.manager.demo.security.jwt.JwtTokenProvider;
-import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -18,20 +18,29 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    private final JwtTokenProvider tokenProvider;
+    public static final String PARSE_TIMER = "jwt.parse.duration";
+    public static final String FAILURE_COUNTER = "jwt.authentication.failures";
 
-    @Value("${jwt.secret:mySecretKeyForJWTTokenGenerationThatShouldBeAtLeast256BitsLong}")
-    private String jwtSecret;
+    private final JwtTokenProvider tokenProvider;
+    private final Timer parseTimer;
+    private final Counter invalidTokens;
+    private final Counter errors;
 
-    public JwtAuthenticationFilter(JwtTokenProvider tokenProvider) {
+    public JwtAuthenticationFilter(JwtTokenProvider tokenProvider, MeterRegistry meterRegistry) {
         this.tokenProvider = tokenProvider;
+        this.parseTimer = Timer.builder(PARSE_TIMER).description("Time to parse and verify a bearer token")
+                .register(meterRegistry);
+        this.invalidTokens = Counter.builder(FAILURE_COUNTER).description("Requests whose bearer token did not authenticate")
+                .tag("reason", "invalid").register(meterRegistry);
+        this.errors = Counter.builder(FAILURE_COUNTER).description("Requests whose bearer token did not authenticate")
+                .tag("reason", "error").register(meterRegistry);
     }
 
     @Override
@@ -40,23 +49,27 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             String jwt = getJwtFromRequest(request);
 
-            if (StringUtils.hasText(jwt) && tokenProvider.validateToken(jwt)) {
-                String username = tokenProvider.getUsernameFromToken(jwt);
-                
-                List<String> roles = tokenProvider.getRolesFromToken(jwt);
-                List<SimpleGrantedAuthority> authorities = roles != null
-                    ? roles.stream()
-                        .map(role -> new SimpleGrantedAuthority("ROLE_" + role.toUpperCase()))
-                        .collect(Collectors.toList())
-                    : List.of();
+            if (StringUtils.hasText(jwt)) {
+                Optional<JwtPrincipal> principal = parseTimer.record(() -> tokenProvider.parseToken(jwt));
+                if (principal.isEmpty()) {
+                    invalidTokens.increment();
+                } else {
+                    List<String> roles = principal.get().roles();
+                    List<SimpleGrantedAuthority> authorities = roles != null
+                        ? roles.stream()
+                            .map(role -> new SimpleGrantedAuthority("ROLE_" + role.toUpperCase()))
+                            .collect(Collectors.toList())
+                        : List.of();
 
-                UsernamePasswordAuthenticationToken authentication = 
-                    new UsernamePasswordAuthenticationToken(username, null, authorities);
-                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                    UsernamePasswordAuthenticationToken authentication =
+                        new UsernamePasswordAuthenticationToken(principal.get().username(), null, authorities);
+                    authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
-                SecurityContextHolder.getContext().setAuthentication(authentication);
+                    SecurityContextHolder.getContext().setAuthentication(authentication);
+                }
             }
         } catch (Exception ex) {
+            errors.increment();
             logger.error("Could not set user authentication in security context", ex);
         }
 
@@ -71,4 +84,3 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         return null;
     }
 }
-
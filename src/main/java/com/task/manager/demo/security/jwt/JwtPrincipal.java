@@ -0,0 +1,16 @@
+package com.task.manager.demo.security.jwt;
+
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Verified content of a JWT: the subject, its roles and the expiry instant.
+ * Produced by {@link JwtTokenProvider#parseToken(String)} after a single
+ * signature check so callers never need to parse the same token twice.
+ */
+public record JwtPrincipal(
+        String username,
+        List<String> roles,
+        Date expiration
+) {
+}
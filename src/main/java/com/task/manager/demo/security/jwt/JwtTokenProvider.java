@@ -3,6 +3,7 @@ package com.task.manager.demo.security.jwt;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.SignatureAlgorithm;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
@@ -12,6 +13,7 @@ import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Component
@@ -23,6 +25,24 @@ public class JwtTokenProvider {
     @Value("${jwt.expiration:86400000}") // 24 horas por defecto
     private long jwtExpirationInMs;
 
+    // The signing key and parser are immutable and thread-safe, so both are built once at startup
+    private SecretKey key;
+    private JwtParser parser;
+
+    private final VerifiedTokenCache tokenCache;
+
+    public JwtTokenProvider(VerifiedTokenCache tokenCache) {
+        this.tokenCache = tokenCache;
+    }
+
+    @PostConstruct
+    public void init() {
+        key = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        parser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
+    }
+
     public String generateToken(Authentication authentication) {
         String username = authentication.getName();
         List<String> roles = authentication.getAuthorities().stream()
@@ -34,8 +54,6 @@ public class JwtTokenProvider {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + jwtExpirationInMs);
 
-        SecretKey key = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
-
         return Jwts.builder()
                 .setSubject(username)
                 .claim("roles", roles)
@@ -45,38 +63,45 @@ public class JwtTokenProvider {
                 .compact();
     }
 
+    /**
+     * Verifies the token signature and expiry once and returns its principal.
+     * Tokens that were already verified are served from the {@link VerifiedTokenCache}
+     * until they expire.
+     *
+     * @param token the raw JWT without the {@code Bearer } prefix
+     * @return the verified principal, or empty if the token is invalid or expired
+     */
+    public Optional<JwtPrincipal> parseToken(String token) {
+        return tokenCache.get(token, this::verifyToken);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Optional<JwtPrincipal> verifyToken(String token) {
+        try {
+            Claims claims = parser.parseClaimsJws(token).getBody();
+            return Optional.of(new JwtPrincipal(
+                    claims.getSubject(),
+                    (List<String>) claims.get("roles"),
+                    claims.getExpiration()
+            ));
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
     public String getUsernameFromToken(String token) {
-        SecretKey key = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-        return claims.getSubject();
+        return parser.parseClaimsJws(token)
+                .getBody()
+                .getSubject();
     }
 
     @SuppressWarnings("unchecked")
     public List<String> getRolesFromToken(String token) {
-        SecretKey key = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        Claims claims = parser.parseClaimsJws(token).getBody();
         return (List<String>) claims.get("roles");
     }
 
     public boolean validateToken(String token) {
-        try {
-            SecretKey key = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
-            Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token);
-            return true;
-        } catch (JwtException | IllegalArgumentException e) {
-            return false;
-        }
+        return parseToken(token).isPresent();
     }
 }
-
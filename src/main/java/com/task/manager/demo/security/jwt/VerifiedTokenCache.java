@@ -0,0 +1,120 @@
+package com.task.manager.demo.security.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Size-bounded cache of already verified tokens.
+ * <p>
+ * Entries are keyed by the SHA-256 hash of the raw token, so the token itself
+ * is never kept in memory, and each entry expires at the token's {@code exp}
+ * claim. Only successfully verified tokens are stored; invalid tokens always
+ * go through full verification. Eviction uses Caffeine's W-TinyLFU policy and
+ * hit, miss and eviction counts are available through {@link #stats()}, and are
+ * published as the {@code cache.*} meters tagged {@code cache=}{@value #CACHE_NAME}.
+ * </p>
+ */
+@Component
+public class VerifiedTokenCache implements MeterBinder {
+
+    public static final String CACHE_NAME = "jwt.verified";
+
+    private final Cache<String, JwtPrincipal> cache;
+
+    public VerifiedTokenCache(
+            @Value("${jwt.cache.enabled:true}") boolean enabled,
+            @Value("${jwt.cache.max-entries:10000}") long maxEntries) {
+        this.cache = enabled
+                ? Caffeine.newBuilder()
+                    .maximumSize(maxEntries)
+                    .expireAfter(new UntilTokenExpiry())
+                    .recordStats()
+                    .build()
+                : null;
+    }
+
+    /**
+     * Returns the cached principal for the token, verifying it with {@code verifier} on a miss.
+     *
+     * @param token    the raw JWT
+     * @param verifier full signature verification used when the token is not cached
+     * @return the verified principal, or empty if the token is invalid
+     */
+    public Optional<JwtPrincipal> get(String token, Function<String, Optional<JwtPrincipal>> verifier) {
+        if (cache == null || token == null) {
+            return verifier.apply(token);
+        }
+        String key = hash(token);
+        JwtPrincipal cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        Optional<JwtPrincipal> verified = verifier.apply(token);
+        verified.filter(principal -> principal.expiration() != null)
+                .ifPresent(principal -> cache.put(key, principal));
+        return verified;
+    }
+
+    public boolean isEnabled() {
+        return cache != null;
+    }
+
+    public long size() {
+        return cache != null ? cache.estimatedSize() : 0;
+    }
+
+    public CacheStats stats() {
+        return cache != null ? cache.stats() : CacheStats.empty();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (cache != null) {
+            // same tag keys as the Spring caches, as Prometheus requires one tag set per meter name
+            CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME, Tags.of("cache.manager", "jwt", "name", CACHE_NAME));
+        }
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return Base64.getEncoder().encodeToString(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static final class UntilTokenExpiry implements Expiry<String, JwtPrincipal> {
+        @Override
+        public long expireAfterCreate(String key, JwtPrincipal value, long currentTime) {
+            long remainingMs = value.expiration().getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMs, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, JwtPrincipal value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, JwtPrincipal value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.task.manager.demo.service.archive;
+
+import com.task.manager.demo.dto.epic.EpicDTO;
+import com.task.manager.demo.dto.project.ProjectDTO;
+import com.task.manager.demo.dto.task.TaskDTO;
+
+import java.util.UUID;
+
+public interface ArchiveService {
+    int archiveDeleted();
+    TaskDTO restoreTask(UUID id);
+    EpicDTO restoreEpic(UUID id);
+    ProjectDTO restoreProject(UUID id);
+}
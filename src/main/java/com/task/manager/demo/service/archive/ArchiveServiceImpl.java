@@ -0,0 +1,282 @@
+package com.task.manager.demo.service.archive;
+
+import com.task.manager.demo.config.DtoCacheConfig;
+import com.task.manager.demo.dto.epic.EpicDTO;
+import com.task.manager.demo.dto.project.ProjectDTO;
+import com.task.manager.demo.dto.task.TaskDTO;
+import com.task.manager.demo.entity.Epic;
+import com.task.manager.demo.entity.Project;
+import com.task.manager.demo.entity.Task;
+import com.task.manager.demo.exception.BadRequestException;
+import com.task.manager.demo.exception.ResourceNotFoundException;
+import com.task.manager.demo.exception.UniqueConstraints;
+import com.task.manager.demo.mapper.EpicMapper;
+import com.task.manager.demo.mapper.ProjectMapper;
+import com.task.manager.demo.mapper.TaskMapper;
+import com.task.manager.demo.repository.ArchiveRepository;
+import com.task.manager.demo.repository.ArchiveRepository.ArchivedTable;
+import com.task.manager.demo.repository.EpicRepository;
+import com.task.manager.demo.repository.ProjectRepository;
+import com.task.manager.demo.repository.TaskClosureRepository;
+import com.task.manager.demo.repository.TaskRepository;
+import com.task.manager.demo.search.SearchIndexListener;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.transaction.Transactional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Implementation of the {@link ArchiveService} interface that keeps soft-deleted
+ * tasks, epics and projects out of the hot tables.
+ * <p>
+ * A scheduled job moves rows deleted more than {@code archive.retention-days} ago into
+ * the {@code *_archive} tables, in batches of {@code archive.batch-size} rows that each
+ * commit on their own, so a run never holds long locks. Tasks are drained first, then
+ * epics, then projects, as a row is only archived once nothing references it anymore.
+ * The number of rows moved and the duration of each batch are published as the
+ * {@code archive.rows.moved} and {@code archive.batch.duration} meters, tagged by table.
+ * </p>
+ * <p>
+ * A restore brings a deleted row back to life, whether it was already archived or not.
+ * The rows it references must be live, so a hierarchy is restored from the top down.
+ * </p>
+ */
+@Service
+public class ArchiveServiceImpl implements ArchiveService {
+
+    private static final Logger log = LoggerFactory.getLogger(ArchiveServiceImpl.class);
+
+    private final ArchiveRepository archiveRepository;
+    private final TaskRepository taskRepository;
+    private final TaskClosureRepository closureRepository;
+    private final EpicRepository epicRepository;
+    private final ProjectRepository projectRepository;
+    private final TaskMapper taskMapper;
+    private final EpicMapper epicMapper;
+    private final ProjectMapper projectMapper;
+    private final SearchIndexListener searchIndexListener;
+    private final EntityManagerFactory entityManagerFactory;
+    private final TransactionTemplate transactionTemplate;
+    private final int retentionDays;
+    private final int batchSize;
+    private final Map<ArchivedTable, Counter> moved = new EnumMap<>(ArchivedTable.class);
+    private final Map<ArchivedTable, Counter> restored = new EnumMap<>(ArchivedTable.class);
+    private final Map<ArchivedTable, Timer> batches = new EnumMap<>(ArchivedTable.class);
+
+    /**
+     * Constructs a new {@code ArchiveServiceImpl} with all required dependencies.
+     *
+     * @param archiveRepository    moves rows between the hot and the archive tables
+     * @param taskRepository       repository for task persistence
+     * @param closureRepository    maintains the closure table of the task hierarchy
+     * @param epicRepository       repository for epic persistence
+     * @param projectRepository    repository for project persistence
+     * @param taskMapper           mapper for converting Task entities to DTOs
+     * @param epicMapper           mapper for converting Epic entities to DTOs
+     * @param projectMapper        mapper for converting Project entities to DTOs
+     * @param searchIndexListener  indexes restored entities for title search
+     * @param entityManagerFactory holds the second-level cache of epics and projects
+     * @param transactionManager   runs each archival batch in its own transaction
+     * @param meterRegistry        registry of the archival meters
+     * @param retentionDays        days a deleted row stays in its hot table
+     * @param batchSize            rows moved per transaction
+     */
+    public ArchiveServiceImpl(ArchiveRepository archiveRepository, TaskRepository taskRepository, TaskClosureRepository closureRepository,
+                              EpicRepository epicRepository, ProjectRepository projectRepository, TaskMapper taskMapper,
+                              EpicMapper epicMapper, ProjectMapper projectMapper, SearchIndexListener searchIndexListener,
+                              EntityManagerFactory entityManagerFactory, PlatformTransactionManager transactionManager,
+                              MeterRegistry meterRegistry,
+                              @Value("${archive.retention-days}") int retentionDays,
+                              @Value("${archive.batch-size}") int batchSize) {
+        this.archiveRepository = archiveRepository;
+        this.taskRepository = taskRepository;
+        this.closureRepository = closureRepository;
+        this.epicRepository = epicRepository;
+        this.projectRepository = projectRepository;
+        this.taskMapper = taskMapper;
+        this.epicMapper = epicMapper;
+        this.projectMapper = projectMapper;
+        this.searchIndexListener = searchIndexListener;
+        this.entityManagerFactory = entityManagerFactory;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.retentionDays = retentionDays;
+        this.batchSize = batchSize;
+        for (ArchivedTable table : ArchivedTable.values()) {
+            moved.put(table, Counter.builder("archive.rows.moved").description("Soft-deleted rows moved to the archive tables")
+                    .tag("table", table.table()).register(meterRegistry));
+            restored.put(table, Counter.builder("archive.rows.restored").description("Deleted rows restored")
+                    .tag("table", table.table()).register(meterRegistry));
+            batches.put(table, Timer.builder("archive.batch.duration").description("Duration of one archival batch")
+                    .tag("table", table.table()).register(meterRegistry));
+        }
+    }
+
+    /**
+     * Moves every row deleted before the retention period that nothing references anymore
+     * into the archive tables.
+     * <p>
+     * A table is drained until a batch finds nothing, so parent tasks freed by the
+     * archival of their subtasks are archived in the same run.
+     * </p>
+     *
+     * @return the number of rows archived
+     */
+    @Override
+    @Scheduled(cron = "${archive.cron}")
+    public int archiveDeleted() {
+        int total = 0;
+        for (ArchivedTable table : ArchivedTable.values()) {
+            int archived = 0;
+            int batch;
+            do {
+                batch = batches.get(table).record(() -> transactionTemplate.execute(status -> {
+                    List<UUID> ids = archiveRepository.lockArchivable(table, retentionDays, batchSize);
+                    return ids.isEmpty() ? 0 : archiveRepository.archive(table, ids);
+                }));
+                moved.get(table).increment(batch);
+                archived += batch;
+            } while (batch > 0);
+            if (archived > 0) {
+                log.info("Archived {} deleted rows of {}", archived, table.table());
+            }
+            total += archived;
+        }
+        return total;
+    }
+
+    /**
+     * Restores a deleted or archived task.
+     * <p>
+     * The task counts again in the progress of its epic. Its subtasks stay deleted.
+     * </p>
+     *
+     * @param id the UUID of the deleted task
+     * @return the restored {@link TaskDTO}
+     * @throws ResourceNotFoundException if there is no deleted task with this ID
+     * @throws BadRequestException       if its project, epic or parent is deleted, or its title is taken again
+     */
+    @Override
+    @Transactional
+    @CacheEvict(cacheNames = DtoCacheConfig.TASKS, key = "#id")
+    public TaskDTO restoreTask(UUID id) {
+        DeletedTask deleted = archiveRepository.findDeleted(ArchivedTable.TASK, id, (rs, row) -> new DeletedTask(
+                        rs.getObject("project_id", UUID.class), rs.getObject("epic_id", UUID.class),
+                        rs.getObject("task_parent_id", UUID.class)))
+                .orElseThrow(() -> new ResourceNotFoundException("Deleted task not found"));
+        if (!projectRepository.existsById(deleted.projectId())) {
+            throw new BadRequestException("The project of this task is deleted, restore it first");
+        }
+        if (deleted.epicId() != null && !epicRepository.existsById(deleted.epicId())) {
+            throw new BadRequestException("The epic of this task is deleted, restore it first");
+        }
+        if (deleted.parentId() != null && !taskRepository.existsById(deleted.parentId())) {
+            throw new BadRequestException("The parent of this task is deleted, restore it first");
+        }
+
+        // the closure pairs of an archived task were removed with it
+        if (restore(ArchivedTable.TASK, id, UniqueConstraints.TASK_TITLE, "Title already exists in this project")) {
+            closureRepository.link(List.of(id));
+        }
+        Task task = taskRepository.findById(id).orElseThrow();
+        if (task.getEpic() != null) {
+            int completed = task.isCompleted() ? 1 : 0;
+            epicRepository.adjustProgress(task.getEpic().getId(), 1, completed, task.getStory_points(), completed * task.getStory_points());
+        }
+        searchIndexListener.onSave(task);
+        return taskMapper.toDto(task);
+    }
+
+    /**
+     * Restores a deleted or archived epic, with its progress recomputed from its live tasks.
+     * Tasks deleted together with the epic stay deleted.
+     *
+     * @param id the UUID of the deleted epic
+     * @return the restored {@link EpicDTO}
+     * @throws ResourceNotFoundException if there is no deleted epic with this ID
+     * @throws BadRequestException       if its project is deleted or its title is taken again
+     */
+    @Override
+    @Transactional
+    @CacheEvict(cacheNames = DtoCacheConfig.EPICS, key = "#id")
+    public EpicDTO restoreEpic(UUID id) {
+        DeletedEpic deleted = archiveRepository.findDeleted(ArchivedTable.EPIC, id, (rs, row) -> new DeletedEpic(
+                        rs.getObject("project_id", UUID.class)))
+                .orElseThrow(() -> new ResourceNotFoundException("Deleted epic not found"));
+        if (!projectRepository.existsById(deleted.projectId())) {
+            throw new BadRequestException("The project of this epic is deleted, restore it first");
+        }
+
+        restore(ArchivedTable.EPIC, id, UniqueConstraints.EPIC_TITLE, "Title already exists in this project");
+        epicRepository.recomputeProgress(List.of(id));
+        entityManagerFactory.getCache().evict(Epic.class, id);
+        Epic epic = epicRepository.findById(id).orElseThrow();
+        searchIndexListener.onSave(epic);
+        return epicMapper.toDto(epic);
+    }
+
+    /**
+     * Restores a deleted or archived project. Its epics and tasks are restored separately.
+     *
+     * @param id the UUID of the deleted project
+     * @return the restored {@link ProjectDTO}
+     * @throws ResourceNotFoundException if there is no deleted project with this ID
+     * @throws BadRequestException       if its title is taken again
+     */
+    @Override
+    @Transactional
+    @CacheEvict(cacheNames = DtoCacheConfig.PROJECTS, key = "#id")
+    public ProjectDTO restoreProject(UUID id) {
+        if (archiveRepository.findDeleted(ArchivedTable.PROJECT, id, (rs, row) -> rs.getObject("id", UUID.class)).isEmpty()) {
+            throw new ResourceNotFoundException("Deleted project not found");
+        }
+
+        restore(ArchivedTable.PROJECT, id, UniqueConstraints.PROJECT_TITLE, "Title already exists");
+        entityManagerFactory.getCache().evict(Project.class, id);
+        Project project = projectRepository.findById(id).orElseThrow();
+        searchIndexListener.onSave(project);
+        return projectMapper.toDto(project);
+    }
+
+    // Moves the row back from the archive if needed, then clears its deletion; true if it was archived.
+    // The database rejects a title taken again since the deletion, through the unique index of live titles.
+    private boolean restore(ArchivedTable table, UUID id, String constraint, String message) {
+        boolean archived;
+        try {
+            archived = archiveRepository.unarchive(table, id);
+            archiveRepository.undelete(table, id);
+        } catch (DataIntegrityViolationException e) {
+            throw UniqueConstraints.translate(e, constraint, message);
+        }
+        Counter counter = restored.get(table);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                counter.increment();
+            }
+        });
+        return archived;
+    }
+
+    private record DeletedTask(UUID projectId, UUID epicId, UUID parentId) {
+    }
+
+    private record DeletedEpic(UUID projectId) {
+    }
+}
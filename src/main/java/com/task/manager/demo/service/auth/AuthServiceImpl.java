@@ -6,10 +6,12 @@ import com.task.manager.demo.dto.auth.RegisterRequest;
 import com.task.manager.demo.entity.Role;
 import com.task.manager.demo.entity.User;
 import com.task.manager.demo.exception.BadRequestException;
+import com.task.manager.demo.exception.UniqueConstraints;
 import com.task.manager.demo.repository.RoleRepository;
 import com.task.manager.demo.repository.UserRepository;
 import com.task.manager.demo.security.jwt.JwtTokenProvider;
 import jakarta.transaction.Transactional;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -106,8 +108,9 @@ public class AuthServiceImpl implements AuthService {
     /**
      * Registers a new user based on the provided {@link RegisterRequest}.
      * <p>
-     * Validates required fields, ensures email uniqueness, assigns roles,
-     * encrypts the password, and saves the user. After saving, the method
+     * Validates required fields, assigns roles, encrypts the password, and saves
+     * the user; email uniqueness is enforced by the {@value UniqueConstraints#USER_EMAIL}
+     * constraint on insert. After saving, the method
      * authenticates the new user and returns a JWT token.
      * </p>
      *
@@ -127,10 +130,6 @@ public class AuthServiceImpl implements AuthService {
             throw new IllegalArgumentException("Name is required");
         }
 
-        if (userRepository.findByEmail(request.email()).isPresent()) {
-            throw new BadRequestException("Email already in use");
-        }
-
         User user = User.builder()
                 .name(request.name())
                 .email(request.email())
@@ -151,7 +150,11 @@ public class AuthServiceImpl implements AuthService {
         }
 
         user.setRoles(userRoles);
-        userRepository.save(user);
+        try {
+            userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            throw UniqueConstraints.translate(e, UniqueConstraints.USER_EMAIL, "Email already in use");
+        }
 
         Authentication authentication = authenticationManager.authenticate(
                 new UsernamePasswordAuthenticationToken(
@@ -0,0 +1,65 @@
+package com.task.manager.demo.service.epic;
+
+import com.task.manager.demo.dto.epic.EpicProgressDTO;
+import com.task.manager.demo.repository.EpicRepository;
+import com.task.manager.demo.repository.TaskRepository;
+import jakarta.transaction.Transactional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Repairs drift in the epic progress counters.
+ * <p>
+ * The counters are adjusted incrementally by every task write, so they can only
+ * diverge from the tasks through writes that bypass the service, such as manual
+ * SQL. The job recomputes the actual totals with one aggregate query over the
+ * tasks and rebuilds only the epics whose counters differ.
+ * </p>
+ */
+@Component
+public class EpicProgressReconciler {
+
+    private static final Logger log = LoggerFactory.getLogger(EpicProgressReconciler.class);
+
+    private final EpicRepository epicRepository;
+    private final TaskRepository taskRepository;
+
+    public EpicProgressReconciler(EpicRepository epicRepository, TaskRepository taskRepository) {
+        this.epicRepository = epicRepository;
+        this.taskRepository = taskRepository;
+    }
+
+    /**
+     * Compares the counters of every epic with its live tasks and rebuilds the ones that drifted.
+     *
+     * @return the number of epics that were repaired
+     */
+    @Scheduled(cron = "${epic.progress.reconcile-cron}")
+    @Transactional
+    public int reconcile() {
+        Map<UUID, EpicProgressDTO> actual = taskRepository.computeProgressByEpic().stream()
+                .collect(Collectors.toMap(EpicProgressDTO::epic_id, Function.identity()));
+
+        List<UUID> drifted = new ArrayList<>();
+        for (EpicProgressDTO stored : epicRepository.findAllProgress()) {
+            EpicProgressDTO expected = actual.getOrDefault(stored.epic_id(), EpicProgressDTO.empty(stored.epic_id()));
+            if (!expected.equals(stored)) {
+                drifted.add(stored.epic_id());
+            }
+        }
+        if (!drifted.isEmpty()) {
+            epicRepository.recomputeProgress(drifted);
+            log.warn("Repaired the progress counters of {} epics", drifted.size());
+        }
+        return drifted.size();
+    }
+}
@@ -1,20 +1,30 @@
 package com.task.manager.demo.service.epic;
 
+import com.task.manager.demo.dto.BulkResult;
+import com.task.manager.demo.dto.CollectionVersion;
+import com.task.manager.demo.dto.CursorPage;
 import com.task.manager.demo.dto.epic.EpicDTO;
+import com.task.manager.demo.dto.epic.EpicProgressDTO;
 import com.task.manager.demo.dto.epic.EpicRequest;
 import com.task.manager.demo.dto.epic.EpicUpdateDTO;
 import com.task.manager.demo.dto.task.TaskDTO;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 public interface EpicService {
     EpicDTO create(EpicRequest request);
     EpicDTO findById(UUID epic_Id);
+    Optional<LocalDateTime> findLastModified(UUID epic_Id);
     EpicDTO complete(UUID epic_Id);
-    List<EpicDTO> getAll();
+    BulkResult completeAll(List<UUID> epic_Ids);
+    CursorPage<EpicDTO> getAll(String cursor, Integer size);
     List<TaskDTO> getAllTasksInEpic(UUID epic_Id);
+    CollectionVersion getAllTasksInEpicVersion(UUID epic_Id);
+    EpicProgressDTO getProgress(UUID epic_Id);
     void deleteById(UUID epic_id, UUID requester);
-    EpicDTO update(UUID epic_id, EpicUpdateDTO request);
-    List<EpicDTO> searchEpicByTitle(String title);
+    EpicDTO update(UUID epic_id, EpicUpdateDTO request, LocalDateTime expectedUpdatedAt);
+    List<EpicDTO> searchEpicByTitle(String title, Integer limit);
 }
@@ -1,28 +1,48 @@
 package com.task.manager.demo.service.epic;
 
+import com.task.manager.demo.config.DtoCacheConfig;
+import com.task.manager.demo.dto.BulkResult;
+import com.task.manager.demo.dto.CollectionVersion;
+import com.task.manager.demo.dto.CursorPage;
+import com.task.manager.demo.dto.PageCursor;
 import com.task.manager.demo.dto.epic.EpicDTO;
+import com.task.manager.demo.dto.epic.EpicProgressDTO;
 import com.task.manager.demo.dto.epic.EpicRequest;
 import com.task.manager.demo.dto.epic.EpicUpdateDTO;
 import com.task.manager.demo.dto.task.TaskDTO;
 import com.task.manager.demo.entity.Epic;
 import com.task.manager.demo.entity.Project;
-import com.task.manager.demo.entity.Task;
 import com.task.manager.demo.entity.User;
 import com.task.manager.demo.exception.BadRequestException;
+import com.task.manager.demo.exception.PreconditionFailedException;
 import com.task.manager.demo.exception.ResourceNotFoundException;
+import com.task.manager.demo.exception.UniqueConstraints;
 import com.task.manager.demo.mapper.EpicMapper;
 import com.task.manager.demo.mapper.ProjectMapper;
-import com.task.manager.demo.mapper.TaskMapper;
 import com.task.manager.demo.repository.EpicRepository;
 import com.task.manager.demo.repository.ProjectRepository;
 import com.task.manager.demo.repository.TaskRepository;
 import com.task.manager.demo.repository.UserRepository;
+import com.task.manager.demo.search.SearchEngine;
+import com.task.manager.demo.search.SearchIndexListener;
+import jakarta.transaction.Transactional;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
 
 /**
  * Implementation of the {@link EpicService} interface that manages CRUD and
@@ -38,40 +58,47 @@ import java.util.UUID;
 public class EpicServiceImpl implements EpicService{
 
     private final TaskRepository taskRepository;
-    private final TaskMapper taskMapper;
     private final ProjectRepository projectRepository;
     private final ProjectMapper projectMapper;
     private final EpicRepository repository;
     private final EpicMapper mapper;
     private final UserRepository userRepository;
+    private final SearchEngine searchEngine;
+    private final SearchIndexListener searchIndexListener;
+    private final CacheManager cacheManager;
 
     /**
      * Constructs a new {@code EpicServiceImpl} with all required dependencies.
      *
      * @param taskRepository    repository for task persistence
-     * @param taskMapper        mapper for converting Task entities to DTOs
      * @param projectRepository repository for project persistence
      * @param projectMapper     mapper for converting Project entities to DTOs
      * @param repository        repository for epic persistence
      * @param mapper            mapper for converting Epic entities and DTOs
      * @param userRepository    repository for user persistence
+     * @param searchEngine      engine answering title searches
+     * @param searchIndexListener re-indexes the epics changed by set-based updates
+     * @param cacheManager      holds the cached {@link EpicDTO}s evicted by batch operations,
+     *                          and the {@link TaskDTO}s removed along with an epic
      */
-    public EpicServiceImpl(TaskRepository taskRepository, TaskMapper taskMapper, ProjectRepository projectRepository, ProjectMapper projectMapper, EpicRepository repository, EpicMapper mapper, UserRepository userRepository) {
+    public EpicServiceImpl(TaskRepository taskRepository, ProjectRepository projectRepository, ProjectMapper projectMapper, EpicRepository repository, EpicMapper mapper, UserRepository userRepository, SearchEngine searchEngine, SearchIndexListener searchIndexListener, CacheManager cacheManager) {
         this.taskRepository = taskRepository;
-        this.taskMapper = taskMapper;
         this.projectRepository = projectRepository;
         this.projectMapper = projectMapper;
         this.repository = repository;
         this.mapper = mapper;
         this.userRepository = userRepository;
+        this.searchEngine = searchEngine;
+        this.searchIndexListener = searchIndexListener;
+        this.cacheManager = cacheManager;
     }
 
     /**
      * Creates a new epic based on the provided {@link EpicRequest}.
      * <p>
-     * Validates title and description, checks for project existence,
-     * ensures uniqueness of the epic title within the project, and
-     * persists the new epic.
+     * Validates title and description, checks for project existence and
+     * persists the new epic. Title uniqueness within the project is enforced
+     * by the {@value UniqueConstraints#EPIC_TITLE} index on insert.
      * </p>
      *
      * @param request the epic creation request containing details such as title,
@@ -92,10 +119,6 @@ public class EpicServiceImpl implements EpicService{
         if (request.description().isBlank()) {
             throw new IllegalArgumentException("Description must not be blank");
         }
-        if(repository.existsByEpicTitleAndProjectId(request.title(), request.project_id())) {
-            throw new BadRequestException("Title already exists in this project");
-        }
-
         Epic epic = Epic.builder()
                 .epic_title(request.title())
                 .epic_description(request.description())
@@ -107,7 +130,11 @@ public class EpicServiceImpl implements EpicService{
                 .finishedAt(null)
                 .project(project)
                 .build();
-        return mapper.toDto(repository.save(epic));
+        try {
+            return mapper.toDto(repository.saveAndFlush(epic));
+        } catch (DataIntegrityViolationException e) {
+            throw UniqueConstraints.translate(e, UniqueConstraints.EPIC_TITLE, "Title already exists in this project");
+        }
     }
 
     /**
@@ -118,12 +145,33 @@ public class EpicServiceImpl implements EpicService{
      * @throws ResourceNotFoundException if the epic does not exist
      */
     @Override
+    @Cacheable(cacheNames = DtoCacheConfig.EPICS, key = "#epic_Id")
     public EpicDTO findById(UUID epic_Id) {
         Epic epic = repository.findById(epic_Id)
                 .orElseThrow(() -> new ResourceNotFoundException("Epic not found"));
         return mapper.toDto(epic);
     }
 
+    /**
+     * Returns when an epic was last modified without loading it.
+     * <p>
+     * A cached {@link EpicDTO} answers directly; otherwise only the
+     * {@code updated_at} column is read.
+     * </p>
+     *
+     * @param epic_Id the UUID of the epic
+     * @return the last modification time, or empty if the epic does not exist
+     */
+    @Override
+    public Optional<LocalDateTime> findLastModified(UUID epic_Id) {
+        Cache cache = cacheManager.getCache(DtoCacheConfig.EPICS);
+        EpicDTO cached = cache != null ? cache.get(epic_Id, EpicDTO.class) : null;
+        if (cached != null) {
+            return Optional.of(cached.updatedAt());
+        }
+        return repository.findUpdatedAtById(epic_Id);
+    }
+
     /**
      * Marks the specified epic as completed and sets the finish timestamp.
      *
@@ -132,6 +180,7 @@ public class EpicServiceImpl implements EpicService{
      * @throws ResourceNotFoundException if the epic does not exist
      */
     @Override
+    @CacheEvict(cacheNames = DtoCacheConfig.EPICS, key = "#epic_Id")
     public EpicDTO complete(UUID epic_Id) {
         Epic epic = repository.findById(epic_Id)
                 .orElseThrow(() -> new ResourceNotFoundException("Epic not found"));
@@ -141,15 +190,58 @@ public class EpicServiceImpl implements EpicService{
     }
 
     /**
-     * Retrieves all epics stored in the system.
+     * Completes many epics with a single set-based {@code UPDATE}.
+     * <p>
+     * Epics that are already completed keep their original finish timestamp. The update
+     * bypasses the entity listeners, so the completed epics are reloaded and re-indexed
+     * for title search after the commit.
+     * </p>
      *
-     * @return a list of {@link EpicDTO} objects representing all epics
+     * @param epic_Ids the UUIDs of the epics to complete, at most {@link BulkResult#MAX_SIZE}
+     * @return which epics were completed, were already completed, or do not exist
+     * @throws BadRequestException if the batch is empty or too large
      */
     @Override
-    public List<EpicDTO> getAll() {
-        return repository.findAll().stream()
-                .map(mapper::toDto)
-                .toList();
+    @Transactional
+    public BulkResult completeAll(List<UUID> epic_Ids) {
+        BulkResult.checkSize(epic_Ids == null ? 0 : epic_Ids.size());
+        List<UUID> found = new ArrayList<>();
+        List<UUID> pending = new ArrayList<>();
+        for (Object[] state : repository.findCompletionStates(epic_Ids)) {
+            found.add((UUID) state[0]);
+            if (!(Boolean) state[1]) {
+                pending.add((UUID) state[0]);
+            }
+        }
+        if (!pending.isEmpty()) {
+            repository.completeAll(pending, LocalDateTime.now().truncatedTo(ChronoUnit.MICROS));
+            evictCached(pending);
+            repository.findAllById(pending).forEach(searchIndexListener::onSave);
+        }
+        return BulkResult.of(epic_Ids, found, pending);
+    }
+
+    /**
+     * Retrieves one page of epics ordered by creation time, using keyset
+     * pagination so that no page requires scanning the preceding rows.
+     *
+     * @param cursor continuation token from the previous page, or {@code null} for the first page
+     * @param size   requested page size, capped at {@link CursorPage#MAX_SIZE}
+     * @return a {@link CursorPage} of {@link EpicDTO} with the token for the next page
+     * @throws BadRequestException if the cursor is malformed
+     */
+    @Override
+    public CursorPage<EpicDTO> getAll(String cursor, Integer size) {
+        int pageSize = CursorPage.clampSize(size);
+        Limit limit = Limit.of(pageSize + 1);
+        List<EpicDTO> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = repository.findFirstPage(limit);
+        } else {
+            PageCursor position = PageCursor.decode(cursor);
+            rows = repository.findPageAfter(position.createdAt(), position.id(), limit);
+        }
+        return CursorPage.of(rows, pageSize, Function.identity(), row -> new PageCursor(row.createdAt(), row.id()));
     }
 
     /**
@@ -164,18 +256,52 @@ public class EpicServiceImpl implements EpicService{
         if (repository.findById(epic_Id).isEmpty()) {
             throw new ResourceNotFoundException("Epic not found");
         }
-        List<Task> tasks = taskRepository.findAllByEpic_Id(epic_Id);
-        return tasks.stream().map(taskMapper::toDto).toList();
+        return taskRepository.findDtosByEpicId(epic_Id);
+    }
+
+    /**
+     * Computes the version of the listing returned by {@link #getAllTasksInEpic(UUID)}
+     * with a single aggregate query.
+     *
+     * @param epic_Id the UUID of the epic
+     * @return the {@link CollectionVersion} of the epic's tasks
+     * @throws ResourceNotFoundException if the epic does not exist
+     */
+    @Override
+    public CollectionVersion getAllTasksInEpicVersion(UUID epic_Id) {
+        if (!repository.existsById(epic_Id)) {
+            throw new ResourceNotFoundException("Epic not found");
+        }
+        return taskRepository.findVersionByEpicId(epic_Id);
+    }
+
+    /**
+     * Retrieves the progress of an epic from its maintained counters, without
+     * reading any of its tasks.
+     *
+     * @param epic_Id the UUID of the epic
+     * @return an {@link EpicProgressDTO} with the task and story point totals of the epic
+     * @throws ResourceNotFoundException if the epic does not exist
+     */
+    @Override
+    public EpicProgressDTO getProgress(UUID epic_Id) {
+        return repository.findProgressById(epic_Id)
+                .orElseThrow(() -> new ResourceNotFoundException("Epic not found"));
     }
 
     /**
      * Deletes an epic by its ID and registers which user performed the deletion.
+     * <p>
+     * The removal cascades to the tasks of the epic, so their cached {@link TaskDTO}s
+     * are evicted as well.
+     * </p>
      *
      * @param epic_id   the UUID of the epic to delete
      * @param requester the UUID of the user performing the deletion
      * @throws ResourceNotFoundException if the epic or user does not exist
      */
     @Override
+    @CacheEvict(cacheNames = DtoCacheConfig.EPICS, key = "#epic_id")
     public void deleteById(UUID epic_id, UUID requester) {
         Optional<Epic> epic = repository.findById(epic_id);
         if (epic.isEmpty()) {
@@ -187,35 +313,69 @@ public class EpicServiceImpl implements EpicService{
         }
         epic.get().setDeletedBy(user.get().getId());
         repository.save(epic.get());
+        List<UUID> tasks = taskRepository.findIdsByEpicId(epic_id);
         repository.deleteById(epic_id);
+        evictCached(DtoCacheConfig.TASKS, tasks);
     }
 
     /**
      * Updates the specified epic using the provided update data.
      *
-     * @param epic_id the UUID of the epic to update
-     * @param request the update details encapsulated in {@link EpicUpdateDTO}
+     * <p>
+     * When {@code expectedUpdatedAt} is given, the update only applies to the state the
+     * client last read; concurrent writes are detected by the entity version.
+     * </p>
+     *
+     * @param epic_id           the UUID of the epic to update
+     * @param request           the update details encapsulated in {@link EpicUpdateDTO}
+     * @param expectedUpdatedAt the {@code updatedAt} the client last saw, or {@code null} to update unconditionally
      * @return an updated {@link EpicDTO} after applying changes
-     * @throws ResourceNotFoundException if the epic does not exist
+     * @throws ResourceNotFoundException   if the epic does not exist
+     * @throws BadRequestException         if the new title is already taken in the project
+     * @throws PreconditionFailedException if the epic changed since {@code expectedUpdatedAt}
+     * @throws OptimisticLockingFailureException if another update committed concurrently
      */
     @Override
-    public EpicDTO update(UUID epic_id, EpicUpdateDTO request) {
+    @CacheEvict(cacheNames = DtoCacheConfig.EPICS, key = "#epic_id")
+    public EpicDTO update(UUID epic_id, EpicUpdateDTO request, LocalDateTime expectedUpdatedAt) {
         Epic epic = repository.findById(epic_id)
                 .orElseThrow(() -> new ResourceNotFoundException("Epic not found"));
+        if (expectedUpdatedAt != null && !expectedUpdatedAt.equals(epic.getUpdatedAt())) {
+            evictCached(List.of(epic_id));
+            throw new PreconditionFailedException("Epic was modified since it was read");
+        }
         mapper.toEntity(request, epic);
-        epic.setUpdatedAt(LocalDateTime.now());
-        return mapper.toDto(repository.save(epic));
+        try {
+            return mapper.toDto(repository.saveAndFlush(epic));
+        } catch (DataIntegrityViolationException e) {
+            throw UniqueConstraints.translate(e, UniqueConstraints.EPIC_TITLE, "Title already exists in this project");
+        }
+    }
+
+    private void evictCached(Collection<UUID> ids) {
+        evictCached(DtoCacheConfig.EPICS, ids);
+    }
+
+    private void evictCached(String cacheName, Collection<UUID> ids) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            ids.forEach(cache::evict);
+        }
     }
 
     /**
      * Searches for epics whose title matches the given text.
+     * <p>
+     * Results are ranked: exact matches first, then titles starting with the
+     * text, then the remaining matches by title length.
+     * </p>
      *
      * @param title the title or partial title to search for
+     * @param limit maximum number of results, capped at {@link CursorPage#MAX_SIZE}
      * @return a list of {@link EpicDTO} matching the search criteria
      */
     @Override
-    public List<EpicDTO> searchEpicByTitle(String title) {
-        List<Epic> epics = repository.searchByTitle(title);
-        return epics.stream().map(mapper::toDto).toList();
+    public List<EpicDTO> searchEpicByTitle(String title, Integer limit) {
+        return searchEngine.searchEpics(title, CursorPage.clampSize(limit));
     }
 }
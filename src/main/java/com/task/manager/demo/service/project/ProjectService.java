@@ -1,23 +1,36 @@
 package com.task.manager.demo.service.project;
 
+import com.task.manager.demo.dto.CollectionVersion;
+import com.task.manager.demo.dto.CursorPage;
 import com.task.manager.demo.dto.epic.EpicDTO;
 import com.task.manager.demo.dto.epic.EpicRequest;
 import com.task.manager.demo.dto.epic.EpicUpdateDTO;
 import com.task.manager.demo.dto.project.ProjectDTO;
 import com.task.manager.demo.dto.project.ProjectRequest;
+import com.task.manager.demo.dto.project.ProjectSummaryDTO;
 import com.task.manager.demo.dto.project.ProjectUpdateDTO;
 import com.task.manager.demo.dto.task.TaskDTO;
+import com.task.manager.demo.dto.task.TaskFileFormat;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 public interface ProjectService {
     ProjectDTO create(ProjectRequest request);
     ProjectDTO findById(UUID project_Id);
-    List<ProjectDTO> getAll();
+    Optional<LocalDateTime> findLastModified(UUID project_Id);
+    CursorPage<ProjectDTO> getAll(String cursor, Integer size);
     List<TaskDTO> getAllTasksInProject(UUID project_Id);
+    CollectionVersion getAllTasksInProjectVersion(UUID project_Id);
+    ProjectSummaryDTO getSummary(UUID project_Id);
+    void exportTasks(UUID project_Id, TaskFileFormat format, OutputStream out) throws IOException;
     List<EpicDTO> getAllEpicsInProject(UUID project_Id);
+    CollectionVersion getAllEpicsInProjectVersion(UUID project_Id);
     void deleteById(UUID project_Id, UUID requester);
-    ProjectDTO update(UUID project_Id, ProjectUpdateDTO request);
-    List<ProjectDTO> searchProjectByTitle(String title);
+    ProjectDTO update(UUID project_Id, ProjectUpdateDTO request, LocalDateTime expectedUpdatedAt);
+    List<ProjectDTO> searchProjectByTitle(String title, Integer limit);
 }
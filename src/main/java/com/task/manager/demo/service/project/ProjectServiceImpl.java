@@ -1,28 +1,55 @@
 package com.task.manager.demo.service.project;
 
+import com.task.manager.demo.config.DtoCacheConfig;
+import com.task.manager.demo.dto.CollectionVersion;
+import com.task.manager.demo.dto.CursorPage;
+import com.task.manager.demo.dto.PageCursor;
 import com.task.manager.demo.dto.epic.EpicDTO;
 import com.task.manager.demo.dto.project.ProjectDTO;
 import com.task.manager.demo.dto.project.ProjectRequest;
+import com.task.manager.demo.dto.project.ProjectSummaryDTO;
 import com.task.manager.demo.dto.project.ProjectUpdateDTO;
 import com.task.manager.demo.dto.task.TaskDTO;
+import com.task.manager.demo.dto.task.TaskFileFormat;
 import com.task.manager.demo.entity.Epic;
 import com.task.manager.demo.entity.Project;
-import com.task.manager.demo.entity.Task;
 import com.task.manager.demo.entity.User;
 import com.task.manager.demo.exception.BadRequestException;
+import com.task.manager.demo.exception.PreconditionFailedException;
 import com.task.manager.demo.exception.ResourceNotFoundException;
+import com.task.manager.demo.exception.UniqueConstraints;
 import com.task.manager.demo.mapper.EpicMapper;
 import com.task.manager.demo.mapper.ProjectMapper;
-import com.task.manager.demo.mapper.TaskMapper;
 import com.task.manager.demo.repository.EpicRepository;
 import com.task.manager.demo.repository.ProjectRepository;
 import com.task.manager.demo.repository.TaskRepository;
 import com.task.manager.demo.repository.UserRepository;
+import com.task.manager.demo.search.SearchEngine;
+import com.task.manager.demo.service.task.TaskCsv;
+import jakarta.transaction.Transactional;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.json.JsonMapper;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 /**
  * Implementation of the {@link ProjectService} interface that manages CRUD and
@@ -37,39 +64,45 @@ import java.util.UUID;
 public class ProjectServiceImpl implements ProjectService {
 
     private final TaskRepository taskRepository;
-    private final TaskMapper taskMapper;
     private final EpicRepository epicRepository;
     private final EpicMapper epicMapper;
     private final ProjectRepository projectRepository;
     private final ProjectMapper projectMapper;
     private final UserRepository userRepository;
+    private final SearchEngine searchEngine;
+    private final CacheManager cacheManager;
+    private final JsonMapper jsonMapper;
 
     /**
      * Constructs a new {@code ProjectServiceImpl} with all required dependencies.
      *
      * @param taskRepository    repository for task persistence
-     * @param taskMapper        mapper for converting Task entities to DTOs
      * @param epicRepository    repository for epic persistence
      * @param epicMapper        mapper for converting Epic entities to DTOs
      * @param projectRepository repository for project persistence
      * @param projectMapper     mapper for converting Project entities to DTOs
      * @param userRepository    repository for user persistence
+     * @param searchEngine      engine answering title searches
+     * @param cacheManager      holds the cached {@link ProjectDTO}s consulted for version lookups
+     * @param jsonMapper        serializes exported tasks
      */
-    public ProjectServiceImpl(TaskRepository taskRepository, TaskMapper taskMapper, EpicRepository epicRepository, EpicMapper epicMapper, ProjectRepository projectRepository, ProjectMapper projectMapper, UserRepository userRepository) {
+    public ProjectServiceImpl(TaskRepository taskRepository, EpicRepository epicRepository, EpicMapper epicMapper, ProjectRepository projectRepository, ProjectMapper projectMapper, UserRepository userRepository, SearchEngine searchEngine, CacheManager cacheManager, JsonMapper jsonMapper) {
         this.taskRepository = taskRepository;
-        this.taskMapper = taskMapper;
         this.epicRepository = epicRepository;
         this.epicMapper = epicMapper;
         this.projectRepository = projectRepository;
         this.projectMapper = projectMapper;
         this.userRepository = userRepository;
+        this.searchEngine = searchEngine;
+        this.cacheManager = cacheManager;
+        this.jsonMapper = jsonMapper;
     }
 
     /**
      * Creates a new project based on the provided {@link ProjectRequest}.
      * <p>
-     * Validates the title and description, ensures uniqueness of the project title,
-     * and persists the new project.
+     * Validates the title and description and persists the new project. Title
+     * uniqueness is enforced by the {@value UniqueConstraints#PROJECT_TITLE} index on insert.
      * </p>
      *
      * @param request the project creation request containing title and description
@@ -86,14 +119,15 @@ public class ProjectServiceImpl implements ProjectService {
             throw new IllegalArgumentException("Description must not be blank");
         }
 
-        if (projectRepository.existsByProjectTitle(request.title())) {
-            throw new BadRequestException("Title already exists");
-        }
         Project project = Project.builder()
                 .projectTitle(request.title())
                 .projectDescription(request.description())
                 .build();
-        return projectMapper.toDto(projectRepository.save(project));
+        try {
+            return projectMapper.toDto(projectRepository.saveAndFlush(project));
+        } catch (DataIntegrityViolationException e) {
+            throw UniqueConstraints.translate(e, UniqueConstraints.PROJECT_TITLE, "Title already exists");
+        }
     }
 
     /**
@@ -104,6 +138,7 @@ public class ProjectServiceImpl implements ProjectService {
      * @throws ResourceNotFoundException if the project does not exist
      */
     @Override
+    @Cacheable(cacheNames = DtoCacheConfig.PROJECTS, key = "#project_Id")
     public ProjectDTO findById(UUID project_Id) {
         Project project = projectRepository.findById(project_Id)
                 .orElseThrow(() -> new ResourceNotFoundException("Project not found"));
@@ -111,14 +146,46 @@ public class ProjectServiceImpl implements ProjectService {
     }
 
     /**
-     * Retrieves all projects stored in the system.
+     * Returns when a project was last modified without loading it.
+     * <p>
+     * A cached {@link ProjectDTO} answers directly; otherwise only the
+     * {@code updated_at} column is read.
+     * </p>
      *
-     * @return a list of {@link ProjectDTO} representing all projects
+     * @param project_Id the UUID of the project
+     * @return the last modification time, or empty if the project does not exist
      */
     @Override
-    public List<ProjectDTO> getAll() {
-        List<Project> projects = projectRepository.findAll();
-        return projects.stream().map(projectMapper::toDto).toList();
+    public Optional<LocalDateTime> findLastModified(UUID project_Id) {
+        Cache cache = cacheManager.getCache(DtoCacheConfig.PROJECTS);
+        ProjectDTO cached = cache != null ? cache.get(project_Id, ProjectDTO.class) : null;
+        if (cached != null) {
+            return Optional.of(cached.updatedAt());
+        }
+        return projectRepository.findUpdatedAtById(project_Id);
+    }
+
+    /**
+     * Retrieves one page of projects ordered by creation time, using keyset
+     * pagination so that no page requires scanning the preceding rows.
+     *
+     * @param cursor continuation token from the previous page, or {@code null} for the first page
+     * @param size   requested page size, capped at {@link CursorPage#MAX_SIZE}
+     * @return a {@link CursorPage} of {@link ProjectDTO} with the token for the next page
+     * @throws BadRequestException if the cursor is malformed
+     */
+    @Override
+    public CursorPage<ProjectDTO> getAll(String cursor, Integer size) {
+        int pageSize = CursorPage.clampSize(size);
+        Limit limit = Limit.of(pageSize + 1);
+        List<ProjectDTO> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = projectRepository.findFirstPage(limit);
+        } else {
+            PageCursor position = PageCursor.decode(cursor);
+            rows = projectRepository.findPageAfter(position.createdAt(), position.id(), limit);
+        }
+        return CursorPage.of(rows, pageSize, Function.identity(), row -> new PageCursor(row.createdAt(), row.id()));
     }
 
     /**
@@ -129,8 +196,70 @@ public class ProjectServiceImpl implements ProjectService {
      */
     @Override
     public List<TaskDTO> getAllTasksInProject(UUID projectId) {
-        List<Task> tasks = taskRepository.findAllByProject_Id(projectId);
-        return tasks.stream().map(taskMapper::toDto).toList();
+        return taskRepository.findDtosByProjectId(projectId);
+    }
+
+    /**
+     * Computes the version of the listing returned by {@link #getAllTasksInProject(UUID)}
+     * with a single aggregate query.
+     *
+     * @param project_Id the UUID of the project
+     * @return the {@link CollectionVersion} of the project's tasks
+     */
+    @Override
+    public CollectionVersion getAllTasksInProjectVersion(UUID project_Id) {
+        return taskRepository.findVersionByProjectId(project_Id);
+    }
+
+    /**
+     * Summarizes the live tasks of a project for its dashboard.
+     * <p>
+     * The counts by type, completion, story points, assignee workload and epic
+     * progress are all folded from a single {@code GROUP BY} query, so no task
+     * is loaded.
+     * </p>
+     *
+     * @param project_Id the UUID of the project
+     * @return a {@link ProjectSummaryDTO} of the project
+     * @throws ResourceNotFoundException if the project does not exist
+     */
+    @Override
+    public ProjectSummaryDTO getSummary(UUID project_Id) {
+        if (!projectRepository.existsById(project_Id)) {
+            throw new ResourceNotFoundException("Project not found");
+        }
+        return ProjectSummaryDTO.of(project_Id, taskRepository.summarizeByProjectId(project_Id));
+    }
+
+    /**
+     * Writes the live tasks of a project to {@code out} as they are read.
+     * <p>
+     * Rows come from a JDBC cursor in fetch-size chunks and are written through a
+     * small buffer, so memory stays constant whatever the size of the project.
+     * The transaction is held for the whole export, as the cursor needs it.
+     * </p>
+     *
+     * @param project_Id the UUID of the project
+     * @param format     the file format to write
+     * @param out        the response body; it is flushed but not closed
+     * @throws IOException if writing to {@code out} fails, for instance because the client went away
+     */
+    @Override
+    @Transactional
+    public void exportTasks(UUID project_Id, TaskFileFormat format, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        ObjectWriter json = jsonMapper.writerFor(TaskDTO.class);
+        if (format == TaskFileFormat.CSV) {
+            writer.write(TaskCsv.HEADER);
+            writer.write('\n');
+        }
+        try (Stream<TaskDTO> tasks = taskRepository.streamDtosByProjectId(project_Id)) {
+            for (TaskDTO task : (Iterable<TaskDTO>) tasks::iterator) {
+                writer.write(format == TaskFileFormat.CSV ? TaskCsv.row(task) : json.writeValueAsString(task));
+                writer.write('\n');
+            }
+        }
+        writer.flush();
     }
 
     /**
@@ -145,6 +274,18 @@ public class ProjectServiceImpl implements ProjectService {
         return epics.stream().map(epicMapper::toDto).toList();
     }
 
+    /**
+     * Computes the version of the listing returned by {@link #getAllEpicsInProject(UUID)}
+     * with a single aggregate query.
+     *
+     * @param project_Id the UUID of the project
+     * @return the {@link CollectionVersion} of the project's epics
+     */
+    @Override
+    public CollectionVersion getAllEpicsInProjectVersion(UUID project_Id) {
+        return epicRepository.findVersionByProjectId(project_Id);
+    }
+
     /**
      * Deletes a project by its ID and records which user performed the deletion.
      *
@@ -153,6 +294,7 @@ public class ProjectServiceImpl implements ProjectService {
      * @throws ResourceNotFoundException if the project or user does not exist
      */
     @Override
+    @CacheEvict(cacheNames = DtoCacheConfig.PROJECTS, key = "#project_Id")
     public void deleteById(UUID project_Id, UUID requester) {
         Optional<Project> proj = projectRepository.findById(project_Id);
         if (proj.isEmpty()) {
@@ -170,28 +312,53 @@ public class ProjectServiceImpl implements ProjectService {
     /**
      * Updates an existing project with the provided data.
      *
-     * @param project_Id the UUID of the project to update
-     * @param request    the update details encapsulated in {@link ProjectUpdateDTO}
+     * <p>
+     * When {@code expectedUpdatedAt} is given, the update only applies to the state the
+     * client last read; concurrent writes are detected by the entity version.
+     * </p>
+     *
+     * @param project_Id        the UUID of the project to update
+     * @param request           the update details encapsulated in {@link ProjectUpdateDTO}
+     * @param expectedUpdatedAt the {@code updatedAt} the client last saw, or {@code null} to update unconditionally
      * @return an updated {@link ProjectDTO} after applying changes
-     * @throws ResourceNotFoundException if the project does not exist
+     * @throws ResourceNotFoundException   if the project does not exist
+     * @throws BadRequestException         if the new title is already taken
+     * @throws PreconditionFailedException if the project changed since {@code expectedUpdatedAt}
+     * @throws OptimisticLockingFailureException if another update committed concurrently
      */
     @Override
-    public ProjectDTO update(UUID project_Id, ProjectUpdateDTO request) {
+    @CacheEvict(cacheNames = DtoCacheConfig.PROJECTS, key = "#project_Id")
+    public ProjectDTO update(UUID project_Id, ProjectUpdateDTO request, LocalDateTime expectedUpdatedAt) {
         Project project = projectRepository.findById(project_Id)
                 .orElseThrow(() -> new ResourceNotFoundException("Project not found"));
+        if (expectedUpdatedAt != null && !expectedUpdatedAt.equals(project.getUpdatedAt())) {
+            Cache cache = cacheManager.getCache(DtoCacheConfig.PROJECTS);
+            if (cache != null) {
+                cache.evict(project_Id);
+            }
+            throw new PreconditionFailedException("Project was modified since it was read");
+        }
         projectMapper.toEntity(request, project);
-        return projectMapper.toDto(projectRepository.save(project));
+        try {
+            return projectMapper.toDto(projectRepository.saveAndFlush(project));
+        } catch (DataIntegrityViolationException e) {
+            throw UniqueConstraints.translate(e, UniqueConstraints.PROJECT_TITLE, "Title already exists");
+        }
     }
 
     /**
      * Searches for projects whose title matches the given text.
+     * <p>
+     * Results are ranked: exact matches first, then titles starting with the
+     * text, then the remaining matches by title length.
+     * </p>
      *
      * @param title the title or partial title to search for
+     * @param limit maximum number of results, capped at {@link CursorPage#MAX_SIZE}
      * @return a list of {@link ProjectDTO} matching the search criteria
      */
     @Override
-    public List<ProjectDTO> searchProjectByTitle(String title) {
-        List<Project> projects = projectRepository.searchByTitle(title);
-        return projects.stream().map(projectMapper::toDto).toList();
+    public List<ProjectDTO> searchProjectByTitle(String title, Integer limit) {
+        return searchEngine.searchProjects(title, CursorPage.clampSize(limit));
     }
 }
@@ -0,0 +1,114 @@
+package com.task.manager.demo.service.task;
+
+import com.task.manager.demo.dto.task.TaskDTO;
+import com.task.manager.demo.exception.BadRequestException;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * CSV encoding of {@link TaskDTO} rows (RFC 4180: comma separated, fields holding a
+ * comma, quote or line break are quoted, quotes are doubled), and the matching
+ * record reader used by imports.
+ */
+public final class TaskCsv {
+
+    // Longest record the reader accepts, so an unterminated quote cannot pull the whole upload into memory
+    public static final int MAX_RECORD_LENGTH = 64 * 1024;
+
+    public static final String HEADER = "id,title,description,completed,story_points,type,epic_id,parent_id,user_id,project_id,createdAt,updatedAt,finishedAt";
+
+    private TaskCsv() {
+    }
+
+    /**
+     * Encodes one task as a CSV record, without the line terminator.
+     *
+     * @param task the task
+     * @return the record, with the columns of {@link #HEADER}
+     */
+    public static String row(TaskDTO task) {
+        StringBuilder row = new StringBuilder(256);
+        append(row, task.id()).append(',');
+        append(row, task.title()).append(',');
+        append(row, task.description()).append(',');
+        append(row, task.completed()).append(',');
+        append(row, task.story_points()).append(',');
+        append(row, task.type()).append(',');
+        append(row, task.epic_id()).append(',');
+        append(row, task.parent_id()).append(',');
+        append(row, task.user_id()).append(',');
+        append(row, task.project_id()).append(',');
+        append(row, task.createdAt()).append(',');
+        append(row, task.updatedAt()).append(',');
+        append(row, task.finishedAt());
+        return row.toString();
+    }
+
+    /**
+     * Reads the next record. A quoted field may hold line breaks, so a record can
+     * span several lines; {@code \n} and {@code \r\n} both end a record.
+     *
+     * @param in the input, positioned at the start of a record; should be buffered
+     * @return the fields of the record, or {@code null} at the end of the input
+     * @throws IOException         if reading fails
+     * @throws BadRequestException if the record exceeds {@link #MAX_RECORD_LENGTH}
+     */
+    public static List<String> readRecord(Reader in) throws IOException {
+        int c = in.read();
+        if (c < 0) {
+            return null;
+        }
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        int length = 0;
+        while (c >= 0) {
+            if (++length > MAX_RECORD_LENGTH) {
+                throw new BadRequestException("CSV record longer than " + MAX_RECORD_LENGTH + " characters");
+            }
+            if (quoted) {
+                if (c == '"') {
+                    in.mark(1);
+                    int next = in.read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        if (next >= 0) {
+                            in.reset();
+                        }
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n') {
+                break;
+            } else if (c != '\r') {
+                field.append((char) c);
+            }
+            c = in.read();
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private static StringBuilder append(StringBuilder row, Object value) {
+        if (value == null) {
+            return row;
+        }
+        String text = Objects.toString(value);
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return row.append(text);
+        }
+        return row.append('"').append(text.replace("\"", "\"\"")).append('"');
+    }
+}
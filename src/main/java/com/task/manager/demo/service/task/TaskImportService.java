@@ -0,0 +1,12 @@
+package com.task.manager.demo.service.task;
+
+import com.task.manager.demo.dto.task.TaskFileFormat;
+import com.task.manager.demo.dto.task.TaskImportReport;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.UUID;
+
+public interface TaskImportService {
+    TaskImportReport importTasks(UUID project_id, TaskFileFormat format, InputStream in) throws IOException;
+}
@@ -0,0 +1,299 @@
+package com.task.manager.demo.service.task;
+
+import com.task.manager.demo.dto.task.TaskFileFormat;
+import com.task.manager.demo.dto.task.TaskImportReport;
+import com.task.manager.demo.dto.task.TaskRequest;
+import com.task.manager.demo.entity.Project;
+import com.task.manager.demo.entity.Task;
+import com.task.manager.demo.exception.BadRequestException;
+import com.task.manager.demo.exception.ResourceNotFoundException;
+import com.task.manager.demo.repository.ProjectRepository;
+import com.task.manager.demo.repository.TaskClosureRepository;
+import com.task.manager.demo.repository.TaskRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of the {@link TaskImportService} interface that creates tasks
+ * from an uploaded NDJSON or CSV stream.
+ * <p>
+ * The upload is parsed one row at a time and written in batches of
+ * {@code task.import.batch-size} rows, each batch in its own transaction.
+ * Reading stops while a batch is written, so a fast client is held back by the
+ * database rather than buffered in memory, and a failure only loses the batch
+ * it happened in. Rows follow the rules of {@link TaskServiceImpl#create(TaskRequest)}.
+ * Rejected rows are reported, not fatal.
+ * </p>
+ */
+@Service
+public class TaskImportServiceImpl implements TaskImportService {
+
+    private final TaskRepository repository;
+    private final TaskClosureRepository closureRepository;
+    private final ProjectRepository projectRepository;
+    private final JsonMapper jsonMapper;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    /**
+     * Constructs a new {@code TaskImportServiceImpl} with all required dependencies.
+     *
+     * @param repository         repository for task persistence
+     * @param closureRepository  adds the imported tasks to the task hierarchy
+     * @param projectRepository  repository for project persistence
+     * @param jsonMapper         parses NDJSON rows
+     * @param validator          applies the constraints declared on {@link TaskRequest}, as request body validation does for single creates
+     * @param transactionManager opens one transaction per batch
+     * @param batchSize          number of rows written per transaction
+     */
+    public TaskImportServiceImpl(TaskRepository repository, TaskClosureRepository closureRepository, ProjectRepository projectRepository,
+                                 JsonMapper jsonMapper, Validator validator, PlatformTransactionManager transactionManager, @Value("${task.import.batch-size:500}") int batchSize) {
+        this.repository = repository;
+        this.closureRepository = closureRepository;
+        this.projectRepository = projectRepository;
+        this.jsonMapper = jsonMapper;
+        this.validator = validator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Imports the tasks of an upload into a project.
+     * <p>
+     * NDJSON rows are objects with {@code title}, {@code description},
+     * {@code story_points}, {@code type} and an optional {@code parent_id}. CSV
+     * uploads start with a header naming the same columns; other columns are
+     * ignored, so an export can be imported again. A parent must already exist
+     * in the project or be written in an earlier batch.
+     * </p>
+     *
+     * @param project_id the UUID of the project receiving the tasks
+     * @param format     the format of the upload
+     * @param in         the upload, read once and not closed
+     * @return how many rows were read and imported, and why the others were rejected
+     * @throws ResourceNotFoundException if the project does not exist
+     * @throws BadRequestException       if the CSV header lacks a required column or a record or line is too long
+     * @throws IOException               if reading the upload fails
+     */
+    @Override
+    public TaskImportReport importTasks(UUID project_id, TaskFileFormat format, InputStream in) throws IOException {
+        if (!projectRepository.existsById(project_id)) {
+            throw new ResourceNotFoundException("Project not found");
+        }
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        RowReader rows = format == TaskFileFormat.CSV ? csvRows(reader, project_id) : ndjsonRows(reader, project_id);
+
+        Report report = new Report();
+        List<Row> batch = new ArrayList<>(batchSize);
+        Row row;
+        while ((row = rows.next()) != null) {
+            report.rows++;
+            String error = row.error() != null ? row.error() : validate(row.request());
+            if (error != null) {
+                report.reject(row, error);
+                continue;
+            }
+            batch.add(row);
+            if (batch.size() == batchSize) {
+                write(project_id, batch, report);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            write(project_id, batch, report);
+        }
+        return report.toReport();
+    }
+
+    private String validate(TaskRequest request) {
+        Set<ConstraintViolation<TaskRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            return violations.stream().map(ConstraintViolation::getMessage).sorted().collect(Collectors.joining("; "));
+        }
+        if (request.type() == null) {
+            return "Type must not be blank";
+        }
+        try {
+            TaskServiceImpl.validateRequest(request);
+        } catch (IllegalArgumentException e) {
+            return e.getMessage();
+        }
+        return null;
+    }
+
+    // Writes one batch in its own transaction; rows that clash with the database are rejected, the rest are inserted
+    private void write(UUID project_id, List<Row> batch, Report report) {
+        List<Map.Entry<Row, String>> rejected;
+        try {
+            rejected = transactionTemplate.execute(status -> insert(project_id, batch));
+        } catch (DataAccessException e) {
+            batch.forEach(row -> report.reject(row, "Row could not be written: " + e.getMostSpecificCause().getMessage()));
+            return;
+        }
+        rejected.forEach(entry -> report.reject(entry.getKey(), entry.getValue()));
+        report.imported += batch.size() - rejected.size();
+    }
+
+    private List<Map.Entry<Row, String>> insert(UUID project_id, List<Row> batch) {
+        Project project = projectRepository.getReferenceById(project_id);
+        Set<String> titles = batch.stream().map(row -> row.request().title()).collect(Collectors.toSet());
+        Set<String> taken = repository.findTitlesInProjects(List.of(project_id), titles).stream()
+                .map(existing -> (String) existing[1])
+                .collect(Collectors.toCollection(HashSet::new));
+        Set<UUID> parentIds = batch.stream().map(row -> row.request().parent_id()).filter(Objects::nonNull).collect(Collectors.toSet());
+        Map<UUID, Task> parents = parentIds.isEmpty() ? Map.of() : repository.findAllById(parentIds).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+
+        List<Map.Entry<Row, String>> rejected = new ArrayList<>();
+        List<Task> tasks = new ArrayList<>(batch.size());
+        for (Row row : batch) {
+            TaskRequest request = row.request();
+            if (!taken.add(request.title())) {
+                rejected.add(Map.entry(row, "Title already exists in this project"));
+                continue;
+            }
+            Task task = TaskServiceImpl.newTask(request, project);
+            if (request.parent_id() != null) {
+                Task parent = parents.get(request.parent_id());
+                if (parent == null || !parent.getProject().getId().equals(project_id)) {
+                    rejected.add(Map.entry(row, "Parent does not exist in the same project"));
+                    continue;
+                }
+                task.setTask_parent(parent);
+            }
+            tasks.add(task);
+        }
+        closureRepository.link(repository.saveAll(tasks).stream().map(Task::getId).toList());
+        return rejected;
+    }
+
+    private RowReader ndjsonRows(BufferedReader reader, UUID project_id) {
+        long[] number = {0};
+        return () -> {
+            String line;
+            do {
+                line = readLine(reader);
+                if (line == null) {
+                    return null;
+                }
+            } while (line.isBlank());
+            number[0]++;
+            try {
+                TaskRequest parsed = jsonMapper.readValue(line, TaskRequest.class);
+                if (parsed == null) {
+                    return new Row(number[0], null, null, "Malformed JSON: expected an object");
+                }
+                return Row.of(number[0], new TaskRequest(parsed.title(), parsed.description(), parsed.story_points(),
+                        parsed.type(), parsed.parent_id(), project_id));
+            } catch (JacksonException e) {
+                return new Row(number[0], null, null, "Malformed JSON: " + e.getOriginalMessage());
+            }
+        };
+    }
+
+    // Same bound as a CSV record, so a file without line breaks cannot pull the whole upload into memory
+    private static String readLine(BufferedReader reader) throws IOException {
+        int c = reader.read();
+        if (c < 0) {
+            return null;
+        }
+        StringBuilder line = new StringBuilder();
+        while (c >= 0 && c != '\n') {
+            if (line.length() == TaskCsv.MAX_RECORD_LENGTH) {
+                throw new BadRequestException("NDJSON line longer than " + TaskCsv.MAX_RECORD_LENGTH + " characters");
+            }
+            if (c != '\r') {
+                line.append((char) c);
+            }
+            c = reader.read();
+        }
+        return line.toString();
+    }
+
+    private RowReader csvRows(BufferedReader reader, UUID project_id) throws IOException {
+        List<String> header = TaskCsv.readRecord(reader);
+        if (header == null || !header.containsAll(List.of("title", "description", "type"))) {
+            throw new BadRequestException("CSV header must name the title, description and type columns");
+        }
+        int title = header.indexOf("title");
+        int description = header.indexOf("description");
+        int storyPoints = header.indexOf("story_points");
+        int type = header.indexOf("type");
+        int parent = header.indexOf("parent_id");
+        long[] number = {0};
+        return () -> {
+            List<String> fields;
+            do {
+                fields = TaskCsv.readRecord(reader);
+                if (fields == null) {
+                    return null;
+                }
+            } while (fields.size() == 1 && fields.get(0).isBlank());
+            number[0]++;
+            String rowTitle = field(fields, title);
+            try {
+                String points = field(fields, storyPoints);
+                String parentId = field(fields, parent);
+                return Row.of(number[0], new TaskRequest(rowTitle, field(fields, description),
+                        points == null || points.isBlank() ? 0 : Integer.parseInt(points.trim()),
+                        field(fields, type),
+                        parentId == null || parentId.isBlank() ? null : UUID.fromString(parentId.trim()),
+                        project_id));
+            } catch (IllegalArgumentException e) {
+                return new Row(number[0], rowTitle, null, "story_points must be a number and parent_id a UUID");
+            }
+        };
+    }
+
+    private static String field(List<String> fields, int index) {
+        return index >= 0 && index < fields.size() ? fields.get(index) : null;
+    }
+
+    // Pulls the next row from the upload, or null at its end
+    @FunctionalInterface
+    private interface RowReader {
+        Row next() throws IOException;
+    }
+
+    private record Row(long number, String title, TaskRequest request, String error) {
+
+        static Row of(long number, TaskRequest request) {
+            return new Row(number, request.title(), request, null);
+        }
+    }
+
+    private static final class Report {
+        private long rows;
+        private long imported;
+        private long rejected;
+        private final List<TaskImportReport.RowError> errors = new ArrayList<>();
+
+        void reject(Row row, String message) {
+            rejected++;
+            if (errors.size() < TaskImportReport.MAX_ERRORS) {
+                errors.add(new TaskImportReport.RowError(row.number(), row.title(), message));
+            }
+        }
+
+        TaskImportReport toReport() {
+            return new TaskImportReport(rows, imported, rejected, errors, rejected > errors.size());
+        }
+    }
+}
@@ -1,23 +1,40 @@
 package com.task.manager.demo.service.task;
 
+import com.task.manager.demo.dto.BulkResult;
+import com.task.manager.demo.dto.CollectionVersion;
+import com.task.manager.demo.dto.CursorPage;
+import com.task.manager.demo.dto.task.TaskBulkUpdateDTO;
 import com.task.manager.demo.dto.task.TaskDTO;
 import com.task.manager.demo.dto.task.TaskRequest;
+import com.task.manager.demo.dto.task.TaskTreeDTO;
 import com.task.manager.demo.dto.task.TaskUpdateDTO;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 public interface TaskService {
     TaskDTO create(TaskRequest request);
+    List<TaskDTO> createAll(List<TaskRequest> requests);
     TaskDTO findById(UUID id);
+    Optional<LocalDateTime> findLastModified(UUID id);
+    TaskTreeDTO getTree(UUID id, Integer depth);
+    List<TaskDTO> getAncestors(UUID id);
+    List<TaskDTO> getDescendants(UUID id);
+    boolean allSubtasksCompleted(UUID id);
     TaskDTO complete(UUID id);
-    List<TaskDTO> getAll();
+    BulkResult completeAll(List<UUID> ids);
+    CursorPage<TaskDTO> getAll(String cursor, Integer size);
     List<TaskDTO> getAllUserTasks(UUID user_id);
+    CollectionVersion getAllUserTasksVersion(UUID user_id);
     void deleteById(UUID id, UUID user_id);
-    TaskDTO update(UUID task_id, TaskUpdateDTO request);
-    List<TaskDTO> searchByTaskByTitle(String title);
+    TaskDTO update(UUID task_id, TaskUpdateDTO request, LocalDateTime expectedUpdatedAt);
+    BulkResult updateAll(List<TaskBulkUpdateDTO> requests);
+    List<TaskDTO> searchByTaskByTitle(String title, Integer limit);
     TaskDTO assignToEpic(UUID task_id, UUID epic_id);
     TaskDTO assignToUser(UUID task_id, UUID user_id);
+    TaskDTO assignToParent(UUID task_id, UUID parent_id);
 }
 
 
@@ -1,22 +1,43 @@
 package com.task.manager.demo.service.task;
 
+import com.task.manager.demo.config.DtoCacheConfig;
+import com.task.manager.demo.dto.BulkResult;
+import com.task.manager.demo.dto.CollectionVersion;
+import com.task.manager.demo.dto.CursorPage;
+import com.task.manager.demo.dto.PageCursor;
+import com.task.manager.demo.dto.task.TaskBulkUpdateDTO;
 import com.task.manager.demo.dto.task.TaskDTO;
 import com.task.manager.demo.dto.task.TaskRequest;
+import com.task.manager.demo.dto.task.TaskTreeDTO;
 import com.task.manager.demo.dto.task.TaskUpdateDTO;
 import com.task.manager.demo.entity.*;
 import com.task.manager.demo.exception.BadRequestException;
+import com.task.manager.demo.exception.PreconditionFailedException;
 import com.task.manager.demo.exception.ResourceNotFoundException;
+import com.task.manager.demo.exception.UniqueConstraints;
 import com.task.manager.demo.mapper.TaskMapper;
 import com.task.manager.demo.repository.EpicRepository;
 import com.task.manager.demo.repository.ProjectRepository;
+import com.task.manager.demo.repository.TaskClosureRepository;
 import com.task.manager.demo.repository.TaskRepository;
 import com.task.manager.demo.repository.UserRepository;
+import com.task.manager.demo.search.SearchEngine;
+import com.task.manager.demo.search.SearchIndexListener;
+import jakarta.transaction.Transactional;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
-import java.util.List;
-import java.util.Optional;
-import java.util.UUID;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Implementation of the {@link TaskService} interface that manages CRUD and
@@ -27,39 +48,61 @@ import java.util.UUID;
  * associated with valid projects, epics, and users, and applies validations
  * on fields such as title, type, and story points.
  * </p>
+ * <p>
+ * Every write that changes a task's epic, completion, story points or deletion
+ * also adjusts the progress counters of the affected epics in the same
+ * transaction, so epic progress never has to be computed by scanning tasks.
+ * </p>
+ * <p>
+ * Likewise, every write that creates a task or changes its parent maintains the
+ * {@code task_closure} table, so ancestor and descendant lookups, cycle checks and
+ * completion of a subtree never walk the hierarchy level by level.
+ * </p>
  */
 @Service
 public class TaskServiceImpl implements TaskService {
 
     private final TaskRepository repository;
+    private final TaskClosureRepository closureRepository;
     private final EpicRepository epicRepository;
     private final ProjectRepository projectRepository;
     private final TaskMapper mapper;
     private final UserRepository userRepository;
+    private final SearchEngine searchEngine;
+    private final SearchIndexListener searchIndexListener;
+    private final CacheManager cacheManager;
 
     /**
      * Constructs a new {@code TaskServiceImpl} with all required dependencies.
      *
      * @param repository        repository for task persistence
+     * @param closureRepository maintains the closure table of the task hierarchy
      * @param epicRepository    repository for epic persistence
      * @param projectRepository repository for project persistence
      * @param mapper            mapper for converting Task entities to DTOs
      * @param userRepository    repository for user persistence
+     * @param searchEngine      engine answering title searches
+     * @param searchIndexListener re-indexes the tasks changed by set-based updates
+     * @param cacheManager      holds the cached {@link TaskDTO}s evicted by batch operations
      */
-    public TaskServiceImpl(TaskRepository repository, EpicRepository epicRepository, ProjectRepository projectRepository, TaskMapper mapper, UserRepository userRepository) {
+    public TaskServiceImpl(TaskRepository repository, TaskClosureRepository closureRepository, EpicRepository epicRepository, ProjectRepository projectRepository, TaskMapper mapper, UserRepository userRepository, SearchEngine searchEngine, SearchIndexListener searchIndexListener, CacheManager cacheManager) {
         this.repository = repository;
+        this.closureRepository = closureRepository;
         this.epicRepository = epicRepository;
         this.projectRepository = projectRepository;
         this.mapper = mapper;
         this.userRepository = userRepository;
+        this.searchEngine = searchEngine;
+        this.searchIndexListener = searchIndexListener;
+        this.cacheManager = cacheManager;
     }
 
     /**
      * Creates a new task based on the provided {@link TaskRequest}.
      * <p>
-     * Validates fields such as title, description, type, and story points,
-     * ensures uniqueness of the task title within the project, and handles
-     * optional parent task assignment.
+     * Validates fields such as title, description, type, and story points and
+     * handles optional parent task assignment. Title uniqueness within the project
+     * is enforced by the {@value UniqueConstraints#TASK_TITLE} index on insert.
      * </p>
      *
      * @param request the task creation request
@@ -69,9 +112,115 @@ public class TaskServiceImpl implements TaskService {
      * @throws ResourceNotFoundException if the project does not exist
      */
     @Override
+    @Transactional
     public TaskDTO create(TaskRequest request) {
         Project project = projectRepository.findById(request.project_id())
                 .orElseThrow(() -> new ResourceNotFoundException("Project not found"));
+        validateRequest(request);
+
+        Task task = newTask(request, project);
+
+        Optional<Task> parent;
+        if( request.parent_id() != null){
+            parent = repository.findById(request.parent_id());
+            if(parent.isEmpty()) {
+                throw new BadRequestException("Parent does not exist in the same project");
+            }else {
+                if(!parent.get().getProject().getId().equals(request.project_id())) {
+                    throw new BadRequestException("Parent does not exist in the same project");
+                }
+                task.setTask_parent(parent.get());
+            }
+        }
+
+        Task saved;
+        try {
+            saved = repository.saveAndFlush(task);
+        } catch (DataIntegrityViolationException e) {
+            throw UniqueConstraints.translate(e, UniqueConstraints.TASK_TITLE, "Title already exists in this project");
+        }
+        closureRepository.link(List.of(saved.getId()));
+        return mapper.toDto(saved);
+    }
+
+    /**
+     * Creates many tasks at once, applying the same rules as {@link #create(TaskRequest)}.
+     * <p>
+     * Instead of four round trips per task, projects and parents are each resolved
+     * with a single {@code IN (...)} query, title uniqueness is checked for the whole
+     * batch with one query, and the tasks are written with JDBC batch inserts.
+     * The batch is all-or-nothing: if any request is invalid, no task is created.
+     * </p>
+     *
+     * @param requests the task creation requests, at most {@link BulkResult#MAX_SIZE}
+     * @return the created tasks, in request order
+     * @throws IllegalArgumentException  if a title, description, type is blank, or story points are negative
+     * @throws BadRequestException       if the batch is empty or too large, a title is repeated or already
+     *                                   exists in its project, or a parent task is invalid
+     * @throws ResourceNotFoundException if a project does not exist
+     */
+    @Override
+    @Transactional
+    public List<TaskDTO> createAll(List<TaskRequest> requests) {
+        BulkResult.checkSize(requests == null ? 0 : requests.size());
+
+        Set<UUID> projectIds = new HashSet<>();
+        Set<UUID> parentIds = new HashSet<>();
+        Set<String> titles = new HashSet<>();
+        Set<String> batchKeys = new HashSet<>();
+        for (TaskRequest request : requests) {
+            validateRequest(request);
+            if (!batchKeys.add(titleKey(request.project_id(), request.title()))) {
+                throw new BadRequestException("Title '" + request.title() + "' is repeated in this batch");
+            }
+            projectIds.add(request.project_id());
+            titles.add(request.title());
+            if (request.parent_id() != null) {
+                parentIds.add(request.parent_id());
+            }
+        }
+
+        Map<UUID, Project> projects = projectRepository.findAllById(projectIds).stream()
+                .collect(Collectors.toMap(Project::getId, Function.identity()));
+        if (projects.size() != projectIds.size()) {
+            throw new ResourceNotFoundException("Project not found");
+        }
+
+        for (Object[] existing : repository.findTitlesInProjects(projectIds, titles)) {
+            if (batchKeys.contains(titleKey((UUID) existing[0], (String) existing[1]))) {
+                throw new BadRequestException("Title '" + existing[1] + "' already exists in this project");
+            }
+        }
+
+        Map<UUID, Task> parents = parentIds.isEmpty() ? Map.of() : repository.findAllById(parentIds).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+
+        List<Task> tasks = new ArrayList<>(requests.size());
+        for (TaskRequest request : requests) {
+            Task task = newTask(request, projects.get(request.project_id()));
+            if (request.parent_id() != null) {
+                Task parent = parents.get(request.parent_id());
+                if (parent == null || !parent.getProject().getId().equals(request.project_id())) {
+                    throw new BadRequestException("Parent does not exist in the same project");
+                }
+                task.setTask_parent(parent);
+            }
+            tasks.add(task);
+        }
+
+        // The titles checked above can still be taken by a concurrent create until the flush
+        List<Task> saved;
+        try {
+            saved = repository.saveAllAndFlush(tasks);
+        } catch (DataIntegrityViolationException e) {
+            throw UniqueConstraints.translate(e, UniqueConstraints.TASK_TITLE, "Title already exists in this project");
+        }
+        closureRepository.link(saved.stream().map(Task::getId).toList());
+        return saved.stream().map(mapper::toDto).toList();
+    }
+
+    // Shared with TaskImportServiceImpl, so imported rows follow the same rules
+    static void validateRequest(TaskRequest request) {
         if (request.title().isBlank()) {
             throw new IllegalArgumentException("Title must not be blank");
         }
@@ -84,36 +233,24 @@ public class TaskServiceImpl implements TaskService {
         if (request.story_points() < 0 ){
             throw new IllegalArgumentException("Story points must not be negative");
         }
+    }
 
-        if(repository.existsByTitleAndProjectId(request.title(), request.project_id())) {
-            throw new BadRequestException("Title already exists in this project");
-        }
-
-        Task task = Task.builder()
+    static Task newTask(TaskRequest request, Project project) {
+        return Task.builder()
                 .title(request.title())
                 .type(Type_Enum.valueOf(request.type()))
                 .description(request.description())
+                .story_points(request.story_points())
                 .user(null)
                 .epic(null)
                 .project(project)
                 .task_parent(null)
                 .completed(false)
                 .build();
+    }
 
-        Optional<Task> parent;
-        if( request.parent_id() != null){
-            parent = repository.findById(request.parent_id());
-            if(parent.isEmpty()) {
-                throw new BadRequestException("Parent does not exist in the same project");
-            }else {
-                if(!parent.get().getProject().getId().equals(request.project_id())) {
-                    throw new BadRequestException("Parent does not exist in the same project");
-                }
-                task.setTask_parent(parent.get());
-            }
-        }
-
-        return mapper.toDto(repository.save(task));
+    private static String titleKey(UUID projectId, String title) {
+        return projectId + "|" + title;
     }
 
     /**
@@ -124,12 +261,101 @@ public class TaskServiceImpl implements TaskService {
      * @throws ResourceNotFoundException if the task does not exist
      */
     @Override
+    @Cacheable(cacheNames = DtoCacheConfig.TASKS, key = "#id")
     public TaskDTO findById(UUID id) {
         Task task = repository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Task not found"));
         return mapper.toDto(task);
     }
 
+    /**
+     * Returns when a task was last modified without loading it.
+     * <p>
+     * A cached {@link TaskDTO} answers directly; otherwise only the
+     * {@code updated_at} column is read.
+     * </p>
+     *
+     * @param id the UUID of the task
+     * @return the last modification time, or empty if the task does not exist
+     */
+    @Override
+    public Optional<LocalDateTime> findLastModified(UUID id) {
+        Cache cache = cacheManager.getCache(DtoCacheConfig.TASKS);
+        TaskDTO cached = cache != null ? cache.get(id, TaskDTO.class) : null;
+        if (cached != null) {
+            return Optional.of(cached.updatedAt());
+        }
+        return repository.findUpdatedAtById(id);
+    }
+
+    /**
+     * Retrieves a task with its subtasks nested below it.
+     * <p>
+     * The whole subtree is read with a single recursive query, so the cost does not
+     * grow with the number of levels; nesting and the per-node totals are computed
+     * in memory from the flat rows.
+     * </p>
+     *
+     * @param id    the UUID of the root task
+     * @param depth how many levels of subtasks to include, capped at {@link TaskTreeDTO#MAX_DEPTH}
+     * @return the {@link TaskTreeDTO} rooted at the task
+     * @throws ResourceNotFoundException if the task does not exist
+     */
+    @Override
+    public TaskTreeDTO getTree(UUID id, Integer depth) {
+        List<TaskTreeDTO.Row> rows = repository.findSubtree(id, TaskTreeDTO.clampDepth(depth));
+        if (rows.isEmpty()) {
+            throw new ResourceNotFoundException("Task not found");
+        }
+        return TaskTreeDTO.of(rows);
+    }
+
+    /**
+     * Retrieves the ancestors of a task with a single closure table lookup.
+     *
+     * @param id the UUID of the task
+     * @return the live ancestors as {@link TaskDTO}, from the root down to the parent
+     * @throws ResourceNotFoundException if the task does not exist
+     */
+    @Override
+    public List<TaskDTO> getAncestors(UUID id) {
+        if (!repository.existsById(id)) {
+            throw new ResourceNotFoundException("Task not found");
+        }
+        return repository.findAncestorDtos(id);
+    }
+
+    /**
+     * Retrieves every subtask of a task, at any depth, with a single closure table lookup.
+     *
+     * @param id the UUID of the task
+     * @return the live descendants as {@link TaskDTO}, level by level
+     * @throws ResourceNotFoundException if the task does not exist
+     */
+    @Override
+    public List<TaskDTO> getDescendants(UUID id) {
+        if (!repository.existsById(id)) {
+            throw new ResourceNotFoundException("Task not found");
+        }
+        return repository.findDescendantDtos(id);
+    }
+
+    /**
+     * Tells whether every subtask of a task, at any depth, is completed. The
+     * closure table lookup stops at the first open subtask.
+     *
+     * @param id the UUID of the task
+     * @return {@code true} if no live subtask is open, including when there are none
+     * @throws ResourceNotFoundException if the task does not exist
+     */
+    @Override
+    public boolean allSubtasksCompleted(UUID id) {
+        if (!repository.existsById(id)) {
+            throw new ResourceNotFoundException("Task not found");
+        }
+        return closureRepository.findOpenDescendantIds(id, Limit.of(1)).isEmpty();
+    }
+
     /**
      * Marks a task as completed and sets the finish timestamp.
      *
@@ -138,26 +364,86 @@ public class TaskServiceImpl implements TaskService {
      * @throws ResourceNotFoundException if the task does not exist
      */
     @Override
+    @Transactional
+    @CacheEvict(cacheNames = DtoCacheConfig.TASKS, key = "#id")
     public TaskDTO complete(UUID id) {
         Task task = repository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Task not found"));
+        Map<UUID, Progress> progress = new HashMap<>();
+        Progress.remove(progress, task);
 
         task.setCompleted(true);
         task.setFinishedAt(LocalDateTime.now());
 
-        return mapper.toDto(repository.save(task));
+        Progress.add(progress, task);
+        adjustProgress(progress);
+        // flushed so that the returned DTO carries the updatedAt set on update
+        return mapper.toDto(repository.saveAndFlush(task));
     }
 
     /**
-     * Retrieves all tasks stored in the system.
+     * Completes many tasks with a single set-based {@code UPDATE}.
+     * <p>
+     * Tasks that are already completed keep their original finish timestamp. The update
+     * bypasses the entity listeners, so the completed tasks are reloaded and re-indexed
+     * for title search after the commit.
+     * </p>
      *
-     * @return a list of {@link TaskDTO} representing all tasks
+     * @param ids the UUIDs of the tasks to complete, at most {@link BulkResult#MAX_SIZE}
+     * @return which tasks were completed, were already completed, or do not exist
+     * @throws BadRequestException if the batch is empty or too large
      */
     @Override
-    public List<TaskDTO> getAll() {
-        return repository.findAll().stream()
-                .map(mapper::toDto)
-                .toList();
+    @Transactional
+    public BulkResult completeAll(List<UUID> ids) {
+        BulkResult.checkSize(ids == null ? 0 : ids.size());
+        List<UUID> found = new ArrayList<>();
+        List<UUID> pending = new ArrayList<>();
+        for (Object[] state : repository.findCompletionStates(ids)) {
+            found.add((UUID) state[0]);
+            if (!(Boolean) state[1]) {
+                pending.add((UUID) state[0]);
+            }
+        }
+        if (!pending.isEmpty()) {
+            List<Object[]> sums = repository.sumProgressByEpic(pending);
+            int completed = repository.completeAll(pending, LocalDateTime.now().truncatedTo(ChronoUnit.MICROS));
+            List<UUID> epicIds = sums.stream().map(sum -> (UUID) sum[0]).toList();
+            if (completed == pending.size()) {
+                for (Object[] sum : sums) {
+                    epicRepository.adjustProgress((UUID) sum[0], 0, ((Number) sum[1]).intValue(), 0, ((Number) sum[2]).intValue());
+                }
+            } else if (!epicIds.isEmpty()) {
+                // a concurrent write completed some of them first, so the sums are off: rebuild those epics instead
+                epicRepository.recomputeProgress(epicIds);
+            }
+            evictCached(pending);
+            repository.findAllById(pending).forEach(searchIndexListener::onSave);
+        }
+        return BulkResult.of(ids, found, pending);
+    }
+
+    /**
+     * Retrieves one page of tasks ordered by creation time, using keyset
+     * pagination so that no page requires scanning the preceding rows.
+     *
+     * @param cursor continuation token from the previous page, or {@code null} for the first page
+     * @param size   requested page size, capped at {@link CursorPage#MAX_SIZE}
+     * @return a {@link CursorPage} of {@link TaskDTO} with the token for the next page
+     * @throws BadRequestException if the cursor is malformed
+     */
+    @Override
+    public CursorPage<TaskDTO> getAll(String cursor, Integer size) {
+        int pageSize = CursorPage.clampSize(size);
+        Limit limit = Limit.of(pageSize + 1);
+        List<TaskDTO> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = repository.findFirstPage(limit);
+        } else {
+            PageCursor position = PageCursor.decode(cursor);
+            rows = repository.findPageAfter(position.createdAt(), position.id(), limit);
+        }
+        return CursorPage.of(rows, pageSize, Function.identity(), row -> new PageCursor(row.createdAt(), row.id()));
     }
 
     /**
@@ -172,8 +458,23 @@ public class TaskServiceImpl implements TaskService {
         if (userRepository.findById(user_id).isEmpty()) {
             throw new ResourceNotFoundException("User not found");
         }
-        List<Task> tasks = repository.findAllByUser_Id(user_id);
-        return tasks.stream().map(mapper::toDto).toList();
+        return repository.findDtosByUserId(user_id);
+    }
+
+    /**
+     * Computes the version of the listing returned by {@link #getAllUserTasks(UUID)}
+     * with a single aggregate query.
+     *
+     * @param user_id the UUID of the user
+     * @return the {@link CollectionVersion} of the user's tasks
+     * @throws ResourceNotFoundException if the user does not exist
+     */
+    @Override
+    public CollectionVersion getAllUserTasksVersion(UUID user_id) {
+        if (!userRepository.existsById(user_id)) {
+            throw new ResourceNotFoundException("User not found");
+        }
+        return repository.findVersionByUserId(user_id);
     }
 
     /**
@@ -184,11 +485,16 @@ public class TaskServiceImpl implements TaskService {
      * @throws ResourceNotFoundException if the task does not exist
      */
     @Override
+    @Transactional
+    @CacheEvict(cacheNames = DtoCacheConfig.TASKS, key = "#id")
     public void deleteById(UUID id, UUID user_id) {
         Optional<Task> task = repository.findById(id);
         if (task.isEmpty()) {
             throw new ResourceNotFoundException("Task not found");
         }
+        Map<UUID, Progress> progress = new HashMap<>();
+        Progress.remove(progress, task.get());
+        adjustProgress(progress);
         task.get().setDeletedBy(user_id);
         repository.save(task.get());
         repository.deleteById(id);
@@ -196,32 +502,160 @@ public class TaskServiceImpl implements TaskService {
 
     /**
      * Updates a task with the provided data.
+     * <p>
+     * When {@code expectedUpdatedAt} is given, the update only applies to the state the
+     * client last read. A write that commits between this read and the save is detected
+     * by the entity version and fails instead of being overwritten.
+     * </p>
      *
-     * @param task_id the UUID of the task to update
-     * @param request the update details encapsulated in {@link TaskUpdateDTO}
+     * @param task_id           the UUID of the task to update
+     * @param request           the update details encapsulated in {@link TaskUpdateDTO}
+     * @param expectedUpdatedAt the {@code updatedAt} the client last saw, or {@code null} to update unconditionally
      * @return an updated {@link TaskDTO} representing the task
-     * @throws ResourceNotFoundException if the task does not exist
+     * @throws ResourceNotFoundException   if the task does not exist
+     * @throws BadRequestException         if the new title is already taken in the project
+     * @throws PreconditionFailedException if the task changed since {@code expectedUpdatedAt}
+     * @throws OptimisticLockingFailureException if another update committed concurrently
      */
     @Override
-    public TaskDTO update(UUID task_id, TaskUpdateDTO request) {
+    @Transactional
+    @CacheEvict(cacheNames = DtoCacheConfig.TASKS, key = "#task_id")
+    public TaskDTO update(UUID task_id, TaskUpdateDTO request, LocalDateTime expectedUpdatedAt) {
         Task task = repository.findById(task_id)
                 .orElseThrow(() -> new ResourceNotFoundException("Task not found"));
+        if (expectedUpdatedAt != null && !expectedUpdatedAt.equals(task.getUpdatedAt())) {
+            // evict right away: a transactional evict would be discarded with the rollback
+            Cache cache = cacheManager.getCache(DtoCacheConfig.TASKS);
+            if (cache != null) {
+                cache.evictIfPresent(task_id);
+            }
+            throw new PreconditionFailedException("Task was modified since it was read");
+        }
+        Map<UUID, Progress> progress = new HashMap<>();
+        Progress.remove(progress, task);
 
         mapper.toEntity(request, task);
-        task.setUpdatedAt(LocalDateTime.now());
-        return mapper.toDto(repository.save(task));
+
+        Progress.add(progress, task);
+        adjustProgress(progress);
+        // flushed so that the returned DTO carries the updatedAt set on update
+        try {
+            return mapper.toDto(repository.saveAndFlush(task));
+        } catch (DataIntegrityViolationException e) {
+            throw UniqueConstraints.translate(e, UniqueConstraints.TASK_TITLE, "Title already exists in this project");
+        }
+    }
+
+    /**
+     * Applies a list of updates in one transaction.
+     * <p>
+     * All tasks are loaded with a single {@code IN (...)} query and the changes are
+     * flushed as JDBC batched updates. Unknown or deleted tasks are reported, not rejected.
+     * </p>
+     *
+     * @param requests the task identifiers with their changes, at most {@link BulkResult#MAX_SIZE}
+     * @return which tasks were updated or do not exist
+     * @throws BadRequestException if the batch is empty, too large, repeats a task,
+     *                             or renames a task to a title already taken in its project
+     */
+    @Override
+    @Transactional
+    public BulkResult updateAll(List<TaskBulkUpdateDTO> requests) {
+        BulkResult.checkSize(requests == null ? 0 : requests.size());
+        List<UUID> ids = new ArrayList<>(requests.size());
+        Set<UUID> seen = new HashSet<>();
+        for (TaskBulkUpdateDTO request : requests) {
+            if (!seen.add(request.id())) {
+                throw new BadRequestException("Task " + request.id() + " is repeated in this batch");
+            }
+            ids.add(request.id());
+        }
+
+        Map<UUID, Task> tasks = repository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+
+        Map<UUID, Progress> progress = new HashMap<>();
+        List<Task> changed = new ArrayList<>(tasks.size());
+        for (TaskBulkUpdateDTO request : requests) {
+            Task task = tasks.get(request.id());
+            if (task != null) {
+                Progress.remove(progress, task);
+                mapper.toEntity(request.changes(), task);
+                Progress.add(progress, task);
+                changed.add(task);
+            }
+        }
+        try {
+            repository.saveAllAndFlush(changed);
+        } catch (DataIntegrityViolationException e) {
+            throw UniqueConstraints.translate(e, UniqueConstraints.TASK_TITLE, "Title already exists in this project");
+        }
+        adjustProgress(progress);
+        evictCached(tasks.keySet());
+
+        return BulkResult.of(ids, tasks.keySet(), tasks.keySet());
+    }
+
+    private void adjustProgress(Map<UUID, Progress> progress) {
+        progress.forEach((epicId, delta) -> {
+            if (!delta.equals(Progress.NONE)) {
+                epicRepository.adjustProgress(epicId, delta.tasks(), delta.completedTasks(), delta.storyPoints(), delta.completedStoryPoints());
+            }
+        });
+    }
+
+    /**
+     * Change to the progress counters of one epic, accumulated while tasks are
+     * modified: a task's contribution is removed before the change and added back after it.
+     */
+    private record Progress(int tasks, int completedTasks, int storyPoints, int completedStoryPoints) {
+
+        static final Progress NONE = new Progress(0, 0, 0, 0);
+
+        static void add(Map<UUID, Progress> progress, Task task) {
+            account(progress, task, 1);
+        }
+
+        static void remove(Map<UUID, Progress> progress, Task task) {
+            account(progress, task, -1);
+        }
+
+        private static void account(Map<UUID, Progress> progress, Task task, int sign) {
+            if (task.getEpic() == null || task.isDeleted()) {
+                return;
+            }
+            int completed = task.isCompleted() ? sign : 0;
+            Progress delta = new Progress(sign, completed, sign * task.getStory_points(), completed * task.getStory_points());
+            progress.merge(task.getEpic().getId(), delta, Progress::plus);
+        }
+
+        private Progress plus(Progress other) {
+            return new Progress(tasks + other.tasks, completedTasks + other.completedTasks,
+                    storyPoints + other.storyPoints, completedStoryPoints + other.completedStoryPoints);
+        }
+    }
+
+    private void evictCached(Collection<UUID> ids) {
+        Cache cache = cacheManager.getCache(DtoCacheConfig.TASKS);
+        if (cache != null) {
+            ids.forEach(cache::evict);
+        }
     }
 
     /**
      * Searches tasks by their title.
+     * <p>
+     * Results are ranked: exact matches first, then titles starting with the
+     * text, then the remaining matches by title length.
+     * </p>
      *
      * @param title the title or partial title to search
+     * @param limit maximum number of results, capped at {@link CursorPage#MAX_SIZE}
      * @return a list of {@link TaskDTO} matching the search criteria
      */
     @Override
-    public List<TaskDTO> searchByTaskByTitle(String title) {
-        List<Task> tasks = repository.searchByTitle(title);
-        return tasks.stream().map(mapper::toDto).toList();
+    public List<TaskDTO> searchByTaskByTitle(String title, Integer limit) {
+        return searchEngine.searchTasks(title, CursorPage.clampSize(limit));
     }
 
     /**
@@ -234,6 +668,8 @@ public class TaskServiceImpl implements TaskService {
      * @throws BadRequestException       if the epic does not belong to the same project
      */
     @Override
+    @Transactional
+    @CacheEvict(cacheNames = DtoCacheConfig.TASKS, key = "#task_id")
     public TaskDTO assignToEpic(UUID task_id, UUID epic_id) {
         Optional<Task> task = repository.findById(task_id);
         Optional<Epic> epic = epicRepository.findById(epic_id);
@@ -246,9 +682,13 @@ public class TaskServiceImpl implements TaskService {
         if (!epic.get().getProject().getId().equals(task.get().getProject().getId())) {
             throw new BadRequestException("Epic does not exist in the same project");
         }
+        Map<UUID, Progress> progress = new HashMap<>();
+        Progress.remove(progress, task.get());
         task.get().setEpic(epic.get());
+        Progress.add(progress, task.get());
+        adjustProgress(progress);
 
-        repository.save(task.get());
+        repository.saveAndFlush(task.get());
 
         return mapper.toDto(task.get());
     }
@@ -262,6 +702,7 @@ public class TaskServiceImpl implements TaskService {
      * @throws ResourceNotFoundException if the task or user does not exist
      */
     @Override
+    @CacheEvict(cacheNames = DtoCacheConfig.TASKS, key = "#task_id")
     public TaskDTO assignToUser(UUID task_id, UUID user_id) {
         Optional<Task> task = repository.findById(task_id);
         Optional<User> user = userRepository.findById(user_id);
@@ -277,6 +718,41 @@ public class TaskServiceImpl implements TaskService {
 
         return mapper.toDto(task.get());
     }
-}
-
 
+    /**
+     * Moves a task, with all its subtasks, below another parent task.
+     * <p>
+     * The closure table tells with one lookup whether the new parent lies in the
+     * moved subtree, which would create a cycle, and is then updated for the whole
+     * subtree with one delete and one insert.
+     * </p>
+     *
+     * @param task_id   the UUID of the task
+     * @param parent_id the UUID of the new parent, or {@code null} to make the task a root
+     * @return an updated {@link TaskDTO} representing the moved task
+     * @throws ResourceNotFoundException if the task or the parent does not exist
+     * @throws BadRequestException       if the parent is in another project, or is the task itself or one of its subtasks
+     */
+    @Override
+    @Transactional
+    @CacheEvict(cacheNames = DtoCacheConfig.TASKS, key = "#task_id")
+    public TaskDTO assignToParent(UUID task_id, UUID parent_id) {
+        Task task = repository.findById(task_id)
+                .orElseThrow(() -> new ResourceNotFoundException("Task not found"));
+        Task parent = null;
+        if (parent_id != null) {
+            parent = repository.findById(parent_id)
+                    .orElseThrow(() -> new ResourceNotFoundException("Parent task not found"));
+            if (!parent.getProject().getId().equals(task.getProject().getId())) {
+                throw new BadRequestException("Parent does not exist in the same project");
+            }
+            if (closureRepository.existsByAncestorIdAndDescendantId(task_id, parent_id)) {
+                throw new BadRequestException("A task cannot be moved below itself or one of its subtasks");
+            }
+        }
+        task.setTask_parent(parent);
+        Task saved = repository.saveAndFlush(task);
+        closureRepository.move(task_id, parent_id);
+        return mapper.toDto(saved);
+    }
+}
@@ -1,5 +1,6 @@
 package com.task.manager.demo.service.user;
 
+import com.task.manager.demo.dto.CursorPage;
 import com.task.manager.demo.dto.user.UserDto;
 import com.task.manager.demo.dto.user.UserUpdateDTO;
 
@@ -8,7 +9,7 @@ import java.util.UUID;
 
 public interface UserService {
     UserDto findById(UUID id);
-    List<UserDto> getAll();
+    CursorPage<UserDto> getAll(String cursor, Integer size);
     void deleteById(UUID id);
     UserDto update(UUID id, UserUpdateDTO request);
 }
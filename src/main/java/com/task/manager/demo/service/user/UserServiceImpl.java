@@ -1,14 +1,25 @@
 package com.task.manager.demo.service.user;
 
+import com.task.manager.demo.config.DtoCacheConfig;
+import com.task.manager.demo.dto.CursorPage;
+import com.task.manager.demo.dto.PageCursor;
 import com.task.manager.demo.dto.user.UserDto;
 import com.task.manager.demo.dto.user.UserUpdateDTO;
 import com.task.manager.demo.entity.User;
+import com.task.manager.demo.exception.BadRequestException;
 import com.task.manager.demo.exception.ResourceNotFoundException;
 import com.task.manager.demo.mapper.UserMapper;
 import com.task.manager.demo.repository.UserRepository;
 import jakarta.transaction.Transactional;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
 import java.util.List;
 import java.util.UUID;
 
@@ -46,6 +57,7 @@ public class UserServiceImpl implements UserService {
      * @throws ResourceNotFoundException if the user does not exist
      */
     @Override
+    @Cacheable(cacheNames = DtoCacheConfig.USERS, key = "#id")
     public UserDto findById(UUID id) {
         User user = repository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
@@ -53,14 +65,26 @@ public class UserServiceImpl implements UserService {
     }
 
     /**
-     * Retrieves all users in the system.
+     * Retrieves one page of users ordered by creation time, using keyset
+     * pagination so that no page requires scanning the preceding rows.
      *
-     * @return a list of {@link UserDto} representing all users
+     * @param cursor continuation token from the previous page, or {@code null} for the first page
+     * @param size   requested page size, capped at {@link CursorPage#MAX_SIZE}
+     * @return a {@link CursorPage} of {@link UserDto} with the token for the next page
+     * @throws BadRequestException if the cursor is malformed
      */
     @Override
-    public List<UserDto> getAll() {
-        List<User> users = repository.findAll();
-        return users.stream().map(mapper::toDto).toList();
+    public CursorPage<UserDto> getAll(String cursor, Integer size) {
+        int pageSize = CursorPage.clampSize(size);
+        Limit limit = Limit.of(pageSize + 1);
+        List<User> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = repository.findFirstPage(limit);
+        } else {
+            PageCursor position = PageCursor.decode(cursor);
+            rows = repository.findPageAfter(Timestamp.valueOf(position.createdAt()), position.id(), limit);
+        }
+        return CursorPage.of(rows, pageSize, mapper::toDto, row -> new PageCursor(toLocalDateTime(row.getCreatedAt()), row.getId()));
     }
 
     /**
@@ -70,6 +94,7 @@ public class UserServiceImpl implements UserService {
      * @throws ResourceNotFoundException if the user does not exist
      */
     @Override
+    @CacheEvict(cacheNames = DtoCacheConfig.USERS, key = "#id")
     public void deleteById(UUID id) {
         if (repository.findById(id).isEmpty()) {
             throw new ResourceNotFoundException("User not found");
@@ -91,6 +116,7 @@ public class UserServiceImpl implements UserService {
      */
     @Override
     @Transactional
+    @CacheEvict(cacheNames = DtoCacheConfig.USERS, key = "#id")
     public UserDto update(UUID id, UserUpdateDTO request) {
         User user = repository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
@@ -98,6 +124,12 @@ public class UserServiceImpl implements UserService {
         mapper.toEntity(request, user);
         return mapper.toDto(repository.save(user));
     }
-}
-
 
+    private static LocalDateTime toLocalDateTime(Date date) {
+        // Hibernate hands back java.sql.Timestamp, which keeps sub-millisecond precision
+        if (date instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime();
+        }
+        return LocalDateTime.ofInstant(date.toInstant(), ZoneId.systemDefault());
+    }
+}
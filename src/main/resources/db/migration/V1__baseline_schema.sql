@@ -0,0 +1,99 @@
+-- Schema of the original release, as Hibernate generated it (ddl-auto=update) from its entities,
+-- constraint names included. Databases created that way are baselined at this version and
+-- start at V2, so this file must not change: later additions go in new versions.
+
+CREATE TABLE roles (
+    id bigint GENERATED BY DEFAULT AS IDENTITY,
+    name varchar(255) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT ukofx66keruapi6vyqpv6f2or37 UNIQUE (name)
+);
+
+CREATE TABLE users (
+    id uuid NOT NULL,
+    created_at timestamp(6),
+    email varchar(255) NOT NULL,
+    name varchar(255) NOT NULL,
+    password varchar(255) NOT NULL,
+    updated_at timestamp(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk6dotkott2kjsp8vw4d0m25fb7 UNIQUE (email)
+);
+
+CREATE TABLE user_roles (
+    user_id uuid NOT NULL,
+    role_id bigint NOT NULL,
+    PRIMARY KEY (user_id, role_id)
+);
+
+CREATE TABLE profiles (
+    profile_id uuid NOT NULL,
+    address varchar(255),
+    country varchar(255),
+    created_at timestamp(6),
+    deleted boolean,
+    deleted_at timestamp(6),
+    deleted_by uuid,
+    phone_number varchar(255),
+    updated_at timestamp(6),
+    user_id uuid,
+    PRIMARY KEY (profile_id),
+    CONSTRAINT uk4ixsj6aqve5pxrbw2u0oyk8bb UNIQUE (user_id)
+);
+
+CREATE TABLE project (
+    id uuid NOT NULL,
+    created_at timestamp(6),
+    deleted boolean,
+    deleted_at timestamp(6),
+    deleted_by uuid,
+    updated_at timestamp(6),
+    project_description varchar(512) NOT NULL,
+    project_title varchar(256) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE epic (
+    id uuid NOT NULL,
+    created_at timestamp(6),
+    deleted boolean,
+    deleted_at timestamp(6),
+    deleted_by uuid,
+    updated_at timestamp(6),
+    completed boolean NOT NULL,
+    epic_description varchar(512) NOT NULL,
+    epic_story_points integer,
+    epic_title varchar(256) NOT NULL,
+    finished_at timestamp(6),
+    project_id uuid NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE task (
+    id uuid NOT NULL,
+    created_at timestamp(6),
+    deleted boolean,
+    deleted_at timestamp(6),
+    deleted_by uuid,
+    updated_at timestamp(6),
+    completed boolean NOT NULL,
+    description varchar(512) NOT NULL,
+    finished_at timestamp(6),
+    story_points integer,
+    title varchar(256) NOT NULL,
+    task_type varchar(255) CHECK (task_type IN ('TASK', 'SUBTASK')),
+    epic_id uuid,
+    project_id uuid NOT NULL,
+    task_parent_id uuid,
+    assignee_id uuid,
+    PRIMARY KEY (id)
+);
+
+ALTER TABLE user_roles ADD CONSTRAINT fkh8ciramu9cc9q3qcqiv4ue8a6 FOREIGN KEY (role_id) REFERENCES roles (id);
+ALTER TABLE user_roles ADD CONSTRAINT fkhfh9dx7w3ubf1co1vdev94g3f FOREIGN KEY (user_id) REFERENCES users (id);
+ALTER TABLE profiles ADD CONSTRAINT fk410q61iev7klncmpqfuo85ivh FOREIGN KEY (user_id) REFERENCES users (id);
+ALTER TABLE epic ADD CONSTRAINT fkj6wn7xcnmotfjj5tkpq2b1qkh FOREIGN KEY (project_id) REFERENCES project (id);
+ALTER TABLE task ADD CONSTRAINT fk3m9erakxbdye12oo6iokua8kv FOREIGN KEY (assignee_id) REFERENCES users (id);
+ALTER TABLE task ADD CONSTRAINT fkck9w8tc1itmo1wvuc8hwawon1 FOREIGN KEY (epic_id) REFERENCES epic (id);
+ALTER TABLE task ADD CONSTRAINT fkk8qrwowg31kx7hp93sru1pdqa FOREIGN KEY (project_id) REFERENCES project (id);
+ALTER TABLE task ADD CONSTRAINT fk3w2waiyqjdjxpaxnabfxuu2ba FOREIGN KEY (task_parent_id) REFERENCES task (id);
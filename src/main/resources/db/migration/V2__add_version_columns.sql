@@ -0,0 +1,4 @@
+-- Optimistic locking: @Version counter of tasks, epics and projects; existing rows start at 0
+ALTER TABLE project ADD COLUMN version bigint DEFAULT 0 NOT NULL;
+ALTER TABLE epic ADD COLUMN version bigint DEFAULT 0 NOT NULL;
+ALTER TABLE task ADD COLUMN version bigint DEFAULT 0 NOT NULL;
@@ -0,0 +1,23 @@
+-- Epic progress counters, kept up to date by the task writes from now on
+ALTER TABLE epic ADD COLUMN total_tasks integer DEFAULT 0 NOT NULL;
+ALTER TABLE epic ADD COLUMN completed_tasks integer DEFAULT 0 NOT NULL;
+ALTER TABLE epic ADD COLUMN total_story_points integer DEFAULT 0 NOT NULL;
+ALTER TABLE epic ADD COLUMN completed_story_points integer DEFAULT 0 NOT NULL;
+
+-- Starting values from the live tasks, as EpicRepository.recomputeProgress counts them
+UPDATE epic e SET
+    total_tasks = s.total_tasks,
+    completed_tasks = s.completed_tasks,
+    total_story_points = s.total_story_points,
+    completed_story_points = s.completed_story_points
+FROM (
+    SELECT epic_id,
+           COUNT(*) AS total_tasks,
+           COUNT(*) FILTER (WHERE completed) AS completed_tasks,
+           COALESCE(SUM(story_points), 0) AS total_story_points,
+           COALESCE(SUM(story_points) FILTER (WHERE completed), 0) AS completed_story_points
+    FROM task
+    WHERE deleted = false AND epic_id IS NOT NULL
+    GROUP BY epic_id
+) s
+WHERE s.epic_id = e.id;
@@ -0,0 +1,22 @@
+-- Closure table of the task hierarchy: every (ancestor, descendant) pair, each task with itself at depth 0
+CREATE TABLE task_closure (
+    ancestor_id uuid NOT NULL,
+    descendant_id uuid NOT NULL,
+    depth integer NOT NULL,
+    CONSTRAINT pk_task_closure PRIMARY KEY (ancestor_id, descendant_id),
+    CONSTRAINT fk_task_closure_ancestor FOREIGN KEY (ancestor_id) REFERENCES task (id) ON DELETE CASCADE,
+    CONSTRAINT fk_task_closure_descendant FOREIGN KEY (descendant_id) REFERENCES task (id) ON DELETE CASCADE
+);
+
+-- Pairs of the existing tasks, deleted ones included, walked down from the parent links
+INSERT INTO task_closure (ancestor_id, descendant_id, depth)
+WITH RECURSIVE pairs (ancestor_id, descendant_id, depth) AS (
+    SELECT id, id, 0 FROM task
+    UNION ALL
+    SELECT p.ancestor_id, t.id, p.depth + 1
+    FROM pairs p
+    JOIN task t ON t.task_parent_id = p.descendant_id
+)
+SELECT ancestor_id, descendant_id, depth FROM pairs;
+
+CREATE INDEX idx_task_closure_descendant ON task_closure (descendant_id, ancestor_id);
@@ -0,0 +1,62 @@
+-- Archive copies of soft-deleted rows: plain identifiers, no foreign keys
+CREATE TABLE project_archive (
+    id uuid NOT NULL,
+    project_title varchar(256) NOT NULL,
+    project_description varchar(512) NOT NULL,
+    created_at timestamp(6),
+    updated_at timestamp(6),
+    deleted_at timestamp(6),
+    deleted boolean NOT NULL,
+    deleted_by uuid,
+    version bigint NOT NULL,
+    archived_at timestamp(6) NOT NULL,
+    CONSTRAINT pk_project_archive PRIMARY KEY (id)
+);
+
+CREATE TABLE epic_archive (
+    id uuid NOT NULL,
+    epic_title varchar(256) NOT NULL,
+    epic_description varchar(512) NOT NULL,
+    epic_story_points integer NOT NULL,
+    completed boolean NOT NULL,
+    finished_at timestamp(6),
+    total_tasks integer,
+    completed_tasks integer,
+    total_story_points integer,
+    completed_story_points integer,
+    project_id uuid NOT NULL,
+    created_at timestamp(6),
+    updated_at timestamp(6),
+    deleted_at timestamp(6),
+    deleted boolean NOT NULL,
+    deleted_by uuid,
+    version bigint NOT NULL,
+    archived_at timestamp(6) NOT NULL,
+    CONSTRAINT pk_epic_archive PRIMARY KEY (id)
+);
+
+CREATE TABLE task_archive (
+    id uuid NOT NULL,
+    title varchar(256) NOT NULL,
+    description varchar(512) NOT NULL,
+    story_points integer NOT NULL,
+    completed boolean NOT NULL,
+    finished_at timestamp(6),
+    task_type varchar(255) CHECK (task_type IN ('TASK', 'SUBTASK')),
+    assignee_id uuid,
+    epic_id uuid,
+    task_parent_id uuid,
+    project_id uuid NOT NULL,
+    created_at timestamp(6),
+    updated_at timestamp(6),
+    deleted_at timestamp(6),
+    deleted boolean NOT NULL,
+    deleted_by uuid,
+    version bigint NOT NULL,
+    archived_at timestamp(6) NOT NULL,
+    CONSTRAINT pk_task_archive PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_project_archive_archived_at ON project_archive (archived_at);
+CREATE INDEX idx_epic_archive_archived_at ON epic_archive (archived_at);
+CREATE INDEX idx_task_archive_archived_at ON task_archive (archived_at);
@@ -0,0 +1,29 @@
+-- Indexes behind the repository queries. IF NOT EXISTS, as the trigram and partial indexes
+-- were created at startup before the schema was migrated.
+
+-- Title search: LOWER(title) LIKE '%text%' served by pg_trgm GIN indexes
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE INDEX IF NOT EXISTS idx_task_title_trgm ON task USING gin (lower(title) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_epic_title_trgm ON epic USING gin (lower(epic_title) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_project_title_trgm ON project USING gin (lower(project_title) gin_trgm_ops);
+
+-- Tasks, epics and projects carry @SQLRestriction("deleted = false"): their lookups get partial
+-- indexes with the same literal predicate, which deleted rows take no space in. A bound
+-- :deleted parameter would not match the predicate.
+-- Foreign key lookups; the project index also covers the created_at, id order of the listings
+CREATE INDEX IF NOT EXISTS idx_task_project_live ON task (project_id, created_at, id) WHERE deleted = false;
+CREATE INDEX IF NOT EXISTS idx_task_epic_live ON task (epic_id) WHERE deleted = false;
+CREATE INDEX IF NOT EXISTS idx_task_assignee_live ON task (assignee_id) WHERE deleted = false;
+CREATE INDEX IF NOT EXISTS idx_task_parent_live ON task (task_parent_id) WHERE deleted = false;
+CREATE INDEX IF NOT EXISTS idx_epic_project_live ON epic (project_id) WHERE deleted = false;
+
+-- Title uniqueness checks: existsByTitleAndProjectId, existsByEpicTitleAndProjectId, existsByProjectTitle
+CREATE INDEX IF NOT EXISTS idx_task_project_title_live ON task (project_id, title) WHERE deleted = false;
+CREATE INDEX IF NOT EXISTS idx_epic_project_title_live ON epic (project_id, epic_title) WHERE deleted = false;
+CREATE INDEX IF NOT EXISTS idx_project_title_live ON project (project_title) WHERE deleted = false;
+
+-- Keyset pagination on (created_at, id)
+CREATE INDEX IF NOT EXISTS idx_task_created_live ON task (created_at, id) WHERE deleted = false;
+CREATE INDEX IF NOT EXISTS idx_epic_created_live ON epic (created_at, id) WHERE deleted = false;
+CREATE INDEX IF NOT EXISTS idx_project_created_live ON project (created_at, id) WHERE deleted = false;
+CREATE INDEX IF NOT EXISTS idx_users_created ON users (created_at, id);
@@ -0,0 +1,25 @@
+-- Title uniqueness enforced by the database instead of exists... checks before each insert.
+-- Only live rows take part, so a soft-deleted title can be reused; the lookup indexes of V6
+-- are replaced by their unique versions. Live duplicates left by concurrent creates must be
+-- renamed before this migration can run.
+DROP INDEX IF EXISTS idx_task_project_title_live;
+DROP INDEX IF EXISTS idx_epic_project_title_live;
+DROP INDEX IF EXISTS idx_project_title_live;
+
+CREATE UNIQUE INDEX uk_task_project_title_live ON task (project_id, title) WHERE deleted = false;
+CREATE UNIQUE INDEX uk_epic_project_title_live ON epic (project_id, epic_title) WHERE deleted = false;
+CREATE UNIQUE INDEX uk_project_title_live ON project (project_title) WHERE deleted = false;
+
+-- The email constraint gets the name UniqueConstraints looks for; Hibernate generated a hashed one
+DO $$
+DECLARE
+    generated text;
+BEGIN
+    SELECT c.conname INTO generated
+    FROM pg_constraint c
+    JOIN pg_attribute a ON a.attrelid = c.conrelid AND a.attnum = ANY (c.conkey)
+    WHERE c.conrelid = 'users'::regclass AND c.contype = 'u' AND cardinality(c.conkey) = 1 AND a.attname = 'email';
+    IF generated IS NOT NULL AND generated <> 'uk_users_email' THEN
+        EXECUTE format('ALTER TABLE users RENAME CONSTRAINT %I TO uk_users_email', generated);
+    END IF;
+END $$;
@@ -0,0 +1,127 @@
+package com.task.manager.demo.config;
+
+import com.task.manager.demo.dto.project.ProjectRequest;
+import com.task.manager.demo.exception.ResourceNotFoundException;
+import com.task.manager.demo.service.project.ProjectService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.jdbc.JdbcTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+    "spring.config.import=",
+    "spring.datasource.url=jdbc:h2:mem:testdb",
+    "spring.datasource.driver-class-name=org.h2.Driver"
+})
+@DisplayName("Hot-path metrics - Integration Tests")
+class MethodMetricsTest {
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders
+                .webAppContextSetup(webApplicationContext)
+                .apply(springSecurity())
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        JdbcTestUtils.deleteFromTables(jdbcTemplate, "project");
+    }
+
+    @Test
+    @DisplayName("Should time service, mapper and repository calls")
+    void shouldTimeServiceMapperAndRepositoryCalls() {
+        long before = serviceCalls("create", "none");
+
+        projectService.create(new ProjectRequest("Metrics Project", "Project used by the metrics test"));
+
+        assertEquals(1, serviceCalls("create", "none") - before);
+        assertTrue(meterRegistry.get(MethodMetricsAspect.MAPPER_TIMER)
+                .tag("class", "ProjectMapperImpl").tag("method", "toDto").timer().count() > 0);
+        assertTrue(meterRegistry.get("spring.data.repository.invocations")
+                .tag("repository", "ProjectRepository").tag("method", "saveAndFlush").timer().count() > 0);
+    }
+
+    @Test
+    @DisplayName("Should tag failed service calls with their exception")
+    void shouldTagFailedServiceCalls() {
+        long before = serviceCalls("findById", "ResourceNotFoundException");
+
+        assertThrows(ResourceNotFoundException.class, () -> projectService.findById(UUID.randomUUID()));
+
+        assertEquals(1, serviceCalls("findById", "ResourceNotFoundException") - before);
+    }
+
+    @Test
+    @DisplayName("Should expose histograms and pool meters on the scrape endpoint to admins")
+    @WithMockUser(roles = "ADMIN")
+    void shouldExposePrometheusEndpoint() throws Exception {
+        projectService.create(new ProjectRequest("Scraped Project", "Project used by the metrics test"));
+
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("service_method_duration_seconds_bucket{class=\"ProjectServiceImpl\"")))
+                .andExpect(content().string(containsString("spring_data_repository_invocations_seconds_bucket")))
+                .andExpect(content().string(containsString("jwt_authentication_failures_total")))
+                .andExpect(content().string(containsString("cache_gets_total{cache=\"jwt.verified\"")))
+                .andExpect(content().string(containsString("hikaricp_connections_active")));
+    }
+
+    @Test
+    @DisplayName("Should not expose the scrape endpoint without authentication")
+    void shouldNotExposePrometheusEndpointWithoutAuthentication() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("Should not expose the scrape endpoint to the USER role")
+    @WithMockUser(roles = "USER")
+    void shouldNotExposePrometheusEndpointToUsers() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isForbidden());
+    }
+
+    private long serviceCalls(String method, String exception) {
+        var timer = meterRegistry.find(MethodMetricsAspect.SERVICE_TIMER)
+                .tag("class", "ProjectServiceImpl").tag("method", method).tag("exception", exception).timer();
+        return timer == null ? 0 : timer.count();
+    }
+}
@@ -0,0 +1,141 @@
+package com.task.manager.demo.controller.archive;
+
+import com.task.manager.demo.dto.epic.EpicDTO;
+import com.task.manager.demo.dto.project.ProjectDTO;
+import com.task.manager.demo.dto.task.TaskDTO;
+import com.task.manager.demo.entity.Type_Enum;
+import com.task.manager.demo.exception.BadRequestException;
+import com.task.manager.demo.exception.GlobalExceptionHandler;
+import com.task.manager.demo.exception.ResourceNotFoundException;
+import com.task.manager.demo.service.archive.ArchiveService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.UUID;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+    "spring.config.import=",
+    "spring.datasource.url=jdbc:h2:mem:testdb",
+    "spring.datasource.driver-class-name=org.h2.Driver"
+})
+@Import({GlobalExceptionHandler.class})
+@DisplayName("ArchiveController - Integration Tests")
+class ArchiveControllerTest {
+
+    @MockitoBean
+    private ArchiveService service;
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders
+                .webAppContextSetup(webApplicationContext)
+                .apply(springSecurity())
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should return forbidden when restoring without authentication")
+    void shouldReturnForbiddenWhenRestoringWithoutAuthentication() throws Exception {
+        mockMvc.perform(post("/api/archive/task/{id}/restore", UUID.randomUUID())
+                        .with(csrf()))
+                .andExpect(status().isForbidden());
+
+        verifyNoInteractions(service);
+    }
+
+    @Test
+    @DisplayName("Should restore a task")
+    @WithMockUser(roles = "USER")
+    void shouldRestoreTask() throws Exception {
+        UUID taskId = UUID.randomUUID();
+        TaskDTO task = new TaskDTO(taskId, "Restored", "Restored task", false, null, null, null, 3, Type_Enum.TASK, null, null, null, UUID.randomUUID());
+
+        when(service.restoreTask(taskId)).thenReturn(task);
+
+        mockMvc.perform(post("/api/archive/task/{id}/restore", taskId)
+                        .with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(taskId.toString()))
+                .andExpect(jsonPath("$.title").value("Restored"));
+    }
+
+    @Test
+    @DisplayName("Should restore an epic")
+    @WithMockUser(roles = "USER")
+    void shouldRestoreEpic() throws Exception {
+        UUID epicId = UUID.randomUUID();
+        EpicDTO epic = new EpicDTO(epicId, "Restored Epic", "Restored epic", false, null, null, null, null, null, 5, UUID.randomUUID());
+
+        when(service.restoreEpic(epicId)).thenReturn(epic);
+
+        mockMvc.perform(post("/api/archive/epic/{id}/restore", epicId)
+                        .with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("Restored Epic"));
+    }
+
+    @Test
+    @DisplayName("Should restore a project")
+    @WithMockUser(roles = "ADMIN")
+    void shouldRestoreProject() throws Exception {
+        UUID projectId = UUID.randomUUID();
+        ProjectDTO project = new ProjectDTO(projectId, "Restored Project", "Restored project", null, null, null, null);
+
+        when(service.restoreProject(projectId)).thenReturn(project);
+
+        mockMvc.perform(post("/api/archive/project/{id}/restore", projectId)
+                        .with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("Restored Project"));
+    }
+
+    @Test
+    @DisplayName("Should return not found when the task was never deleted")
+    @WithMockUser(roles = "USER")
+    void shouldReturnNotFoundWhenTaskWasNeverDeleted() throws Exception {
+        UUID taskId = UUID.randomUUID();
+
+        when(service.restoreTask(taskId)).thenThrow(new ResourceNotFoundException("Deleted task not found"));
+
+        mockMvc.perform(post("/api/archive/task/{id}/restore", taskId)
+                        .with(csrf()))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("Should return bad request when the project of the epic is deleted")
+    @WithMockUser(roles = "USER")
+    void shouldReturnBadRequestWhenProjectOfEpicIsDeleted() throws Exception {
+        UUID epicId = UUID.randomUUID();
+
+        when(service.restoreEpic(epicId)).thenThrow(new BadRequestException("The project of this epic is deleted, restore it first"));
+
+        mockMvc.perform(post("/api/archive/epic/{id}/restore", epicId)
+                        .with(csrf()))
+                .andExpect(status().isBadRequest());
+    }
+}
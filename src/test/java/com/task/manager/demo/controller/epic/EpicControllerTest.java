@@ -1,7 +1,11 @@
 package com.task.manager.demo.controller.epic;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.task.manager.demo.dto.BulkResult;
+import com.task.manager.demo.dto.CollectionVersion;
+import com.task.manager.demo.dto.CursorPage;
 import com.task.manager.demo.dto.epic.EpicDTO;
+import com.task.manager.demo.dto.epic.EpicProgressDTO;
 import com.task.manager.demo.dto.epic.EpicRequest;
 import com.task.manager.demo.dto.epic.EpicUpdateDTO;
 import com.task.manager.demo.dto.task.TaskDTO;
@@ -23,6 +27,8 @@ import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.context.WebApplicationContext;
 
+import java.time.LocalDateTime;
+import java.util.Optional;
 import java.util.UUID;
 
 import static org.hamcrest.Matchers.hasSize;
@@ -230,6 +236,33 @@ public class EpicControllerTest {
                 .andExpect(MockMvcResultMatchers.jsonPath("$[0].epic_id").value(epicId.toString()));
     }
 
+    @Test
+    @DisplayName("Should get the progress counters of an epic")
+    @WithMockUser(roles = "USER")
+    void shouldGetEpicProgress() throws Exception {
+        UUID epicId = UUID.randomUUID();
+        when(service.getProgress(epicId)).thenReturn(new EpicProgressDTO(epicId, 4, 1, 13, 5));
+
+        mockMvc.perform(get("/api/epic/{id}/progress", epicId))
+                .andExpect(status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.totalTasks").value(4))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.completedTasks").value(1))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.totalStoryPoints").value(13))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.completedStoryPoints").value(5));
+        verify(service, never()).getAllTasksInEpic(any());
+    }
+
+    @Test
+    @DisplayName("Should return not found for the progress of a missing epic")
+    @WithMockUser(roles = "USER")
+    void shouldReturnNotFoundForMissingEpicProgress() throws Exception {
+        UUID epicId = UUID.randomUUID();
+        when(service.getProgress(epicId)).thenThrow(new ResourceNotFoundException("Epic not found"));
+
+        mockMvc.perform(get("/api/epic/{id}/progress", epicId))
+                .andExpect(status().isNotFound());
+    }
+
     @Test
     @DisplayName("Should return forbidden when searching epics without authentication")
     void shouldReturnForbiddenWhenSearchingEpicsWithoutAuthentication() throws Exception {
@@ -248,7 +281,7 @@ public class EpicControllerTest {
                 null, null, 0, null
         );
 
-        when(service.searchEpicByTitle(searchTitle)).thenReturn(List.of(epic));
+        when(service.searchEpicByTitle(searchTitle, null)).thenReturn(List.of(epic));
 
         mockMvc.perform(get("/api/epic").param("title", searchTitle))
                 .andExpect(status().isOk())
@@ -274,13 +307,13 @@ public class EpicControllerTest {
                 null, null, 0, null
         );
 
-        when(service.getAll()).thenReturn(List.of(epic));
+        when(service.getAll(null, null)).thenReturn(new CursorPage<>(List.of(epic), null));
 
         mockMvc.perform(get("/api/epic/"))
                 .andExpect(status().isOk())
-                .andExpect(MockMvcResultMatchers.jsonPath("$", hasSize(1)))
-                .andExpect(MockMvcResultMatchers.jsonPath("$[0].title").value("Test Epic"))
-                .andExpect(MockMvcResultMatchers.jsonPath("$[0].description").value("Test Epic description"));
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items", hasSize(1)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items[0].title").value("Test Epic"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items[0].description").value("Test Epic description"));
     }
 
     @Test
@@ -335,7 +368,7 @@ public class EpicControllerTest {
                 null, null, 8, null
         );
 
-        when(service.update(epicId, updateRequest)).thenReturn(updatedEpic);
+        when(service.update(epicId, updateRequest, null)).thenReturn(updatedEpic);
 
         mockMvc.perform(patch("/api/epic/{id}", epicId)
                         .with(csrf())
@@ -383,4 +416,65 @@ public class EpicControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(MockMvcResultMatchers.jsonPath("$.message").value("Epic successfully deleted"));
     }
+
+    @Test
+    @DisplayName("Should complete epics in bulk")
+    @WithMockUser(roles = "USER")
+    void shouldCompleteEpicsInBulk() throws Exception {
+        UUID completed = UUID.randomUUID();
+        UUID alreadyCompleted = UUID.randomUUID();
+        List<UUID> ids = List.of(completed, alreadyCompleted);
+
+        when(service.completeAll(ids)).thenReturn(new BulkResult(List.of(completed), List.of(alreadyCompleted), List.of()));
+
+        mockMvc.perform(post("/api/epic/complete")
+                        .with(csrf())
+                        .contentType("application/json")
+                        .content(objectMapper.writeValueAsString(ids)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updated[0]").value(completed.toString()))
+                .andExpect(jsonPath("$.unchanged[0]").value(alreadyCompleted.toString()));
+    }
+
+    @Test
+    @DisplayName("Should answer an unchanged epic without loading it")
+    @WithMockUser(roles = "USER")
+    void shouldReturnNotModifiedForUnchangedEpic() throws Exception {
+        UUID epicId = UUID.randomUUID();
+        LocalDateTime updatedAt = LocalDateTime.of(2026, 1, 1, 10, 0);
+        EpicDTO epic = new EpicDTO(
+                epicId, "Test Epic", "Test Epic description",
+                false, updatedAt, updatedAt, null,
+                null, null, 5, null
+        );
+        when(service.findById(epicId)).thenReturn(epic);
+        when(service.findLastModified(epicId)).thenReturn(Optional.of(updatedAt));
+
+        String eTag = mockMvc.perform(get("/api/epic/{id}", epicId))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+        clearInvocations(service);
+
+        mockMvc.perform(get("/api/epic/{id}", epicId).header("If-None-Match", eTag))
+                .andExpect(status().isNotModified());
+        verify(service, never()).findById(epicId);
+    }
+
+    @Test
+    @DisplayName("Should answer unchanged epic tasks from their collection version")
+    @WithMockUser(roles = "USER")
+    void shouldReturnNotModifiedForUnchangedEpicTasks() throws Exception {
+        UUID epicId = UUID.randomUUID();
+        when(service.getAllTasksInEpic(epicId)).thenReturn(List.of());
+        when(service.getAllTasksInEpicVersion(epicId)).thenReturn(new CollectionVersion(0, null));
+
+        String eTag = mockMvc.perform(get("/api/epic/{id}/tasks", epicId))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+        clearInvocations(service);
+
+        mockMvc.perform(get("/api/epic/{id}/tasks", epicId).header("If-None-Match", eTag))
+                .andExpect(status().isNotModified());
+        verify(service, never()).getAllTasksInEpic(epicId);
+    }
 }
@@ -1,15 +1,21 @@
 package com.task.manager.demo.controller.project;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.task.manager.demo.dto.CollectionVersion;
+import com.task.manager.demo.dto.CursorPage;
 import com.task.manager.demo.dto.epic.EpicDTO;
 import com.task.manager.demo.dto.project.ProjectDTO;
+import com.task.manager.demo.dto.project.ProjectSummaryDTO;
 import com.task.manager.demo.dto.project.ProjectRequest;
 import com.task.manager.demo.dto.project.ProjectUpdateDTO;
 import com.task.manager.demo.dto.task.TaskDTO;
+import com.task.manager.demo.dto.task.TaskFileFormat;
+import com.task.manager.demo.dto.task.TaskImportReport;
 import com.task.manager.demo.entity.Type_Enum;
 import com.task.manager.demo.exception.GlobalExceptionHandler;
 import com.task.manager.demo.exception.ResourceNotFoundException;
 import com.task.manager.demo.service.project.ProjectService;
+import com.task.manager.demo.service.task.TaskImportService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -19,14 +25,22 @@ import org.springframework.context.annotation.Import;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.context.WebApplicationContext;
 
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Map;
+import java.time.LocalDateTime;
+import java.util.Optional;
 import java.util.UUID;
 
 import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
@@ -36,6 +50,10 @@ import static org.springframework.security.test.web.servlet.setup.SecurityMockMv
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import org.springframework.test.context.ActiveProfiles;
@@ -55,6 +73,9 @@ public class ProjectControllerTest {
     @MockitoBean
     private ProjectService service;
 
+    @MockitoBean
+    private TaskImportService importService;
+
     private ObjectMapper objectMapper;
 
     @Autowired
@@ -127,13 +148,13 @@ public class ProjectControllerTest {
                 null,null,null,null
         );
 
-        when(service.getAll()).thenReturn(List.of(project));
+        when(service.getAll(null, null)).thenReturn(new CursorPage<>(List.of(project), null));
 
         mockMvc.perform(get("/api/project/"))
                 .andExpect(status().isOk())
-                .andExpect(MockMvcResultMatchers.jsonPath("$.length()").value(1))
-                .andExpect(MockMvcResultMatchers.jsonPath("$.[0].title").value("Test Project"))
-                .andExpect(MockMvcResultMatchers.jsonPath("$.[0].description").value("Test Project description"));
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items.length()").value(1))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items[0].title").value("Test Project"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items[0].description").value("Test Project description"));
     }
 
     @Test
@@ -180,13 +201,13 @@ public class ProjectControllerTest {
                         null, null,null,null
                 )
         );
-        when(service.getAll()).thenReturn(projects);
+        when(service.getAll(null, null)).thenReturn(new CursorPage<>(projects, null));
 
         mockMvc.perform(get("/api/project/"))
                 .andExpect(status().isOk())
-                .andExpect(MockMvcResultMatchers.jsonPath("$", hasSize(1)))
-                .andExpect(MockMvcResultMatchers.jsonPath("$[0].title").value("Test Project"))
-                .andExpect(MockMvcResultMatchers.jsonPath("$[0].description").value("Test Project description"));
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items", hasSize(1)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items[0].title").value("Test Project"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items[0].description").value("Test Project description"));
     }
 
 
@@ -205,7 +226,7 @@ public class ProjectControllerTest {
                 )
         );
 
-        when(service.searchProjectByTitle(searchTitle)).thenReturn(projects);
+        when(service.searchProjectByTitle(searchTitle, null)).thenReturn(projects);
 
         mockMvc.perform(get("/api/project")
                         .param("title", searchTitle))
@@ -221,7 +242,7 @@ public class ProjectControllerTest {
     void shouldReturnEmptyListWhenNoProjectsMatchTitle() throws Exception {
         String searchTitle = "UnknownTitle";
 
-        when(service.searchProjectByTitle(searchTitle)).thenReturn(List.of());
+        when(service.searchProjectByTitle(searchTitle, null)).thenReturn(List.of());
 
         mockMvc.perform(get("/api/project")
                         .param("title", searchTitle))
@@ -280,6 +301,105 @@ public class ProjectControllerTest {
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    @DisplayName("Should stream the tasks of a project as CSV")
+    @WithMockUser(roles = "USER")
+    void shouldExportTasksAsCsv() throws Exception {
+        UUID projectId = UUID.randomUUID();
+        doAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(2);
+            out.write("id,title\n1,Exported\n".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(service).exportTasks(eq(projectId), eq(TaskFileFormat.CSV), any(OutputStream.class));
+
+        MvcResult result = mockMvc.perform(get("/api/project/{id}/tasks/export", projectId).param("format", "csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "text/csv"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"project-" + projectId + "-tasks.csv\""))
+                .andExpect(content().string("id,title\n1,Exported\n"));
+        verify(service).findById(projectId);
+        verify(service, never()).getAllTasksInProject(any());
+    }
+
+    @Test
+    @DisplayName("Should reject an unsupported export format")
+    @WithMockUser(roles = "USER")
+    void shouldRejectUnsupportedExportFormat() throws Exception {
+        mockMvc.perform(get("/api/project/{id}/tasks/export", UUID.randomUUID()).param("format", "xml"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Should return 404 before streaming the export of a missing project")
+    @WithMockUser(roles = "USER")
+    void shouldReturn404ForMissingProjectExport() throws Exception {
+        UUID projectId = UUID.randomUUID();
+        when(service.findById(projectId)).thenThrow(new ResourceNotFoundException("Project not found"));
+
+        mockMvc.perform(get("/api/project/{id}/tasks/export", projectId))
+                .andExpect(status().isNotFound());
+        verify(service, never()).exportTasks(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should import the uploaded CSV into a project")
+    @WithMockUser(roles = "USER")
+    void shouldImportTasks() throws Exception {
+        UUID projectId = UUID.randomUUID();
+        String upload = "title,description,story_points,type\nImported,From CSV,2,TASK\n";
+        when(importService.importTasks(eq(projectId), eq(TaskFileFormat.CSV), any(InputStream.class))).thenAnswer(invocation -> {
+            InputStream body = invocation.getArgument(2);
+            assertEquals(upload, new String(body.readAllBytes(), StandardCharsets.UTF_8));
+            return new TaskImportReport(1, 1, 0, List.of(), false);
+        });
+
+        mockMvc.perform(post("/api/project/{id}/tasks/import", projectId)
+                        .with(csrf())
+                        .param("format", "csv")
+                        .contentType("text/csv")
+                        .content(upload))
+                .andExpect(status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.rows").value(1))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.imported").value(1));
+    }
+
+    @Test
+    @DisplayName("Should return the dashboard summary of a project")
+    @WithMockUser(roles = "USER")
+    void shouldReturnProjectSummary() throws Exception {
+        UUID projectId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        ProjectSummaryDTO summary = new ProjectSummaryDTO(projectId, 3, 1, 8, 5,
+                Map.of(Type_Enum.TASK, 2L, Type_Enum.SUBTASK, 1L),
+                List.of(new ProjectSummaryDTO.AssigneeWorkload(userId, "Ana", 3, 2, 8, 3)),
+                List.of(new ProjectSummaryDTO.EpicProgress(null, null, 3, 1, 8, 5)));
+
+        when(service.getSummary(projectId)).thenReturn(summary);
+
+        mockMvc.perform(get("/api/project/{id}/summary", projectId))
+                .andExpect(status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.totalTasks").value(3))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.tasksByType.SUBTASK").value(1))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.assignees[0].user_id").value(userId.toString()))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.epics[0].completedStoryPoints").value(5));
+        verify(service, never()).getAllTasksInProject(any());
+    }
+
+    @Test
+    @DisplayName("Should return 404 for the summary of a missing project")
+    @WithMockUser(roles = "USER")
+    void shouldReturn404ForMissingProjectSummary() throws Exception {
+        UUID projectId = UUID.randomUUID();
+        when(service.getSummary(projectId)).thenThrow(new ResourceNotFoundException("Project not found"));
+
+        mockMvc.perform(get("/api/project/{id}/summary", projectId))
+                .andExpect(status().isNotFound());
+    }
+
     @Test
     @DisplayName("Should return all epics for a project")
     @WithMockUser(roles = "USER")
@@ -330,7 +450,7 @@ public class ProjectControllerTest {
                 null, null, null, null
         );
 
-        when(service.update(projectId, updateRequest)).thenReturn(updatedProject);
+        when(service.update(projectId, updateRequest, null)).thenReturn(updatedProject);
 
         mockMvc.perform(patch("/api/project/{id}", projectId)
                         .contentType("application/json")
@@ -359,7 +479,7 @@ public class ProjectControllerTest {
                 null, null, null, null
         );
 
-        when(service.update(projectId, updateRequest))
+        when(service.update(projectId, updateRequest, null))
                 .thenThrow(new ResourceNotFoundException("Project not found"));
 
         mockMvc.perform(patch("/api/project/{id}", projectId)
@@ -400,5 +520,50 @@ public class ProjectControllerTest {
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    @DisplayName("Should answer an unchanged project without loading it")
+    @WithMockUser(roles = "USER")
+    void shouldReturnNotModifiedForUnchangedProject() throws Exception {
+        UUID id = UUID.randomUUID();
+        LocalDateTime updatedAt = LocalDateTime.of(2026, 1, 1, 10, 0);
+        ProjectDTO project = new ProjectDTO(
+                id,
+                "Test Project",
+                "Test Project description",
+                updatedAt, updatedAt, null, null
+        );
+        when(service.findById(id)).thenReturn(project);
+        when(service.findLastModified(id)).thenReturn(Optional.of(updatedAt));
+
+        String eTag = mockMvc.perform(get("/api/project/{id}", id))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+        clearInvocations(service);
+
+        mockMvc.perform(get("/api/project/{id}", id).header("If-None-Match", eTag))
+                .andExpect(status().isNotModified());
+        verify(service, never()).findById(id);
+    }
+
+    @Test
+    @DisplayName("Should change the ETag of project epics when one is modified")
+    @WithMockUser(roles = "USER")
+    void shouldChangeETagWhenProjectEpicChanges() throws Exception {
+        UUID id = UUID.randomUUID();
+        LocalDateTime updatedAt = LocalDateTime.of(2026, 1, 1, 10, 0);
+        when(service.getAllEpicsInProjectVersion(id)).thenReturn(new CollectionVersion(1, updatedAt.plusSeconds(1)));
+        when(service.getAllEpicsInProject(id)).thenReturn(List.of(new EpicDTO(
+                UUID.randomUUID(), "Test Epic", "Test Epic description",
+                false, updatedAt, updatedAt, null,
+                null, null, 5, id
+        )));
+
+        String eTag = mockMvc.perform(get("/api/project/{id}/epics", id))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
 
+        mockMvc.perform(get("/api/project/{id}/epics", id).header("If-None-Match", eTag))
+                .andExpect(status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.length()").value(1));
+    }
 }
@@ -1,10 +1,17 @@
 package com.task.manager.demo.controller.task;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.task.manager.demo.dto.BulkResult;
+import com.task.manager.demo.dto.CollectionVersion;
+import com.task.manager.demo.dto.CursorPage;
+import com.task.manager.demo.dto.task.TaskBulkUpdateDTO;
 import com.task.manager.demo.dto.task.TaskDTO;
 import com.task.manager.demo.dto.task.TaskRequest;
+import com.task.manager.demo.dto.task.TaskTreeDTO;
 import com.task.manager.demo.dto.task.TaskUpdateDTO;
+import com.task.manager.demo.entity.Task;
 import com.task.manager.demo.entity.Type_Enum;
+import com.task.manager.demo.exception.BadRequestException;
 import com.task.manager.demo.exception.GlobalExceptionHandler;
 import com.task.manager.demo.exception.ResourceNotFoundException;
 import com.task.manager.demo.service.task.TaskService;
@@ -17,6 +24,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
@@ -24,9 +32,12 @@ import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.context.WebApplicationContext;
 
+import java.time.LocalDateTime;
+import java.util.Optional;
 import java.util.UUID;
 
 import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.mockito.Mockito.*;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
@@ -127,22 +138,24 @@ public class TaskControllerTest {
                 null, null, null
         );
 
-        when(service.getAll()).thenReturn(List.of(task));
+        when(service.getAll(null, null)).thenReturn(new CursorPage<>(List.of(task), null));
 
         mockMvc.perform(get("/api/task/"))
                 .andExpect(status().isOk())
-                .andExpect(MockMvcResultMatchers.jsonPath("$", hasSize(1)))
-                .andExpect(MockMvcResultMatchers.jsonPath("$[0].title").value("Test Task"))
-                .andExpect(MockMvcResultMatchers.jsonPath("$[0].description").value("Test Task description"));
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items", hasSize(1)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items[0].title").value("Test Task"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items[0].description").value("Test Task description"));
     }
 
     @Test
     @DisplayName("Should get all tasks with ADMIN role")
     @WithMockUser(roles = "ADMIN")
     void shouldGetAllTasksWithAdminRole() throws Exception {
+        when(service.getAll(null, null)).thenReturn(new CursorPage<>(List.of(), null));
+
         mockMvc.perform(get("/api/task/"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$").isArray());
+                .andExpect(jsonPath("$.items").isArray());
     }
 
     @Test
@@ -161,6 +174,121 @@ public class TaskControllerTest {
                 .andExpect(jsonPath("$").isArray());
     }
 
+    @Test
+    @DisplayName("Should return the subtree of a task with rolled-up totals")
+    @WithMockUser(roles = "USER")
+    void shouldGetTaskTree() throws Exception {
+        UUID rootId = UUID.randomUUID();
+        UUID childId = UUID.randomUUID();
+        TaskTreeDTO child = new TaskTreeDTO(childId, "Child", Type_Enum.SUBTASK, true, 3, 1, 1, 1, 3, 3, List.of());
+        TaskTreeDTO root = new TaskTreeDTO(rootId, "Root", Type_Enum.TASK, false, 5, 0, 2, 1, 8, 3, List.of(child));
+        when(service.getTree(rootId, 1)).thenReturn(root);
+
+        mockMvc.perform(get("/api/task/{id}/tree", rootId).param("depth", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(rootId.toString()))
+                .andExpect(jsonPath("$.totalStoryPoints").value(8))
+                .andExpect(jsonPath("$.completedTasks").value(1))
+                .andExpect(jsonPath("$.subtasks", hasSize(1)))
+                .andExpect(jsonPath("$.subtasks[0].id").value(childId.toString()))
+                .andExpect(jsonPath("$.subtasks[0].completed").value(true));
+    }
+
+    @Test
+    @DisplayName("Should return not found for the tree of a nonexisting task")
+    @WithMockUser(roles = "USER")
+    void shouldReturnNotFoundForMissingTaskTree() throws Exception {
+        UUID taskId = UUID.randomUUID();
+        when(service.getTree(taskId, null)).thenThrow(new ResourceNotFoundException("Task not found"));
+
+        mockMvc.perform(get("/api/task/{id}/tree", taskId))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message").value("Task not found"));
+    }
+
+    @Test
+    @DisplayName("Should list the ancestors of a task from the root down")
+    @WithMockUser(roles = "USER")
+    void shouldGetTaskAncestors() throws Exception {
+        UUID taskId = UUID.randomUUID();
+        TaskDTO root = new TaskDTO(UUID.randomUUID(), "Root", "Root task", false, null, null, null, 0, Type_Enum.TASK, null, null, null, null);
+        TaskDTO parent = new TaskDTO(UUID.randomUUID(), "Parent", "Parent task", false, null, null, null, 0, Type_Enum.SUBTASK, null, root.id(), null, null);
+        when(service.getAncestors(taskId)).thenReturn(List.of(root, parent));
+
+        mockMvc.perform(get("/api/task/{id}/ancestors", taskId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].title").value("Root"))
+                .andExpect(jsonPath("$[1].parent_id").value(root.id().toString()));
+    }
+
+    @Test
+    @DisplayName("Should list every subtask of a task")
+    @WithMockUser(roles = "USER")
+    void shouldGetTaskDescendants() throws Exception {
+        UUID taskId = UUID.randomUUID();
+        TaskDTO child = new TaskDTO(UUID.randomUUID(), "Child", "Child task", false, null, null, null, 0, Type_Enum.SUBTASK, null, taskId, null, null);
+        when(service.getDescendants(taskId)).thenReturn(List.of(child));
+
+        mockMvc.perform(get("/api/task/{id}/descendants", taskId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].title").value("Child"));
+    }
+
+    @Test
+    @DisplayName("Should tell whether all subtasks of a task are completed")
+    @WithMockUser(roles = "USER")
+    void shouldTellWhetherAllSubtasksAreCompleted() throws Exception {
+        UUID taskId = UUID.randomUUID();
+        when(service.allSubtasksCompleted(taskId)).thenReturn(false);
+
+        mockMvc.perform(get("/api/task/{id}/subtasks/completed", taskId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$").value(false));
+    }
+
+    @Test
+    @DisplayName("Should move a task below a new parent")
+    @WithMockUser(roles = "USER")
+    void shouldAssignTaskToParent() throws Exception {
+        UUID taskId = UUID.randomUUID();
+        UUID parentId = UUID.randomUUID();
+        TaskDTO moved = new TaskDTO(taskId, "Moved", "Moved task", false, null, null, null, 0, Type_Enum.SUBTASK, null, parentId, null, null);
+        when(service.assignToParent(taskId, parentId)).thenReturn(moved);
+
+        mockMvc.perform(post("/api/task/{id}/parent/{parent_id}", taskId, parentId).with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.parent_id").value(parentId.toString()));
+    }
+
+    @Test
+    @DisplayName("Should reject moving a task below one of its subtasks")
+    @WithMockUser(roles = "USER")
+    void shouldRejectCyclicParent() throws Exception {
+        UUID taskId = UUID.randomUUID();
+        UUID parentId = UUID.randomUUID();
+        when(service.assignToParent(taskId, parentId))
+                .thenThrow(new BadRequestException("A task cannot be moved below itself or one of its subtasks"));
+
+        mockMvc.perform(post("/api/task/{id}/parent/{parent_id}", taskId, parentId).with(csrf()))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("A task cannot be moved below itself or one of its subtasks"));
+    }
+
+    @Test
+    @DisplayName("Should detach a task from its parent")
+    @WithMockUser(roles = "USER")
+    void shouldDetachTaskFromParent() throws Exception {
+        UUID taskId = UUID.randomUUID();
+        TaskDTO detached = new TaskDTO(taskId, "Detached", "Detached task", false, null, null, null, 0, Type_Enum.TASK, null, null, null, null);
+        when(service.assignToParent(taskId, null)).thenReturn(detached);
+
+        mockMvc.perform(delete("/api/task/{id}/parent", taskId).with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.parent_id").isEmpty());
+    }
+
     @Test
     @DisplayName("Should return unauthorized when getting task by ID without authentication")
     void shouldReturnUnauthorizedWhenGettingTaskByIdWithoutAuthentication() throws Exception {
@@ -285,7 +413,7 @@ public class TaskControllerTest {
                 null, null, null
         );
 
-        when(service.update(taskId, updateRequest)).thenReturn(updatedTask);
+        when(service.update(taskId, updateRequest, null)).thenReturn(updatedTask);
 
         mockMvc.perform(patch("/api/task/{id}", taskId)
                         .with(csrf())
@@ -296,6 +424,64 @@ public class TaskControllerTest {
                 .andExpect(MockMvcResultMatchers.jsonPath("$.description").value("Updated Description"));
     }
 
+    @Test
+    @DisplayName("Should pass the version from If-Match to the update and return the new ETag")
+    @WithMockUser(roles = "USER")
+    void shouldUpdateTaskWithIfMatch() throws Exception {
+        UUID taskId = UUID.randomUUID();
+        LocalDateTime readAt = LocalDateTime.of(2026, 1, 1, 10, 0, 0, 123_456_000);
+        LocalDateTime writtenAt = readAt.plusSeconds(1);
+        TaskUpdateDTO updateRequest = new TaskUpdateDTO("Updated Task", "Updated Description", 8, "TASK", false);
+        when(service.findById(taskId)).thenReturn(taskUpdatedAt(taskId, readAt));
+        when(service.update(taskId, updateRequest, readAt)).thenReturn(taskUpdatedAt(taskId, writtenAt));
+
+        String eTag = mockMvc.perform(get("/api/task/{id}", taskId))
+                .andReturn().getResponse().getHeader("ETag");
+
+        String newETag = mockMvc.perform(patch("/api/task/{id}", taskId)
+                        .with(csrf())
+                        .header("If-Match", eTag)
+                        .contentType("application/json")
+                        .content(objectMapper.writeValueAsString(updateRequest)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        assertNotEquals(eTag, newETag);
+        verify(service).update(taskId, updateRequest, readAt);
+    }
+
+    @Test
+    @DisplayName("Should reject an If-Match issued for another task")
+    @WithMockUser(roles = "USER")
+    void shouldRejectForeignIfMatch() throws Exception {
+        UUID taskId = UUID.randomUUID();
+        TaskUpdateDTO updateRequest = new TaskUpdateDTO("Updated Task", "Updated Description", 8, "TASK", false);
+
+        mockMvc.perform(patch("/api/task/{id}", taskId)
+                        .with(csrf())
+                        .header("If-Match", "\"" + UUID.randomUUID() + "-1\"")
+                        .contentType("application/json")
+                        .content(objectMapper.writeValueAsString(updateRequest)))
+                .andExpect(status().isPreconditionFailed());
+        verify(service, never()).update(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should return conflict when the task is updated concurrently")
+    @WithMockUser(roles = "USER")
+    void shouldReturnConflictOnConcurrentUpdate() throws Exception {
+        UUID taskId = UUID.randomUUID();
+        TaskUpdateDTO updateRequest = new TaskUpdateDTO("Updated Task", "Updated Description", 8, "TASK", false);
+        when(service.update(taskId, updateRequest, null))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Task.class, taskId));
+
+        mockMvc.perform(patch("/api/task/{id}", taskId)
+                        .with(csrf())
+                        .contentType("application/json")
+                        .content(objectMapper.writeValueAsString(updateRequest)))
+                .andExpect(status().isConflict());
+    }
+
     @Test
     @DisplayName("Should successfully create a task")
     @WithMockUser(roles = "USER")
@@ -465,4 +651,168 @@ public class TaskControllerTest {
                         .content(objectMapper.writeValueAsString(updateRequest)))
                 .andExpect(status().isBadRequest());
     }
+
+    @Test
+    @DisplayName("Should create tasks in bulk")
+    @WithMockUser(roles = "USER")
+    void shouldCreateTasksInBulk() throws Exception {
+        UUID projectId = UUID.randomUUID();
+        List<TaskRequest> requests = List.of(
+                new TaskRequest("First", "First task", 1, "TASK", null, projectId),
+                new TaskRequest("Second", "Second task", 2, "TASK", null, projectId)
+        );
+        List<TaskDTO> created = List.of(
+                new TaskDTO(UUID.randomUUID(), "First", "First task", false, null, null, null, 1, Type_Enum.TASK, null, null, null, projectId),
+                new TaskDTO(UUID.randomUUID(), "Second", "Second task", false, null, null, null, 2, Type_Enum.TASK, null, null, null, projectId)
+        );
+
+        when(service.createAll(requests)).thenReturn(created);
+
+        mockMvc.perform(post("/api/task/bulk")
+                        .with(csrf())
+                        .contentType("application/json")
+                        .content(objectMapper.writeValueAsString(requests)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[1].title").value("Second"));
+    }
+
+    @Test
+    @DisplayName("Should reject a bulk request with an invalid task")
+    @WithMockUser(roles = "USER")
+    void shouldRejectInvalidTaskInBulk() throws Exception {
+        UUID projectId = UUID.randomUUID();
+        List<TaskRequest> requests = List.of(
+                new TaskRequest("First", "First task", 1, "TASK", null, projectId),
+                new TaskRequest("", "Second task", 2, "TASK", null, projectId)
+        );
+
+        mockMvc.perform(post("/api/task/bulk")
+                        .with(csrf())
+                        .contentType("application/json")
+                        .content(objectMapper.writeValueAsString(requests)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$['[1].title']").exists());
+
+        verify(service, never()).createAll(any());
+    }
+
+    @Test
+    @DisplayName("Should complete tasks in bulk")
+    @WithMockUser(roles = "USER")
+    void shouldCompleteTasksInBulk() throws Exception {
+        UUID completed = UUID.randomUUID();
+        UUID missing = UUID.randomUUID();
+        List<UUID> ids = List.of(completed, missing);
+
+        when(service.completeAll(ids)).thenReturn(new BulkResult(List.of(completed), List.of(), List.of(missing)));
+
+        mockMvc.perform(post("/api/task/complete")
+                        .with(csrf())
+                        .contentType("application/json")
+                        .content(objectMapper.writeValueAsString(ids)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updated[0]").value(completed.toString()))
+                .andExpect(jsonPath("$.notFound[0]").value(missing.toString()));
+    }
+
+    @Test
+    @DisplayName("Should update tasks in bulk")
+    @WithMockUser(roles = "USER")
+    void shouldUpdateTasksInBulk() throws Exception {
+        UUID taskId = UUID.randomUUID();
+        List<TaskBulkUpdateDTO> requests = List.of(
+                new TaskBulkUpdateDTO(taskId, new TaskUpdateDTO("New title", "New description", 2, "TASK", false)));
+
+        when(service.updateAll(requests)).thenReturn(new BulkResult(List.of(taskId), List.of(), List.of()));
+
+        mockMvc.perform(patch("/api/task/bulk")
+                        .with(csrf())
+                        .contentType("application/json")
+                        .content(objectMapper.writeValueAsString(requests)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updated", hasSize(1)));
+    }
+
+    @Test
+    @DisplayName("Should tag a task with its id and last modification time")
+    @WithMockUser(roles = "USER")
+    void shouldReturnETagForTask() throws Exception {
+        UUID taskId = UUID.randomUUID();
+        LocalDateTime updatedAt = LocalDateTime.of(2026, 1, 1, 10, 0);
+        when(service.findById(taskId)).thenReturn(taskUpdatedAt(taskId, updatedAt));
+        when(service.findLastModified(taskId)).thenReturn(Optional.of(updatedAt));
+
+        String eTag = mockMvc.perform(get("/api/task/{id}", taskId))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andReturn().getResponse().getHeader("ETag");
+        clearInvocations(service);
+
+        mockMvc.perform(get("/api/task/{id}", taskId).header("If-None-Match", eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", eTag))
+                .andExpect(content().string(""));
+        verify(service, never()).findById(taskId);
+    }
+
+    @Test
+    @DisplayName("Should return the task when its ETag is stale")
+    @WithMockUser(roles = "USER")
+    void shouldReturnTaskWhenETagIsStale() throws Exception {
+        UUID taskId = UUID.randomUUID();
+        LocalDateTime updatedAt = LocalDateTime.of(2026, 1, 1, 10, 0);
+        when(service.findLastModified(taskId)).thenReturn(Optional.of(updatedAt));
+        when(service.findById(taskId)).thenReturn(taskUpdatedAt(taskId, updatedAt));
+
+        mockMvc.perform(get("/api/task/{id}", taskId).header("If-None-Match", "\"stale\""))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(taskId.toString()));
+    }
+
+    @Test
+    @DisplayName("Should answer an unchanged task list from its collection version")
+    @WithMockUser(roles = "USER")
+    void shouldReturnNotModifiedForUnchangedUserTasks() throws Exception {
+        UUID userId = UUID.randomUUID();
+        LocalDateTime updatedAt = LocalDateTime.of(2026, 1, 1, 10, 0);
+        List<TaskDTO> tasks = List.of(taskUpdatedAt(UUID.randomUUID(), updatedAt));
+        when(service.getAllUserTasks(userId)).thenReturn(tasks);
+        when(service.getAllUserTasksVersion(userId)).thenReturn(CollectionVersion.of(tasks, TaskDTO::updatedAt));
+
+        String eTag = mockMvc.perform(get("/api/task/user/{id}", userId))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/task/user/{id}", userId).header("If-None-Match", eTag))
+                .andExpect(status().isNotModified());
+        verify(service, times(1)).getAllUserTasks(userId);
+    }
+
+    @Test
+    @DisplayName("Should not serialize an unchanged page")
+    @WithMockUser(roles = "USER")
+    void shouldReturnNotModifiedForUnchangedPage() throws Exception {
+        TaskDTO task = taskUpdatedAt(UUID.randomUUID(), LocalDateTime.of(2026, 1, 1, 10, 0));
+        when(service.getAll(null, null)).thenReturn(new CursorPage<>(List.of(task), null));
+
+        String eTag = mockMvc.perform(get("/api/task/"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/task/").header("If-None-Match", eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    private static TaskDTO taskUpdatedAt(UUID id, LocalDateTime updatedAt) {
+        return new TaskDTO(
+                id,
+                "Test Task",
+                "Test Task description",
+                false, updatedAt, updatedAt, null,
+                0, Type_Enum.TASK, null,
+                null, null, null
+        );
+    }
 }
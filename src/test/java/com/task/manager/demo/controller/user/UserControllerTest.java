@@ -1,6 +1,7 @@
 package com.task.manager.demo.controller.user;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.task.manager.demo.dto.CursorPage;
 import com.task.manager.demo.dto.profile.ProfileDto;
 import com.task.manager.demo.dto.profile.ProfileUpdateDTO;
 import com.task.manager.demo.dto.user.UserDto;
@@ -155,13 +156,13 @@ public class UserControllerTest {
     void shouldSuccessfullyGetAllUsers() throws Exception {
         UserDto user = new UserDto(UUID.randomUUID(), "Test User", "test@example.com", List.of("USER"));
 
-        when(service.getAll()).thenReturn(List.of(user));
+        when(service.getAll(null, null)).thenReturn(new CursorPage<>(List.of(user), null));
 
         mockMvc.perform(get("/api/user/"))
                 .andExpect(status().isOk())
-                .andExpect(MockMvcResultMatchers.jsonPath("$", hasSize(1)))
-                .andExpect(MockMvcResultMatchers.jsonPath("$[0].name").value("Test User"))
-                .andExpect(MockMvcResultMatchers.jsonPath("$[0].email").value("test@example.com"));
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items", hasSize(1)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items[0].name").value("Test User"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items[0].email").value("test@example.com"));
     }
 
     @Test
@@ -78,4 +78,19 @@ class EpicMapperTest {
         assertNull(epicDTO.finishedAt());
         assertNull(epicDTO.project_id());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should apply the update to the epic fields")
+    void shouldApplyUpdateToEpic() {
+        Epic epic = new Epic();
+        epic.setEpicTitle("Old title");
+        epic.setEpicDescription("Old description");
+        epic.setEpicStoryPoints(1);
+
+        epicMapper.toEntity(new EpicUpdateDTO("New title", "New description", 5), epic);
+
+        assertEquals("New title", epic.getEpicTitle());
+        assertEquals("New description", epic.getEpicDescription());
+        assertEquals(5, epic.getEpicStoryPoints());
+    }
+}
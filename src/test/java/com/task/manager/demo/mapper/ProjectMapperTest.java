@@ -49,4 +49,17 @@ class ProjectMapperTest {
         assertNull(projectDTO.deletedAt());
         assertNull(projectDTO.deletedBy());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should apply the update to the project fields")
+    void shouldApplyUpdateToProject() {
+        Project project = new Project();
+        project.setProjectTitle("Old title");
+        project.setProjectDescription("Old description");
+
+        projectMapper.toEntity(new ProjectUpdateDTO("New title", "New description", false, null), project);
+
+        assertEquals("New title", project.getProjectTitle());
+        assertEquals("New description", project.getProjectDescription());
+    }
+}
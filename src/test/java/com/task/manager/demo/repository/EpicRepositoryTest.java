@@ -1,5 +1,6 @@
 package com.task.manager.demo.repository;
 
+import com.task.manager.demo.dto.epic.EpicDTO;
 import com.task.manager.demo.entity.Epic;
 import com.task.manager.demo.entity.Project;
 import com.task.manager.demo.entity.Task;
@@ -9,6 +10,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -105,7 +107,7 @@ class EpicRepositoryTest {
         secondEpic.setProject(testProject);
         epicRepository.save(secondEpic);
 
-        List<Epic> searchResults = epicRepository.searchByTitle("Epic");
+        List<EpicDTO> searchResults = epicRepository.searchByTitle("Epic", Limit.unlimited());
 
         assertEquals(2, searchResults.size());
     }
@@ -115,10 +117,10 @@ class EpicRepositoryTest {
     void shouldSearchEpicsByTitleCaseInsensitive() {
         epicRepository.save(testEpic);
 
-        List<Epic> searchResults = epicRepository.searchByTitle("test epic");
+        List<EpicDTO> searchResults = epicRepository.searchByTitle("test epic", Limit.unlimited());
 
         assertEquals(1, searchResults.size());
-        assertEquals("Test Epic", searchResults.get(0).getEpicTitle());
+        assertEquals("Test Epic", searchResults.get(0).title());
     }
 
     @Test
@@ -126,7 +128,7 @@ class EpicRepositoryTest {
     void shouldSearchEpicsWithPartialTitleMatch() {
         epicRepository.save(testEpic);
 
-        List<Epic> searchResults = epicRepository.searchByTitle("Test");
+        List<EpicDTO> searchResults = epicRepository.searchByTitle("Test", Limit.unlimited());
 
         assertEquals(1, searchResults.size());
     }
@@ -136,7 +138,7 @@ class EpicRepositoryTest {
     void shouldReturnEmptyListWhenSearchTitleNotFound() {
         epicRepository.save(testEpic);
 
-        List<Epic> searchResults = epicRepository.searchByTitle("NonExistentEpic");
+        List<EpicDTO> searchResults = epicRepository.searchByTitle("NonExistentEpic", Limit.unlimited());
 
         assertNotNull(searchResults);
         assertEquals(0, searchResults.size());
@@ -1,11 +1,13 @@
 package com.task.manager.demo.repository;
 
+import com.task.manager.demo.dto.project.ProjectDTO;
 import com.task.manager.demo.entity.Project;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -82,7 +84,7 @@ class ProjectRepositoryTest {
         secondProject.setProjectDescription("All backend related tasks");
         projectRepository.save(secondProject);
 
-        List<Project> searchResults = projectRepository.searchByTitle("Project");
+        List<ProjectDTO> searchResults = projectRepository.searchByTitle("Project", Limit.unlimited());
 
         assertEquals(2, searchResults.size());
     }
@@ -92,10 +94,10 @@ class ProjectRepositoryTest {
     void shouldSearchProjectsByTitleCaseInsensitive() {
         projectRepository.save(testProject);
 
-        List<Project> searchResults = projectRepository.searchByTitle("test project");
+        List<ProjectDTO> searchResults = projectRepository.searchByTitle("test project", Limit.unlimited());
 
         assertEquals(1, searchResults.size());
-        assertEquals("Test Project", searchResults.get(0).getProjectTitle());
+        assertEquals("Test Project", searchResults.get(0).title());
     }
 
     @Test
@@ -108,7 +110,7 @@ class ProjectRepositoryTest {
         frontendProject.setProjectDescription("Frontend related tasks");
         projectRepository.save(frontendProject);
 
-        List<Project> searchResults = projectRepository.searchByTitle("Project");
+        List<ProjectDTO> searchResults = projectRepository.searchByTitle("Project", Limit.unlimited());
 
         assertEquals(1, searchResults.size());
     }
@@ -118,7 +120,7 @@ class ProjectRepositoryTest {
     void shouldReturnEmptyListWhenSearchTitleNotFound() {
         projectRepository.save(testProject);
 
-        List<Project> searchResults = projectRepository.searchByTitle("NonExistentProject");
+        List<ProjectDTO> searchResults = projectRepository.searchByTitle("NonExistentProject", Limit.unlimited());
 
         assertNotNull(searchResults);
         assertEquals(0, searchResults.size());
@@ -250,7 +252,7 @@ class ProjectRepositoryTest {
             projectRepository.save(project);
         }
 
-        List<Project> searchResults = projectRepository.searchByTitle("Search Test");
+        List<ProjectDTO> searchResults = projectRepository.searchByTitle("Search Test", Limit.unlimited());
 
         assertEquals(3, searchResults.size());
     }
@@ -0,0 +1,284 @@
+package com.task.manager.demo.repository;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks on a real PostgreSQL server, migrated by Flyway, that the lookup queries of the
+ * repositories are planned on indexes. Each repository method runs once against a seeded
+ * dataset; the SQL Hibernate issued for it is captured and explained with the same
+ * parameters, and the test fails on any sequential scan. The context itself starts with
+ * {@code ddl-auto=validate}, so the entities are also checked against the migrated schema.
+ * <p>
+ * Left out: the full-table aggregations and backfills, which read every row by design,
+ * the writes, and the two-row roles table. The server runs from the binaries bundled
+ * with embedded-postgres.
+ * </p>
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+@DisplayName("Repository query plans - PostgreSQL Integration Tests")
+class RepositoryQueryPlanTest {
+
+    private static final int GROUPS = 20_000;
+    private static final int EPICS = 4_000;
+    private static final int PARENTS = 200;
+    private static final int TASKS = 20_000;
+
+    private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+    private static EmbeddedPostgres postgres;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private EpicRepository epicRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProfileRepository profileRepository;
+
+    @Autowired
+    private TaskClosureRepository taskClosureRepository;
+
+    /**
+     * Records the SQL of every statement Hibernate prepares.
+     */
+    public static class StatementRecorder implements StatementInspector {
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+
+    @DynamicPropertySource
+    static void postgresProperties(DynamicPropertyRegistry registry) {
+        try {
+            postgres = EmbeddedPostgres.start();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        registry.add("spring.config.import", () -> "");
+        registry.add("spring.datasource.url", () -> postgres.getJdbcUrl("postgres", "postgres"));
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "");
+        registry.add("spring.jpa.database-platform", () -> "org.hibernate.dialect.PostgreSQLDialect");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "validate");
+        registry.add("spring.flyway.enabled", () -> "true");
+        registry.add("spring.jpa.properties.hibernate.session_factory.statement_inspector", StatementRecorder.class::getName);
+    }
+
+    // GROUPS projects, users and profiles, EPICS epics, PARENTS root tasks and TASKS subtasks spread over them,
+    // with their closure pairs; three out of four epics and subtasks are soft-deleted
+    @BeforeAll
+    static void setUp(@Autowired JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.update("INSERT INTO project (id, project_title, project_description, created_at, deleted, version) "
+                + "SELECT gen_random_uuid(), 'Project ' || md5(i::text), 'Seeded', now() - i * interval '1 minute', false, 0 "
+                + "FROM generate_series(1, ?) i", GROUPS);
+        jdbcTemplate.update("INSERT INTO users (id, name, email, password, created_at) "
+                + "SELECT gen_random_uuid(), 'User ' || i, 'user' || i || '@example.com', 'secret', now() - i * interval '1 minute' "
+                + "FROM generate_series(1, ?) i", GROUPS);
+        jdbcTemplate.update("INSERT INTO profiles (profile_id, country, deleted, user_id) SELECT gen_random_uuid(), 'Country', false, id FROM users");
+        jdbcTemplate.update("INSERT INTO epic (id, epic_title, epic_description, epic_story_points, completed, created_at, deleted, version, project_id) "
+                + "SELECT gen_random_uuid(), 'Epic ' || md5(i::text), 'Seeded', 0, false, now() - i * interval '1 minute', i % 4 <> 0, 0, p.id "
+                + "FROM generate_series(0, ? - 1) i "
+                + "JOIN (SELECT id, row_number() OVER (ORDER BY id) - 1 n FROM project) p ON p.n = i % " + GROUPS, EPICS);
+        jdbcTemplate.update("INSERT INTO task (id, title, description, story_points, completed, deleted, version, created_at, task_type, project_id) "
+                + "SELECT gen_random_uuid(), 'Parent ' || i, 'Seeded', 1, false, false, 0, now(), 'TASK', "
+                + "(SELECT id FROM project ORDER BY id LIMIT 1) FROM generate_series(1, ?) i", PARENTS);
+        jdbcTemplate.update("INSERT INTO task (id, title, description, story_points, completed, deleted, version, created_at, task_type, "
+                + "project_id, epic_id, assignee_id, task_parent_id) "
+                + "SELECT gen_random_uuid(), 'Task ' || md5(i::text), 'Seeded', 1, false, i % 4 <> 0, 0, now() - i * interval '1 second', 'SUBTASK', "
+                + "p.id, e.id, u.id, t.id FROM generate_series(0, ? - 1) i "
+                + "JOIN (SELECT id, row_number() OVER (ORDER BY id) - 1 n FROM project) p ON p.n = i % " + GROUPS + " "
+                + "JOIN (SELECT id, row_number() OVER (ORDER BY id) - 1 n FROM epic) e ON e.n = i % " + EPICS + " "
+                + "JOIN (SELECT id, row_number() OVER (ORDER BY id) - 1 n FROM users) u ON u.n = i % " + GROUPS + " "
+                + "JOIN (SELECT id, row_number() OVER (ORDER BY id) - 1 n FROM task) t ON t.n = i % " + PARENTS, TASKS);
+        jdbcTemplate.update("INSERT INTO task_closure (ancestor_id, descendant_id, depth) SELECT id, id, 0 FROM task");
+        jdbcTemplate.update("INSERT INTO task_closure (ancestor_id, descendant_id, depth) "
+                + "SELECT task_parent_id, id, 1 FROM task WHERE task_parent_id IS NOT NULL");
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @Test
+    @DisplayName("Should apply the migrations and create the partial indexes")
+    void shouldApplyMigrations() {
+        List<String> versions = jdbcTemplate.queryForList(
+                "SELECT version FROM flyway_schema_history WHERE success ORDER BY installed_rank", String.class);
+        List<String> definitions = jdbcTemplate.queryForList(
+                "SELECT indexdef FROM pg_indexes WHERE indexname LIKE 'idx\\_%\\_live' ORDER BY indexname", String.class);
+
+        assertEquals(List.of("1", "2", "3", "4", "5", "6", "7"), versions);
+        assertEquals(8, definitions.size());
+        assertTrue(definitions.stream().allMatch(definition -> definition.endsWith("WHERE (deleted = false)")), definitions::toString);
+    }
+
+    @Test
+    @DisplayName("Should plan the task lookups on indexes")
+    void shouldPlanTaskLookupsOnIndexes() {
+        Map<String, Object> task = liveSubtask();
+        UUID id = (UUID) task.get("id");
+        UUID projectId = (UUID) task.get("project_id");
+        UUID epicId = (UUID) task.get("epic_id");
+        UUID userId = (UUID) task.get("assignee_id");
+        UUID parentId = (UUID) task.get("task_parent_id");
+        LocalDateTime createdAt = ((Timestamp) task.get("created_at")).toLocalDateTime();
+        String title = (String) task.get("title");
+
+        assertIndexed(() -> taskRepository.findAllByUser_Id(userId), userId);
+        assertIndexed(() -> taskRepository.findAllByEpic_Id(epicId), epicId);
+        assertIndexed(() -> taskRepository.findAllByProject_Id(projectId), projectId);
+        assertIndexed(() -> taskRepository.findDtosByUserId(userId), userId);
+        assertIndexed(() -> taskRepository.findDtosByEpicId(epicId), epicId);
+        assertIndexed(() -> taskRepository.findDtosByProjectId(projectId), projectId);
+        assertIndexed(() -> new TransactionTemplate(transactionManager).execute(status -> {
+            try (Stream<?> tasks = taskRepository.streamDtosByProjectId(projectId)) {
+                return tasks.count();
+            }
+        }), projectId);
+        assertIndexed(() -> taskRepository.findUpdatedAtById(id), id);
+        assertIndexed(() -> taskRepository.findVersionByUserId(userId), userId);
+        assertIndexed(() -> taskRepository.findVersionByEpicId(epicId), epicId);
+        assertIndexed(() -> taskRepository.findVersionByProjectId(projectId), projectId);
+        assertIndexed(() -> taskRepository.summarizeByProjectId(projectId), projectId);
+        assertUses("uk_task_project_title_live", assertIndexed(() -> taskRepository.existsByTitleAndProjectId(title, projectId), title, projectId, 1));
+        assertIndexed(() -> taskRepository.findTitlesInProjects(List.of(projectId), List.of(title)), projectId, title);
+        assertIndexed(() -> taskRepository.findCompletionStates(List.of(id, parentId)), id, parentId);
+        String fragment = fragment(title);
+        assertIndexed(() -> taskRepository.searchByTitle(fragment, Limit.of(10)), fragment, fragment, fragment, 10);
+        assertIndexed(() -> taskRepository.findSubtree(parentId, 5), parentId, 5);
+        assertIndexed(() -> taskRepository.findAncestorDtos(id), id, id);
+        assertIndexed(() -> taskRepository.findDescendantDtos(parentId), parentId, parentId);
+        assertIndexed(() -> taskRepository.findFirstPage(Limit.of(20)), 20);
+        assertIndexed(() -> taskRepository.findPageAfter(createdAt, id, Limit.of(20)), createdAt, createdAt, id, 20);
+    }
+
+    @Test
+    @DisplayName("Should plan the closure lookups on indexes")
+    void shouldPlanClosureLookupsOnIndexes() {
+        Map<String, Object> task = liveSubtask();
+        UUID id = (UUID) task.get("id");
+        UUID parentId = (UUID) task.get("task_parent_id");
+
+        assertIndexed(() -> taskClosureRepository.existsByAncestorIdAndDescendantId(parentId, id), parentId, id, 1);
+        assertIndexed(() -> taskClosureRepository.findOpenDescendantIds(parentId, Limit.of(1)), parentId, parentId, 1);
+    }
+
+    @Test
+    @DisplayName("Should plan the epic lookups on indexes")
+    void shouldPlanEpicLookupsOnIndexes() {
+        Map<String, Object> epic = jdbcTemplate.queryForMap(
+                "SELECT id, project_id, epic_title, created_at FROM epic WHERE deleted = false ORDER BY id LIMIT 1");
+        UUID id = (UUID) epic.get("id");
+        UUID projectId = (UUID) epic.get("project_id");
+        String title = (String) epic.get("epic_title");
+        LocalDateTime createdAt = ((Timestamp) epic.get("created_at")).toLocalDateTime();
+
+        assertIndexed(() -> epicRepository.findAllByProject_Id(projectId), projectId);
+        assertIndexed(() -> epicRepository.findUpdatedAtById(id), id);
+        assertIndexed(() -> epicRepository.findVersionByProjectId(projectId), projectId);
+        assertUses("uk_epic_project_title_live", assertIndexed(() -> epicRepository.existsByEpicTitleAndProjectId(title, projectId), title, projectId, 1));
+        assertIndexed(() -> epicRepository.findCompletionStates(List.of(id)), id);
+        assertIndexed(() -> epicRepository.findProgressById(id), id);
+        String fragment = fragment(title);
+        assertIndexed(() -> epicRepository.searchByTitle(fragment, Limit.of(10)), fragment, fragment, fragment, 10);
+        assertIndexed(() -> epicRepository.findFirstPage(Limit.of(20)), 20);
+        assertIndexed(() -> epicRepository.findPageAfter(createdAt, id, Limit.of(20)), createdAt, createdAt, id, 20);
+    }
+
+    @Test
+    @DisplayName("Should plan the project, user and profile lookups on indexes")
+    void shouldPlanProjectAndUserLookupsOnIndexes() {
+        Map<String, Object> project = jdbcTemplate.queryForMap(
+                "SELECT id, project_title, created_at FROM project ORDER BY id LIMIT 1");
+        UUID projectId = (UUID) project.get("id");
+        String title = (String) project.get("project_title");
+        LocalDateTime projectCreatedAt = ((Timestamp) project.get("created_at")).toLocalDateTime();
+        Map<String, Object> user = jdbcTemplate.queryForMap("SELECT id, email, created_at FROM users ORDER BY id LIMIT 1");
+        UUID userId = (UUID) user.get("id");
+        String email = (String) user.get("email");
+        Timestamp userCreatedAt = (Timestamp) user.get("created_at");
+
+        assertUses("uk_project_title_live", assertIndexed(() -> projectRepository.existsByProjectTitle(title), title, 1));
+        assertIndexed(() -> projectRepository.findUpdatedAtById(projectId), projectId);
+        String fragment = fragment(title);
+        assertIndexed(() -> projectRepository.searchByTitle(fragment, Limit.of(10)), fragment, fragment, fragment, 10);
+        assertIndexed(() -> projectRepository.findFirstPage(Limit.of(20)), 20);
+        assertIndexed(() -> projectRepository.findPageAfter(projectCreatedAt, projectId, Limit.of(20)),
+                projectCreatedAt, projectCreatedAt, projectId, 20);
+        assertIndexed(() -> userRepository.findByEmail(email), email);
+        assertIndexed(() -> userRepository.findFirstPage(Limit.of(20)), 20);
+        assertIndexed(() -> userRepository.findPageAfter(userCreatedAt, userId, Limit.of(20)), userCreatedAt, userCreatedAt, userId, 20);
+        assertIndexed(() -> profileRepository.findByUserId(userId), userId);
+        assertIndexed(() -> profileRepository.existsByUserId(userId), userId, 1);
+    }
+
+    private Map<String, Object> liveSubtask() {
+        return jdbcTemplate.queryForMap("SELECT id, project_id, epic_id, assignee_id, task_parent_id, created_at, title "
+                + "FROM task WHERE deleted = false AND task_parent_id IS NOT NULL ORDER BY id LIMIT 1");
+    }
+
+    // Runs the repository call, then explains its first statement with the given parameters, in SQL order
+    private String assertIndexed(Runnable query, Object... parameters) {
+        STATEMENTS.clear();
+        query.run();
+        assertFalse(STATEMENTS.isEmpty(), "No statement was issued");
+        String sql = STATEMENTS.get(0);
+        assertEquals(parameters.length, sql.chars().filter(c -> c == '?').count(), sql);
+        String plan = String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class, parameters));
+
+        assertFalse(plan.contains("Seq Scan"), sql + "\n" + plan);
+        return plan;
+    }
+
+    // Part of the md5 of a seeded title: the shared "Task "/"Epic "/"Project " trigrams would make the
+    // planner's selectivity estimate depend on which rows ANALYZE sampled
+    private static String fragment(String title) {
+        int start = title.indexOf(' ') + 1;
+        return title.substring(start, start + 12);
+    }
+
+    private void assertUses(String index, String plan) {
+        assertTrue(plan.contains(index), plan);
+    }
+}
@@ -0,0 +1,155 @@
+package com.task.manager.demo.repository;
+
+import com.task.manager.demo.dto.auth.RegisterRequest;
+import com.task.manager.demo.dto.epic.EpicProgressDTO;
+import com.task.manager.demo.exception.BadRequestException;
+import com.task.manager.demo.service.auth.AuthService;
+import com.task.manager.demo.service.epic.EpicService;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Upgrades a PostgreSQL database created by the original release, before Flyway managed the
+ * schema: the tables are built from the V1 baseline and filled without any Flyway history, then
+ * the context starts, baselines the database at V1, applies the later migrations and validates
+ * the entities against the result.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+@DisplayName("Schema upgrade from the original release - PostgreSQL Integration Tests")
+class SchemaUpgradeTest {
+
+    private static final UUID PROJECT = UUID.randomUUID();
+    private static final UUID EPIC = UUID.randomUUID();
+    private static final UUID ROOT = UUID.randomUUID();
+    private static final UUID CHILD = UUID.randomUUID();
+    private static final UUID GRANDCHILD = UUID.randomUUID();
+    private static final UUID DELETED = UUID.randomUUID();
+
+    private static EmbeddedPostgres postgres;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private EpicService epicService;
+
+    @Autowired
+    private EpicRepository epicRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @DynamicPropertySource
+    static void postgresProperties(DynamicPropertyRegistry registry) {
+        try {
+            postgres = EmbeddedPostgres.start();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        createOriginalDatabase();
+        registry.add("spring.config.import", () -> "");
+        registry.add("spring.datasource.url", () -> postgres.getJdbcUrl("postgres", "postgres"));
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "");
+        registry.add("spring.jpa.database-platform", () -> "org.hibernate.dialect.PostgreSQLDialect");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "validate");
+        registry.add("spring.flyway.enabled", () -> "true");
+    }
+
+    // A project with an epic, a three level hierarchy, a soft-deleted task and a user
+    private static void createOriginalDatabase() {
+        new ResourceDatabasePopulator(new ClassPathResource("db/migration/V1__baseline_schema.sql"))
+                .execute(postgres.getPostgresDatabase());
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(postgres.getPostgresDatabase());
+        jdbcTemplate.update("INSERT INTO project (id, project_title, project_description, created_at, deleted) "
+                + "VALUES (?, 'Old Project', 'Created before the migrations', now(), false)", PROJECT);
+        jdbcTemplate.update("INSERT INTO epic (id, epic_title, epic_description, epic_story_points, completed, project_id, created_at, deleted) "
+                + "VALUES (?, 'Old Epic', 'Created before the migrations', 0, false, ?, now(), false)", EPIC, PROJECT);
+        insertTask(ROOT, null, 3, true, false);
+        insertTask(CHILD, ROOT, 5, false, false);
+        insertTask(GRANDCHILD, CHILD, 2, true, false);
+        insertTask(DELETED, ROOT, 8, false, true);
+        jdbcTemplate.update("INSERT INTO users (id, name, email, password, created_at) "
+                + "VALUES (?, 'Old User', 'old@example.com', 'secret', now())", UUID.randomUUID());
+    }
+
+    private static void insertTask(UUID id, UUID parent, int storyPoints, boolean completed, boolean deleted) {
+        new JdbcTemplate(postgres.getPostgresDatabase()).update("INSERT INTO task (id, title, description, story_points, completed, "
+                        + "task_type, epic_id, project_id, task_parent_id, created_at, deleted) VALUES (?, ?, 'Created before the migrations', ?, ?, ?, ?, ?, ?, now(), ?)",
+                id, "Task " + id, storyPoints, completed, parent == null ? "TASK" : "SUBTASK", EPIC, PROJECT, parent, deleted);
+    }
+
+    @Test
+    @DisplayName("Should baseline the original schema and apply the later migrations")
+    void shouldBaselineAndMigrate() {
+        assertEquals(List.of("1", "2", "3", "4", "5", "6", "7"), jdbcTemplate.queryForList(
+                "SELECT version FROM flyway_schema_history WHERE success ORDER BY installed_rank", String.class));
+        assertEquals("BASELINE", jdbcTemplate.queryForObject(
+                "SELECT type FROM flyway_schema_history WHERE version = '1'", String.class));
+        assertEquals(0L, jdbcTemplate.queryForObject("SELECT version FROM task WHERE id = ?", Long.class, ROOT));
+    }
+
+    @Test
+    @DisplayName("Should backfill the closure table from the parent links")
+    void shouldBackfillClosure() {
+        Set<List<Object>> closure = jdbcTemplate.queryForList("SELECT ancestor_id, descendant_id, depth FROM task_closure").stream()
+                .map(row -> List.of(row.get("ancestor_id"), row.get("descendant_id"), row.get("depth")))
+                .collect(Collectors.toSet());
+
+        assertEquals(Set.of(
+                List.of(ROOT, ROOT, 0), List.of(CHILD, CHILD, 0), List.of(GRANDCHILD, GRANDCHILD, 0), List.of(DELETED, DELETED, 0),
+                List.of(ROOT, CHILD, 1), List.of(ROOT, DELETED, 1), List.of(CHILD, GRANDCHILD, 1), List.of(ROOT, GRANDCHILD, 2)), closure);
+    }
+
+    @Test
+    @DisplayName("Should start the epic counters from the live tasks")
+    void shouldBackfillEpicProgress() {
+        // the deleted task does not count, two of the three live ones are completed
+        assertEquals(new EpicProgressDTO(EPIC, 3, 2, 10, 5), epicService.getProgress(EPIC));
+    }
+
+    @Test
+    @DisplayName("Should adjust and rebuild the epic counters with the native updates")
+    void shouldAdjustAndRecomputeEpicProgress() {
+        transactionTemplate.executeWithoutResult(status -> epicRepository.adjustProgress(EPIC, 1, 1, 4, 4));
+        assertEquals(new EpicProgressDTO(EPIC, 4, 3, 14, 9), epicService.getProgress(EPIC));
+
+        transactionTemplate.executeWithoutResult(status -> epicRepository.recomputeProgress(List.of(EPIC)));
+        assertEquals(new EpicProgressDTO(EPIC, 3, 2, 10, 5), epicService.getProgress(EPIC));
+    }
+
+    @Test
+    @DisplayName("Should rename the generated email constraint so duplicates are reported")
+    void shouldTranslateDuplicateEmail() {
+        BadRequestException taken = assertThrows(BadRequestException.class,
+                () -> authService.register(new RegisterRequest("Other User", "old@example.com", "secret123", List.of())));
+
+        assertEquals("Email already in use", taken.getMessage());
+    }
+}
@@ -0,0 +1,158 @@
+package com.task.manager.demo.repository;
+
+import com.task.manager.demo.config.SecondLevelCacheConfig;
+import com.task.manager.demo.dto.epic.EpicProgressDTO;
+import com.task.manager.demo.entity.Epic;
+import com.task.manager.demo.entity.Project;
+import com.task.manager.demo.entity.Role;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+    "spring.config.import=",
+    "spring.datasource.url=jdbc:h2:mem:testdb",
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@DisplayName("Second-level cache - Integration Tests")
+class SecondLevelCacheTest {
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private EpicRepository epicRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        epicRepository.deleteAllInBatch();
+        projectRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("Should serve repeated project lookups from the cache")
+    void shouldCacheProjectLookups() {
+        UUID id = saveProject("Cached Project").getId();
+
+        projectRepository.findById(id);
+        projectRepository.findById(id);
+
+        CacheRegionStatistics region = statistics.getDomainDataRegionStatistics(SecondLevelCacheConfig.PROJECT_REGION);
+        assertTrue(region.getHitCount() >= 2);
+        assertEquals(0, region.getMissCount());
+    }
+
+    @Test
+    @DisplayName("Should see updates made through the repository")
+    void shouldRefreshCachedProjectOnUpdate() {
+        Project project = saveProject("Before Update");
+        projectRepository.findById(project.getId());
+
+        project.setProjectTitle("After Update");
+        projectRepository.save(project);
+
+        assertEquals("After Update", projectRepository.findById(project.getId()).orElseThrow().getProjectTitle());
+    }
+
+    @Test
+    @DisplayName("Should evict soft-deleted projects")
+    void shouldEvictSoftDeletedProject() {
+        UUID id = saveProject("Soon Deleted").getId();
+        assertTrue(projectRepository.findById(id).isPresent());
+
+        projectRepository.deleteById(id);
+
+        assertTrue(projectRepository.findById(id).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should only evict the epics whose progress counters change")
+    void shouldEvictOnlyAdjustedEpics() {
+        Project project = saveProject("Epic Project");
+        UUID adjusted = saveEpic(project, "Adjusted Epic").getId();
+        UUID untouched = saveEpic(project, "Untouched Epic").getId();
+        epicRepository.findById(adjusted);
+        epicRepository.findById(untouched);
+        statistics.clear();
+
+        transactionTemplate.executeWithoutResult(status -> epicRepository.adjustProgress(adjusted, 1, 0, 3, 0));
+
+        CacheRegionStatistics region = statistics.getDomainDataRegionStatistics(SecondLevelCacheConfig.EPIC_REGION);
+        epicRepository.findById(untouched);
+        assertEquals(1, region.getHitCount());
+        assertEquals(1, epicRepository.findById(adjusted).orElseThrow().getTotalTasks());
+        assertEquals(1, region.getMissCount());
+
+        transactionTemplate.executeWithoutResult(status -> epicRepository.recomputeProgress(List.of(adjusted)));
+
+        epicRepository.findById(untouched);
+        assertEquals(2, region.getHitCount());
+        assertEquals(0, epicRepository.findById(adjusted).orElseThrow().getTotalTasks());
+        assertEquals(2, region.getMissCount());
+        assertEquals(new EpicProgressDTO(adjusted, 0, 0, 0, 0), epicRepository.findProgressById(adjusted).orElseThrow());
+    }
+
+    @Test
+    @DisplayName("Should cache role lookups by name")
+    void shouldCacheRoleLookupsByName() {
+        if (roleRepository.findByName("USER").isEmpty()) {
+            roleRepository.save(Role.builder().name("USER").build());
+        }
+        statistics.clear();
+
+        roleRepository.findByName("USER");
+        roleRepository.findByName("USER");
+
+        assertTrue(statistics.getQueryCacheHitCount() >= 1);
+    }
+
+    private Epic saveEpic(Project project, String title) {
+        Epic epic = new Epic();
+        epic.setEpicTitle(title);
+        epic.setEpicDescription("Epic used by the second-level cache test");
+        epic.setProject(project);
+        return epicRepository.save(epic);
+    }
+
+    private Project saveProject(String title) {
+        Project project = new Project();
+        project.setProjectTitle(title);
+        project.setProjectDescription("Project used by the second-level cache test");
+        return projectRepository.save(project);
+    }
+}
@@ -1,19 +1,34 @@
 package com.task.manager.demo.repository;
 
+import com.task.manager.demo.dto.CollectionVersion;
+import com.task.manager.demo.dto.project.ProjectSummaryDTO;
+import com.task.manager.demo.dto.task.TaskDTO;
+import com.task.manager.demo.dto.task.TaskTreeDTO;
+import com.task.manager.demo.entity.Epic;
 import com.task.manager.demo.entity.Project;
 import com.task.manager.demo.entity.Task;
 import com.task.manager.demo.entity.Type_Enum;
+import com.task.manager.demo.entity.User;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -25,7 +40,8 @@ import org.springframework.test.context.TestPropertySource;
 @TestPropertySource(properties = {
     "spring.config.import=",
     "spring.datasource.url=jdbc:h2:mem:testdb",
-    "spring.datasource.driver-class-name=org.h2.Driver"
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "spring.jpa.properties.hibernate.generate_statistics=true"
 })
 @DisplayName("TaskRepository - Integration Tests")
 class TaskRepositoryTest {
@@ -36,6 +52,15 @@ class TaskRepositoryTest {
     @Autowired
     private ProjectRepository projectRepository;
 
+    @Autowired
+    private EpicRepository epicRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
     private Project testProject;
     private Task testTask;
 
@@ -134,20 +159,73 @@ class TaskRepositoryTest {
         secondTask.setProject(testProject);
         taskRepository.save(secondTask);
 
-        List<Task> searchResults = taskRepository.searchByTitle("Task");
+        List<TaskDTO> searchResults = taskRepository.searchByTitle("Task", Limit.unlimited());
 
         assertEquals(2, searchResults.size());
     }
 
+    @Test
+    @DisplayName("Should rank exact and prefix title matches first and honour the limit")
+    void shouldRankTitleSearchResults() {
+        for (String title : List.of("Fix login bug", "Login", "Login page")) {
+            Task task = new Task();
+            task.setTitle(title);
+            task.setDescription("Ranking test");
+            task.setType(Type_Enum.TASK);
+            task.setProject(testProject);
+            taskRepository.save(task);
+        }
+
+        List<TaskDTO> ranked = taskRepository.searchByTitle("login", Limit.unlimited());
+        List<TaskDTO> limited = taskRepository.searchByTitle("login", Limit.of(2));
+
+        assertEquals(List.of("Login", "Login page", "Fix login bug"), ranked.stream().map(TaskDTO::title).toList());
+        assertEquals(List.of("Login", "Login page"), limited.stream().map(TaskDTO::title).toList());
+    }
+
+    @Test
+    @DisplayName("Should search titles in a single statement without loading the linked rows")
+    void shouldSearchTitlesInSingleStatement() {
+        User user = new User();
+        user.setName("Assignee");
+        user.setEmail("assignee@example.com");
+        user.setPassword("password123");
+        User assignee = userRepository.save(user);
+
+        Task parent = taskRepository.save(testTask);
+        for (int i = 1; i <= 20; i++) {
+            Task child = new Task();
+            child.setTitle("Search child " + i);
+            child.setDescription("Linked to a parent and an assignee");
+            child.setType(Type_Enum.SUBTASK);
+            child.setProject(testProject);
+            child.setUser(assignee);
+            child.setTask_parent(parent);
+            taskRepository.save(child);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<TaskDTO> results = taskRepository.searchByTitle("search child", Limit.of(50));
+
+        assertEquals(20, results.size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertTrue(results.stream().allMatch(t -> parent.getId().equals(t.parent_id()) && assignee.getId().equals(t.user_id())));
+    }
+
     @Test
     @DisplayName("Should search tasks by title case-insensitive")
     void shouldSearchTasksByTitleCaseInsensitive() {
         taskRepository.save(testTask);
 
-        List<Task> searchResults = taskRepository.searchByTitle("test task");
+        List<TaskDTO> searchResults = taskRepository.searchByTitle("test task", Limit.unlimited());
 
         assertEquals(1, searchResults.size());
-        assertEquals("Test Task", searchResults.get(0).getTitle());
+        assertEquals("Test Task", searchResults.get(0).title());
     }
 
     @Test
@@ -155,7 +233,7 @@ class TaskRepositoryTest {
     void shouldReturnEmptyListWhenSearchTitleNotFound() {
         taskRepository.save(testTask);
 
-        List<Task> searchResults = taskRepository.searchByTitle("NonExistentTitle");
+        List<TaskDTO> searchResults = taskRepository.searchByTitle("NonExistentTitle", Limit.unlimited());
 
         assertNotNull(searchResults);
         assertEquals(0, searchResults.size());
@@ -207,6 +285,238 @@ class TaskRepositoryTest {
         assertEquals(0, projectTasks.size());
     }
 
+    @Test
+    @DisplayName("Should load a project's task DTOs in a single statement")
+    void shouldLoadProjectTaskDtosInSingleStatement() {
+        User user = new User();
+        user.setName("Assignee");
+        user.setEmail("assignee@example.com");
+        user.setPassword("password123");
+        User assignee = userRepository.save(user);
+
+        Epic epic = new Epic();
+        epic.setEpicTitle("Projection Epic");
+        epic.setEpicDescription("Epic referenced by every task");
+        epic.setProject(testProject);
+        Epic savedEpic = epicRepository.save(epic);
+
+        Task parent = taskRepository.save(testTask);
+        List<Task> children = new ArrayList<>();
+        for (int i = 1; i < 1000; i++) {
+            Task child = new Task();
+            child.setTitle("Child " + i);
+            child.setDescription("Child task " + i);
+            child.setType(Type_Enum.SUBTASK);
+            child.setProject(testProject);
+            child.setEpic(savedEpic);
+            child.setUser(assignee);
+            child.setTask_parent(parent);
+            children.add(child);
+        }
+        taskRepository.saveAll(children);
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<TaskDTO> tasks = taskRepository.findDtosByProjectId(testProject.getId());
+
+        assertEquals(1000, tasks.size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(999, tasks.stream().filter(t -> parent.getId().equals(t.parent_id())
+                && savedEpic.getId().equals(t.epic_id()) && assignee.getId().equals(t.user_id())).count());
+        assertTrue(tasks.stream().allMatch(t -> testProject.getId().equals(t.project_id())));
+    }
+
+    @Test
+    @DisplayName("Should summarize a project's tasks with a single grouped statement")
+    void shouldSummarizeProjectInSingleStatement() {
+        User user = new User();
+        user.setName("Summarized Assignee");
+        user.setEmail("summary@example.com");
+        user.setPassword("password123");
+        User assignee = userRepository.save(user);
+
+        Epic epic = new Epic();
+        epic.setEpicTitle("Summary Epic");
+        epic.setEpicDescription("Epic in the project summary");
+        epic.setProject(testProject);
+        Epic savedEpic = epicRepository.save(epic);
+
+        taskRepository.save(testTask);
+        for (int i = 1; i <= 4; i++) {
+            Task task = new Task();
+            task.setTitle("Summary " + i);
+            task.setDescription("Summarized task " + i);
+            task.setStory_points(i);
+            task.setCompleted(i % 2 == 0);
+            task.setType(i == 4 ? Type_Enum.SUBTASK : Type_Enum.TASK);
+            task.setProject(testProject);
+            task.setEpic(savedEpic);
+            task.setUser(assignee);
+            taskRepository.save(task);
+        }
+        Task deleted = new Task();
+        deleted.setTitle("Deleted");
+        deleted.setDescription("Not part of the summary");
+        deleted.setStory_points(100);
+        deleted.setType(Type_Enum.TASK);
+        deleted.setProject(testProject);
+        deleted.setDeleted(true);
+        taskRepository.save(deleted);
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        ProjectSummaryDTO summary = ProjectSummaryDTO.of(testProject.getId(), taskRepository.summarizeByProjectId(testProject.getId()));
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(5, summary.totalTasks());
+        assertEquals(2, summary.completedTasks());
+        assertEquals(15, summary.totalStoryPoints());
+        assertEquals(6, summary.completedStoryPoints());
+        assertEquals(4L, summary.tasksByType().get(Type_Enum.TASK));
+        assertEquals(1L, summary.tasksByType().get(Type_Enum.SUBTASK));
+        assertEquals(List.of(
+                new ProjectSummaryDTO.AssigneeWorkload(assignee.getId(), "Summarized Assignee", 4, 2, 10, 4),
+                new ProjectSummaryDTO.AssigneeWorkload(null, null, 1, 1, 5, 5)
+        ), summary.assignees());
+        assertEquals(List.of(
+                new ProjectSummaryDTO.EpicProgress(savedEpic.getId(), "Summary Epic", 4, 2, 10, 6),
+                new ProjectSummaryDTO.EpicProgress(null, null, 1, 0, 5, 0)
+        ), summary.epics());
+    }
+
+    @Test
+    @DisplayName("Should stream a project's live tasks in creation order")
+    void shouldStreamProjectTasks() {
+        taskRepository.save(testTask);
+        Task second = new Task();
+        second.setTitle("Streamed Task");
+        second.setDescription("Second exported task");
+        second.setType(Type_Enum.TASK);
+        second.setProject(testProject);
+        taskRepository.save(second);
+        Task deleted = new Task();
+        deleted.setTitle("Deleted Task");
+        deleted.setDescription("Not exported");
+        deleted.setType(Type_Enum.TASK);
+        deleted.setProject(testProject);
+        deleted.setDeleted(true);
+        taskRepository.saveAndFlush(deleted);
+
+        List<String> titles;
+        try (Stream<TaskDTO> tasks = taskRepository.streamDtosByProjectId(testProject.getId())) {
+            titles = tasks.map(TaskDTO::title).toList();
+        }
+
+        assertEquals(List.of("Test Task", "Streamed Task"), titles);
+    }
+
+    @Test
+    @DisplayName("Should load a live subtree down to the depth limit in one statement")
+    void shouldFindSubtreeInOneStatement() {
+        Task root = taskRepository.save(testTask);
+        Task child = saveSubtask("Child Task", root, false);
+        Task grandchild = saveSubtask("Grandchild Task", child, false);
+        saveSubtask("Great-grandchild Task", grandchild, false);
+        saveSubtask("Deleted Child Task", root, true);
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<TaskTreeDTO.Row> rows = taskRepository.findSubtree(root.getId(), 2);
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(List.of(root.getId(), child.getId(), grandchild.getId()), rows.stream().map(TaskTreeDTO.Row::id).toList());
+        assertEquals(List.of(0, 1, 2), rows.stream().map(TaskTreeDTO.Row::depth).toList());
+        assertNull(rows.get(0).parent_id());
+        assertEquals(child.getId(), rows.get(2).parent_id());
+        assertEquals(Type_Enum.SUBTASK, rows.get(1).type());
+    }
+
+    @Test
+    @DisplayName("Should return no rows for a missing or deleted root")
+    void shouldFindNoSubtreeForDeletedRoot() {
+        testTask.setDeleted(true);
+        Task root = taskRepository.save(testTask);
+        saveSubtask("Orphaned Child Task", root, false);
+        entityManager.flush();
+
+        assertTrue(taskRepository.findSubtree(root.getId(), 10).isEmpty());
+        assertTrue(taskRepository.findSubtree(UUID.randomUUID(), 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should find existing titles for a batch of projects in one query")
+    void shouldFindTitlesInProjects() {
+        taskRepository.save(testTask);
+
+        List<Object[]> existing = taskRepository.findTitlesInProjects(
+                Set.of(testProject.getId(), UUID.randomUUID()), Set.of("Test Task", "Missing Task"));
+
+        assertEquals(1, existing.size());
+        assertEquals(testProject.getId(), existing.get(0)[0]);
+        assertEquals("Test Task", existing.get(0)[1]);
+    }
+
+    @Test
+    @DisplayName("Should complete only pending tasks with one update statement")
+    void shouldCompletePendingTasksInOneStatement() {
+        Task pending = taskRepository.save(testTask);
+        Task done = new Task();
+        done.setTitle("Done Task");
+        done.setDescription("Already completed");
+        done.setType(Type_Enum.TASK);
+        done.setProject(testProject);
+        done.setCompleted(true);
+        done.setFinishedAt(LocalDateTime.of(2025, 1, 1, 10, 0));
+        done = taskRepository.save(done);
+        entityManager.flush();
+        entityManager.clear();
+
+        List<UUID> ids = List.of(pending.getId(), done.getId());
+        List<Object[]> states = taskRepository.findCompletionStates(ids);
+        assertEquals(2, states.size());
+
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        int updated = taskRepository.completeAll(ids, LocalDateTime.now());
+        entityManager.clear();
+
+        assertEquals(1, updated);
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertTrue(taskRepository.findById(pending.getId()).orElseThrow().isCompleted());
+        assertEquals(LocalDateTime.of(2025, 1, 1, 10, 0), taskRepository.findById(done.getId()).orElseThrow().getFinishedAt());
+    }
+
+    @Test
+    @DisplayName("Should compute the same version as the loaded listing")
+    void shouldComputeVersionOfProjectTasks() {
+        taskRepository.save(testTask);
+        Task secondTask = new Task();
+        secondTask.setTitle("Versioned Task");
+        secondTask.setDescription("Task counted by the version query");
+        secondTask.setType(Type_Enum.TASK);
+        secondTask.setProject(testProject);
+        taskRepository.saveAndFlush(secondTask);
+
+        CollectionVersion version = taskRepository.findVersionByProjectId(testProject.getId());
+
+        assertEquals(CollectionVersion.of(taskRepository.findDtosByProjectId(testProject.getId()), TaskDTO::updatedAt), version);
+        assertEquals(2, version.count());
+        assertEquals(Optional.of(secondTask.getUpdatedAt()), taskRepository.findUpdatedAtById(secondTask.getId()));
+        assertEquals(new CollectionVersion(0, null), taskRepository.findVersionByUserId(UUID.randomUUID()));
+    }
+
     @Test
     @DisplayName("Should verify task exists by title and project ID")
     void shouldVerifyTaskExistsByTitleAndProjectId() {
@@ -239,6 +549,35 @@ class TaskRepositoryTest {
         assertFalse(deletedTask.isPresent());
     }
 
+    @Test
+    @DisplayName("Should hide soft-deleted tasks from lookups and title search")
+    void shouldHideSoftDeletedTasks() {
+        Task live = taskRepository.save(testTask);
+        Task deleted = saveSubtask("Test Task Deleted", live, true);
+        entityManager.flush();
+        entityManager.clear();
+
+        assertEquals(List.of(live.getId()), taskRepository.findAllByProject_Id(testProject.getId()).stream().map(Task::getId).toList());
+        assertEquals(List.of(live.getId()), taskRepository.searchByTitle("test task", Limit.of(10)).stream().map(TaskDTO::id).toList());
+        assertFalse(taskRepository.findById(deleted.getId()).isPresent());
+        assertFalse(taskRepository.existsByTitleAndProjectId("Test Task Deleted", testProject.getId()));
+    }
+
+    @Test
+    @DisplayName("Should still load a subtask whose parent is soft-deleted")
+    void shouldLoadSubtaskOfDeletedParent() {
+        testTask.setDeleted(true);
+        Task parent = taskRepository.save(testTask);
+        Task child = saveSubtask("Orphaned Child Task", parent, false);
+        entityManager.flush();
+        entityManager.clear();
+
+        Task loaded = taskRepository.findById(child.getId()).orElseThrow();
+
+        assertEquals(List.of(child.getId()), taskRepository.findAllByProject_Id(testProject.getId()).stream().map(Task::getId).toList());
+        assertEquals("Orphaned Child Task", loaded.getTitle());
+    }
+
     @Test
     @DisplayName("Should update task successfully")
     void shouldUpdateTaskSuccessfully() {
@@ -301,4 +640,51 @@ class TaskRepositoryTest {
 
         assertEquals(5, allTasks.size());
     }
+
+    @Test
+    @DisplayName("Should walk all tasks with keyset pagination without repeating rows")
+    void shouldWalkAllTasksWithKeysetPagination() {
+        for (int i = 1; i <= 5; i++) {
+            Task task = new Task();
+            task.setTitle("Task " + i);
+            task.setDescription("Description for task " + i);
+            task.setStory_points(i);
+            task.setType(Type_Enum.TASK);
+            task.setProject(testProject);
+            taskRepository.save(task);
+        }
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<TaskDTO> firstPage = taskRepository.findFirstPage(Limit.of(2));
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        TaskDTO last = firstPage.get(firstPage.size() - 1);
+        List<TaskDTO> secondPage = taskRepository.findPageAfter(last.createdAt(), last.id(), Limit.of(2));
+        last = secondPage.get(secondPage.size() - 1);
+        List<TaskDTO> thirdPage = taskRepository.findPageAfter(last.createdAt(), last.id(), Limit.of(2));
+
+        assertEquals(2, firstPage.size());
+        assertEquals(2, secondPage.size());
+        assertEquals(1, thirdPage.size());
+        Set<UUID> seen = new HashSet<>();
+        firstPage.forEach(t -> seen.add(t.id()));
+        secondPage.forEach(t -> seen.add(t.id()));
+        thirdPage.forEach(t -> seen.add(t.id()));
+        assertEquals(5, seen.size());
+    }
+
+    private Task saveSubtask(String title, Task parent, boolean deleted) {
+        Task task = new Task();
+        task.setTitle(title);
+        task.setDescription("Subtask of " + parent.getTitle());
+        task.setStory_points(1);
+        task.setType(Type_Enum.SUBTASK);
+        task.setProject(testProject);
+        task.setTask_parent(parent);
+        task.setDeleted(deleted);
+        return taskRepository.save(task);
+    }
 }
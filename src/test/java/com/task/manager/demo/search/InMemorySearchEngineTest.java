@@ -0,0 +1,118 @@
+package com.task.manager.demo.search;
+
+import com.task.manager.demo.dto.epic.EpicDTO;
+import com.task.manager.demo.dto.task.TaskDTO;
+import com.task.manager.demo.entity.Epic;
+import com.task.manager.demo.entity.Project;
+import com.task.manager.demo.entity.Task;
+import com.task.manager.demo.entity.Type_Enum;
+import com.task.manager.demo.mapper.EpicMapper;
+import com.task.manager.demo.mapper.ProjectMapper;
+import com.task.manager.demo.mapper.TaskMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("InMemorySearchEngine - Unit Tests")
+class InMemorySearchEngineTest {
+
+    private final TaskMapper taskMapper = Mappers.getMapper(TaskMapper.class);
+    private final ProjectMapper projectMapper = Mappers.getMapper(ProjectMapper.class);
+
+    private InMemorySearchEngine engine;
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        engine = new InMemorySearchEngine(taskMapper, Mappers.getMapper(EpicMapper.class), projectMapper);
+        project = Project.builder().id(UUID.randomUUID()).projectTitle("Backend").projectDescription("API").build();
+    }
+
+    private Task task(String title, String description) {
+        return Task.builder()
+                .id(UUID.randomUUID())
+                .title(title)
+                .description(description)
+                .type(Type_Enum.TASK)
+                .project(project)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should rank exact, prefix, substring and description matches in that order")
+    void shouldRankMatches() {
+        engine.rebuild(() -> Stream.of(
+                task("Fix login bug", "Users cannot sign in"),
+                task("Login", "Login form"),
+                task("Login page", "Landing"),
+                task("Navbar", "Shows the login state")
+        ).map(taskMapper::toDto), Stream::empty, () -> Stream.of(projectMapper.toDto(project)));
+
+        List<String> titles = engine.searchTasks("LOGIN", 10).stream().map(TaskDTO::title).toList();
+
+        assertEquals(List.of("Login", "Login page", "Fix login bug", "Navbar"), titles);
+        assertEquals(2, engine.searchTasks("login", 2).size());
+    }
+
+    @Test
+    @DisplayName("Should match short queries and text spanning words")
+    void shouldMatchShortQueriesAndMultiWordText() {
+        engine.rebuild(() -> Stream.of(taskMapper.toDto(task("Fix login bug", "desc"))), Stream::empty, Stream::empty);
+
+        assertEquals(1, engine.searchTasks("g", 10).size());
+        assertEquals(1, engine.searchTasks("in  bu", 10).size());
+        assertTrue(engine.searchTasks("logout", 10).isEmpty());
+        assertTrue(engine.searchTasks("  ", 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should refresh updated entries and drop deleted ones")
+    void shouldApplyIncrementalUpdates() {
+        Epic epic = Epic.builder().id(UUID.randomUUID()).epic_title("Payments").epic_description("d").project(project).build();
+        engine.index(epic);
+        assertEquals(1, engine.searchEpics("pay", 10).size());
+
+        epic.setEpicTitle("Billing");
+        engine.index(epic);
+        assertTrue(engine.searchEpics("pay", 10).isEmpty());
+        assertEquals(List.of("Billing"), engine.searchEpics("bill", 10).stream().map(EpicDTO::title).toList());
+
+        epic.setDeleted(true);
+        engine.index(epic);
+        assertTrue(engine.searchEpics("bill", 10).isEmpty());
+
+        engine.index(project);
+        engine.remove(project);
+        assertTrue(engine.searchProjects("back", 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should keep answering during a rebuild and keep the changes made meanwhile")
+    void shouldSwapRebuiltIndexes() {
+        Task renamed = task("Old title", "desc");
+        Task created = task("Created meanwhile", "desc");
+        engine.index(renamed);
+        TaskDTO stale = taskMapper.toDto(renamed);
+
+        engine.rebuild(() -> {
+            // committed while the snapshot is read: the current content still answers
+            renamed.setTitle("New title");
+            engine.index(renamed);
+            engine.index(created);
+            assertEquals(1, engine.searchTasks("created", 10).size());
+            // the snapshot was read before the rename reached it
+            return Stream.of(stale, taskMapper.toDto(task("Snapshot task", "desc")));
+        }, Stream::empty, Stream::empty);
+
+        assertEquals(List.of("New title"), engine.searchTasks("title", 10).stream().map(TaskDTO::title).toList());
+        assertEquals(1, engine.searchTasks("created", 10).size());
+        assertEquals(1, engine.searchTasks("snapshot", 10).size());
+    }
+}
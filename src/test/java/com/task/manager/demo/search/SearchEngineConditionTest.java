@@ -0,0 +1,40 @@
+package com.task.manager.demo.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SearchEngineCondition - Unit Tests")
+class SearchEngineConditionTest {
+
+    @Test
+    @DisplayName("Should take the database engine on PostgreSQL by default")
+    void shouldTakeDatabaseEngineOnPostgres() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("spring.datasource.url", "jdbc:postgresql://localhost:5432/tasks");
+
+        assertEquals(SearchEngineCondition.DATABASE, SearchEngineCondition.resolve(environment));
+    }
+
+    @Test
+    @DisplayName("Should fall back to the memory engine on H2")
+    void shouldFallBackToMemoryEngineOnH2() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("search.engine", "auto")
+                .withProperty("spring.datasource.url", "jdbc:h2:mem:testdb");
+
+        assertEquals(SearchEngineCondition.MEMORY, SearchEngineCondition.resolve(environment));
+    }
+
+    @Test
+    @DisplayName("Should keep an engine chosen explicitly")
+    void shouldKeepExplicitEngine() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("search.engine", "database")
+                .withProperty("spring.datasource.url", "jdbc:h2:mem:testdb");
+
+        assertEquals(SearchEngineCondition.DATABASE, SearchEngineCondition.resolve(environment));
+    }
+}
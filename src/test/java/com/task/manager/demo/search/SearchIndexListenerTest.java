@@ -0,0 +1,164 @@
+package com.task.manager.demo.search;
+
+import com.task.manager.demo.dto.epic.EpicDTO;
+import com.task.manager.demo.dto.task.TaskDTO;
+import com.task.manager.demo.entity.Epic;
+import com.task.manager.demo.entity.Project;
+import com.task.manager.demo.entity.Task;
+import com.task.manager.demo.entity.Type_Enum;
+import com.task.manager.demo.repository.EpicRepository;
+import com.task.manager.demo.repository.ProjectRepository;
+import com.task.manager.demo.repository.TaskRepository;
+import com.task.manager.demo.service.epic.EpicService;
+import com.task.manager.demo.service.task.TaskService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.jdbc.JdbcTestUtils;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+    "spring.config.import=",
+    "spring.datasource.url=jdbc:h2:mem:testdb",
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "search.engine=memory",
+    "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@DisplayName("SearchIndexListener - Integration Tests")
+class SearchIndexListenerTest {
+
+    @Autowired
+    private SearchEngine searchEngine;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private EpicRepository epicRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private EpicService epicService;
+
+    @Autowired
+    private InMemorySearchIndexLoader loader;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        // deleteAllInBatch would skip soft-deleted tasks and trip over their parent links
+        JdbcTestUtils.deleteFromTables(jdbcTemplate, "task", "epic");
+        projectRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("Should keep the in-memory index in sync with saves, updates and soft deletes")
+    void shouldIndexPersistedChanges() {
+        assertInstanceOf(InMemorySearchEngine.class, searchEngine);
+
+        Project project = new Project();
+        project.setProjectTitle("Indexed Project");
+        project.setProjectDescription("Project used by the search listener test");
+        project = projectRepository.save(project);
+
+        Task task = new Task();
+        task.setTitle("Indexed Task");
+        task.setDescription("Created through the repository");
+        task.setType(Type_Enum.TASK);
+        task.setProject(project);
+        task = taskRepository.save(task);
+
+        assertEquals(List.of("Indexed Task"), searchEngine.searchTasks("indexed", 10).stream().map(TaskDTO::title).toList());
+        assertEquals(1, searchEngine.searchProjects("indexed project", 10).size());
+
+        task.setTitle("Renamed Task");
+        task = taskRepository.save(task);
+        assertTrue(searchEngine.searchTasks("indexed", 10).isEmpty());
+        assertEquals(1, searchEngine.searchTasks("renamed", 10).size());
+
+        taskRepository.deleteById(task.getId());
+        assertTrue(searchEngine.searchTasks("renamed", 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should re-index the tasks and epics completed by a set-based update")
+    void shouldIndexBulkCompletions() {
+        Project project = new Project();
+        project.setProjectTitle("Bulk Project");
+        project.setProjectDescription("Project used by the search listener test");
+        project = projectRepository.save(project);
+
+        Epic epic = new Epic();
+        epic.setEpicTitle("Bulk Epic");
+        epic.setEpicDescription("Completed in bulk");
+        epic.setProject(project);
+        epic = epicRepository.save(epic);
+
+        Task task = new Task();
+        task.setTitle("Bulk Task");
+        task.setDescription("Completed in bulk");
+        task.setType(Type_Enum.TASK);
+        task.setProject(project);
+        task = taskRepository.save(task);
+
+        taskService.completeAll(List.of(task.getId()));
+        epicService.completeAll(List.of(epic.getId()));
+
+        assertEquals(List.of(true), searchEngine.searchTasks("bulk task", 10).stream().map(TaskDTO::completed).toList());
+        assertEquals(List.of(true), searchEngine.searchEpics("bulk epic", 10).stream().map(EpicDTO::completed).toList());
+    }
+
+    @Test
+    @DisplayName("Should rebuild from the DTO projections without loading entities")
+    void shouldRebuildFromDtoProjections() {
+        Project project = new Project();
+        project.setProjectTitle("Rebuilt Project");
+        project.setProjectDescription("Project used by the search listener test");
+        project = projectRepository.save(project);
+        // written behind the listener's back, only a rebuild can index them
+        insertTask("Rebuilt Task", false, project.getId());
+        insertTask("Rebuilt Deleted Task", true, project.getId());
+        jdbcTemplate.update("INSERT INTO epic (id, epic_title, epic_description, epic_story_points, completed, deleted, version, "
+                + "total_tasks, completed_tasks, total_story_points, completed_story_points, created_at, project_id) "
+                + "VALUES (?, 'Rebuilt Epic', 'Inserted directly', 0, false, false, 0, 0, 0, 0, 0, CURRENT_TIMESTAMP, ?)", UUID.randomUUID(), project.getId());
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        loader.rebuild();
+
+        assertEquals(3, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(List.of("Rebuilt Task"), searchEngine.searchTasks("rebuilt", 10).stream().map(TaskDTO::title).toList());
+        assertEquals(1, searchEngine.searchEpics("rebuilt", 10).size());
+        assertEquals(1, searchEngine.searchProjects("rebuilt", 10).size());
+    }
+
+    private void insertTask(String title, boolean deleted, UUID projectId) {
+        jdbcTemplate.update("INSERT INTO task (id, title, description, story_points, completed, deleted, version, created_at, task_type, project_id) "
+                + "VALUES (?, ?, 'Inserted directly', 1, false, ?, 0, CURRENT_TIMESTAMP, 'TASK', ?)", UUID.randomUUID(), title, deleted, projectId);
+    }
+}
@@ -1,9 +1,12 @@
 package com.task.manager.demo.security.filter;
 
+import com.task.manager.demo.security.jwt.JwtPrincipal;
 import com.task.manager.demo.security.jwt.JwtTokenProvider;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -12,7 +15,6 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -25,6 +27,7 @@ import java.nio.charset.StandardCharsets;
 import java.security.Key;
 import java.util.Date;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -46,7 +49,8 @@ class JwtAuthenticationFilterTest {
     @Mock
     private FilterChain filterChain;
 
-    @InjectMocks
+    private MeterRegistry meterRegistry;
+
     private JwtAuthenticationFilter jwtAuthenticationFilter;
 
     private String validToken;
@@ -55,6 +59,9 @@ class JwtAuthenticationFilterTest {
 
     @BeforeEach
     void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        jwtAuthenticationFilter = new JwtAuthenticationFilter(tokenProvider, meterRegistry);
+
         // Generate proper secure key for HS512
         Key secretKey = Keys.secretKeyFor(SignatureAlgorithm.HS512);
         String secret = new String(secretKey.getEncoded(), StandardCharsets.UTF_8);
@@ -85,9 +92,8 @@ class JwtAuthenticationFilterTest {
     @DisplayName("Should process valid JWT token and set authentication")
     void shouldProcessValidJWTTokenAndSetAuthentication() throws ServletException, IOException {
         // Mock token provider
-        when(tokenProvider.validateToken(validToken)).thenReturn(true);
-        when(tokenProvider.getUsernameFromToken(validToken)).thenReturn("testuser");
-        when(tokenProvider.getRolesFromToken(validToken)).thenReturn(List.of("USER", "ADMIN"));
+        when(tokenProvider.parseToken(validToken))
+                .thenReturn(Optional.of(new JwtPrincipal("testuser", List.of("USER", "ADMIN"), new Date(System.currentTimeMillis() + 3600000))));
 
         // Mock request with valid token
         when(request.getHeader("Authorization")).thenReturn("Bearer " + validToken);
@@ -107,10 +113,49 @@ class JwtAuthenticationFilterTest {
         assertTrue(authentication.getAuthorities().stream()
                 .anyMatch(a -> a.getAuthority().equals("ROLE_ADMIN")));
 
+        // Verify the token was verified only once
+        verify(tokenProvider, times(1)).parseToken(validToken);
+        assertEquals(1, meterRegistry.get(JwtAuthenticationFilter.PARSE_TIMER).timer().count());
+        assertEquals(0, meterRegistry.get(JwtAuthenticationFilter.FAILURE_COUNTER).tag("reason", "invalid").counter().count());
+
+        // Verify filter chain was called
+        verify(filterChain, times(1)).doFilter(request, response);
+    }
+
+    @Test
+    @DisplayName("Should not set authentication when token verification fails")
+    void shouldNotSetAuthenticationWhenTokenVerificationFails() throws ServletException, IOException {
+        SecurityContextHolder.clearContext();
+        when(tokenProvider.parseToken(invalidToken)).thenReturn(Optional.empty());
+
+        // Mock request with invalid token
+        when(request.getHeader("Authorization")).thenReturn("Bearer " + invalidToken);
+
+        // Execute filter
+        jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
+
+        // Verify no authentication was set
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+        assertEquals(1, meterRegistry.get(JwtAuthenticationFilter.PARSE_TIMER).timer().count());
+        assertEquals(1, meterRegistry.get(JwtAuthenticationFilter.FAILURE_COUNTER).tag("reason", "invalid").counter().count());
+
         // Verify filter chain was called
         verify(filterChain, times(1)).doFilter(request, response);
     }
 
+    @Test
+    @DisplayName("Should count an error raised while authenticating and continue the chain")
+    void shouldCountErrorRaisedWhileAuthenticating() throws ServletException, IOException {
+        SecurityContextHolder.clearContext();
+        when(tokenProvider.parseToken(validToken)).thenThrow(new IllegalStateException("broken key"));
+        when(request.getHeader("Authorization")).thenReturn("Bearer " + validToken);
+
+        jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
+
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+        assertEquals(1, meterRegistry.get(JwtAuthenticationFilter.FAILURE_COUNTER).tag("reason", "error").counter().count());
+        verify(filterChain, times(1)).doFilter(request, response);
+    }
 
     @Test
     @DisplayName("Should handle invalid Authorization header format")
@@ -132,9 +177,8 @@ class JwtAuthenticationFilterTest {
     @DisplayName("Should handle token with null roles")
     void shouldHandleTokenWithNullRoles() throws ServletException, IOException {
         // Mock token provider
-        when(tokenProvider.validateToken(validToken)).thenReturn(true);
-        when(tokenProvider.getUsernameFromToken(validToken)).thenReturn("testuser");
-        when(tokenProvider.getRolesFromToken(validToken)).thenReturn(null);
+        when(tokenProvider.parseToken(validToken))
+                .thenReturn(Optional.of(new JwtPrincipal("testuser", null, new Date(System.currentTimeMillis() + 3600000))));
 
         // Mock request with valid token
         when(request.getHeader("Authorization")).thenReturn("Bearer " + validToken);
@@ -158,9 +202,8 @@ class JwtAuthenticationFilterTest {
     @DisplayName("Should handle token with empty roles list")
     void shouldHandleTokenWithEmptyRolesList() throws ServletException, IOException {
         // Mock token provider
-        when(tokenProvider.validateToken(validToken)).thenReturn(true);
-        when(tokenProvider.getUsernameFromToken(validToken)).thenReturn("testuser");
-        when(tokenProvider.getRolesFromToken(validToken)).thenReturn(List.of());
+        when(tokenProvider.parseToken(validToken))
+                .thenReturn(Optional.of(new JwtPrincipal("testuser", List.of(), new Date(System.currentTimeMillis() + 3600000))));
 
         // Mock request with valid token
         when(request.getHeader("Authorization")).thenReturn("Bearer " + validToken);
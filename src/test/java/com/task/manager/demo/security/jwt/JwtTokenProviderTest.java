@@ -21,6 +21,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Date;
 import java.util.List;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -198,4 +199,29 @@ class JwtTokenProviderTest {
         assertTrue(roles.contains("USER"));
         assertTrue(roles.contains("ADMIN"));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should parse subject, roles and expiry from valid token in a single call")
+    void shouldParsePrincipalFromValidToken() {
+        Collection<GrantedAuthority> authorities = new ArrayList<>();
+        authorities.add(new SimpleGrantedAuthority("ROLE_USER"));
+
+        Authentication authentication =
+                new UsernamePasswordAuthenticationToken("testuser", "password", authorities);
+
+        String token = jwtTokenProvider.generateToken(authentication);
+        Optional<JwtPrincipal> principal = jwtTokenProvider.parseToken(token);
+
+        assertTrue(principal.isPresent());
+        assertEquals("testuser", principal.get().username());
+        assertEquals(List.of("USER"), principal.get().roles());
+        assertTrue(principal.get().expiration().after(new Date()));
+    }
+
+    @Test
+    @DisplayName("Should return empty principal for invalid or null token")
+    void shouldReturnEmptyPrincipalForInvalidToken() {
+        assertTrue(jwtTokenProvider.parseToken("invalid.token.here").isEmpty());
+        assertTrue(jwtTokenProvider.parseToken(null).isEmpty());
+    }
+}
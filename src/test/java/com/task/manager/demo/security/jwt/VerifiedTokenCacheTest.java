@@ -0,0 +1,108 @@
+package com.task.manager.demo.security.jwt;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("VerifiedTokenCache - Unit Tests")
+class VerifiedTokenCacheTest {
+
+    private final JwtPrincipal principal =
+            new JwtPrincipal("testuser", List.of("USER"), new Date(System.currentTimeMillis() + 3600000));
+
+    @Test
+    @DisplayName("Should verify a token only once while it is cached")
+    void shouldVerifyTokenOnlyOnceWhileCached() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(true, 100);
+        AtomicInteger verifications = new AtomicInteger();
+        Function<String, Optional<JwtPrincipal>> verifier = token -> {
+            verifications.incrementAndGet();
+            return Optional.of(principal);
+        };
+
+        assertEquals(Optional.of(principal), cache.get("token", verifier));
+        assertEquals(Optional.of(principal), cache.get("token", verifier));
+
+        assertEquals(1, verifications.get());
+        assertEquals(1, cache.stats().hitCount());
+        assertEquals(1, cache.stats().missCount());
+    }
+
+    @Test
+    @DisplayName("Should publish hits and misses as cache meters")
+    void shouldPublishCacheMeters() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(true, 100);
+        MeterRegistry registry = new SimpleMeterRegistry();
+        cache.bindTo(registry);
+
+        cache.get("token", token -> Optional.of(principal));
+        cache.get("token", token -> Optional.of(principal));
+
+        assertEquals(1, registry.get("cache.gets").tag("cache", VerifiedTokenCache.CACHE_NAME).tag("result", "hit")
+                .functionCounter().count());
+        assertEquals(1, registry.get("cache.gets").tag("cache", VerifiedTokenCache.CACHE_NAME).tag("result", "miss")
+                .functionCounter().count());
+        assertEquals(1, registry.get("cache.size").tag("cache", VerifiedTokenCache.CACHE_NAME).gauge().value());
+    }
+
+    @Test
+    @DisplayName("Should not cache invalid tokens")
+    void shouldNotCacheInvalidTokens() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(true, 100);
+        AtomicInteger verifications = new AtomicInteger();
+        Function<String, Optional<JwtPrincipal>> verifier = token -> {
+            verifications.incrementAndGet();
+            return Optional.empty();
+        };
+
+        assertTrue(cache.get("invalid", verifier).isEmpty());
+        assertTrue(cache.get("invalid", verifier).isEmpty());
+
+        assertEquals(2, verifications.get());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    @DisplayName("Should not cache tokens that are already expired")
+    void shouldNotServeExpiredTokens() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(true, 100);
+        JwtPrincipal expired = new JwtPrincipal("testuser", List.of("USER"), new Date(System.currentTimeMillis() - 1000));
+        AtomicInteger verifications = new AtomicInteger();
+        Function<String, Optional<JwtPrincipal>> verifier = token -> {
+            verifications.incrementAndGet();
+            return Optional.of(expired);
+        };
+
+        cache.get("expired", verifier);
+        cache.get("expired", verifier);
+
+        assertEquals(2, verifications.get());
+    }
+
+    @Test
+    @DisplayName("Should always verify when the cache is disabled")
+    void shouldAlwaysVerifyWhenDisabled() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(false, 100);
+        AtomicInteger verifications = new AtomicInteger();
+        Function<String, Optional<JwtPrincipal>> verifier = token -> {
+            verifications.incrementAndGet();
+            return Optional.of(principal);
+        };
+
+        cache.get("token", verifier);
+        cache.get("token", verifier);
+
+        assertFalse(cache.isEnabled());
+        assertEquals(2, verifications.get());
+        assertEquals(0, cache.stats().requestCount());
+    }
+}
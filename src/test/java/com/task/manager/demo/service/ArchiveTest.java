@@ -0,0 +1,231 @@
+package com.task.manager.demo.service;
+
+import com.task.manager.demo.dto.epic.EpicProgressDTO;
+import com.task.manager.demo.dto.task.TaskDTO;
+import com.task.manager.demo.dto.task.TaskRequest;
+import com.task.manager.demo.entity.Epic;
+import com.task.manager.demo.entity.Project;
+import com.task.manager.demo.exception.BadRequestException;
+import com.task.manager.demo.exception.ResourceNotFoundException;
+import com.task.manager.demo.repository.EpicRepository;
+import com.task.manager.demo.repository.ProjectRepository;
+import com.task.manager.demo.repository.TaskRepository;
+import com.task.manager.demo.service.archive.ArchiveService;
+import com.task.manager.demo.service.epic.EpicService;
+import com.task.manager.demo.service.task.TaskService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.jdbc.JdbcTestUtils;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+    "spring.config.import=",
+    "spring.datasource.url=jdbc:h2:mem:testdb",
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "archive.retention-days=30",
+    "archive.batch-size=2"
+})
+@DisplayName("Archival of soft-deleted rows - Integration Tests")
+class ArchiveTest {
+
+    @Autowired
+    private ArchiveService archiveService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private EpicService epicService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private EpicRepository epicRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Project project;
+    private Epic epic;
+
+    @BeforeEach
+    void setUp() {
+        project = saveProject("Archive Project");
+        epic = new Epic();
+        epic.setEpicTitle("Archive Epic");
+        epic.setEpicDescription("Epic used by the archive test");
+        epic.setProject(project);
+        epic = epicRepository.save(epic);
+    }
+
+    @AfterEach
+    void tearDown() {
+        JdbcTestUtils.deleteFromTables(jdbcTemplate, "task", "task_archive", "epic", "epic_archive", "project", "project_archive");
+    }
+
+    @Test
+    @DisplayName("Should archive old deletions in batches once nothing references them")
+    void shouldArchiveOldDeletions() {
+        UUID parent = create("Deleted parent", null);
+        UUID child = create("Deleted child", parent);
+        UUID blocking = create("Deleted with a live subtask", null);
+        UUID live = create("Live subtask", blocking);
+        UUID recent = create("Recently deleted", null);
+        List<UUID> old = List.of(create("Old 1", null), create("Old 2", null), create("Old 3", null));
+        for (UUID id : List.of(child, parent, blocking, recent, old.get(0), old.get(1), old.get(2))) {
+            taskService.deleteById(id, null);
+        }
+        for (UUID id : List.of(child, parent, blocking, old.get(0), old.get(1), old.get(2))) {
+            age("task", id);
+        }
+        double movedBefore = meterRegistry.get("archive.rows.moved").tag("table", "task").counter().count();
+        long batchesBefore = meterRegistry.get("archive.batch.duration").tag("table", "task").timer().count();
+
+        assertEquals(5, archiveService.archiveDeleted());
+
+        assertEquals(List.of("Deleted with a live subtask", "Live subtask", "Recently deleted"),
+                jdbcTemplate.queryForList("SELECT title FROM task ORDER BY title", String.class));
+        assertEquals(5, JdbcTestUtils.countRowsInTable(jdbcTemplate, "task_archive"));
+        assertEquals(0, JdbcTestUtils.countRowsInTableWhere(jdbcTemplate, "task_closure", "descendant_id = '" + child + "'"));
+        assertEquals(1, JdbcTestUtils.countRowsInTableWhere(jdbcTemplate, "task_closure",
+                "ancestor_id = '" + blocking + "' AND descendant_id = '" + live + "'"));
+        assertEquals(5, meterRegistry.get("archive.rows.moved").tag("table", "task").counter().count() - movedBefore);
+        // batches of two: a full one, the one freeing the parent, then one finding nothing
+        assertTrue(meterRegistry.get("archive.batch.duration").tag("table", "task").timer().count() - batchesBefore >= 3);
+        assertEquals(0, archiveService.archiveDeleted());
+    }
+
+    @Test
+    @DisplayName("Should restore an archived task into its hierarchy and epic progress")
+    void shouldRestoreArchivedTask() {
+        UUID parent = create("Parent", null);
+        UUID task = create("Restored", parent);
+        taskService.assignToEpic(task, epic.getId());
+        taskService.deleteById(task, null);
+        age("task", task);
+        assertEquals(1, archiveService.archiveDeleted());
+        assertEquals(new EpicProgressDTO(epic.getId(), 0, 0, 0, 0), epicService.getProgress(epic.getId()));
+
+        TaskDTO restored = archiveService.restoreTask(task);
+
+        assertEquals("Restored", restored.title());
+        assertEquals(0, JdbcTestUtils.countRowsInTable(jdbcTemplate, "task_archive"));
+        assertTrue(taskRepository.findById(task).isPresent());
+        assertEquals(List.of(parent), taskService.getAncestors(task).stream().map(TaskDTO::id).toList());
+        assertEquals(new EpicProgressDTO(epic.getId(), 1, 0, 2, 0), epicService.getProgress(epic.getId()));
+    }
+
+    @Test
+    @DisplayName("Should restore a hierarchy from the top down")
+    void shouldRestoreHierarchyFromTheTopDown() {
+        UUID parent = create("Parent", null);
+        UUID child = create("Child", parent);
+        taskService.deleteById(child, null);
+        taskService.deleteById(parent, null);
+        age("task", child);
+        age("task", parent);
+        assertEquals(2, archiveService.archiveDeleted());
+
+        BadRequestException orphan = assertThrows(BadRequestException.class, () -> archiveService.restoreTask(child));
+        archiveService.restoreTask(parent);
+        archiveService.restoreTask(child);
+
+        assertEquals("The parent of this task is deleted, restore it first", orphan.getMessage());
+        assertEquals(List.of(parent), taskService.getAncestors(child).stream().map(TaskDTO::id).toList());
+        assertEquals(List.of(child), taskService.getDescendants(parent).stream().map(TaskDTO::id).toList());
+    }
+
+    @Test
+    @DisplayName("Should restore a deleted task that is not archived yet")
+    void shouldRestoreDeletedTask() {
+        UUID parent = create("Parent", null);
+        UUID task = create("Deleted", parent);
+        taskService.deleteById(task, null);
+        create("Deleted", null);
+        double restoredBefore = meterRegistry.get("archive.rows.restored").tag("table", "task").counter().count();
+
+        BadRequestException taken = assertThrows(BadRequestException.class, () -> archiveService.restoreTask(task));
+        assertEquals("Title already exists in this project", taken.getMessage());
+        assertEquals(restoredBefore, meterRegistry.get("archive.rows.restored").tag("table", "task").counter().count());
+
+        jdbcTemplate.update("DELETE FROM task WHERE title = 'Deleted' AND deleted = false");
+        archiveService.restoreTask(task);
+
+        assertEquals(1, meterRegistry.get("archive.rows.restored").tag("table", "task").counter().count() - restoredBefore);
+        assertEquals(List.of(parent), taskService.getAncestors(task).stream().map(TaskDTO::id).toList());
+        assertThrows(ResourceNotFoundException.class, () -> archiveService.restoreTask(task));
+        assertThrows(ResourceNotFoundException.class, () -> archiveService.restoreTask(UUID.randomUUID()));
+    }
+
+    @Test
+    @DisplayName("Should archive and restore epics and projects")
+    void shouldArchiveAndRestoreEpicsAndProjects() {
+        Project other = saveProject("Archived Project");
+        Epic archived = new Epic();
+        archived.setEpicTitle("Archived Epic");
+        archived.setEpicDescription("Epic of the archived project");
+        archived.setProject(other);
+        archived = epicRepository.save(archived);
+        epicRepository.deleteById(archived.getId());
+        projectRepository.deleteById(other.getId());
+        age("epic", archived.getId());
+        age("project", other.getId());
+
+        assertEquals(2, archiveService.archiveDeleted());
+        assertEquals(1, JdbcTestUtils.countRowsInTable(jdbcTemplate, "epic_archive"));
+        assertEquals(1, JdbcTestUtils.countRowsInTable(jdbcTemplate, "project_archive"));
+
+        UUID epicId = archived.getId();
+        BadRequestException orphan = assertThrows(BadRequestException.class, () -> archiveService.restoreEpic(epicId));
+        assertEquals("The project of this epic is deleted, restore it first", orphan.getMessage());
+
+        UUID clash = saveProject("Archived Project").getId();
+        BadRequestException taken = assertThrows(BadRequestException.class, () -> archiveService.restoreProject(other.getId()));
+        assertEquals("Title already exists", taken.getMessage());
+        projectRepository.deleteById(clash);
+
+        assertEquals("Archived Project", archiveService.restoreProject(other.getId()).title());
+        assertEquals("Archived Epic", archiveService.restoreEpic(epicId).title());
+        assertTrue(projectRepository.findById(other.getId()).isPresent());
+        assertTrue(epicRepository.findById(epicId).isPresent());
+        assertEquals(0, JdbcTestUtils.countRowsInTable(jdbcTemplate, "epic_archive"));
+        assertEquals(0, JdbcTestUtils.countRowsInTable(jdbcTemplate, "project_archive"));
+    }
+
+    private UUID create(String title, UUID parent) {
+        return taskService.create(new TaskRequest(title, "Task used by the archive test", 2, parent == null ? "TASK" : "SUBTASK", parent, project.getId())).id();
+    }
+
+    private Project saveProject(String title) {
+        Project saved = new Project();
+        saved.setProjectTitle(title);
+        saved.setProjectDescription("Project used by the archive test");
+        return projectRepository.save(saved);
+    }
+
+    // Moves a deletion back past the retention period
+    private void age(String table, UUID id) {
+        jdbcTemplate.update("UPDATE " + table + " SET deleted_at = CURRENT_TIMESTAMP - INTERVAL '31' DAY WHERE id = ?", id);
+    }
+}
@@ -6,11 +6,13 @@ import com.task.manager.demo.dto.auth.RegisterRequest;
 import com.task.manager.demo.entity.Role;
 import com.task.manager.demo.entity.User;
 import com.task.manager.demo.exception.BadRequestException;
+import com.task.manager.demo.exception.UniqueConstraints;
 import com.task.manager.demo.repository.RoleRepository;
 import com.task.manager.demo.repository.UserRepository;
 import com.task.manager.demo.security.jwt.JwtTokenProvider;
 import com.task.manager.demo.service.auth.AuthService;
 import com.task.manager.demo.service.auth.AuthServiceImpl;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -19,12 +21,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.sql.SQLException;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -92,14 +96,13 @@ public class AuthServiceTest {
         Role adminRole = new Role();
         adminRole.setName("ADMIN");
 
-        when(userRepository.findByEmail(oldRegisterRequest.email())).thenReturn(Optional.empty());
         when(roleRepository.findByName("ADMIN")).thenReturn(Optional.of(adminRole));
         when(passwordEncoder.encode(oldRegisterRequest.password())).thenReturn("encodedPass");
         Authentication authMock = mock(Authentication.class);
         when(authenticationManager.authenticate(any())).thenReturn(authMock);
         when(tokenProvider.generateToken(authMock)).thenReturn("token");
         when(tokenProvider.getRolesFromToken("token")).thenReturn(List.of("ADMIN"));
-        when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(userRepository.saveAndFlush(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         LoginResponse result = service.register(oldRegisterRequest);
 
@@ -108,10 +111,10 @@ public class AuthServiceTest {
         assertEquals(86400000L, result.expiresIn());
         assertEquals(List.of("ADMIN"), result.roles());
 
-        verify(userRepository).findByEmail(oldRegisterRequest.email());
+        verify(userRepository, never()).findByEmail(any());
         verify(roleRepository).findByName("ADMIN");
         verify(passwordEncoder).encode(oldRegisterRequest.password());
-        verify(userRepository).save(any(User.class));
+        verify(userRepository).saveAndFlush(any(User.class));
         verify(authenticationManager).authenticate(any());
         verify(tokenProvider).generateToken(authMock);
     }
@@ -119,18 +122,17 @@ public class AuthServiceTest {
     @Test
     @DisplayName("Should not register user with email already in use")
     void shouldNotRegisterUserWithEmailInUse() {
-        when(userRepository.findByEmail(oldRegisterRequest.email()))
-                .thenReturn(Optional.of(new User()));
+        when(roleRepository.findByName("ADMIN")).thenReturn(Optional.of(new Role()));
+        when(userRepository.saveAndFlush(any(User.class)))
+                .thenThrow(new DataIntegrityViolationException("duplicate",
+                        new ConstraintViolationException("duplicate", new SQLException(), UniqueConstraints.USER_EMAIL)));
 
         BadRequestException exception = assertThrows(BadRequestException.class,
                 () -> service.register(oldRegisterRequest));
 
         assertEquals("Email already in use", exception.getMessage());
 
-        verify(userRepository).findByEmail(oldRegisterRequest.email());
-        verify(passwordEncoder, never()).encode(any());
-        verify(roleRepository, never()).findByName(any());
-        verify(userRepository, never()).save(any());
+        verify(userRepository, never()).findByEmail(any());
         verify(authenticationManager, never()).authenticate(any());
         verify(tokenProvider, never()).generateToken(any());
     }
@@ -153,7 +155,7 @@ public class AuthServiceTest {
         verify(userRepository, never()).findByEmail(any());
         verify(passwordEncoder, never()).encode(any());
         verify(roleRepository, never()).findByName(any());
-        verify(userRepository, never()).save(any());
+        verify(userRepository, never()).saveAndFlush(any());
         verify(authenticationManager, never()).authenticate(any());
         verify(tokenProvider, never()).generateToken(any());
     }
@@ -176,7 +178,7 @@ public class AuthServiceTest {
         verify(userRepository, never()).findByEmail(any());
         verify(passwordEncoder, never()).encode(any());
         verify(roleRepository, never()).findByName(any());
-        verify(userRepository, never()).save(any());
+        verify(userRepository, never()).saveAndFlush(any());
         verify(authenticationManager, never()).authenticate(any());
         verify(tokenProvider, never()).generateToken(any());
     }
@@ -192,14 +194,13 @@ public class AuthServiceTest {
                 List.of()
         );
 
-        when(userRepository.findByEmail(request.email())).thenReturn(Optional.empty());
         when(passwordEncoder.encode(request.password())).thenReturn("encodedPass");
         when(roleRepository.findByName("USER")).thenReturn(Optional.of(Role.builder().name("USER").build()));
         Authentication authMock = mock(Authentication.class);
         when(authenticationManager.authenticate(any())).thenReturn(authMock);
         when(tokenProvider.generateToken(authMock)).thenReturn("token");
         when(tokenProvider.getRolesFromToken("token")).thenReturn(List.of("USER"));
-        when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(userRepository.saveAndFlush(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         LoginResponse result = service.register(request);
 
@@ -208,10 +209,10 @@ public class AuthServiceTest {
         assertEquals(86400000L, result.expiresIn());
         assertEquals(List.of("USER"), result.roles());
 
-        verify(userRepository).findByEmail(request.email());
+        verify(userRepository, never()).findByEmail(any());
         verify(roleRepository).findByName("USER");
         verify(passwordEncoder).encode(request.password());
-        verify(userRepository).save(any(User.class));
+        verify(userRepository).saveAndFlush(any(User.class));
         verify(authenticationManager).authenticate(any());
         verify(tokenProvider).generateToken(authMock);
     }
@@ -226,7 +227,6 @@ public class AuthServiceTest {
                 List.of("TEST ROLE")
         );
 
-        when(userRepository.findByEmail(request.email())).thenReturn(Optional.empty());
         when(passwordEncoder.encode(request.password())).thenReturn("encodedPass");
         when(roleRepository.findByName("TEST ROLE")).thenReturn(Optional.empty());
 
@@ -234,10 +234,10 @@ public class AuthServiceTest {
                 () -> service.register(request));
 
         assertEquals("Role not supported: TEST ROLE", exception.getMessage());
-        verify(userRepository).findByEmail(request.email());
+        verify(userRepository, never()).findByEmail(any());
         verify(passwordEncoder).encode(request.password());
         verify(roleRepository).findByName("TEST ROLE");
-        verify(userRepository, never()).save(any());
+        verify(userRepository, never()).saveAndFlush(any());
         verify(authenticationManager, never()).authenticate(any());
         verify(tokenProvider, never()).generateToken(any());
     }
@@ -0,0 +1,152 @@
+package com.task.manager.demo.service;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.task.manager.demo.config.DtoCacheConfig;
+import com.task.manager.demo.dto.epic.EpicRequest;
+import com.task.manager.demo.dto.project.ProjectDTO;
+import com.task.manager.demo.dto.project.ProjectUpdateDTO;
+import com.task.manager.demo.dto.task.TaskRequest;
+import com.task.manager.demo.entity.Project;
+import com.task.manager.demo.entity.User;
+import com.task.manager.demo.exception.ResourceNotFoundException;
+import com.task.manager.demo.repository.ProjectRepository;
+import com.task.manager.demo.repository.UserRepository;
+import com.task.manager.demo.service.epic.EpicService;
+import com.task.manager.demo.service.project.ProjectService;
+import com.task.manager.demo.service.task.TaskService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.jdbc.JdbcTestUtils;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+    "spring.config.import=",
+    "spring.datasource.url=jdbc:h2:mem:testdb",
+    "spring.datasource.driver-class-name=org.h2.Driver"
+})
+@DisplayName("findById DTO cache - Integration Tests")
+class DtoCacheTest {
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private EpicService epicService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private Cache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = cacheManager.getCache(DtoCacheConfig.PROJECTS);
+        cache.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        JdbcTestUtils.deleteFromTables(jdbcTemplate, "task", "epic", "project", "users");
+    }
+
+    @Test
+    @DisplayName("Should serve repeated lookups from the cache")
+    void shouldCacheFindById() {
+        UUID id = saveProject("Cached Project").getId();
+        long hits = stats().hitCount();
+
+        ProjectDTO first = projectService.findById(id);
+        ProjectDTO second = projectService.findById(id);
+
+        assertSame(first, second);
+        assertEquals(hits + 1, stats().hitCount());
+        assertNotNull(cache.get(id));
+    }
+
+    @Test
+    @DisplayName("Should evict the cached DTO when the project is updated")
+    void shouldEvictOnUpdate() {
+        UUID id = saveProject("Before Update").getId();
+        ProjectDTO cached = projectService.findById(id);
+
+        projectService.update(id, new ProjectUpdateDTO("After Update", "Updated description", false, null), null);
+
+        assertNull(cache.get(id));
+        assertNotSame(cached, projectService.findById(id));
+    }
+
+    @Test
+    @DisplayName("Should evict the cached tasks of a deleted epic")
+    void shouldEvictTasksOfDeletedEpic() {
+        UUID projectId = saveProject("Epic Project").getId();
+        UUID epicId = epicService.create(new EpicRequest("Deleted Epic", "Epic removed with its tasks", 1, projectId)).id();
+        UUID taskId = taskService.create(new TaskRequest("Epic Task", "Task removed with its epic", 1, "TASK", null, projectId)).id();
+        taskService.assignToEpic(taskId, epicId);
+        Cache tasks = cacheManager.getCache(DtoCacheConfig.TASKS);
+        taskService.findById(taskId);
+        assertNotNull(tasks.get(taskId));
+
+        epicService.deleteById(epicId, saveUser().getId());
+
+        assertNull(tasks.get(taskId));
+        assertThrows(ResourceNotFoundException.class, () -> taskService.findById(taskId));
+    }
+
+    @Test
+    @DisplayName("Should not cache lookups for missing projects")
+    void shouldNotCacheMissingProjects() {
+        UUID id = UUID.randomUUID();
+
+        assertThrows(ResourceNotFoundException.class, () -> projectService.findById(id));
+
+        assertNull(cache.get(id));
+    }
+
+    private CacheStats stats() {
+        return ((CaffeineCache) ((TransactionAwareCacheDecorator) cache)
+                .getTargetCache()).getNativeCache().stats();
+    }
+
+    private Project saveProject(String title) {
+        Project project = new Project();
+        project.setProjectTitle(title);
+        project.setProjectDescription("Project used by the DTO cache test");
+        return projectRepository.save(project);
+    }
+
+    private User saveUser() {
+        User user = new User();
+        user.setName("Cache User");
+        user.setEmail("cache@example.com");
+        user.setPassword("secret");
+        return userRepository.save(user);
+    }
+}
@@ -0,0 +1,124 @@
+package com.task.manager.demo.service;
+
+import com.task.manager.demo.dto.epic.EpicProgressDTO;
+import com.task.manager.demo.dto.task.TaskDTO;
+import com.task.manager.demo.dto.task.TaskRequest;
+import com.task.manager.demo.dto.task.TaskUpdateDTO;
+import com.task.manager.demo.entity.Epic;
+import com.task.manager.demo.entity.Project;
+import com.task.manager.demo.repository.EpicRepository;
+import com.task.manager.demo.repository.ProjectRepository;
+import com.task.manager.demo.repository.TaskRepository;
+import com.task.manager.demo.service.epic.EpicProgressReconciler;
+import com.task.manager.demo.service.epic.EpicService;
+import com.task.manager.demo.service.task.TaskService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.jdbc.JdbcTestUtils;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+    "spring.config.import=",
+    "spring.datasource.url=jdbc:h2:mem:testdb",
+    "spring.datasource.driver-class-name=org.h2.Driver"
+})
+@DisplayName("Epic progress counters - Integration Tests")
+class EpicProgressTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private EpicService epicService;
+
+    @Autowired
+    private EpicProgressReconciler reconciler;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private EpicRepository epicRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Project project;
+    private Epic epic;
+
+    @BeforeEach
+    void setUp() {
+        project = new Project();
+        project.setProjectTitle("Progress Project");
+        project.setProjectDescription("Project used by the epic progress test");
+        project = projectRepository.save(project);
+
+        epic = new Epic();
+        epic.setEpicTitle("Progress Epic");
+        epic.setEpicDescription("Epic whose progress is tracked");
+        epic.setProject(project);
+        epic = epicRepository.save(epic);
+    }
+
+    @AfterEach
+    void tearDown() {
+        // deleteAllInBatch would skip soft-deleted tasks and trip over their parent links
+        JdbcTestUtils.deleteFromTables(jdbcTemplate, "task");
+        epicRepository.deleteAllInBatch();
+        projectRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("Should keep the counters in step with every task write")
+    void shouldMaintainCountersOnTaskWrites() {
+        TaskDTO first = addToEpic("First", 3);
+        TaskDTO second = addToEpic("Second", 5);
+        TaskDTO third = addToEpic("Third", 8);
+        assertEquals(new EpicProgressDTO(epic.getId(), 3, 0, 16, 0), epicService.getProgress(epic.getId()));
+
+        taskService.complete(first.id());
+        taskService.completeAll(List.of(first.id(), second.id()));
+        assertEquals(new EpicProgressDTO(epic.getId(), 3, 2, 16, 8), epicService.getProgress(epic.getId()));
+
+        taskService.update(second.id(), new TaskUpdateDTO("Second", "Reestimated", 2, "TASK", true), null);
+        assertEquals(new EpicProgressDTO(epic.getId(), 3, 2, 13, 5), epicService.getProgress(epic.getId()));
+
+        taskService.deleteById(third.id(), UUID.randomUUID());
+        assertEquals(new EpicProgressDTO(epic.getId(), 2, 2, 5, 5), epicService.getProgress(epic.getId()));
+        assertEquals(0, reconciler.reconcile());
+    }
+
+    @Test
+    @DisplayName("Should repair counters that drifted from the tasks")
+    void shouldReconcileDriftedCounters() {
+        TaskDTO task = addToEpic("Drifting", 4);
+        taskService.complete(task.id());
+        jdbcTemplate.update("UPDATE epic SET total_tasks = 7, completed_story_points = 0 WHERE id = ?", epic.getId());
+
+        assertEquals(1, reconciler.reconcile());
+
+        assertEquals(new EpicProgressDTO(epic.getId(), 1, 1, 4, 4), epicService.getProgress(epic.getId()));
+        assertEquals(0, reconciler.reconcile());
+    }
+
+    private TaskDTO addToEpic(String title, int storyPoints) {
+        TaskDTO task = taskService.create(new TaskRequest(title, title + " task", storyPoints, "TASK", null, project.getId()));
+        return taskService.assignToEpic(task.id(), epic.getId());
+    }
+}
@@ -1,19 +1,26 @@
 package com.task.manager.demo.service;
 
+import com.task.manager.demo.config.DtoCacheConfig;
+import com.task.manager.demo.dto.BulkResult;
+import com.task.manager.demo.dto.CursorPage;
 import com.task.manager.demo.dto.epic.EpicDTO;
+import com.task.manager.demo.dto.epic.EpicProgressDTO;
 import com.task.manager.demo.dto.epic.EpicRequest;
 import com.task.manager.demo.dto.epic.EpicUpdateDTO;
 import com.task.manager.demo.dto.task.TaskDTO;
 import com.task.manager.demo.entity.*;
 import com.task.manager.demo.exception.BadRequestException;
 import com.task.manager.demo.exception.ResourceNotFoundException;
+import com.task.manager.demo.exception.UniqueConstraints;
 import com.task.manager.demo.mapper.EpicMapper;
-import com.task.manager.demo.mapper.TaskMapper;
 import com.task.manager.demo.repository.EpicRepository;
 import com.task.manager.demo.repository.ProjectRepository;
 import com.task.manager.demo.repository.TaskRepository;
 import com.task.manager.demo.repository.UserRepository;
+import com.task.manager.demo.search.SearchEngine;
+import com.task.manager.demo.search.SearchIndexListener;
 import com.task.manager.demo.service.epic.EpicServiceImpl;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -23,7 +30,12 @@ import org.mockito.ArgumentMatchers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 
+import java.sql.SQLException;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -40,9 +52,6 @@ public class EpicServiceTest {
 
     @Mock
     private TaskRepository taskRepository;
-    @Mock
-    private TaskMapper taskMapper;
-
     @Mock
     private UserRepository userRepository;
 
@@ -55,6 +64,18 @@ public class EpicServiceTest {
     @Mock
     private EpicMapper mapper;
 
+    @Mock
+    private SearchEngine searchEngine;
+
+    @Mock
+    private SearchIndexListener searchIndexListener;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private Cache cache;
+
     @InjectMocks
     private EpicServiceImpl service;
 
@@ -92,7 +113,7 @@ public class EpicServiceTest {
         );
 
         when(projectRepository.findById(oldProject.getId())).thenReturn(Optional.of(oldProject));
-        when(repository.save(ArgumentMatchers.any(Epic.class))).thenReturn(oldEpic);
+        when(repository.saveAndFlush(ArgumentMatchers.any(Epic.class))).thenReturn(oldEpic);
         when(mapper.toDto(oldEpic)).thenReturn(expectedDto);
 
         EpicDTO result = service.create(oldEpicRequest);
@@ -101,7 +122,7 @@ public class EpicServiceTest {
         assertEquals(expectedDto.description(), result.description());
         assertEquals(expectedDto.story_points(), result.story_points());
 
-        verify(repository).save(ArgumentMatchers.any(Epic.class));
+        verify(repository).saveAndFlush(ArgumentMatchers.any(Epic.class));
         verify(mapper).toDto(oldEpic);
     }
 
@@ -159,13 +180,13 @@ public class EpicServiceTest {
         project.setId(projectId);
 
         when(projectRepository.findById(projectId)).thenReturn(Optional.of(project));
-        when(repository.existsByEpicTitleAndProjectId(request.title(), projectId)).thenReturn(true);
+        when(repository.saveAndFlush(ArgumentMatchers.any(Epic.class))).thenThrow(duplicate(UniqueConstraints.EPIC_TITLE));
 
         BadRequestException ex = assertThrows(BadRequestException.class, () -> service.create(request));
         assertEquals("Title already exists in this project", ex.getMessage());
 
         verify(projectRepository).findById(projectId);
-        verify(repository).existsByEpicTitleAndProjectId(request.title(), projectId);
+        verify(repository, never()).existsByEpicTitleAndProjectId(any(), any());
     }
 
     @Test
@@ -218,10 +239,9 @@ public class EpicServiceTest {
                 null, null, 0,
                 oldProject.getId()
         );
-        when(repository.findAll()).thenReturn(List.of(oldEpic));
-        when(mapper.toDto(oldEpic)).thenReturn(expectedDto);
+        when(repository.findFirstPage(ArgumentMatchers.any(Limit.class))).thenReturn(List.of(expectedDto));
 
-        List<EpicDTO> result_epics = service.getAll();
+        List<EpicDTO> result_epics = service.getAll(null, null).items();
         assertNotNull(result_epics);
         assertEquals(1, result_epics.size());
         assertEquals(expectedDto.title(), result_epics.get(0).title());
@@ -233,7 +253,7 @@ public class EpicServiceTest {
     @Test
     @DisplayName("Should return an empty list and not null object")
     void shouldEmptyList() {
-        List<EpicDTO> result_epics = service.getAll();
+        List<EpicDTO> result_epics = service.getAll(null, null).items();
         assertNotNull(result_epics);
         assertEquals(0, result_epics.size());
     }
@@ -298,8 +318,7 @@ public class EpicServiceTest {
         );
 
         when(repository.findById(epicId)).thenReturn(Optional.of(oldEpic));
-        when(taskRepository.findAllByEpic_Id(epicId)).thenReturn(List.of(task1));
-        when(taskMapper.toDto(task1)).thenReturn(expectedTaskDto);
+        when(taskRepository.findDtosByEpicId(epicId)).thenReturn(List.of(expectedTaskDto));
 
         List<TaskDTO> result_tasks = service.getAllTasksInEpic(epicId);
 
@@ -309,8 +328,26 @@ public class EpicServiceTest {
         assertEquals(expectedTaskDto.title(), result_tasks.get(0).title());
 
         verify(repository).findById(epicId);
-        verify(taskRepository).findAllByEpic_Id(epicId);
-        verify(taskMapper).toDto(task1);
+        verify(taskRepository).findDtosByEpicId(epicId);
+    }
+
+    @Test
+    @DisplayName("Should read epic progress from its counters")
+    void shouldReturnEpicProgress() {
+        EpicProgressDTO progress = new EpicProgressDTO(id, 3, 2, 8, 5);
+        when(repository.findProgressById(id)).thenReturn(Optional.of(progress));
+
+        assertEquals(progress, service.getProgress(id));
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    @DisplayName("Should throw when reading the progress of a missing epic")
+    void shouldThrowWhenProgressOfMissingEpic() {
+        when(repository.findProgressById(id)).thenReturn(Optional.empty());
+
+        ResourceNotFoundException ex = assertThrows(ResourceNotFoundException.class, () -> service.getProgress(id));
+        assertEquals("Epic not found", ex.getMessage());
     }
 
     @Test
@@ -325,8 +362,7 @@ public class EpicServiceTest {
         assertEquals("Epic not found", ex.getMessage());
 
         verify(repository).findById(epicId);
-        verify(taskRepository, never()).findAllByEpic_Id(any());
-        verify(taskMapper, never()).toDto(any());
+        verify(taskRepository, never()).findDtosByEpicId(any());
     }
 
     @Test
@@ -356,21 +392,16 @@ public class EpicServiceTest {
                 oldProject.getId()
         );
 
-        List<Epic> epics = List.of(epic1, epic2);
         List<EpicDTO> expected = List.of(dto1, dto2);
 
-        when(repository.searchByTitle(title)).thenReturn(epics);
-        when(mapper.toDto(epic1)).thenReturn(dto1);
-        when(mapper.toDto(epic2)).thenReturn(dto2);
+        when(searchEngine.searchEpics(title, CursorPage.DEFAULT_SIZE)).thenReturn(expected);
 
-        List<EpicDTO> result = service.searchEpicByTitle(title);
+        List<EpicDTO> result = service.searchEpicByTitle(title, null);
 
         assertEquals(expected.size(), result.size());
         assertEquals(expected, result);
 
-        verify(repository).searchByTitle(title);
-        verify(mapper).toDto(epic1);
-        verify(mapper).toDto(epic2);
+        verify(searchEngine).searchEpics(title, CursorPage.DEFAULT_SIZE);
     }
 
     @Test
@@ -378,14 +409,14 @@ public class EpicServiceTest {
     void shouldReturnEmptyListIfNoEpicFound() {
         String title = "Nonexistent";
 
-        when(repository.searchByTitle(title)).thenReturn(List.of());
+        when(searchEngine.searchEpics(title, CursorPage.DEFAULT_SIZE)).thenReturn(List.of());
 
-        List<EpicDTO> result = service.searchEpicByTitle(title);
+        List<EpicDTO> result = service.searchEpicByTitle(title, null);
 
         assertNotNull(result);
         assertTrue(result.isEmpty());
 
-        verify(repository).searchByTitle(title);
+        verify(searchEngine).searchEpics(title, CursorPage.DEFAULT_SIZE);
         verify(mapper, never()).toDto(any());
     }
 
@@ -462,10 +493,10 @@ public class EpicServiceTest {
             return null;
         }).when(mapper).toEntity(request, oldEpic);
 
-        when(repository.save(oldEpic)).thenReturn(oldEpic);
+        when(repository.saveAndFlush(oldEpic)).thenReturn(oldEpic);
         when(mapper.toDto(oldEpic)).thenReturn(expectedDto);
 
-        EpicDTO result = service.update(id, request);
+        EpicDTO result = service.update(id, request, null);
 
         assertNotNull(result);
         assertEquals("New title", result.title());
@@ -474,7 +505,7 @@ public class EpicServiceTest {
 
         verify(repository).findById(id);
         verify(mapper).toEntity(request, oldEpic);
-        verify(repository).save(oldEpic);
+        verify(repository).saveAndFlush(oldEpic);
         verify(mapper).toDto(oldEpic);
     }
 
@@ -488,7 +519,61 @@ public class EpicServiceTest {
                 0
         );
         ResourceNotFoundException ex = assertThrows(ResourceNotFoundException.class,
-                () -> service.update(random, request));
+                () -> service.update(random, request, null));
         assertEquals("Epic not found", ex.getMessage());
     }
+
+    @Test
+    @DisplayName("Fail to rename an epic to a title already taken in its project")
+    void shouldNotRenameEpicToExistingTitle() {
+        EpicUpdateDTO request = new EpicUpdateDTO("Taken title", "New description", 5);
+
+        when(repository.findById(oldEpic.getId())).thenReturn(Optional.of(oldEpic));
+        when(repository.saveAndFlush(oldEpic)).thenThrow(duplicate(UniqueConstraints.EPIC_TITLE));
+
+        BadRequestException ex = assertThrows(BadRequestException.class,
+                () -> service.update(oldEpic.getId(), request, null));
+        assertEquals("Title already exists in this project", ex.getMessage());
+    }
+
+    @Test
+    @DisplayName("Should complete many epics with one set-based update")
+    void shouldCompleteEpicsInBulk() {
+        UUID pending = UUID.randomUUID();
+        UUID done = UUID.randomUUID();
+        UUID missing = UUID.randomUUID();
+        List<UUID> ids = List.of(pending, done, missing, pending);
+
+        when(repository.findCompletionStates(ids)).thenReturn(List.of(
+                new Object[]{pending, false},
+                new Object[]{done, true}
+        ));
+        when(cacheManager.getCache(DtoCacheConfig.EPICS)).thenReturn(cache);
+        when(repository.findAllById(List.of(pending))).thenReturn(List.of(oldEpic));
+
+        BulkResult result = service.completeAll(ids);
+
+        assertEquals(List.of(pending), result.updated());
+        assertEquals(List.of(done), result.unchanged());
+        assertEquals(List.of(missing), result.notFound());
+        verify(repository).completeAll(eq(List.of(pending)), any());
+        verify(repository, never()).save(any());
+        verify(cache).evict(pending);
+        verify(searchIndexListener).onSave(oldEpic);
+    }
+
+    @Test
+    @DisplayName("Should reject an empty batch of epics")
+    void shouldRejectEmptyEpicBatch() {
+        BadRequestException ex = assertThrows(BadRequestException.class, () -> service.completeAll(List.of()));
+
+        assertEquals("At least one item is required", ex.getMessage());
+        verifyNoInteractions(repository);
+    }
+
+    // What Spring reports when the insert hits the given unique constraint
+    private static DataIntegrityViolationException duplicate(String constraint) {
+        return new DataIntegrityViolationException("duplicate",
+                new ConstraintViolationException("duplicate", new SQLException(), constraint));
+    }
 }
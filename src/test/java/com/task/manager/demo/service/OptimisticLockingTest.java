@@ -0,0 +1,137 @@
+package com.task.manager.demo.service;
+
+import com.task.manager.demo.dto.task.TaskDTO;
+import com.task.manager.demo.dto.task.TaskUpdateDTO;
+import com.task.manager.demo.entity.Project;
+import com.task.manager.demo.entity.Task;
+import com.task.manager.demo.entity.Type_Enum;
+import com.task.manager.demo.exception.PreconditionFailedException;
+import com.task.manager.demo.repository.ProjectRepository;
+import com.task.manager.demo.repository.TaskRepository;
+import com.task.manager.demo.service.task.TaskService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.jdbc.JdbcTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+    "spring.config.import=",
+    "spring.datasource.url=jdbc:h2:mem:testdb",
+    "spring.datasource.driver-class-name=org.h2.Driver"
+})
+@DisplayName("Optimistic locking - Concurrency Tests")
+class OptimisticLockingTest {
+
+    private static final int WRITERS = 64;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        // deleteAllInBatch would skip soft-deleted tasks and trip over their parent links
+        JdbcTestUtils.deleteFromTables(jdbcTemplate, "task");
+        projectRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("Should not lose any update under concurrent read-modify-write")
+    void shouldNotLoseUpdatesUnderConcurrentWriters() throws Exception {
+        UUID id = saveTask().getId();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(WRITERS);
+        try {
+            List<Future<?>> writers = new ArrayList<>();
+            for (int i = 0; i < WRITERS; i++) {
+                writers.add(executor.submit(() -> {
+                    start.await();
+                    incrementStoryPoints(id);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> writer : writers) {
+                writer.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Task task = taskRepository.findById(id).orElseThrow();
+        assertEquals(WRITERS, task.getStory_points());
+        assertTrue(task.getVersion() >= WRITERS);
+    }
+
+    @Test
+    @DisplayName("Should increase updatedAt on every update")
+    void shouldAdvanceUpdatedAtOnEveryUpdate() {
+        UUID id = saveTask().getId();
+        TaskDTO previous = taskService.findById(id);
+
+        for (int i = 1; i <= 20; i++) {
+            TaskDTO updated = taskService.update(id, changes(i), previous.updatedAt());
+            assertTrue(updated.updatedAt().isAfter(previous.updatedAt()));
+            previous = updated;
+        }
+    }
+
+    // Client-side loop: read, change, write back with the version read; retry on conflict
+    private void incrementStoryPoints(UUID id) {
+        while (true) {
+            TaskDTO current = taskService.findById(id);
+            try {
+                taskService.update(id, changes(current.story_points() + 1), current.updatedAt());
+                return;
+            } catch (PreconditionFailedException | OptimisticLockingFailureException e) {
+                // another writer got there first
+            }
+        }
+    }
+
+    private static TaskUpdateDTO changes(int storyPoints) {
+        return new TaskUpdateDTO("Contended Task", "Updated by concurrent writers", storyPoints, "TASK", false);
+    }
+
+    private Task saveTask() {
+        Project project = new Project();
+        project.setProjectTitle("Optimistic Locking Project");
+        project.setProjectDescription("Project used by the optimistic locking test");
+        project = projectRepository.save(project);
+
+        Task task = new Task();
+        task.setTitle("Contended Task");
+        task.setDescription("Updated by concurrent writers");
+        task.setStory_points(0);
+        task.setType(Type_Enum.TASK);
+        task.setProject(project);
+        return taskRepository.save(task);
+    }
+}
@@ -1,21 +1,26 @@
 package com.task.manager.demo.service;
 
+import com.task.manager.demo.dto.CursorPage;
 import com.task.manager.demo.dto.epic.EpicDTO;
 import com.task.manager.demo.dto.project.ProjectDTO;
 import com.task.manager.demo.dto.project.ProjectRequest;
+import com.task.manager.demo.dto.project.ProjectSummaryDTO;
+import com.task.manager.demo.dto.project.ProjectTaskGroup;
 import com.task.manager.demo.dto.project.ProjectUpdateDTO;
 import com.task.manager.demo.dto.task.TaskDTO;
 import com.task.manager.demo.entity.*;
 import com.task.manager.demo.exception.BadRequestException;
 import com.task.manager.demo.exception.ResourceNotFoundException;
+import com.task.manager.demo.exception.UniqueConstraints;
 import com.task.manager.demo.mapper.EpicMapper;
 import com.task.manager.demo.mapper.ProjectMapper;
-import com.task.manager.demo.mapper.TaskMapper;
 import com.task.manager.demo.repository.EpicRepository;
 import com.task.manager.demo.repository.ProjectRepository;
 import com.task.manager.demo.repository.TaskRepository;
 import com.task.manager.demo.repository.UserRepository;
+import com.task.manager.demo.search.SearchEngine;
 import com.task.manager.demo.service.project.ProjectServiceImpl;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -25,7 +30,10 @@ import org.mockito.ArgumentMatchers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 
+import java.sql.SQLException;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -45,9 +53,6 @@ public class ProjectServiceTest {
 
     @Mock
     private TaskRepository taskRepository;
-    @Mock
-    private TaskMapper taskMapper;
-
     @Mock
     private ProjectRepository repository;
 
@@ -62,6 +67,9 @@ public class ProjectServiceTest {
     @Mock
     private ProjectMapper mapper;
 
+    @Mock
+    private SearchEngine searchEngine;
+
     @InjectMocks
     private ProjectServiceImpl service;
 
@@ -85,13 +93,13 @@ public class ProjectServiceTest {
     void shouldCreateProject() {
         ProjectDTO expectedDto = new ProjectDTO(id, "Old Project", "Old Project for testing", null,null,null, null);
 
-        when(repository.save(ArgumentMatchers.any(Project.class))).thenReturn(oldProject);
+        when(repository.saveAndFlush(ArgumentMatchers.any(Project.class))).thenReturn(oldProject);
         when(mapper.toDto(oldProject)).thenReturn(expectedDto);
         ProjectDTO result = service.create(oldProjectRequest);
         assertEquals(expectedDto.title(), result.title());
         assertEquals(expectedDto.description(), result.description());
 
-        verify(repository).save(ArgumentMatchers.any(Project.class));
+        verify(repository).saveAndFlush(ArgumentMatchers.any(Project.class));
         verify(mapper).toDto(oldProject);
     }
 
@@ -111,11 +119,11 @@ public class ProjectServiceTest {
         ProjectRequest req2 = new ProjectRequest( "Old Project",  "Old Project for testing" );
         ProjectDTO expectedDto = new ProjectDTO(id, "Old Project", "Old Project for testing", null,null,null, null);
 
-        when(repository.save(ArgumentMatchers.any(Project.class))).thenReturn(oldProject);
+        when(repository.saveAndFlush(ArgumentMatchers.any(Project.class))).thenReturn(oldProject);
         when(mapper.toDto(oldProject)).thenReturn(expectedDto);
         ProjectDTO result1 = service.create(req1);
         assertNotNull(result1);
-        when(repository.existsByProjectTitle("Old Project")).thenReturn(true);
+        when(repository.saveAndFlush(ArgumentMatchers.any(Project.class))).thenThrow(duplicate(UniqueConstraints.PROJECT_TITLE));
         BadRequestException ex = assertThrows(BadRequestException.class,
                 () -> service.create(req2));
         assertEquals("Title already exists", ex.getMessage());
@@ -145,10 +153,9 @@ public class ProjectServiceTest {
     void shouldReturnAllProjects() {
         ProjectDTO expectedDto = new ProjectDTO(id, "Old Project", "Old Project for testing", null,null,null, null);
 
-        when(repository.findAll()).thenReturn(List.of(oldProject));
-        when(mapper.toDto(oldProject)).thenReturn(expectedDto);
+        when(repository.findFirstPage(ArgumentMatchers.any(Limit.class))).thenReturn(List.of(expectedDto));
 
-        List<ProjectDTO> result_projects = service.getAll();
+        List<ProjectDTO> result_projects = service.getAll(null, null).items();
         assertNotNull(result_projects);
         assertEquals(1, result_projects.size());
         assertEquals(expectedDto.title(), result_projects.get(0).title());
@@ -158,7 +165,7 @@ public class ProjectServiceTest {
     @Test
     @DisplayName("Should return an empty list and not null object")
     void shouldEmptyList() {
-        List<ProjectDTO> result_tasks = service.getAll();
+        List<ProjectDTO> result_tasks = service.getAll(null, null).items();
         assertNotNull(result_tasks);
         assertEquals(0, result_tasks.size());
     }
@@ -187,6 +194,43 @@ public class ProjectServiceTest {
         assertEquals("Project not found", ex.getMessage());
     }
 
+    @Test
+    @DisplayName("Should fold the grouped task rows into the project summary")
+    void shouldSummarizeProject() {
+        UUID userId = UUID.randomUUID();
+        UUID epicId = UUID.randomUUID();
+        when(repository.existsById(id)).thenReturn(true);
+        when(taskRepository.summarizeByProjectId(id)).thenReturn(List.of(
+                new ProjectTaskGroup(Type_Enum.TASK, true, userId, "Ana", epicId, "Epic", 2, 8),
+                new ProjectTaskGroup(Type_Enum.TASK, false, userId, "Ana", null, null, 1, 3),
+                new ProjectTaskGroup(Type_Enum.SUBTASK, false, null, null, epicId, "Epic", 3, 1)
+        ));
+
+        ProjectSummaryDTO summary = service.getSummary(id);
+
+        assertEquals(6, summary.totalTasks());
+        assertEquals(2, summary.completedTasks());
+        assertEquals(12, summary.totalStoryPoints());
+        assertEquals(8, summary.completedStoryPoints());
+        assertEquals(3L, summary.tasksByType().get(Type_Enum.TASK));
+        assertEquals(3L, summary.tasksByType().get(Type_Enum.SUBTASK));
+        assertEquals(new ProjectSummaryDTO.AssigneeWorkload(userId, "Ana", 3, 1, 11, 3), summary.assignees().get(0));
+        assertEquals(new ProjectSummaryDTO.AssigneeWorkload(null, null, 3, 3, 1, 1), summary.assignees().get(1));
+        assertEquals(new ProjectSummaryDTO.EpicProgress(epicId, "Epic", 5, 2, 9, 8), summary.epics().get(0));
+        assertEquals(new ProjectSummaryDTO.EpicProgress(null, null, 1, 0, 3, 0), summary.epics().get(1));
+        verify(taskRepository, never()).findDtosByProjectId(any());
+    }
+
+    @Test
+    @DisplayName("Should not summarize a nonexisting project")
+    void shouldNotSummarizeMissingProject() {
+        when(repository.existsById(id)).thenReturn(false);
+
+        ResourceNotFoundException ex = assertThrows(ResourceNotFoundException.class, () -> service.getSummary(id));
+        assertEquals("Project not found", ex.getMessage());
+        verifyNoInteractions(taskRepository);
+    }
+
     @Test
     @DisplayName("Successfully delete a project")
     void shouldDeleteProject() {
@@ -260,10 +304,10 @@ public class ProjectServiceTest {
             return null;
         }).when(mapper).toEntity(request, oldProject);
 
-        when(repository.save(oldProject)).thenReturn(oldProject);
+        when(repository.saveAndFlush(oldProject)).thenReturn(oldProject);
         when(mapper.toDto(oldProject)).thenReturn(expectedDto);
 
-        ProjectDTO result = service.update(oldProject.getId(), request);
+        ProjectDTO result = service.update(oldProject.getId(), request, null);
 
         assertNotNull(result);
         assertEquals(expectedDto.id(), result.id());
@@ -272,7 +316,7 @@ public class ProjectServiceTest {
 
         verify(repository).findById(oldProject.getId());
         verify(mapper).toEntity(request, oldProject);
-        verify(repository).save(oldProject);
+        verify(repository).saveAndFlush(oldProject);
         verify(mapper).toDto(oldProject);
     }
 
@@ -289,13 +333,26 @@ public class ProjectServiceTest {
         when(repository.findById(oldProject.getId()))
                 .thenReturn(Optional.empty());
         ResourceNotFoundException ex = assertThrows(ResourceNotFoundException.class,
-                () -> service.update(oldProject.getId(), request));
+                () -> service.update(oldProject.getId(), request, null));
         assertEquals("Project not found", ex.getMessage());
         verify(repository).findById(oldProject.getId());
         verify(mapper, never()).toEntity(any(), any());
         verify(repository, never()).save(any());
     }
 
+    @Test
+    @DisplayName("Fail to rename a project to a title already taken")
+    void shouldNotRenameProjectToExistingTitle() {
+        ProjectUpdateDTO request = new ProjectUpdateDTO("Taken title", "New Description", false, null);
+
+        when(repository.findById(oldProject.getId())).thenReturn(Optional.of(oldProject));
+        when(repository.saveAndFlush(oldProject)).thenThrow(duplicate(UniqueConstraints.PROJECT_TITLE));
+
+        BadRequestException ex = assertThrows(BadRequestException.class,
+                () -> service.update(oldProject.getId(), request, null));
+        assertEquals("Title already exists", ex.getMessage());
+    }
+
     @Test
     @DisplayName("Should return list of ProjectDTO when searching by title")
     void shouldSearchProjectsByTitle() {
@@ -313,21 +370,16 @@ public class ProjectServiceTest {
                 proj2.getProjectTitle(),
                 proj2.getProjectDescription(), null,null,null, null);
 
-        List<Project> projects = List.of(proj1, proj2);
         List<ProjectDTO> expected = List.of(dto1, dto2);
 
-        when(repository.searchByTitle(title)).thenReturn(projects);
-        when(mapper.toDto(proj1)).thenReturn(dto1);
-        when(mapper.toDto(proj2)).thenReturn(dto2);
+        when(searchEngine.searchProjects(title, CursorPage.DEFAULT_SIZE)).thenReturn(expected);
 
-        List<ProjectDTO> result = service.searchProjectByTitle(title);
+        List<ProjectDTO> result = service.searchProjectByTitle(title, null);
 
         assertEquals(expected.size(), result.size());
         assertEquals(expected, result);
 
-        verify(repository).searchByTitle(title);
-        verify(mapper).toDto(proj1);
-        verify(mapper).toDto(proj2);
+        verify(searchEngine).searchProjects(title, CursorPage.DEFAULT_SIZE);
     }
 
     @Test
@@ -351,21 +403,16 @@ public class ProjectServiceTest {
                 Type_Enum.TASK, null, null, null, oldProject.getId()
         );
 
-        List<Task> tasks = List.of(task1, task2);
         List<TaskDTO> expected = List.of(dto1, dto2);
 
-        when(taskRepository.findAllByProject_Id(oldProject.getId())).thenReturn(tasks);
-        when(taskMapper.toDto(task1)).thenReturn(dto1);
-        when(taskMapper.toDto(task2)).thenReturn(dto2);
+        when(taskRepository.findDtosByProjectId(oldProject.getId())).thenReturn(expected);
 
         List<TaskDTO> result = service.getAllTasksInProject(oldProject.getId());
 
         assertEquals(expected.size(), result.size());
         assertEquals(expected, result);
 
-        verify(taskRepository).findAllByProject_Id(oldProject.getId());
-        verify(taskMapper).toDto(task1);
-        verify(taskMapper).toDto(task2);
+        verify(taskRepository).findDtosByProjectId(oldProject.getId());
     }
 
     @Test
@@ -406,4 +453,9 @@ public class ProjectServiceTest {
         verify(epicMapper).toDto(epic2);
     }
 
+    // What Spring reports when the insert hits the given unique constraint
+    private static DataIntegrityViolationException duplicate(String constraint) {
+        return new DataIntegrityViolationException("duplicate",
+                new ConstraintViolationException("duplicate", new SQLException(), constraint));
+    }
 }
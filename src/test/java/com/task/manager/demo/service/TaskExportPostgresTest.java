@@ -0,0 +1,122 @@
+package com.task.manager.demo.service;
+
+import com.task.manager.demo.dto.task.TaskFileFormat;
+import com.task.manager.demo.service.project.ProjectService;
+import com.task.manager.demo.service.task.TaskCsv;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Exports a project far larger than the heap from a real PostgreSQL server, migrated by Flyway,
+ * through the repository cursor. Surefire runs the {@code small-heap} tag alone in its own JVM with
+ * a small {@code -Xmx} (see the {@code small-heap-export} execution in the pom): holding the rows in
+ * memory, instead of streaming them, fails it with an {@link OutOfMemoryError}.
+ * <p>
+ * The output only counts lines and bytes, so it takes no memory either.
+ * </p>
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+@Tag("small-heap")
+@DisplayName("Task export - PostgreSQL Streaming Integration Tests")
+class TaskExportPostgresTest {
+
+    // About 300 MB once read as DTOs, the 512 character descriptions taking most of it
+    private static final int TASKS = 400_000;
+
+    private static final UUID PROJECT = UUID.randomUUID();
+
+    private static EmbeddedPostgres postgres;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @DynamicPropertySource
+    static void postgresProperties(DynamicPropertyRegistry registry) {
+        try {
+            postgres = EmbeddedPostgres.start();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        registry.add("spring.config.import", () -> "");
+        registry.add("spring.datasource.url", () -> postgres.getJdbcUrl("postgres", "postgres"));
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "");
+        registry.add("spring.jpa.database-platform", () -> "org.hibernate.dialect.PostgreSQLDialect");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "validate");
+        registry.add("spring.flyway.enabled", () -> "true");
+    }
+
+    // One project with TASKS live tasks and one soft-deleted task, which the export leaves out
+    @BeforeAll
+    static void setUp(@Autowired JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.update("INSERT INTO project (id, project_title, project_description, created_at, deleted, version) "
+                + "VALUES (?, 'Export Project', 'Seeded', now(), false, 0)", PROJECT);
+        jdbcTemplate.update("INSERT INTO task (id, title, description, story_points, completed, deleted, version, created_at, task_type, project_id) "
+                + "SELECT gen_random_uuid(), 'Task ' || i, repeat(md5(i::text), 16), 1, i % 2 = 0, i > ?, 0, "
+                + "now() - i * interval '1 second', 'TASK', ? FROM generate_series(1, ? + 1) i", TASKS, PROJECT, TASKS);
+    }
+
+    @Test
+    @DisplayName("Should stream every live task as NDJSON in a small heap")
+    void shouldStreamNdjsonExport() throws IOException {
+        LineCounter out = new LineCounter();
+
+        projectService.exportTasks(PROJECT, TaskFileFormat.NDJSON, out);
+
+        assertEquals(TASKS, out.lines);
+        assertTrue(out.bytes > Runtime.getRuntime().maxMemory(), "the export should outgrow the heap");
+    }
+
+    @Test
+    @DisplayName("Should stream every live task as CSV in a small heap")
+    void shouldStreamCsvExport() throws IOException {
+        LineCounter out = new LineCounter();
+
+        projectService.exportTasks(PROJECT, TaskFileFormat.CSV, out);
+
+        assertEquals(TASKS + 1, out.lines);
+        assertEquals(TaskCsv.HEADER + "\n", new String(out.head, 0, TaskCsv.HEADER.length() + 1, StandardCharsets.UTF_8));
+        assertTrue(out.bytes > Runtime.getRuntime().maxMemory(), "the export should outgrow the heap");
+    }
+
+    /**
+     * Counts the lines and bytes written, keeping only the start of the output.
+     */
+    private static class LineCounter extends OutputStream {
+        private final byte[] head = new byte[256];
+        private long bytes;
+        private int lines;
+
+        @Override
+        public void write(int b) {
+            if (bytes < head.length) {
+                head[(int) bytes] = (byte) b;
+            }
+            bytes++;
+            if (b == '\n') {
+                lines++;
+            }
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.task.manager.demo.service;
+
+import com.task.manager.demo.dto.task.TaskDTO;
+import com.task.manager.demo.dto.task.TaskFileFormat;
+import com.task.manager.demo.entity.Type_Enum;
+import com.task.manager.demo.repository.TaskRepository;
+import com.task.manager.demo.service.task.TaskCsv;
+import com.task.manager.demo.service.project.ProjectServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Task export - Streaming Tests")
+class TaskExportTest {
+
+    private static final int ROWS = 1_000_000;
+
+    // Rows produced but not yet written; bounded by the writer buffers when the export streams
+    private static final int MAX_BUFFERED_ROWS = 1_000;
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    private ProjectServiceImpl service;
+    private UUID projectId;
+
+    @BeforeEach
+    void setUp() {
+        service = new ProjectServiceImpl(taskRepository, null, null, null, null, null, null, null, JsonMapper.builder().build());
+        projectId = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("Should stream a million NDJSON rows without buffering them")
+    void shouldStreamNdjsonExport() throws Exception {
+        assertStreams(TaskFileFormat.NDJSON, ROWS);
+    }
+
+    @Test
+    @DisplayName("Should stream a million CSV rows without buffering them")
+    void shouldStreamCsvExport() throws Exception {
+        assertStreams(TaskFileFormat.CSV, ROWS + 1);
+    }
+
+    @Test
+    @DisplayName("Should quote CSV fields holding separators, quotes or line breaks")
+    void shouldEscapeCsvFields() throws Exception {
+        TaskDTO task = new TaskDTO(UUID.randomUUID(), "Title, with comma", "Says \"hi\"\non two lines", true,
+                null, null, null, 3, Type_Enum.TASK, null, null, null, projectId);
+        when(taskRepository.streamDtosByProjectId(projectId)).thenReturn(Stream.of(task));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        service.exportTasks(projectId, TaskFileFormat.CSV, out);
+
+        assertEquals(TaskCsv.HEADER + "\n" + task.id() + ",\"Title, with comma\",\"Says \"\"hi\"\"\non two lines\",true,3,TASK,,,,"
+                + projectId + ",,,\n", out.toString(StandardCharsets.UTF_8));
+    }
+
+    private void assertStreams(TaskFileFormat format, int expectedLines) throws Exception {
+        LineCountingOutputStream out = new LineCountingOutputStream();
+        AtomicBoolean closed = new AtomicBoolean();
+        int[] produced = {0};
+        int[] maxBuffered = {0};
+        LocalDateTime now = LocalDateTime.now();
+        Stream<TaskDTO> rows = Stream.generate(() -> {
+                    maxBuffered[0] = Math.max(maxBuffered[0], produced[0] - (int) out.lines);
+                    produced[0]++;
+                    return new TaskDTO(new UUID(0, produced[0]), "Exported task " + produced[0], "Streamed from the cursor", produced[0] % 2 == 0,
+                            now, now, null, produced[0] % 13, Type_Enum.TASK, null, null, null, projectId);
+                })
+                .limit(ROWS)
+                .onClose(() -> closed.set(true));
+        when(taskRepository.streamDtosByProjectId(projectId)).thenReturn(rows);
+
+        service.exportTasks(projectId, format, out);
+
+        assertEquals(ROWS, produced[0]);
+        assertEquals(expectedLines, out.lines);
+        assertTrue(maxBuffered[0] < MAX_BUFFERED_ROWS, "rows held before being written: " + maxBuffered[0]);
+        assertTrue(closed.get());
+    }
+
+    // Counts lines and discards the bytes, so the test itself holds no output in memory
+    private static final class LineCountingOutputStream extends OutputStream {
+        private long lines;
+
+        @Override
+        public void write(int b) {
+            if (b == '\n') {
+                lines++;
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            for (int i = off; i < off + len; i++) {
+                if (b[i] == '\n') {
+                    lines++;
+                }
+            }
+        }
+    }
+}
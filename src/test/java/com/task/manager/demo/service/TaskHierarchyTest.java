@@ -0,0 +1,222 @@
+package com.task.manager.demo.service;
+
+import com.task.manager.demo.dto.task.TaskDTO;
+import com.task.manager.demo.dto.task.TaskFileFormat;
+import com.task.manager.demo.dto.task.TaskRequest;
+import com.task.manager.demo.dto.task.TaskTreeDTO;
+import com.task.manager.demo.entity.Project;
+import com.task.manager.demo.entity.Task;
+import com.task.manager.demo.exception.BadRequestException;
+import com.task.manager.demo.repository.ProjectRepository;
+import com.task.manager.demo.repository.TaskClosureRepository;
+import com.task.manager.demo.repository.TaskRepository;
+import com.task.manager.demo.service.task.TaskImportService;
+import com.task.manager.demo.service.task.TaskService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.jdbc.JdbcTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+    "spring.config.import=",
+    "spring.datasource.url=jdbc:h2:mem:testdb",
+    "spring.datasource.driver-class-name=org.h2.Driver"
+})
+@DisplayName("Task hierarchy closure table - Integration Tests")
+class TaskHierarchyTest {
+
+    private static final int DEPTH = 10;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskImportService importService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskClosureRepository closureRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private UUID projectId;
+    private List<UUID> chain;
+
+    @BeforeEach
+    void setUp() {
+        Project project = new Project();
+        project.setProjectTitle("Hierarchy Project");
+        project.setProjectDescription("Project used by the task hierarchy test");
+        projectId = projectRepository.save(project).getId();
+
+        // root -> level 1 -> ... -> level DEPTH
+        chain = new ArrayList<>();
+        UUID parent = null;
+        for (int level = 0; level <= DEPTH; level++) {
+            parent = create("Level " + level, parent).id();
+            chain.add(parent);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        // deleteAllInBatch would skip soft-deleted tasks and trip over their parent links
+        JdbcTestUtils.deleteFromTables(jdbcTemplate, "task");
+        projectRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("Should pair every new task with all of its ancestors")
+    void shouldMaintainClosureOnCreate() {
+        List<TaskDTO> siblings = taskService.createAll(List.of(
+                new TaskRequest("Sibling A", "Bulk created", 1, "SUBTASK", chain.get(3), projectId),
+                new TaskRequest("Sibling B", "Bulk created", 1, "SUBTASK", chain.get(DEPTH), projectId)));
+
+        assertClosureMatchesParents();
+        assertEquals(chain.subList(0, 4), ids(taskService.getAncestors(siblings.get(0).id())));
+        assertEquals(chain, ids(taskService.getAncestors(siblings.get(1).id())));
+        assertEquals(List.of(), taskService.getAncestors(chain.get(0)));
+        List<UUID> descendants = ids(taskService.getDescendants(chain.get(DEPTH - 1)));
+        assertEquals(List.of(chain.get(DEPTH), siblings.get(1).id()), descendants);
+        assertEquals(DEPTH + 2, taskService.getDescendants(chain.get(0)).size());
+    }
+
+    @Test
+    @DisplayName("Should move a whole subtree and keep the pairs inside it")
+    void shouldMaintainClosureOnMove() {
+        UUID branch = create("Branch", chain.get(0)).id();
+        UUID moved = chain.get(4);
+
+        TaskDTO result = taskService.assignToParent(moved, branch);
+
+        assertEquals(branch, result.parent_id());
+        assertClosureMatchesParents();
+        assertEquals(List.of(chain.get(0), branch, chain.get(4)), ids(taskService.getAncestors(chain.get(5))));
+        assertEquals(DEPTH - 4, taskService.getDescendants(moved).size());
+        assertEquals(List.of(chain.get(2), chain.get(3)), ids(taskService.getDescendants(chain.get(1))));
+
+        taskService.assignToParent(moved, null);
+
+        assertClosureMatchesParents();
+        assertEquals(List.of(moved), ids(taskService.getAncestors(chain.get(5))));
+    }
+
+    @Test
+    @DisplayName("Should reject moves that would create a cycle")
+    void shouldRejectCycles() {
+        UUID root = chain.get(0);
+        UUID deepest = chain.get(DEPTH);
+
+        BadRequestException below = assertThrows(BadRequestException.class, () -> taskService.assignToParent(root, deepest));
+        BadRequestException itself = assertThrows(BadRequestException.class, () -> taskService.assignToParent(root, root));
+
+        assertEquals("A task cannot be moved below itself or one of its subtasks", below.getMessage());
+        assertEquals("A task cannot be moved below itself or one of its subtasks", itself.getMessage());
+        assertNull(taskRepository.findById(root).orElseThrow().getTask_parent());
+        assertClosureMatchesParents();
+    }
+
+    @Test
+    @DisplayName("Should tell when every live subtask at any depth is completed")
+    void shouldTellWhetherAllSubtasksAreCompleted() {
+        UUID root = chain.get(0);
+        assertFalse(taskService.allSubtasksCompleted(root));
+        assertTrue(taskService.allSubtasksCompleted(chain.get(DEPTH)));
+
+        taskService.completeAll(chain.subList(1, DEPTH));
+        assertFalse(taskService.allSubtasksCompleted(root));
+
+        taskService.deleteById(chain.get(DEPTH), null);
+        assertTrue(taskService.allSubtasksCompleted(root));
+    }
+
+    @Test
+    @DisplayName("Should stop the hierarchy lookups at a deleted middle task")
+    void shouldStopAtDeletedMiddleTask() {
+        UUID root = chain.get(0);
+        UUID middle = chain.get(2);
+        taskService.completeAll(chain.subList(1, 2));
+
+        taskService.deleteById(middle, null);
+
+        assertEquals(List.of(chain.get(1)), ids(taskService.getDescendants(root)));
+        assertTrue(taskService.allSubtasksCompleted(root));
+        assertEquals(List.of(chain.get(3)), ids(taskService.getAncestors(chain.get(4))));
+        assertEquals(chain.subList(4, DEPTH + 1), ids(taskService.getDescendants(chain.get(3))));
+        assertEquals(List.of(chain.get(1)), taskService.getTree(root, null).subtasks().stream().map(TaskTreeDTO::id).toList());
+    }
+
+    @Test
+    @DisplayName("Should add imported tasks to the hierarchy")
+    void shouldMaintainClosureOnImport() throws Exception {
+        String upload = "{\"title\":\"Imported\",\"description\":\"Imported child\",\"story_points\":1,\"type\":\"SUBTASK\",\"parent_id\":\""
+                + chain.get(DEPTH) + "\"}\n";
+
+        importService.importTasks(projectId, TaskFileFormat.NDJSON, new ByteArrayInputStream(upload.getBytes(StandardCharsets.UTF_8)));
+
+        assertClosureMatchesParents();
+        assertEquals(DEPTH + 1, taskService.getDescendants(chain.get(0)).size());
+    }
+
+    private TaskDTO create(String title, UUID parent) {
+        return taskService.create(new TaskRequest(title, "Task used by the hierarchy test", 1, "SUBTASK", parent, projectId));
+    }
+
+    private static List<UUID> ids(List<TaskDTO> tasks) {
+        return tasks.stream().map(TaskDTO::id).toList();
+    }
+
+    // The closure table must hold exactly the (ancestor, descendant, depth) triples obtained by walking the parent links
+    private void assertClosureMatchesParents() {
+        Map<UUID, UUID> parents = new HashMap<>();
+        for (Task task : taskRepository.findAll()) {
+            if (task.getProject().getId().equals(projectId)) {
+                parents.put(task.getId(), task.getTask_parent() == null ? null : task.getTask_parent().getId());
+            }
+        }
+        Set<List<Object>> expected = new HashSet<>();
+        for (UUID id : parents.keySet()) {
+            UUID ancestor = id;
+            for (int depth = 0; ancestor != null; depth++) {
+                expected.add(List.of(ancestor, id, depth));
+                ancestor = parents.get(ancestor);
+            }
+        }
+        assertEquals(expected, actualClosure().stream()
+                .filter(pair -> parents.containsKey((UUID) pair.get(1)))
+                .collect(Collectors.toSet()));
+    }
+
+    private Set<List<Object>> actualClosure() {
+        return closureRepository.findAll().stream()
+                .map(pair -> List.<Object>of(pair.getAncestorId(), pair.getDescendantId(), pair.getDepth()))
+                .collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,206 @@
+package com.task.manager.demo.service;
+
+import com.task.manager.demo.dto.task.TaskFileFormat;
+import com.task.manager.demo.dto.task.TaskImportReport;
+import com.task.manager.demo.entity.Project;
+import com.task.manager.demo.entity.Task;
+import com.task.manager.demo.entity.Type_Enum;
+import com.task.manager.demo.exception.BadRequestException;
+import com.task.manager.demo.exception.ResourceNotFoundException;
+import com.task.manager.demo.repository.ProjectRepository;
+import com.task.manager.demo.repository.TaskRepository;
+import com.task.manager.demo.service.project.ProjectService;
+import com.task.manager.demo.service.task.TaskCsv;
+import com.task.manager.demo.service.task.TaskImportService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.jdbc.JdbcTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+    "spring.config.import=",
+    "spring.datasource.url=jdbc:h2:mem:testdb",
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "task.import.batch-size=3"
+})
+@DisplayName("Task import - Integration Tests")
+class TaskImportTest {
+
+    @Autowired
+    private TaskImportService importService;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        project = saveProject("Import Project");
+    }
+
+    @AfterEach
+    void tearDown() {
+        // deleteAllInBatch would skip soft-deleted tasks and trip over their parent links
+        JdbcTestUtils.deleteFromTables(jdbcTemplate, "task");
+        projectRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("Should import valid NDJSON rows and report the rejected ones")
+    void shouldImportNdjsonWithRowErrors() throws Exception {
+        Task parent = saveTask("Existing parent");
+        String upload = String.join("\n",
+                "{\"title\":\"First\",\"description\":\"Imported\",\"story_points\":3,\"type\":\"TASK\"}",
+                "{\"title\":\"\",\"description\":\"No title\",\"story_points\":1,\"type\":\"TASK\"}",
+                "",
+                "{\"title\":\"Child\",\"description\":\"Has a parent\",\"story_points\":1,\"type\":\"SUBTASK\",\"parent_id\":\"" + parent.getId() + "\"}",
+                "{\"title\":\"Bad type\",\"description\":\"Unknown type\",\"story_points\":1,\"type\":\"EPIC\"}",
+                "{\"title\":\"Negative\",\"description\":\"Negative points\",\"story_points\":-2,\"type\":\"TASK\"}",
+                "{not json",
+                "{\"title\":\"Existing parent\",\"description\":\"Title taken\",\"story_points\":1,\"type\":\"TASK\"}",
+                "{\"title\":\"First\",\"description\":\"Repeated in a later batch\",\"story_points\":1,\"type\":\"TASK\"}",
+                "{\"title\":\"Orphan\",\"description\":\"Unknown parent\",\"story_points\":1,\"type\":\"TASK\",\"parent_id\":\"" + UUID.randomUUID() + "\"}",
+                "{\"title\":\"Last\",\"description\":\"Imported\",\"story_points\":5,\"type\":\"TASK\"}");
+
+        TaskImportReport report = importService.importTasks(project.getId(), TaskFileFormat.NDJSON, stream(upload));
+
+        assertEquals(10, report.rows());
+        assertEquals(3, report.imported());
+        assertEquals(7, report.rejected());
+        assertFalse(report.errorsTruncated());
+        assertEquals(List.of(2L, 4L, 5L, 6L, 7L, 8L, 9L), report.errors().stream().map(TaskImportReport.RowError::row).toList());
+        assertEquals("Invalid task type. The only types accepted are: [TASK, SUBTASK]", report.errors().get(1).message());
+        assertEquals("Title already exists in this project", report.errors().get(4).message());
+        assertEquals("Title already exists in this project", report.errors().get(5).message());
+        assertEquals("Parent does not exist in the same project", report.errors().get(6).message());
+        assertEquals(4, taskRepository.findAllByProject_Id(project.getId()).size());
+        Task child = taskRepository.findAllByProject_Id(project.getId()).stream()
+                .filter(task -> task.getTitle().equals("Child")).findFirst().orElseThrow();
+        assertEquals(parent.getId(), child.getTask_parent().getId());
+        assertEquals(Type_Enum.SUBTASK, child.getType());
+    }
+
+    @Test
+    @DisplayName("Should import a CSV export of another project")
+    void shouldImportCsvExport() throws Exception {
+        Project source = saveProject("Exported Project");
+        for (int i = 0; i < 7; i++) {
+            Task task = new Task();
+            task.setTitle("Exported, \"quoted\" " + i);
+            task.setDescription("Line one\nline two of task " + i);
+            task.setStory_points(i);
+            task.setType(Type_Enum.TASK);
+            task.setProject(source);
+            taskRepository.save(task);
+        }
+        ByteArrayOutputStream export = new ByteArrayOutputStream();
+        projectService.exportTasks(source.getId(), TaskFileFormat.CSV, export);
+
+        TaskImportReport report = importService.importTasks(project.getId(), TaskFileFormat.CSV, new ByteArrayInputStream(export.toByteArray()));
+
+        assertEquals(new TaskImportReport(7, 7, 0, List.of(), false), report);
+        List<Task> imported = taskRepository.findAllByProject_Id(project.getId());
+        assertEquals(7, imported.size());
+        assertTrue(imported.stream().anyMatch(task -> task.getTitle().equals("Exported, \"quoted\" 6")
+                && task.getDescription().equals("Line one\nline two of task 6") && task.getStory_points() == 6));
+    }
+
+    @Test
+    @DisplayName("Should import a large upload read incrementally")
+    void shouldImportLargeUpload() throws Exception {
+        int rows = 3_000;
+        Enumeration<InputStream> lines = new Enumeration<>() {
+            private int next = 0;
+
+            @Override
+            public boolean hasMoreElements() {
+                return next < rows;
+            }
+
+            @Override
+            public InputStream nextElement() {
+                next++;
+                return stream("{\"title\":\"Bulk " + next + "\",\"description\":\"Generated\",\"story_points\":1,\"type\":\"TASK\"}\n");
+            }
+        };
+
+        TaskImportReport report = importService.importTasks(project.getId(), TaskFileFormat.NDJSON, new SequenceInputStream(lines));
+
+        assertEquals(new TaskImportReport(rows, rows, 0, List.of(), false), report);
+        assertEquals(rows, taskRepository.findAllByProject_Id(project.getId()).size());
+    }
+
+    @Test
+    @DisplayName("Should reject a CSV upload without the required columns")
+    void shouldRejectCsvWithoutRequiredColumns() {
+        assertThrows(BadRequestException.class,
+                () -> importService.importTasks(project.getId(), TaskFileFormat.CSV, stream("title,story_points\nOnly title,1\n")));
+        assertTrue(taskRepository.findAllByProject_Id(project.getId()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should reject an NDJSON line longer than the record limit")
+    void shouldRejectOverlongNdjsonLine() {
+        String line = "{\"title\":\"" + "x".repeat(TaskCsv.MAX_RECORD_LENGTH) + "\"}\n";
+
+        assertThrows(BadRequestException.class,
+                () -> importService.importTasks(project.getId(), TaskFileFormat.NDJSON, stream(line)));
+        assertTrue(taskRepository.findAllByProject_Id(project.getId()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should not import into a missing project")
+    void shouldNotImportIntoMissingProject() {
+        assertThrows(ResourceNotFoundException.class,
+                () -> importService.importTasks(UUID.randomUUID(), TaskFileFormat.NDJSON, stream("")));
+    }
+
+    private static InputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Project saveProject(String title) {
+        Project saved = new Project();
+        saved.setProjectTitle(title);
+        saved.setProjectDescription("Project used by the task import test");
+        return projectRepository.save(saved);
+    }
+
+    private Task saveTask(String title) {
+        Task task = new Task();
+        task.setTitle(title);
+        task.setDescription("Saved before the import");
+        task.setType(Type_Enum.TASK);
+        task.setProject(project);
+        return taskRepository.save(task);
+    }
+}
@@ -1,19 +1,31 @@
 package com.task.manager.demo.service;
 
+import com.task.manager.demo.config.DtoCacheConfig;
+import com.task.manager.demo.dto.BulkResult;
+import com.task.manager.demo.dto.CursorPage;
+import com.task.manager.demo.dto.PageCursor;
+import com.task.manager.demo.dto.task.TaskBulkUpdateDTO;
 import com.task.manager.demo.dto.task.TaskDTO;
 import com.task.manager.demo.dto.task.TaskRequest;
+import com.task.manager.demo.dto.task.TaskTreeDTO;
 import com.task.manager.demo.dto.task.TaskUpdateDTO;
 import com.task.manager.demo.entity.Epic;
 import com.task.manager.demo.entity.Project;
 import com.task.manager.demo.entity.Task;
 import com.task.manager.demo.entity.Type_Enum;
 import com.task.manager.demo.exception.BadRequestException;
+import com.task.manager.demo.exception.PreconditionFailedException;
 import com.task.manager.demo.exception.ResourceNotFoundException;
+import com.task.manager.demo.exception.UniqueConstraints;
 import com.task.manager.demo.mapper.TaskMapper;
 import com.task.manager.demo.repository.EpicRepository;
 import com.task.manager.demo.repository.ProjectRepository;
+import com.task.manager.demo.repository.TaskClosureRepository;
 import com.task.manager.demo.repository.TaskRepository;
+import com.task.manager.demo.search.SearchEngine;
+import com.task.manager.demo.search.SearchIndexListener;
 import com.task.manager.demo.service.task.TaskServiceImpl;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -23,9 +35,16 @@ import org.mockito.ArgumentMatchers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 
+import java.sql.SQLException;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -42,6 +61,9 @@ public class TaskServiceTest {
     @Mock
     private TaskRepository repository;
 
+    @Mock
+    private TaskClosureRepository closureRepository;
+
     @Mock
     private ProjectRepository projectRepository;
 
@@ -51,6 +73,18 @@ public class TaskServiceTest {
     @Mock
     private TaskMapper mapper;
 
+    @Mock
+    private SearchEngine searchEngine;
+
+    @Mock
+    private SearchIndexListener searchIndexListener;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private Cache cache;
+
     @InjectMocks
     private TaskServiceImpl taskService;
 
@@ -80,7 +114,7 @@ public class TaskServiceTest {
         TaskDTO expectedDto = new TaskDTO(id, "Old Task", "Old Task for testing", false, null,null,null,0, Type_Enum.TASK, null,null,null,null);
 
         when(projectRepository.findById(oldProject.getId())).thenReturn(Optional.of(oldProject));
-        when(repository.save(ArgumentMatchers.any(Task.class))).thenReturn(oldTask);
+        when(repository.saveAndFlush(ArgumentMatchers.any(Task.class))).thenReturn(oldTask);
         when(mapper.toDto(oldTask)).thenReturn(expectedDto);
 
         TaskDTO result = taskService.create(oldTaskRequest);
@@ -90,7 +124,8 @@ public class TaskServiceTest {
         assertEquals(expectedDto.description(), result.description());
         assertEquals(expectedDto.story_points(), result.story_points());
 
-        verify(repository).save(ArgumentMatchers.any(Task.class));
+        verify(repository).saveAndFlush(ArgumentMatchers.any(Task.class));
+        verify(closureRepository).link(List.of(id));
         verify(mapper).toDto(oldTask);
     }
 
@@ -115,13 +150,13 @@ public class TaskServiceTest {
         TaskDTO expectedDto = new TaskDTO(id, "Old Task", "Old Task for testing", false, null,null,null,0, Type_Enum.TASK, null,null,null,null);
 
         when(projectRepository.findById(oldProject.getId())).thenReturn(Optional.of(oldProject));
-        when(repository.save(ArgumentMatchers.any(Task.class))).thenReturn(oldTask);
+        when(repository.saveAndFlush(ArgumentMatchers.any(Task.class))).thenReturn(oldTask);
         when(mapper.toDto(oldTask)).thenReturn(expectedDto);
         taskService.create(oldTaskRequest);
         TaskDTO result1 = taskService.create(req1);
         assertNotNull(result1);
 
-        when(repository.existsByTitleAndProjectId("Old task", oldProject.getId())).thenReturn(true);
+        when(repository.saveAndFlush(ArgumentMatchers.any(Task.class))).thenThrow(duplicate(UniqueConstraints.TASK_TITLE));
         BadRequestException ex = assertThrows(BadRequestException.class,
                 () -> taskService.create(req2));
         assertEquals("Title already exists in this project", ex.getMessage());
@@ -203,7 +238,7 @@ public class TaskServiceTest {
     void shouldCompleteATask() {
         TaskDTO expectedDto = new TaskDTO(id, "Old Task", "Old Task for testing", true , null,null,null,0, Type_Enum.TASK, null,null,null,null);
         when(repository.findById(oldTask.getId())).thenReturn(Optional.of(oldTask));
-        when(repository.save(oldTask)).thenReturn(oldTask);
+        when(repository.saveAndFlush(oldTask)).thenReturn(oldTask);
         when(mapper.toDto(oldTask)).thenReturn(expectedDto);
         TaskDTO result = taskService.complete(oldTask.getId());
 
@@ -214,7 +249,7 @@ public class TaskServiceTest {
         assertEquals(expectedDto.story_points(), result.story_points());
         assertEquals(expectedDto.completed(), result.completed());
 
-        verify(repository).save(ArgumentMatchers.any(Task.class));
+        verify(repository).saveAndFlush(ArgumentMatchers.any(Task.class));
         verify(mapper).toDto(oldTask);
     }
 
@@ -232,10 +267,9 @@ public class TaskServiceTest {
     void shouldReturnAllTasks() {
         TaskDTO expectedDto = new TaskDTO(id, "Old Task", "Old Task for testing", true , null,null,null,0, Type_Enum.TASK, null,null,null,null);
 
-        when(repository.findAll()).thenReturn(List.of(oldTask));
-        when(mapper.toDto(oldTask)).thenReturn(expectedDto);
+        when(repository.findFirstPage(ArgumentMatchers.any(Limit.class))).thenReturn(List.of(expectedDto));
 
-        List<TaskDTO> result_tasks = taskService.getAll();
+        List<TaskDTO> result_tasks = taskService.getAll(null, null).items();
         assertNotNull(result_tasks);
         assertEquals(1, result_tasks.size());
         assertEquals(expectedDto.title(), result_tasks.get(0).title());
@@ -247,11 +281,54 @@ public class TaskServiceTest {
     @Test
     @DisplayName("Should return an empty list and not null object")
     void shouldEmptyList() {
-        List<TaskDTO> result_tasks = taskService.getAll();
+        List<TaskDTO> result_tasks = taskService.getAll(null, null).items();
         assertNotNull(result_tasks);
         assertEquals(0, result_tasks.size());
     }
 
+    @Test
+    @DisplayName("Should return a continuation cursor when more tasks exist")
+    void shouldReturnNextCursorWhenMoreTasksExist() {
+        TaskDTO oldDto = pageRow(id, LocalDateTime.of(2025, 1, 10, 10, 0));
+        TaskDTO newerDto = pageRow(UUID.randomUUID(), LocalDateTime.of(2025, 1, 11, 10, 0));
+
+        when(repository.findFirstPage(Limit.of(2))).thenReturn(List.of(oldDto, newerDto));
+
+        CursorPage<TaskDTO> page = taskService.getAll(null, 1);
+
+        assertEquals(1, page.items().size());
+        assertNotNull(page.nextCursor());
+        PageCursor cursor = PageCursor.decode(page.nextCursor());
+        assertEquals(oldDto.createdAt(), cursor.createdAt());
+        assertEquals(oldDto.id(), cursor.id());
+    }
+
+    @Test
+    @DisplayName("Should continue after the cursor position without a next cursor on the last page")
+    void shouldContinueAfterCursor() {
+        PageCursor position = new PageCursor(LocalDateTime.of(2025, 1, 10, 10, 0), id);
+
+        when(repository.findPageAfter(position.createdAt(), position.id(), Limit.of(CursorPage.DEFAULT_SIZE + 1)))
+                .thenReturn(List.of(pageRow(UUID.randomUUID(), LocalDateTime.of(2025, 1, 11, 10, 0))));
+
+        CursorPage<TaskDTO> page = taskService.getAll(position.encode(), null);
+
+        assertEquals(1, page.items().size());
+        assertNull(page.nextCursor());
+    }
+
+    @Test
+    @DisplayName("Should reject a malformed cursor")
+    void shouldRejectMalformedCursor() {
+        BadRequestException ex = assertThrows(BadRequestException.class,
+                () -> taskService.getAll("not-a-cursor", 10));
+        assertEquals("Invalid cursor", ex.getMessage());
+    }
+
+    private static TaskDTO pageRow(UUID id, LocalDateTime createdAt) {
+        return new TaskDTO(id, "Paged Task", "Paged task", false, createdAt, null, null, 0, Type_Enum.TASK, null, null, null, null);
+    }
+
     @Test
     @DisplayName("Should find an existing task")
     void shouldFindExistingTask() {
@@ -269,6 +346,188 @@ public class TaskServiceTest {
 
     }
 
+    @Test
+    @DisplayName("Read the version of a cached task without querying")
+    void shouldReadLastModifiedFromCache() {
+        LocalDateTime updatedAt = LocalDateTime.now();
+        TaskDTO cached = new TaskDTO(id, "Old Task", "Old Task for testing", true, null, updatedAt, null, 0, Type_Enum.TASK, null, null, null, null);
+
+        when(cacheManager.getCache(DtoCacheConfig.TASKS)).thenReturn(cache);
+        when(cache.get(id, TaskDTO.class)).thenReturn(cached);
+
+        assertEquals(Optional.of(updatedAt), taskService.findLastModified(id));
+        verify(repository, never()).findUpdatedAtById(any());
+    }
+
+    @Test
+    @DisplayName("Read the version of an uncached task from its updated_at column")
+    void shouldReadLastModifiedFromDatabase() {
+        LocalDateTime updatedAt = LocalDateTime.now();
+
+        when(cacheManager.getCache(DtoCacheConfig.TASKS)).thenReturn(cache);
+        when(repository.findUpdatedAtById(id)).thenReturn(Optional.of(updatedAt));
+
+        assertEquals(Optional.of(updatedAt), taskService.findLastModified(id));
+        verify(repository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("Should nest the subtree and roll story points and completion up")
+    void shouldBuildTaskTree() {
+        UUID child = UUID.randomUUID();
+        UUID secondChild = UUID.randomUUID();
+        UUID grandchild = UUID.randomUUID();
+        when(repository.findSubtree(id, TaskTreeDTO.DEFAULT_DEPTH)).thenReturn(List.of(
+                new TaskTreeDTO.Row(id, null, 0, "Root", Type_Enum.TASK, false, 5),
+                new TaskTreeDTO.Row(child, id, 1, "Child", Type_Enum.SUBTASK, true, 3),
+                new TaskTreeDTO.Row(secondChild, id, 1, "Second Child", Type_Enum.SUBTASK, false, 2),
+                new TaskTreeDTO.Row(grandchild, child, 2, "Grandchild", Type_Enum.SUBTASK, true, 1)
+        ));
+
+        TaskTreeDTO tree = taskService.getTree(id, null);
+
+        assertEquals(id, tree.id());
+        assertEquals(Type_Enum.TASK, tree.type());
+        assertEquals(4, tree.totalTasks());
+        assertEquals(2, tree.completedTasks());
+        assertEquals(11, tree.totalStoryPoints());
+        assertEquals(4, tree.completedStoryPoints());
+        assertEquals(List.of(child, secondChild), tree.subtasks().stream().map(TaskTreeDTO::id).toList());
+        TaskTreeDTO first = tree.subtasks().get(0);
+        assertEquals(2, first.totalTasks());
+        assertEquals(2, first.completedTasks());
+        assertEquals(4, first.completedStoryPoints());
+        assertEquals(grandchild, first.subtasks().get(0).id());
+        assertEquals(2, first.subtasks().get(0).depth());
+        assertTrue(tree.subtasks().get(1).subtasks().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should cap the requested tree depth and stop at parent cycles")
+    void shouldCapTreeDepthAndIgnoreCycles() {
+        UUID child = UUID.randomUUID();
+        when(repository.findSubtree(id, TaskTreeDTO.MAX_DEPTH)).thenReturn(List.of(
+                new TaskTreeDTO.Row(id, child, 0, "Root", Type_Enum.TASK, false, 5),
+                new TaskTreeDTO.Row(child, id, 1, "Child", Type_Enum.SUBTASK, false, 3),
+                new TaskTreeDTO.Row(id, child, 2, "Root", Type_Enum.TASK, false, 5)
+        ));
+
+        TaskTreeDTO tree = taskService.getTree(id, 1000);
+
+        assertEquals(2, tree.totalTasks());
+        assertEquals(8, tree.totalStoryPoints());
+        assertTrue(tree.subtasks().get(0).subtasks().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should not build a tree for a nonexisting task")
+    void shouldNotBuildTreeForMissingTask() {
+        UUID random = UUID.randomUUID();
+        when(repository.findSubtree(random, TaskTreeDTO.DEFAULT_DEPTH)).thenReturn(List.of());
+
+        ResourceNotFoundException ex = assertThrows(ResourceNotFoundException.class,
+                () -> taskService.getTree(random, null));
+        assertEquals("Task not found", ex.getMessage());
+    }
+
+    @Test
+    @DisplayName("Should move a task below a new parent and rewrite its closure pairs")
+    void shouldAssignTaskToParent() {
+        Task parent = new Task();
+        parent.setId(UUID.randomUUID());
+        parent.setProject(oldProject);
+        oldTask.setProject(oldProject);
+        TaskDTO dto = new TaskDTO(id, "Old Task", "Old Task for testing", false, null, null, null, 0, Type_Enum.TASK, null, parent.getId(), null, oldProject.getId());
+
+        when(repository.findById(id)).thenReturn(Optional.of(oldTask));
+        when(repository.findById(parent.getId())).thenReturn(Optional.of(parent));
+        when(closureRepository.existsByAncestorIdAndDescendantId(id, parent.getId())).thenReturn(false);
+        when(repository.saveAndFlush(oldTask)).thenReturn(oldTask);
+        when(mapper.toDto(oldTask)).thenReturn(dto);
+
+        TaskDTO result = taskService.assignToParent(id, parent.getId());
+
+        assertEquals(parent.getId(), result.parent_id());
+        assertSame(parent, oldTask.getTask_parent());
+        verify(closureRepository).move(id, parent.getId());
+    }
+
+    @Test
+    @DisplayName("Should reject moving a task below one of its own subtasks")
+    void shouldRejectCyclicParent() {
+        Task descendant = new Task();
+        descendant.setId(UUID.randomUUID());
+        descendant.setProject(oldProject);
+        oldTask.setProject(oldProject);
+
+        when(repository.findById(id)).thenReturn(Optional.of(oldTask));
+        when(repository.findById(descendant.getId())).thenReturn(Optional.of(descendant));
+        when(closureRepository.existsByAncestorIdAndDescendantId(id, descendant.getId())).thenReturn(true);
+
+        BadRequestException ex = assertThrows(BadRequestException.class,
+                () -> taskService.assignToParent(id, descendant.getId()));
+        assertEquals("A task cannot be moved below itself or one of its subtasks", ex.getMessage());
+        verify(closureRepository, never()).move(any(), any());
+        verify(repository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    @DisplayName("Should reject a parent from another project")
+    void shouldRejectParentFromAnotherProject() {
+        Project other = new Project();
+        other.setId(UUID.randomUUID());
+        Task parent = new Task();
+        parent.setId(UUID.randomUUID());
+        parent.setProject(other);
+        oldTask.setProject(oldProject);
+
+        when(repository.findById(id)).thenReturn(Optional.of(oldTask));
+        when(repository.findById(parent.getId())).thenReturn(Optional.of(parent));
+
+        BadRequestException ex = assertThrows(BadRequestException.class,
+                () -> taskService.assignToParent(id, parent.getId()));
+        assertEquals("Parent does not exist in the same project", ex.getMessage());
+        verifyNoInteractions(closureRepository);
+    }
+
+    @Test
+    @DisplayName("Should detach a task from its parent without a cycle check")
+    void shouldDetachTaskFromParent() {
+        oldTask.setTask_parent(new Task());
+        when(repository.findById(id)).thenReturn(Optional.of(oldTask));
+        when(repository.saveAndFlush(oldTask)).thenReturn(oldTask);
+
+        taskService.assignToParent(id, null);
+
+        assertNull(oldTask.getTask_parent());
+        verify(closureRepository, never()).existsByAncestorIdAndDescendantId(any(), any());
+        verify(closureRepository).move(id, null);
+    }
+
+    @Test
+    @DisplayName("Should answer whether all subtasks are completed from the first open one")
+    void shouldTellWhetherAllSubtasksAreCompleted() {
+        UUID done = UUID.randomUUID();
+        when(repository.existsById(id)).thenReturn(true);
+        when(repository.existsById(done)).thenReturn(true);
+        when(closureRepository.findOpenDescendantIds(id, Limit.of(1))).thenReturn(List.of(UUID.randomUUID()));
+        when(closureRepository.findOpenDescendantIds(done, Limit.of(1))).thenReturn(List.of());
+
+        assertFalse(taskService.allSubtasksCompleted(id));
+        assertTrue(taskService.allSubtasksCompleted(done));
+    }
+
+    @Test
+    @DisplayName("Should not list the hierarchy of a nonexisting task")
+    void shouldNotListHierarchyOfMissingTask() {
+        UUID random = UUID.randomUUID();
+
+        assertThrows(ResourceNotFoundException.class, () -> taskService.getAncestors(random));
+        assertThrows(ResourceNotFoundException.class, () -> taskService.getDescendants(random));
+        assertThrows(ResourceNotFoundException.class, () -> taskService.allSubtasksCompleted(random));
+        verifyNoInteractions(closureRepository);
+    }
+
     @Test
     @DisplayName("Should not find a nonexisting task")
     void shouldReturnNotFoundTask() {
@@ -337,10 +596,10 @@ public class TaskServiceTest {
             return null;
         }).when(mapper).toEntity(request, oldTask);
 
-        when(repository.save(oldTask)).thenReturn(oldTask);
+        when(repository.saveAndFlush(oldTask)).thenReturn(oldTask);
         when(mapper.toDto(oldTask)).thenReturn(expectedDto);
 
-        TaskDTO result = taskService.update(id, request);
+        TaskDTO result = taskService.update(id, request, null);
 
         assertNotNull(result);
         assertEquals("New title", result.title());
@@ -349,7 +608,7 @@ public class TaskServiceTest {
 
         verify(repository).findById(id);
         verify(mapper).toEntity(request, oldTask);
-        verify(repository).save(oldTask);
+        verify(repository).saveAndFlush(oldTask);
         verify(mapper).toDto(oldTask);
     }
 
@@ -365,10 +624,41 @@ public class TaskServiceTest {
                 false
         );
         ResourceNotFoundException ex = assertThrows(ResourceNotFoundException.class,
-                () -> taskService.update(random, request));
+                () -> taskService.update(random, request, null));
         assertEquals("Task not found", ex.getMessage());
     }
 
+    @Test
+    @DisplayName("Fail to rename a task to a title already taken in its project")
+    void shouldNotRenameTaskToExistingTitle() {
+        TaskUpdateDTO request = new TaskUpdateDTO("Taken title", "New description", 5, "TASK", false);
+
+        when(repository.findById(id)).thenReturn(Optional.of(oldTask));
+        when(repository.saveAndFlush(oldTask)).thenThrow(duplicate(UniqueConstraints.TASK_TITLE));
+
+        BadRequestException ex = assertThrows(BadRequestException.class,
+                () -> taskService.update(id, request, null));
+        assertEquals("Title already exists in this project", ex.getMessage());
+    }
+
+    @Test
+    @DisplayName("Reject an update based on a stale version of the task")
+    void shouldRejectStaleUpdate() {
+        TaskUpdateDTO request = new TaskUpdateDTO("New title", "New description", 5, "TASK", false);
+        oldTask.setUpdatedAt(LocalDateTime.of(2026, 1, 1, 10, 0, 1));
+
+        when(repository.findById(id)).thenReturn(Optional.of(oldTask));
+        when(cacheManager.getCache(DtoCacheConfig.TASKS)).thenReturn(cache);
+
+        PreconditionFailedException ex = assertThrows(PreconditionFailedException.class,
+                () -> taskService.update(id, request, LocalDateTime.of(2026, 1, 1, 10, 0)));
+
+        assertEquals("Task was modified since it was read", ex.getMessage());
+        verify(cache).evictIfPresent(id);
+        verify(mapper, never()).toEntity(any(), any());
+        verify(repository, never()).saveAndFlush(any());
+    }
+
     @Test
     @DisplayName("Search tasks by title - should return matching results")
     void shouldReturnTasksMatchingTitle() {
@@ -382,8 +672,6 @@ public class TaskServiceTest {
         task2.setId(UUID.randomUUID());
         task2.setTitle("critical bug in navbar");
 
-        List<Task> tasks = List.of(task1, task2);
-
         TaskDTO dto1 = new TaskDTO(
                 task1.getId(), task1.getTitle(), null, false,
                 null, null, null, 0, null,
@@ -396,19 +684,15 @@ public class TaskServiceTest {
                 null, null, null, null
         );
 
-        when(repository.searchByTitle(title)).thenReturn(tasks);
-        when(mapper.toDto(task1)).thenReturn(dto1);
-        when(mapper.toDto(task2)).thenReturn(dto2);
+        when(searchEngine.searchTasks(title, CursorPage.DEFAULT_SIZE)).thenReturn(List.of(dto1, dto2));
 
-        List<TaskDTO> result = taskService.searchByTaskByTitle(title);
+        List<TaskDTO> result = taskService.searchByTaskByTitle(title, null);
 
         assertEquals(2, result.size());
         assertEquals("bug in login", result.get(0).title());
         assertEquals("critical bug in navbar", result.get(1).title());
 
-        verify(repository).searchByTitle(title);
-        verify(mapper).toDto(task1);
-        verify(mapper).toDto(task2);
+        verify(searchEngine).searchTasks(title, CursorPage.DEFAULT_SIZE);
     }
     @Test
     @DisplayName("Successfully assign task to epic")
@@ -440,7 +724,7 @@ public class TaskServiceTest {
 
         when(repository.findById(taskId)).thenReturn(Optional.of(task));
         when(epicRepository.findById(epicId)).thenReturn(Optional.of(epic));
-        when(repository.save(task)).thenReturn(task);
+        when(repository.saveAndFlush(task)).thenReturn(task);
         when(mapper.toDto(task)).thenReturn(expectedDto);
 
         TaskDTO result = taskService.assignToEpic(taskId, epicId);
@@ -451,10 +735,65 @@ public class TaskServiceTest {
 
         verify(repository).findById(taskId);
         verify(epicRepository).findById(epicId);
-        verify(repository).save(task);
+        verify(repository).saveAndFlush(task);
         verify(mapper).toDto(task);
     }
 
+    @Test
+    @DisplayName("Move the task's progress from its previous epic to the new one")
+    void shouldMoveProgressBetweenEpics() {
+        Project project = new Project();
+        project.setId(UUID.randomUUID());
+        Epic previous = new Epic();
+        previous.setId(UUID.randomUUID());
+        previous.setProject(project);
+        Epic next = new Epic();
+        next.setId(UUID.randomUUID());
+        next.setProject(project);
+        oldTask.setProject(project);
+        oldTask.setEpic(previous);
+        oldTask.setStory_points(3);
+        oldTask.setCompleted(true);
+
+        when(repository.findById(id)).thenReturn(Optional.of(oldTask));
+        when(epicRepository.findById(next.getId())).thenReturn(Optional.of(next));
+
+        taskService.assignToEpic(id, next.getId());
+
+        verify(epicRepository).adjustProgress(previous.getId(), -1, -1, -3, -3);
+        verify(epicRepository).adjustProgress(next.getId(), 1, 1, 3, 3);
+    }
+
+    @Test
+    @DisplayName("Count a completion in the epic's completed counters")
+    void shouldAddCompletionToEpicProgress() {
+        Epic epic = new Epic();
+        epic.setId(UUID.randomUUID());
+        oldTask.setEpic(epic);
+        oldTask.setStory_points(5);
+
+        when(repository.findById(id)).thenReturn(Optional.of(oldTask));
+
+        taskService.complete(id);
+
+        verify(epicRepository).adjustProgress(epic.getId(), 0, 1, 0, 5);
+    }
+
+    @Test
+    @DisplayName("Remove a deleted task from the epic's counters")
+    void shouldRemoveDeletedTaskFromEpicProgress() {
+        Epic epic = new Epic();
+        epic.setId(UUID.randomUUID());
+        oldTask.setEpic(epic);
+        oldTask.setStory_points(2);
+
+        when(repository.findById(id)).thenReturn(Optional.of(oldTask));
+
+        taskService.deleteById(id, UUID.randomUUID());
+
+        verify(epicRepository).adjustProgress(epic.getId(), -1, 0, -2, 0);
+    }
+
     @Test
     @DisplayName("Fail to assign task to epic when task is not found")
     void shouldFailWhenTaskNotFound() {
@@ -485,4 +824,183 @@ public class TaskServiceTest {
         assertEquals("Epic not found", ex.getMessage());
     }
 
+
+    @Test
+    @DisplayName("Bulk create resolves projects, parents and titles with one query each")
+    void shouldCreateTasksInBulk() {
+        Task parent = new Task();
+        parent.setId(UUID.randomUUID());
+        parent.setProject(oldProject);
+        TaskRequest first = new TaskRequest("First", "First task", 1, "TASK", null, oldProject.getId());
+        TaskRequest second = new TaskRequest("Second", "Second task", 2, "SUBTASK", parent.getId(), oldProject.getId());
+        TaskDTO dto = new TaskDTO(id, "First", "First task", false, null, null, null, 1, Type_Enum.TASK, null, null, null, oldProject.getId());
+
+        when(projectRepository.findAllById(Set.of(oldProject.getId()))).thenReturn(List.of(oldProject));
+        when(repository.findTitlesInProjects(Set.of(oldProject.getId()), Set.of("First", "Second"))).thenReturn(List.of());
+        when(repository.findAllById(Set.of(parent.getId()))).thenReturn(List.of(parent));
+        when(repository.saveAllAndFlush(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(mapper.toDto(any(Task.class))).thenReturn(dto);
+
+        List<TaskDTO> result = taskService.createAll(List.of(first, second));
+
+        assertEquals(2, result.size());
+        verify(repository).saveAllAndFlush(argThat((List<Task> tasks) -> tasks.size() == 2
+                && tasks.get(0).getTask_parent() == null
+                && tasks.get(1).getTask_parent() == parent
+                && tasks.get(1).getStory_points() == 2));
+        verify(projectRepository, never()).findById(any());
+        verify(repository, never()).existsByTitleAndProjectId(any(), any());
+        verify(repository, never()).save(any());
+        verify(closureRepository).link(anyList());
+    }
+
+    @Test
+    @DisplayName("Bulk create rejects titles repeated within the batch")
+    void shouldRejectRepeatedTitlesInBulk() {
+        List<TaskRequest> requests = List.of(oldTaskRequest, oldTaskRequest);
+
+        BadRequestException exception = assertThrows(BadRequestException.class, () -> taskService.createAll(requests));
+
+        assertEquals("Title 'Old Task' is repeated in this batch", exception.getMessage());
+        verifyNoInteractions(projectRepository);
+        verify(repository, never()).saveAllAndFlush(any());
+    }
+
+    @Test
+    @DisplayName("Bulk create rejects titles that already exist in the project")
+    void shouldRejectExistingTitlesInBulk() {
+        when(projectRepository.findAllById(Set.of(oldProject.getId()))).thenReturn(List.of(oldProject));
+        when(repository.findTitlesInProjects(Set.of(oldProject.getId()), Set.of("Old Task")))
+                .thenReturn(List.<Object[]>of(new Object[]{oldProject.getId(), "Old Task"}));
+
+        BadRequestException exception = assertThrows(BadRequestException.class,
+                () -> taskService.createAll(List.of(oldTaskRequest)));
+
+        assertEquals("Title 'Old Task' already exists in this project", exception.getMessage());
+        verify(repository, never()).saveAllAndFlush(any());
+    }
+
+    @Test
+    @DisplayName("Bulk create fails when a project does not exist")
+    void shouldFailBulkCreateWhenProjectMissing() {
+        when(projectRepository.findAllById(Set.of(oldProject.getId()))).thenReturn(List.of());
+
+        ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class,
+                () -> taskService.createAll(List.of(oldTaskRequest)));
+
+        assertEquals("Project not found", exception.getMessage());
+        verify(repository, never()).saveAllAndFlush(any());
+    }
+
+    @Test
+    @DisplayName("Bulk create rejects empty batches")
+    void shouldRejectEmptyBulkCreate() {
+        BadRequestException exception = assertThrows(BadRequestException.class, () -> taskService.createAll(List.of()));
+
+        assertEquals("At least one item is required", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Complete many tasks with one set-based update")
+    void shouldCompleteTasksInBulk() {
+        UUID pending = UUID.randomUUID();
+        UUID done = UUID.randomUUID();
+        UUID missing = UUID.randomUUID();
+        UUID epicId = UUID.randomUUID();
+        List<UUID> ids = List.of(pending, done, missing);
+
+        when(repository.findCompletionStates(ids)).thenReturn(List.of(
+                new Object[]{pending, false},
+                new Object[]{done, true}
+        ));
+        when(repository.sumProgressByEpic(List.of(pending))).thenReturn(List.<Object[]>of(new Object[]{epicId, 1L, 5L}));
+        when(repository.completeAll(eq(List.of(pending)), any(LocalDateTime.class))).thenReturn(1);
+        when(cacheManager.getCache(DtoCacheConfig.TASKS)).thenReturn(cache);
+        when(repository.findAllById(List.of(pending))).thenReturn(List.of(oldTask));
+
+        BulkResult result = taskService.completeAll(ids);
+
+        assertEquals(List.of(pending), result.updated());
+        assertEquals(List.of(done), result.unchanged());
+        assertEquals(List.of(missing), result.notFound());
+        verify(repository).completeAll(eq(List.of(pending)), any(LocalDateTime.class));
+        verify(repository, never()).save(any());
+        verify(epicRepository).adjustProgress(epicId, 0, 1, 0, 5);
+        verify(cache).evict(pending);
+        verify(cache, never()).evict(done);
+        verify(searchIndexListener).onSave(oldTask);
+    }
+
+    @Test
+    @DisplayName("Rebuild the epic counters when a concurrent write completed some tasks first")
+    void shouldRecomputeProgressWhenBulkCompletionRaces() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID epicId = UUID.randomUUID();
+        List<UUID> ids = List.of(first, second);
+
+        when(repository.findCompletionStates(ids)).thenReturn(List.of(
+                new Object[]{first, false},
+                new Object[]{second, false}
+        ));
+        when(repository.sumProgressByEpic(ids)).thenReturn(List.<Object[]>of(new Object[]{epicId, 2L, 8L}));
+        when(repository.completeAll(eq(ids), any(LocalDateTime.class))).thenReturn(1);
+        when(cacheManager.getCache(DtoCacheConfig.TASKS)).thenReturn(cache);
+
+        taskService.completeAll(ids);
+
+        verify(epicRepository).recomputeProgress(List.of(epicId));
+        verify(epicRepository, never()).adjustProgress(any(), anyInt(), anyInt(), anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Skip the update when every task is already completed or missing")
+    void shouldNotUpdateWhenNothingToComplete() {
+        UUID missing = UUID.randomUUID();
+
+        when(repository.findCompletionStates(List.of(missing))).thenReturn(List.of());
+
+        BulkResult result = taskService.completeAll(List.of(missing));
+
+        assertEquals(List.of(missing), result.notFound());
+        verify(repository, never()).completeAll(any(), any());
+    }
+
+    @Test
+    @DisplayName("Update many tasks loaded with one query")
+    void shouldUpdateTasksInBulk() {
+        UUID missing = UUID.randomUUID();
+        TaskUpdateDTO changes = new TaskUpdateDTO("New title", "New description", 3, "TASK", false);
+        List<TaskBulkUpdateDTO> requests = List.of(new TaskBulkUpdateDTO(id, changes), new TaskBulkUpdateDTO(missing, changes));
+
+        when(repository.findAllById(List.of(id, missing))).thenReturn(List.of(oldTask));
+        when(cacheManager.getCache(DtoCacheConfig.TASKS)).thenReturn(cache);
+
+        BulkResult result = taskService.updateAll(requests);
+
+        assertEquals(List.of(id), result.updated());
+        assertEquals(List.of(missing), result.notFound());
+        verify(mapper).toEntity(changes, oldTask);
+        verify(repository).saveAllAndFlush(List.of(oldTask));
+        verify(cache).evict(id);
+        verify(cache, never()).evict(missing);
+    }
+
+    @Test
+    @DisplayName("Reject bulk updates that repeat a task")
+    void shouldRejectRepeatedTaskInBulkUpdate() {
+        TaskUpdateDTO changes = new TaskUpdateDTO("New title", "New description", 3, "TASK", false);
+        List<TaskBulkUpdateDTO> requests = List.of(new TaskBulkUpdateDTO(id, changes), new TaskBulkUpdateDTO(id, changes));
+
+        BadRequestException exception = assertThrows(BadRequestException.class, () -> taskService.updateAll(requests));
+
+        assertEquals("Task " + id + " is repeated in this batch", exception.getMessage());
+        verify(repository, never()).findAllById(any());
+    }
+
+    // What Spring reports when the insert hits the given unique constraint
+    private static DataIntegrityViolationException duplicate(String constraint) {
+        return new DataIntegrityViolationException("duplicate",
+                new ConstraintViolationException("duplicate", new SQLException(), constraint));
+    }
 }
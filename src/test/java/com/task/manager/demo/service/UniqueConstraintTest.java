@@ -0,0 +1,198 @@
+package com.task.manager.demo.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.task.manager.demo.dto.epic.EpicRequest;
+import com.task.manager.demo.dto.epic.EpicUpdateDTO;
+import com.task.manager.demo.dto.project.ProjectDTO;
+import com.task.manager.demo.dto.project.ProjectRequest;
+import com.task.manager.demo.dto.project.ProjectUpdateDTO;
+import com.task.manager.demo.dto.task.TaskBulkUpdateDTO;
+import com.task.manager.demo.dto.task.TaskRequest;
+import com.task.manager.demo.dto.task.TaskUpdateDTO;
+import com.task.manager.demo.exception.BadRequestException;
+import com.task.manager.demo.repository.ProjectRepository;
+import com.task.manager.demo.service.epic.EpicService;
+import com.task.manager.demo.service.project.ProjectService;
+import com.task.manager.demo.service.task.TaskService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.jdbc.JdbcTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+    "spring.config.import=",
+    "spring.datasource.url=jdbc:h2:mem:testdb",
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@DisplayName("Unique titles enforced by the database - Integration Tests")
+class UniqueConstraintTest {
+
+    private static final int THREADS = 8;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private EpicService epicService;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @AfterEach
+    void tearDown() {
+        JdbcTestUtils.deleteFromTables(jdbcTemplate, "task", "epic", "project");
+    }
+
+    @Test
+    @DisplayName("Should create a project title once when requested concurrently")
+    void shouldCreateProjectTitleOnceConcurrently() throws Exception {
+        List<Throwable> failures = concurrently(() ->
+                projectService.create(new ProjectRequest("Concurrent Project", "Created by every thread")));
+
+        assertEquals(THREADS - 1, failures.size());
+        assertTrue(failures.stream().allMatch(e -> e instanceof BadRequestException
+                && "Title already exists".equals(e.getMessage())));
+        assertEquals(1, JdbcTestUtils.countRowsInTableWhere(jdbcTemplate, "project", "project_title = 'Concurrent Project'"));
+    }
+
+    @Test
+    @DisplayName("Should create a task title once per project when requested concurrently")
+    void shouldCreateTaskTitleOnceConcurrently() throws Exception {
+        UUID projectId = projectService.create(new ProjectRequest("Task Project", "Project of the concurrent tasks")).id();
+
+        List<Throwable> failures = concurrently(() ->
+                taskService.create(new TaskRequest("Concurrent Task", "Created by every thread", 1, "TASK", null, projectId)));
+
+        assertEquals(THREADS - 1, failures.size());
+        assertTrue(failures.stream().allMatch(e -> e instanceof BadRequestException
+                && "Title already exists in this project".equals(e.getMessage())));
+        assertEquals(1, JdbcTestUtils.countRowsInTableWhere(jdbcTemplate, "task", "title = 'Concurrent Task'"));
+    }
+
+    @Test
+    @DisplayName("Should create a project with a single insert and reuse the titles of deleted ones")
+    void shouldCreateProjectWithSingleStatement() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        ProjectDTO created = projectService.create(new ProjectRequest("Single Insert", "Created without a lookup"));
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        projectRepository.deleteById(created.id());
+        assertNotEquals(created.id(), projectService.create(new ProjectRequest("Single Insert", "Reuses a deleted title")).id());
+        assertThrows(BadRequestException.class,
+                () -> projectService.create(new ProjectRequest("Single Insert", "Duplicates a live title")));
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    @DisplayName("Should answer 400 when a task is renamed to a live title of its project")
+    void shouldRejectTaskRenamedToLiveTitle() throws Exception {
+        UUID projectId = projectService.create(new ProjectRequest("Rename Project", "Project of the renamed tasks")).id();
+        taskService.create(new TaskRequest("Taken Task", "Holds the title", 1, "TASK", null, projectId));
+        UUID renamed = taskService.create(new TaskRequest("Renamed Task", "Takes the title", 1, "TASK", null, projectId)).id();
+        MockMvc mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).apply(springSecurity()).build();
+
+        mockMvc.perform(patch("/api/task/{id}", renamed)
+                        .contentType("application/json")
+                        .content(new ObjectMapper().writeValueAsString(
+                                new TaskUpdateDTO("Taken Task", "Takes the title", 1, "TASK", false))))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string(containsString("Title already exists in this project")));
+
+        BadRequestException bulk = assertThrows(BadRequestException.class, () -> taskService.updateAll(List.of(
+                new TaskBulkUpdateDTO(renamed, new TaskUpdateDTO("Taken Task", "Takes the title", 1, "TASK", false)))));
+        assertEquals("Title already exists in this project", bulk.getMessage());
+        assertEquals("Renamed Task", taskService.findById(renamed).title());
+    }
+
+    @Test
+    @DisplayName("Should reject an epic or a project renamed to a live title")
+    void shouldRejectEpicAndProjectRenamedToLiveTitle() {
+        UUID projectId = projectService.create(new ProjectRequest("Taken Project", "Holds the title")).id();
+        UUID renamedProject = projectService.create(new ProjectRequest("Renamed Project", "Takes the title")).id();
+        epicService.create(new EpicRequest("Taken Epic", "Holds the title", 1, projectId));
+        UUID renamedEpic = epicService.create(new EpicRequest("Renamed Epic", "Takes the title", 1, projectId)).id();
+
+        BadRequestException epic = assertThrows(BadRequestException.class,
+                () -> epicService.update(renamedEpic, new EpicUpdateDTO("Taken Epic", "Takes the title", 1), null));
+        BadRequestException project = assertThrows(BadRequestException.class,
+                () -> projectService.update(renamedProject, new ProjectUpdateDTO("Taken Project", "Takes the title", false, null), null));
+
+        assertEquals("Title already exists in this project", epic.getMessage());
+        assertEquals("Title already exists", project.getMessage());
+        assertEquals("Renamed Epic", epicService.findById(renamedEpic).title());
+        assertEquals("Renamed Project", projectService.findById(renamedProject).title());
+    }
+
+    // Runs the call on every thread at once and returns what the failed ones threw
+    private List<Throwable> concurrently(Callable<?> call) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return call.call();
+                }));
+            }
+            start.countDown();
+            List<Throwable> failures = new ArrayList<>();
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    failures.add(e.getCause());
+                }
+            }
+            return failures;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -17,6 +17,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
 import java.util.List;
 import java.util.Optional;
@@ -24,6 +25,7 @@ import java.util.Set;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -100,10 +102,10 @@ public class UserServiceTest {
                 List.of()
         );
         List<UserDto> expectedList = List.of(expectedDto);
-        when(repository.findAll()).thenReturn(List.of(user));
+        when(repository.findFirstPage(any(Limit.class))).thenReturn(List.of(user));
         when(mapper.toDto(user)).thenReturn(expectedDto);
 
-        List<UserDto> actualList = service.getAll();
+        List<UserDto> actualList = service.getAll(null, null).items();
         assertNotNull(actualList);
         assertEquals(expectedList, actualList);
     }
@@ -112,7 +114,7 @@ public class UserServiceTest {
     @DisplayName("Return an empty list of all users")
     void shouldReturnEmptyListOfAllUsers() {
         List<UserDto> expectedList = List.of();
-        List<UserDto> actualList = service.getAll();
+        List<UserDto> actualList = service.getAll(null, null).items();
         assertNotNull(actualList);
         assertEquals(expectedList, actualList);
     }
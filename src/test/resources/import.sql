@@ -0,0 +1,8 @@
+-- H2 counterparts of the partial unique indexes of the V7 migration, run by Hibernate after create-drop.
+-- H2 has no partial indexes: live rows share live = TRUE and collide, deleted rows get NULL, which never collides.
+ALTER TABLE task ADD COLUMN live BOOLEAN GENERATED ALWAYS AS (CASE WHEN deleted THEN NULL ELSE TRUE END);
+ALTER TABLE epic ADD COLUMN live BOOLEAN GENERATED ALWAYS AS (CASE WHEN deleted THEN NULL ELSE TRUE END);
+ALTER TABLE project ADD COLUMN live BOOLEAN GENERATED ALWAYS AS (CASE WHEN deleted THEN NULL ELSE TRUE END);
+CREATE UNIQUE INDEX uk_task_project_title_live ON task (project_id, title, live);
+CREATE UNIQUE INDEX uk_epic_project_title_live ON epic (project_id, epic_title, live);
+CREATE UNIQUE INDEX uk_project_title_live ON project (project_title, live);